@@ -6,6 +6,7 @@ import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.FilterType;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 import com.stylo.api_agendamento.core.common.UseCase;
 
@@ -13,6 +14,7 @@ import jakarta.annotation.PostConstruct;
 import java.util.TimeZone;
 
 @EnableAsync
+@EnableScheduling
 @SpringBootApplication
 @ComponentScan(basePackages = "com.stylo.api_agendamento", includeFilters = @ComponentScan.Filter(type = FilterType.ANNOTATION, classes = UseCase.class))
 @EnableCaching
@@ -3,9 +3,12 @@ package com.stylo.api_agendamento.adapters.inbound.jobs;
 import com.stylo.api_agendamento.core.usecases.SendPendingRemindersUseCase;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+
 
 @Slf4j
 @Component
@@ -14,6 +17,14 @@ public class AppointmentReminderJob {
 
     // ✨ Atualizado para o Use Case de lembretes pendentes
     private final SendPendingRemindersUseCase sendRemindersUseCase;
+    private final ClusterJobLock clusterJobLock;
+
+    @Value("${stylo.jobs.reminder-interval:60000}")
+    private long reminderIntervalMs;
+
+    // Desligado por padrão: só rodava com o agendamento habilitado (ver application.properties)
+    @Value("${stylo.jobs.reminders.enabled:false}")
+    private boolean enabled;
 
     /**
      * Executa a verificação de lembretes.
@@ -27,13 +38,20 @@ public class AppointmentReminderJob {
         initialDelay = 10000 // Aguarda 10s após o boot para a primeira execução
     )
     public void run() {
+        if (!enabled) {
+            return;
+        }
         log.info("⏰ [Job Reminders] Iniciando verificação de agendamentos próximos...");
         
         long start = System.currentTimeMillis();
 
         try {
-            // Executa a lógica de domínio para buscar, disparar e marcar lembretes
-            sendRemindersUseCase.execute();
+            // Executa a lógica de domínio para buscar, disparar e marcar lembretes.
+            // Uma instância por ciclo: as demais enviariam os mesmos lembretes em paralelo
+            if (!clusterJobLock.runExclusively("appointment-reminders",
+                    Duration.ofMillis(reminderIntervalMs / 2), sendRemindersUseCase::execute)) {
+                return;
+            }
             
             long duration = System.currentTimeMillis() - start;
             log.info("✅ [Job Reminders] Lembretes processados com sucesso em {}ms.", duration);
@@ -0,0 +1,63 @@
+package com.stylo.api_agendamento.adapters.inbound.jobs;
+
+import com.stylo.api_agendamento.core.usecases.MaintainCashflowRollupUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CashflowRollupJob {
+
+    private final MaintainCashflowRollupUseCase maintainCashflowRollupUseCase;
+    private final ClusterJobLock clusterJobLock;
+
+    /**
+     * Roda diariamente às 03:30: verifica os últimos 35 dias (inclui o fechamento do mês
+     * anterior) e reconstrói apenas os dias divergentes.
+     */
+    @Scheduled(cron = "0 30 3 * * *", zone = "America/Sao_Paulo")
+    public void run() {
+        // Os dias do rollup são dias UTC (mesmo fuso dos LocalDateTime gravados)
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        try {
+            clusterJobLock.runExclusively("cashflow-rollup", Duration.ofHours(1), () -> {
+                // Backfill interrompido é retomado aqui, sem depender de um novo deploy
+                maintainCashflowRollupUseCase.backfillIfNeeded();
+                int repaired = maintainCashflowRollupUseCase.checkAndRepair(today.minusDays(35), today);
+                log.info("Verificação do fluxo de caixa concluída. Dias corrigidos: {}", repaired);
+            });
+        } catch (Exception e) {
+            log.error("Falha crítica no CashflowRollupJob: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Backfill inicial: enquanto não houver registro de conclusão, preenche todo o histórico
+     * (em uma única instância). Até terminar, o dashboard agrega direto no banco.
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfPending() {
+        try {
+            if (!maintainCashflowRollupUseCase.needsBackfill()) {
+                return;
+            }
+            clusterJobLock.runExclusively("cashflow-rollup-backfill", Duration.ofMinutes(10), () -> {
+                maintainCashflowRollupUseCase.backfillIfNeeded();
+                log.info("Rollup do fluxo de caixa pronto para leitura.");
+            });
+        } catch (Exception e) {
+            log.error("Falha no backfill do fluxo de caixa: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.stylo.api_agendamento.adapters.inbound.jobs;
+
+import com.stylo.api_agendamento.core.usecases.MaintainClientStatsUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ClientStatsJob {
+
+    private final MaintainClientStatsUseCase maintainClientStatsUseCase;
+    private final ClusterJobLock clusterJobLock;
+
+    /**
+     * Backfill inicial: enquanto não houver registro de conclusão, preenche a partir do
+     * histórico (em uma única instância). Até terminar, o histórico do cliente agrega direto no banco.
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfPending() {
+        try {
+            if (!maintainClientStatsUseCase.needsBackfill()) {
+                return;
+            }
+            clusterJobLock.runExclusively("client-stats-backfill", Duration.ofMinutes(10), () -> {
+                maintainClientStatsUseCase.backfillIfNeeded();
+                log.info("Indicadores de clientes prontos para leitura.");
+            });
+        } catch (Exception e) {
+            log.error("Falha no backfill dos indicadores de clientes: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Retomada diária de um backfill interrompido (queda ou falha), sem depender de um novo deploy.
+     */
+    @Scheduled(cron = "${stylo.jobs.client-stats.cron:0 15 4 * * *}", zone = "America/Sao_Paulo")
+    public void resumeBackfill() {
+        backfillIfPending();
+    }
+}
@@ -0,0 +1,55 @@
+package com.stylo.api_agendamento.adapters.inbound.jobs;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RBucket;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Garante que jobs sobre o banco inteiro rodem em uma única instância da API.
+ * Todas disparam no mesmo horário; a primeira pega o lock e as demais pulam.
+ * Depois de concluir, a marca de execução (TTL = {@code minInterval}) impede que
+ * uma instância atrasada repita o trabalho logo em seguida.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ClusterJobLock {
+
+    private final RedissonClient redissonClient;
+
+    /**
+     * @return false se outra instância está executando ou executou há menos de {@code minInterval}
+     */
+    public boolean runExclusively(String jobName, Duration minInterval, Runnable job) {
+        // Sem lease: o watchdog do Redisson renova o lock enquanto esta instância estiver viva
+        RLock lock = redissonClient.getLock("lock:job:" + jobName);
+        if (!lock.tryLock()) {
+            log.debug("Job {} já em execução em outra instância. Pulando.", jobName);
+            return false;
+        }
+
+        try {
+            RBucket<String> lastRun = redissonClient.getBucket("job:last-run:" + jobName, StringCodec.INSTANCE);
+            if (lastRun.isExists()) {
+                log.debug("Job {} já executado por outra instância em {}. Pulando.", jobName, lastRun.get());
+                return false;
+            }
+
+            job.run();
+            // Só marca em caso de sucesso: se falhar, outra instância (ou o próximo disparo) tenta de novo
+            lastRun.set(Instant.now().toString(), minInterval);
+            return true;
+        } finally {
+            if (lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+}
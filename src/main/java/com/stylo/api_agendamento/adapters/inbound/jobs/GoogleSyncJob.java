@@ -4,14 +4,18 @@ import com.stylo.api_agendamento.adapters.outbound.persistence.google.GoogleSync
 import com.stylo.api_agendamento.adapters.outbound.persistence.google.GoogleSyncRetryRepository;
 import com.stylo.api_agendamento.core.domain.Appointment;
 import com.stylo.api_agendamento.core.domain.GoogleSyncRetry;
+import com.stylo.api_agendamento.core.domain.events.ProfessionalAgendaChangedEvent;
 import com.stylo.api_agendamento.core.ports.IAppointmentRepository;
 import com.stylo.api_agendamento.core.ports.ICalendarProvider;
+import com.stylo.api_agendamento.core.ports.IEventPublisher;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -23,10 +27,24 @@ public class GoogleSyncJob {
     private final GoogleSyncRetryRepository retryRepository;
     private final IAppointmentRepository appointmentRepository;
     private final ICalendarProvider calendarProvider;
+    private final IEventPublisher eventPublisher;
+    private final ClusterJobLock clusterJobLock;
+
+    // Desligado por padrão: só rodava com o agendamento habilitado (ver application.properties)
+    @Value("${stylo.jobs.google-sync.enabled:false}")
+    private boolean enabled;
 
     @Scheduled(cron = "0 */5 * * * *") // Roda a cada 5 minutos
     @Transactional // ✨ Garante consistência ao atualizar Agendamento + Retry
     public void processPendingSyncs() {
+        if (!enabled) {
+            return;
+        }
+        // Uma instância por ciclo: as demais reenviariam os mesmos eventos ao Google
+        clusterJobLock.runExclusively("google-sync", Duration.ofMinutes(2), this::syncPending);
+    }
+
+    private void syncPending() {
         // ✨ CORREÇÃO 1: Busca como String usando .name() e recebe uma lista de Entities
         List<GoogleSyncRetryEntity> pendingEntities = retryRepository.findByStatusAndNextRetryAtBefore(
                 GoogleSyncRetry.SyncStatus.PENDING.name(), LocalDateTime.now());
@@ -84,6 +102,9 @@ public class GoogleSyncJob {
         if (eventId != null) {
             appt.setExternalEventId(eventId);
             appointmentRepository.save(appt);
+            // Toda gravação de agendamento avisa o cache de disponibilidade (publicado após o commit)
+            eventPublisher.publish(ProfessionalAgendaChangedEvent.of(
+                    appt.getProfessionalId(), appt.getStartTime(), appt.getEndTime()));
             
             retry.markAsCompleted(); 
             saveRetry(retry);
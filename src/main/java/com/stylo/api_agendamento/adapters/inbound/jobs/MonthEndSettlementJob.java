@@ -0,0 +1,64 @@
+package com.stylo.api_agendamento.adapters.inbound.jobs;
+
+import com.stylo.api_agendamento.core.usecases.RunMonthEndSettlementUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.YearMonth;
+import java.time.ZoneId;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MonthEndSettlementJob {
+
+    private static final ZoneId ZONE = ZoneId.of("America/Sao_Paulo");
+
+    private final RunMonthEndSettlementUseCase runMonthEndSettlementUseCase;
+    private final ClusterJobLock clusterJobLock;
+
+    @Value("${stylo.jobs.settlement.catch-up-on-startup:true}")
+    private boolean catchUpOnStartup;
+
+    /**
+     * Roda no dia 1º às 04:00 fechando a competência anterior.
+     */
+    @Scheduled(cron = "${stylo.jobs.settlement.cron:0 0 4 1 * *}", zone = "America/Sao_Paulo")
+    public void run() {
+        YearMonth period = YearMonth.now(ZONE).minusMonths(1);
+        try {
+            clusterJobLock.runExclusively("month-end-settlement", Duration.ofHours(1),
+                    () -> runMonthEndSettlementUseCase.execute(period));
+        } catch (Exception e) {
+            log.error("Falha crítica no MonthEndSettlementJob ({}): {}", period, e.getMessage());
+        }
+    }
+
+    /**
+     * Retomada após queda: reprocessa os lotes que não chegaram ao checkpoint e, se a
+     * aplicação estava fora do ar no dia 1º, cria a execução da competência anterior.
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeUnfinished() {
+        try {
+            // Mesmo lock da execução agendada: um lote nunca é processado por duas instâncias
+            clusterJobLock.runExclusively("month-end-settlement", Duration.ofMinutes(1), () -> {
+                runMonthEndSettlementUseCase.resumeUnfinished();
+                // Competência já concluída é ignorada; sem execução, é planejada agora
+                if (catchUpOnStartup) {
+                    runMonthEndSettlementUseCase.execute(YearMonth.now(ZONE).minusMonths(1));
+                }
+            });
+        } catch (Exception e) {
+            log.error("Falha ao retomar o fechamento mensal: {}", e.getMessage());
+        }
+    }
+}
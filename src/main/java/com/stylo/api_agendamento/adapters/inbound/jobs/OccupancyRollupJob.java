@@ -0,0 +1,73 @@
+package com.stylo.api_agendamento.adapters.inbound.jobs;
+
+import com.stylo.api_agendamento.core.usecases.RefreshOccupancyRollupUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OccupancyRollupJob {
+
+    private static final ZoneId ZONE = ZoneId.of("America/Sao_Paulo");
+
+    private final RefreshOccupancyRollupUseCase refreshOccupancyRollupUseCase;
+    private final ClusterJobLock clusterJobLock;
+
+    /**
+     * Roda diariamente às 03:00 (em uma única instância): reconstrói a janela próxima
+     * (semana passada até 2 meses à frente), corrigindo dias em que algum evento de
+     * agenda se perdeu. Se o backfill ainda não terminou, ele é retomado no lugar.
+     */
+    @Scheduled(cron = "0 0 3 * * *", zone = "America/Sao_Paulo")
+    public void run() {
+        try {
+            clusterJobLock.runExclusively("occupancy-rollup", Duration.ofHours(1), () -> {
+                if (refreshOccupancyRollupUseCase.needsBackfill()) {
+                    backfill();
+                    return;
+                }
+                LocalDate today = LocalDate.now(ZONE);
+                refreshOccupancyRollupUseCase.rebuild(today.minusDays(7), today.plusDays(60));
+            });
+        } catch (Exception e) {
+            log.error("Falha crítica no OccupancyRollupJob: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Backfill inicial: enquanto não houver registro de backfill concluído, preenche o histórico
+     * inteiro. Até terminar, o relatório calcula a ocupação direto dos agendamentos.
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfPending() {
+        try {
+            if (!refreshOccupancyRollupUseCase.needsBackfill()) {
+                return;
+            }
+            clusterJobLock.runExclusively("occupancy-rollup", Duration.ofHours(1), this::backfill);
+        } catch (Exception e) {
+            log.error("Falha no backfill de ocupação: {}", e.getMessage());
+        }
+    }
+
+    private void backfill() {
+        // Outra instância pode ter concluído enquanto esta esperava o lock
+        if (!refreshOccupancyRollupUseCase.needsBackfill()) {
+            return;
+        }
+        log.info("Backfill de ocupação pendente: reconstruindo todo o histórico...");
+        refreshOccupancyRollupUseCase.backfill();
+        log.info("Backfill de ocupação finalizado.");
+    }
+}
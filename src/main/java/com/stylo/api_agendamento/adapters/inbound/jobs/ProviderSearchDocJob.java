@@ -0,0 +1,56 @@
+package com.stylo.api_agendamento.adapters.inbound.jobs;
+
+import com.stylo.api_agendamento.core.usecases.MaintainProviderSearchDocUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProviderSearchDocJob {
+
+    private final MaintainProviderSearchDocUseCase maintainProviderSearchDocUseCase;
+    private final ClusterJobLock clusterJobLock;
+
+    /**
+     * Backfill inicial: enquanto não houver registro de conclusão, preenche a partir dos
+     * estabelecimentos (em uma única instância). Até terminar, a busca consulta direto service_providers.
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfPending() {
+        try {
+            if (!maintainProviderSearchDocUseCase.needsBackfill()) {
+                return;
+            }
+            clusterJobLock.runExclusively("provider-search-doc-backfill", Duration.ofMinutes(10), () -> {
+                maintainProviderSearchDocUseCase.backfillIfNeeded();
+                log.info("Índice de busca de estabelecimentos pronto para leitura.");
+            });
+        } catch (Exception e) {
+            log.error("Falha no backfill do índice de busca de estabelecimentos: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Reconciliação diária: cobre alterações feitas fora dos casos de uso (ex: ajustes manuais no banco).
+     */
+    @Scheduled(cron = "${stylo.jobs.provider-search.cron:0 30 3 * * *}", zone = "America/Sao_Paulo")
+    public void rebuildNightly() {
+        try {
+            clusterJobLock.runExclusively("provider-search-doc", Duration.ofHours(1), () -> {
+                maintainProviderSearchDocUseCase.rebuildAll();
+                log.info("Índice de busca de estabelecimentos reconstruído.");
+            });
+        } catch (Exception e) {
+            log.error("Falha ao reconstruir o índice de busca de estabelecimentos: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.stylo.api_agendamento.adapters.inbound.jobs;
+
+import com.stylo.api_agendamento.core.usecases.MaintainProviderTypeaheadUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProviderTypeaheadJob {
+
+    private final MaintainProviderTypeaheadUseCase maintainProviderTypeaheadUseCase;
+
+    /**
+     * Carga inicial do índice em memória. Até terminar, o autocomplete responde vazio.
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        try {
+            maintainProviderTypeaheadUseCase.rebuildAll();
+        } catch (Exception e) {
+            log.error("Falha na carga inicial do autocomplete: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Publica as alterações incrementais em um novo snapshot (no máximo um a cada poucos segundos).
+     * O índice é local: roda em todas as instâncias, sem o {@link ClusterJobLock}.
+     */
+    @Scheduled(fixedDelayString = "${stylo.jobs.provider-typeahead.compact-delay-ms:5000}")
+    public void compact() {
+        try {
+            maintainProviderTypeaheadUseCase.compactIfDirty();
+        } catch (Exception e) {
+            log.error("Falha ao compactar o autocomplete: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Reconciliação diária: cobre alterações que não passaram pelos casos de uso
+     * e mensagens de pub/sub perdidas.
+     */
+    @Scheduled(cron = "${stylo.jobs.provider-typeahead.cron:0 45 3 * * *}", zone = "America/Sao_Paulo")
+    public void rebuildNightly() {
+        try {
+            maintainProviderTypeaheadUseCase.rebuildAll();
+        } catch (Exception e) {
+            log.error("Falha ao reconstruir o autocomplete: {}", e.getMessage());
+        }
+    }
+}
@@ -3,15 +3,23 @@ package com.stylo.api_agendamento.adapters.inbound.jobs;
 import com.stylo.api_agendamento.core.usecases.ProcessSubscriptionStatusUseCase;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class SubscriptionJob {
 
     private final ProcessSubscriptionStatusUseCase processSubscriptionStatusUseCase;
+    private final ClusterJobLock clusterJobLock;
+
+    // Desligado por padrão: só rodava com o agendamento habilitado (ver application.properties)
+    @Value("${stylo.jobs.subscription.enabled:false}")
+    private boolean enabled;
 
     /**
      * Roda diariamente às 00:00 (Fuso de Brasília)
@@ -19,10 +27,15 @@ public class SubscriptionJob {
      */
     @Scheduled(cron = "0 0 0 * * *", zone = "America/Sao_Paulo")
     public void run() {
+        if (!enabled) {
+            return;
+        }
         log.info("Iniciando processamento diário de assinaturas...");
         try {
-            processSubscriptionStatusUseCase.execute();
-            log.info("Processamento de assinaturas concluído com sucesso.");
+            if (clusterJobLock.runExclusively("subscription", Duration.ofHours(1),
+                    processSubscriptionStatusUseCase::execute)) {
+                log.info("Processamento de assinaturas concluído com sucesso.");
+            }
         } catch (Exception e) {
             log.error("Falha crítica no SubscriptionJob: {}", e.getMessage());
         }
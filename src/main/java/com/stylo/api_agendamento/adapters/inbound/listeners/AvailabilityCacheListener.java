@@ -0,0 +1,37 @@
+package com.stylo.api_agendamento.adapters.inbound.listeners;
+
+import com.stylo.api_agendamento.core.domain.events.ProfessionalAgendaChangedEvent;
+import com.stylo.api_agendamento.core.ports.IAvailabilityCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AvailabilityCacheListener {
+
+    private final IAvailabilityCache availabilityCache;
+
+    /**
+     * Síncrono e após o commit: quando a requisição de escrita responde, a versão
+     * já avançou. Uma leitura concorrente que calculou com o estado antigo grava sob
+     * as versões que leu antes do banco (anteriores a este INCR), nunca sob a nova.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleAgendaChanged(ProfessionalAgendaChangedEvent event) {
+        try {
+            if (event.isWholeAgenda()) {
+                availabilityCache.invalidateProfessional(event.professionalId());
+            } else {
+                availabilityCache.invalidateDays(event.professionalId(), event.fromDate(), event.toDate());
+            }
+        } catch (Exception e) {
+            // Sem a invalidação, o pior caso é servir horários antigos até o TTL da entrada
+            log.error("Falha ao invalidar cache de disponibilidade do profissional {}: {}",
+                    event.professionalId(), e.getMessage());
+        }
+    }
+}
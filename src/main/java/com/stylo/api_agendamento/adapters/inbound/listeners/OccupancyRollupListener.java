@@ -0,0 +1,37 @@
+package com.stylo.api_agendamento.adapters.inbound.listeners;
+
+import com.stylo.api_agendamento.core.domain.events.ProfessionalAgendaChangedEvent;
+import com.stylo.api_agendamento.core.usecases.RefreshOccupancyRollupUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OccupancyRollupListener {
+
+    private final RefreshOccupancyRollupUseCase refreshOccupancyRollupUseCase;
+
+    /**
+     * Assíncrono e após o commit: o recálculo lê os agendamentos já gravados e não
+     * atrasa a resposta do agendamento. Mudanças só de expediente (agenda inteira)
+     * não alteram minutos ocupados.
+     */
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleAgendaChanged(ProfessionalAgendaChangedEvent event) {
+        if (event.isWholeAgenda()) {
+            return;
+        }
+        try {
+            refreshOccupancyRollupUseCase.refresh(event.professionalId(), event.fromDate(), event.toDate());
+        } catch (Exception e) {
+            // O OccupancyRollupJob reconstrói a janela recente periodicamente
+            log.error("Falha ao atualizar ocupação do profissional {}: {}", event.professionalId(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.stylo.api_agendamento.adapters.inbound.listeners;
+
+import com.stylo.api_agendamento.core.domain.events.ProviderSearchChangedEvent;
+import com.stylo.api_agendamento.core.usecases.MaintainProviderTypeaheadUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.UUID;
+
+/**
+ * Mantém o autocomplete de todas as instâncias em dia via Redis pub/sub.
+ * A instância que alterou o estabelecimento publica o id no tópico; todas as
+ * instâncias inscritas (inclusive ela) recarregam só aquele estabelecimento.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProviderTypeaheadListener {
+
+    private static final String TOPIC = "typeahead:provider-changed";
+
+    private final MaintainProviderTypeaheadUseCase maintainProviderTypeaheadUseCase;
+    private final RedissonClient redissonClient;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void subscribe() {
+        topic().addListener(String.class, (channel, providerId) -> {
+            try {
+                maintainProviderTypeaheadUseCase.applyProviderChange(UUID.fromString(providerId));
+            } catch (Exception e) {
+                // A reconciliação diária corrige o que ficar para trás
+                log.error("Falha ao atualizar o autocomplete do estabelecimento {}: {}", providerId, e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Após o commit, para as outras instâncias lerem o estado já gravado.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleProviderChanged(ProviderSearchChangedEvent event) {
+        try {
+            topic().publish(event.providerId().toString());
+        } catch (Exception e) {
+            // Sem Redis, ao menos esta instância fica atualizada
+            log.warn("Falha ao publicar alteração do autocomplete: {}. Atualizando só localmente.", e.getMessage());
+            maintainProviderTypeaheadUseCase.applyProviderChange(event.providerId());
+        }
+    }
+
+    private RTopic topic() {
+        return redissonClient.getTopic(TOPIC, StringCodec.INSTANCE);
+    }
+}
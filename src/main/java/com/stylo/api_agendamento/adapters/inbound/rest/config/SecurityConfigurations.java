@@ -115,6 +115,8 @@ public class SecurityConfigurations {
                         .hasAuthority(UserPermission.FINANCIAL_WRITE.getPermission())
 
                         .requestMatchers(HttpMethod.GET, "/v1/professionals/*/available-slots").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/v1/professionals/*/availability-calendar").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/v1/professionals/*/next-available").permitAll()
 
                         // Qualquer outra requisição precisa apenas estar autenticada
                         .anyRequest().authenticated())
@@ -136,7 +138,11 @@ public class SecurityConfigurations {
 
         // Incluído headers padrões para React/Axios além do Stripe
         configuration.setAllowedHeaders(
-                List.of("Authorization", "Content-Type", "Stripe-Signature", "X-Requested-With", "Accept"));
+                List.of("Authorization", "Content-Type", "Stripe-Signature", "X-Requested-With", "Accept",
+                        "Idempotency-Key", "X-Booking-Ticket"));
+
+        // Sala de espera de agendamentos: o front precisa ler a senha e o tempo de espera da resposta 429
+        configuration.setExposedHeaders(List.of("Retry-After", "X-Booking-Ticket"));
 
         // Essencial para frameworks modernos de front-end
         configuration.setAllowCredentials(true);
@@ -45,6 +45,7 @@ public class AppointmentController {
     private final MarkNoShowUseCase markNoShowUseCase;
     private final AddAppointmentItemUseCase addAppointmentItemUseCase;
     private final RemoveAppointmentItemUseCase removeAppointmentItemUseCase;
+    private final ManageSlotHoldUseCase manageSlotHoldUseCase;
 
     private final IUserContext userContext;
 
@@ -56,7 +57,10 @@ public class AppointmentController {
     @PostMapping
     @Idempotent(ttl = 24, unit = TimeUnit.HOURS)
     @PreAuthorize("hasAuthority('appointment:write')")
-    public ResponseEntity<Appointment> create(@RequestBody @Valid CreateAppointmentRequest request) {
+    public ResponseEntity<Appointment> create(
+            @RequestBody @Valid CreateAppointmentRequest request,
+            @Parameter(description = "Senha da sala de espera recebida em uma resposta 429 anterior")
+            @RequestHeader(value = "X-Booking-Ticket", required = false) UUID bookingTicket) {
         UUID loggedUserId = userContext.getCurrentUserId();
 
         // Extrai apenas os IDs dos itens que são do tipo "SERVICE" para passar pro
@@ -75,7 +79,33 @@ public class AppointmentController {
                 request.couponCode(),
                 request.notes());
 
-        return ResponseEntity.status(HttpStatus.CREATED).body(createAppointmentUseCase.execute(input));
+        return ResponseEntity.status(HttpStatus.CREATED).body(createAppointmentUseCase.execute(input, bookingTicket));
+    }
+
+    @Operation(summary = "Reservar Horário Temporariamente", description = "Segura o horário por alguns minutos enquanto o cliente conclui o checkout (cupom, pagamento). A reserva é consumida ao criar o agendamento.")
+    @PostMapping("/holds")
+    @PreAuthorize("hasAuthority('appointment:write')")
+    public ResponseEntity<SlotHoldResponse> holdSlot(@RequestBody @Valid SlotHoldRequest request) {
+        var input = new ManageSlotHoldUseCase.HoldInput(
+                userContext.getCurrentUserId(),
+                UUID.fromString(request.professionalId()),
+                request.serviceIds().stream().map(UUID::fromString).toList(),
+                request.startTime());
+
+        var hold = manageSlotHoldUseCase.hold(input);
+        return ResponseEntity.status(HttpStatus.CREATED).body(SlotHoldResponse.fromDomain(hold));
+    }
+
+    @Operation(summary = "Liberar Reserva Temporária", description = "Devolve o horário reservado antes do fim do prazo (ex: cliente desistiu do checkout).")
+    @DeleteMapping("/holds/{holdId}")
+    @PreAuthorize("hasAuthority('appointment:write')")
+    public ResponseEntity<Void> releaseSlotHold(
+            @PathVariable UUID holdId,
+            @RequestParam UUID professionalId,
+            @Parameter(description = "Data do horário reservado (YYYY-MM-DD)") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+
+        manageSlotHoldUseCase.release(userContext.getCurrentUserId(), professionalId, date, holdId);
+        return ResponseEntity.noContent().build();
     }
 
     @Operation(summary = "Criar Agendamento Recorrente", description = "Cria uma série de agendamentos (ex: Toda Sexta-feira).")
@@ -214,7 +244,8 @@ public class AppointmentController {
             @Parameter(description = "Data no formato YYYY-MM-DD") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
             @Parameter(description = "Lista de IDs dos serviços selecionados") @RequestParam List<UUID> serviceIds) {
 
-        var availability = getProfessionalAvailabilityUseCase.execute(professionalId, date, serviceIds);
+        var availability = getProfessionalAvailabilityUseCase.execute(
+                professionalId, date, serviceIds, userContext.getCurrentUserId());
         return ResponseEntity.ok(availability);
     }
 
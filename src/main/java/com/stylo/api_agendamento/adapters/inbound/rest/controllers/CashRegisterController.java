@@ -1,9 +1,17 @@
 package com.stylo.api_agendamento.adapters.inbound.rest.controllers;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stylo.api_agendamento.adapters.inbound.rest.export.CsvStreamWriter;
+import com.stylo.api_agendamento.core.common.PagedResult;
 import com.stylo.api_agendamento.core.domain.financial.CashRegister;
+import com.stylo.api_agendamento.core.domain.financial.CashTransaction;
 import com.stylo.api_agendamento.core.domain.financial.CashTransactionType;
 import com.stylo.api_agendamento.core.ports.IUserContext;
+import com.stylo.api_agendamento.core.usecases.GetCashReconciliationUseCase;
 import com.stylo.api_agendamento.core.usecases.ManageCashRegisterUseCase;
+import com.stylo.api_agendamento.core.usecases.dto.CashReconciliationSummary;
+import com.stylo.api_agendamento.core.usecases.dto.CashRegisterReconciliation;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
@@ -12,12 +20,21 @@ import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.PositiveOrZero;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -26,12 +43,19 @@ import java.util.UUID;
 @Tag(name = "Controle de Caixa", description = "Abertura, fechamento, sangria e suprimento")
 public class CashRegisterController {
 
+    private static final List<String> RECONCILIATION_COLUMNS = List.of(
+            "Abertura", "Fechamento", "Situação", "Saldo Inicial", "Vendas (Dinheiro)", "Sangrias",
+            "Suprimentos", "Saldo Calculado", "Saldo Contado", "Quebra", "Movimentações",
+            "Aberto por", "Fechado por", "Operadores", "ID do Caixa");
+
     private final ManageCashRegisterUseCase manageCashRegisterUseCase;
+    private final GetCashReconciliationUseCase getCashReconciliationUseCase;
+    private final ObjectMapper objectMapper;
     
     // Injeção da Interface (Port) e não da implementação concreta (SpringUserContext)
     private final IUserContext userContext;
 
-    @Operation(summary = "Verifica se o caixa está aberto e retorna saldo atual")
+    @Operation(summary = "Verifica se o caixa está aberto e retorna saldo atual", description = "Inclui a lista de movimentações do turno (transactions).")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Caixa está aberto. Retorna os dados."),
             @ApiResponse(responseCode = "404", description = "Nenhum caixa aberto no momento.")
@@ -59,7 +83,7 @@ public class CashRegisterController {
         return ResponseEntity.status(HttpStatus.CREATED).body(openedRegister);
     }
 
-    @Operation(summary = "Fechar caixa", description = "Encerra o caixa do dia, informando o valor real na gaveta e apurando a quebra.")
+    @Operation(summary = "Fechar caixa", description = "Encerra o caixa do dia, informando o valor real na gaveta e apurando a quebra. Retorna só o cabeçalho do caixa (transactions vazio); as movimentações ficam em GET /{id}/transactions.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Caixa fechado com sucesso"),
             @ApiResponse(responseCode = "400", description = "Não há caixa aberto para fechar ou valor inválido")
@@ -72,7 +96,7 @@ public class CashRegisterController {
         return ResponseEntity.ok(closedRegister);
     }
 
-    @Operation(summary = "Realizar Sangria ou Suprimento", description = "Adiciona (suprimento) ou retira (sangria) dinheiro do caixa.")
+    @Operation(summary = "Realizar Sangria ou Suprimento", description = "Adiciona (suprimento) ou retira (sangria) dinheiro do caixa. Retorna só o cabeçalho com o saldo atualizado (transactions vazio); as movimentações ficam em GET /status ou GET /{id}/transactions.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Operação registrada com sucesso"),
             @ApiResponse(responseCode = "400", description = "Saldo insuficiente para sangria ou caixa fechado")
@@ -88,6 +112,110 @@ public class CashRegisterController {
         return ResponseEntity.ok(updatedRegister);
     }
 
+    @Operation(summary = "Movimentações do caixa", description = "Movimentações de um caixa (aberto ou fechado) em ordem cronológica, paginadas.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Página de movimentações"),
+            @ApiResponse(responseCode = "404", description = "Caixa não encontrado no estabelecimento")
+    })
+    @GetMapping("/{id}/transactions")
+    @PreAuthorize("hasAuthority('finance:read') or hasRole('PROFESSIONAL')")
+    public ResponseEntity<PagedResult<CashTransaction>> transactions(
+            @PathVariable UUID id,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size) {
+        return ResponseEntity.ok(manageCashRegisterUseCase.getTransactions(id, page, size));
+    }
+
+    @Operation(summary = "Conciliação de caixa (resumo do período)", description = "Totais por tipo de movimentação, recebimentos por forma de pagamento e quebras de todas as sessões de caixa do período.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Resumo calculado com sucesso"),
+            @ApiResponse(responseCode = "422", description = "Período inválido")
+    })
+    @GetMapping("/reconciliation/summary")
+    @PreAuthorize("hasAuthority('finance:read') or hasRole('SERVICE_PROVIDER')")
+    public ResponseEntity<CashReconciliationSummary> reconciliationSummary(
+            @RequestParam @NotNull(message = "A data de início é obrigatória") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @NotNull(message = "A data de fim é obrigatória") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+
+        UUID providerId = userContext.getCurrentUser().getProviderId();
+        return ResponseEntity.ok(getCashReconciliationUseCase.summarize(providerId, startDate, endDate));
+    }
+
+    @Operation(summary = "Relatório Z por sessão de caixa", description = "Sessões de caixa do período (paginadas por caixa), com saldos, quebra, totais por tipo e operadores. Transmitido em JSON ou CSV (format=csv).")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Relatório transmitido"),
+            @ApiResponse(responseCode = "422", description = "Período ou paginação inválidos")
+    })
+    @GetMapping("/reconciliation")
+    @PreAuthorize("hasAuthority('finance:read') or hasRole('SERVICE_PROVIDER')")
+    public ResponseEntity<StreamingResponseBody> reconciliation(
+            @RequestParam @NotNull(message = "A data de início é obrigatória") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @NotNull(message = "A data de fim é obrigatória") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "100") int size,
+            @RequestParam(defaultValue = "json") String format) {
+
+        UUID providerId = userContext.getCurrentUser().getProviderId();
+
+        // Valida antes de iniciar o streaming (depois do primeiro byte não dá mais para responder 4xx)
+        getCashReconciliationUseCase.validate(startDate, endDate, page, size);
+        long total = getCashReconciliationUseCase.countRegisters(providerId, startDate, endDate);
+
+        if ("csv".equalsIgnoreCase(format)) {
+            StreamingResponseBody body = out -> {
+                CsvStreamWriter csv = new CsvStreamWriter(out);
+                csv.writeHeader(RECONCILIATION_COLUMNS);
+                getCashReconciliationUseCase.streamRegisters(providerId, startDate, endDate, page, size,
+                        row -> csv.writeRow(toCsvRow(row)));
+                csv.flush();
+            };
+
+            String fileName = "conciliacao_caixa_" + startDate + "_" + endDate + "_p" + page + ".csv";
+            return ResponseEntity.ok()
+                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
+                    .header("X-Total-Count", String.valueOf(total))
+                    .contentType(new MediaType("text", "csv", StandardCharsets.UTF_8))
+                    .body(body);
+        }
+
+        StreamingResponseBody body = out -> {
+            try (JsonGenerator json = objectMapper.getFactory().createGenerator(out)) {
+                json.writeStartObject();
+                json.writeNumberField("page", page);
+                json.writeNumberField("size", size);
+                json.writeNumberField("totalElements", total);
+                json.writeNumberField("totalPages", (total + size - 1) / size);
+                json.writeArrayFieldStart("registers");
+                getCashReconciliationUseCase.streamRegisters(providerId, startDate, endDate, page, size,
+                        row -> writeJson(json, row));
+                json.writeEndArray();
+                json.writeEndObject();
+            }
+        };
+
+        return ResponseEntity.ok()
+                .header("X-Total-Count", String.valueOf(total))
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
+    private static void writeJson(JsonGenerator json, CashRegisterReconciliation row) {
+        try {
+            json.writeObject(row);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Object[] toCsvRow(CashRegisterReconciliation row) {
+        return new Object[] {
+                row.openTime(), row.closeTime(), row.open() ? "ABERTO" : "FECHADO", row.initialBalance(),
+                row.totalSales(), row.totalBleeds(), row.totalReinforcements(), row.calculatedBalance(),
+                row.finalBalance(), row.closingDifference(), row.transactionCount(),
+                row.openedBy(), row.closedBy(), row.operators(), row.registerId()
+        };
+    }
+
     // --- DTOs Internos ---
     
     public record OpenRegisterRequest(
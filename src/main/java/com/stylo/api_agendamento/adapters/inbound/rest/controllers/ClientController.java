@@ -126,4 +126,32 @@ public class ClientController {
         var historyResponse = getClientHistoryUseCase.execute(id, page, size);
         return ResponseEntity.ok(historyResponse);
     }
-}
\ No newline at end of file
+
+    @Operation(summary = "Meu Histórico de Agendamentos (cursor)", description = "Histórico do cliente logado com paginação por cursor: envie o nextCursor da resposta anterior (vazio na primeira página). O total só é calculado com includeTotal=true. Ticket médio, serviços e profissionais favoritos só vêm na primeira página.")
+    @GetMapping("/history/scroll")
+    @PreAuthorize("hasRole('CLIENT')")
+    public ResponseEntity<GetClientHistoryUseCase.ScrollResponse> scrollMyHistory(
+            @Parameter(description = "Cursor da página anterior (nextCursor)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Itens por página") @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "Calcula o total de itens (COUNT)") @RequestParam(defaultValue = "false") boolean includeTotal) {
+
+        UUID clientId = userContext.getCurrentUser().getClientId();
+        if (clientId == null) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+
+        return ResponseEntity.ok(getClientHistoryUseCase.executeScroll(clientId, cursor, size, includeTotal));
+    }
+
+    @Operation(summary = "Histórico de Agendamentos do Cliente (Staff, cursor)", description = "Histórico de um cliente específico com paginação por cursor. Os indicadores só vêm na primeira página.")
+    @GetMapping("/{id}/history/scroll")
+    @PreAuthorize("hasAuthority('appointment:manage_all') or hasRole('PROFESSIONAL')")
+    public ResponseEntity<GetClientHistoryUseCase.ScrollResponse> scrollClientHistoryByStaff(
+            @PathVariable UUID id,
+            @Parameter(description = "Cursor da página anterior (nextCursor)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Itens por página") @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "Calcula o total de itens (COUNT)") @RequestParam(defaultValue = "false") boolean includeTotal) {
+
+        return ResponseEntity.ok(getClientHistoryUseCase.executeScroll(id, cursor, size, includeTotal));
+    }
+}
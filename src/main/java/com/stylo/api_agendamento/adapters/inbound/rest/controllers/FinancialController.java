@@ -1,11 +1,15 @@
 package com.stylo.api_agendamento.adapters.inbound.rest.controllers;
 
 import com.stylo.api_agendamento.adapters.inbound.rest.dto.financial.FinancialDashboardResponse;
+import com.stylo.api_agendamento.adapters.inbound.rest.export.CsvStreamWriter;
 import com.stylo.api_agendamento.core.ports.IUserContext;
+import com.stylo.api_agendamento.core.usecases.CloseProviderPayrollUseCase;
 import com.stylo.api_agendamento.core.usecases.ConnectProviderUseCase;
+import com.stylo.api_agendamento.core.usecases.ExportFinancialDataUseCase;
 import com.stylo.api_agendamento.core.usecases.GetFinancialDashboardUseCase;
 import com.stylo.api_agendamento.core.usecases.GetOccupancyReportUseCase;
 import com.stylo.api_agendamento.core.usecases.dto.DailyCashFlow;
+import com.stylo.api_agendamento.core.usecases.dto.FinancialExportType;
 import com.stylo.api_agendamento.core.usecases.dto.OccupancyReport;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -15,10 +19,14 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
@@ -33,6 +41,8 @@ public class FinancialController {
     private final GetFinancialDashboardUseCase getFinancialDashboardUseCase;
     private final GetOccupancyReportUseCase getOccupancyReportUseCase;
     private final ConnectProviderUseCase connectProviderUseCase;
+    private final ExportFinancialDataUseCase exportFinancialDataUseCase;
+    private final CloseProviderPayrollUseCase closeProviderPayrollUseCase;
     
     // Injeção da porta (Clean Architecture) e não do contexto concreto do Spring
     private final IUserContext userContext;
@@ -70,6 +80,37 @@ public class FinancialController {
         return ResponseEntity.ok(response);
     }
 
+    @Operation(summary = "Exportar Dados Financeiros (CSV)", description = "Exporta agendamentos, despesas, movimentações de caixa ou repasses do período em CSV. As linhas são transmitidas conforme são lidas do banco (períodos de até 1 ano).")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Arquivo CSV transmitido"),
+            @ApiResponse(responseCode = "422", description = "Período inválido")
+    })
+    @GetMapping("/export/{type}")
+    @PreAuthorize("hasAuthority('finance:read') or hasRole('SERVICE_PROVIDER')")
+    public ResponseEntity<StreamingResponseBody> export(
+            @PathVariable FinancialExportType type,
+            @RequestParam @NotNull(message = "A data de início é obrigatória") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @NotNull(message = "A data de fim é obrigatória") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+
+        UUID providerId = userContext.getCurrentUser().getProviderId();
+
+        // Valida antes de iniciar o streaming (depois do primeiro byte não dá mais para responder 4xx)
+        exportFinancialDataUseCase.validate(startDate, endDate);
+
+        StreamingResponseBody body = out -> {
+            CsvStreamWriter csv = new CsvStreamWriter(out);
+            csv.writeHeader(type.getColumns());
+            exportFinancialDataUseCase.execute(providerId, type, startDate, endDate, csv::writeRow);
+            csv.flush();
+        };
+
+        String fileName = type.getFileName() + "_" + startDate + "_" + endDate + ".csv";
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
+                .contentType(new MediaType("text", "csv", StandardCharsets.UTF_8))
+                .body(body);
+    }
+
     @Operation(summary = "Relatório de Ocupação", description = "Retorna o relatório de taxa de ocupação da agenda do profissional logado.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Relatório de ocupação gerado com sucesso")
@@ -102,4 +143,16 @@ public class FinancialController {
 
         return ResponseEntity.ok(Map.of("url", redirectUrl));
     }
-}
\ No newline at end of file
+
+    @Operation(summary = "Fechamento da folha de comissões", description = "Liquida as comissões pendentes de todos os profissionais do estabelecimento e gera um repasse por profissional.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Fechamento realizado com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Não há comissões pendentes")
+    })
+    @PostMapping("/payroll/close")
+    @PreAuthorize("hasAuthority('finance:manage') or hasRole('SERVICE_PROVIDER')")
+    public ResponseEntity<CloseProviderPayrollUseCase.Response> closePayroll() {
+        UUID providerId = userContext.getCurrentUser().getProviderId();
+        return ResponseEntity.ok(closeProviderPayrollUseCase.execute(providerId));
+    }
+}
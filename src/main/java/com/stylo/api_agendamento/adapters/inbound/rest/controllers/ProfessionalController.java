@@ -13,10 +13,12 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -37,6 +39,8 @@ public class ProfessionalController {
         private final DeleteProfessionalUseCase deleteProfessionalUseCase;
         private final ListProfessionalsByProviderUseCase listProfessionalsByProviderUseCase;
         private final GetProfessionalAvailabilityUseCase getAvailabilityUseCase;
+        private final GetAvailabilityCalendarUseCase getAvailabilityCalendarUseCase;
+        private final FindNextAvailableSlotUseCase findNextAvailableSlotUseCase;
 
         // ✨ INJETADO PARA VALIDAÇÃO DE SEGURANÇA (IDOR)
         private final IUserContext userContext;
@@ -210,7 +214,8 @@ public class ProfessionalController {
 
                 // Se a lista de serviços vier vazia, o UseCase lançará exceção, então é seguro
                 // passar.
-                List<java.time.LocalTime> slots = getAvailabilityUseCase.execute(id, requestedDate, services);
+                List<java.time.LocalTime> slots = getAvailabilityUseCase.execute(
+                                id, requestedDate, services, userContext.getCurrentUserIdOptional().orElse(null));
 
                 // O frontend espera um array de strings no formato "HH:mm"
                 List<String> formattedSlots = slots.stream()
@@ -219,4 +224,30 @@ public class ProfessionalController {
 
                 return ResponseEntity.ok(formattedSlots);
         }
-}
\ No newline at end of file
+
+        @Operation(summary = "Calendário de disponibilidade", description = "Retorna os horários livres de um profissional para um intervalo de datas (até 60 dias), com indicador de disponibilidade por dia. Substitui uma chamada de available-slots por dia.")
+        @GetMapping("/{id}/availability-calendar")
+        // Público, assim como available-slots
+        public ResponseEntity<AvailabilityCalendarResponse> getAvailabilityCalendar(
+                        @PathVariable UUID id,
+                        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                        @RequestParam List<UUID> services) {
+
+                var calendar = getAvailabilityCalendarUseCase.execute(id, services, from, to);
+                return ResponseEntity.ok(AvailabilityCalendarResponse.fromDomain(calendar));
+        }
+
+        @Operation(summary = "Próximo horário disponível", description = "Procura, a partir de uma data (padrão: hoje), o primeiro dia em que o profissional tem vaga para os serviços informados e retorna os horários livres desse dia.")
+        @GetMapping("/{id}/next-available")
+        // Público, assim como available-slots
+        public ResponseEntity<NextAvailableSlotResponse> findNextAvailable(
+                        @PathVariable UUID id,
+                        @RequestParam List<UUID> services,
+                        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                        @RequestParam(required = false) Integer maxDays) {
+
+                var next = findNextAvailableSlotUseCase.execute(id, services, from, maxDays);
+                return ResponseEntity.ok(NextAvailableSlotResponse.fromDomain(next));
+        }
+}
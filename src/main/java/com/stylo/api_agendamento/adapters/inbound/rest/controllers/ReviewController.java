@@ -1,6 +1,8 @@
 package com.stylo.api_agendamento.adapters.inbound.rest.controllers;
 
 import com.stylo.api_agendamento.adapters.inbound.rest.dto.review.CreateReviewRequest;
+import com.stylo.api_agendamento.core.common.CursorPage;
+import com.stylo.api_agendamento.core.common.PageCursor;
 import com.stylo.api_agendamento.core.common.PagedResult;
 import com.stylo.api_agendamento.core.domain.Review;
 import com.stylo.api_agendamento.core.ports.IReviewRepository;
@@ -72,4 +74,28 @@ public class ReviewController {
         PagedResult<Review> result = reviewRepository.findAllByProfessionalId(professionalId, page, size);
         return ResponseEntity.ok(result);
     }
-}
\ No newline at end of file
+
+    @Operation(summary = "Listar Avaliações do Estabelecimento (cursor)", description = "Paginação por cursor: envie o nextCursor da resposta anterior (vazio na primeira página). O total só é calculado com includeTotal=true.")
+    @GetMapping("/provider/{providerId}/scroll")
+    public ResponseEntity<CursorPage<Review>> scrollByProvider(
+            @PathVariable UUID providerId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+
+        return ResponseEntity.ok(reviewRepository.findAllByProviderIdAfter(
+                providerId, PageCursor.decode(cursor), size, includeTotal));
+    }
+
+    @Operation(summary = "Listar Avaliações do Profissional (cursor)", description = "Paginação por cursor das avaliações de um profissional específico.")
+    @GetMapping("/professional/{professionalId}/scroll")
+    public ResponseEntity<CursorPage<Review>> scrollByProfessional(
+            @PathVariable UUID professionalId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+
+        return ResponseEntity.ok(reviewRepository.findAllByProfessionalIdAfter(
+                professionalId, PageCursor.decode(cursor), size, includeTotal));
+    }
+}
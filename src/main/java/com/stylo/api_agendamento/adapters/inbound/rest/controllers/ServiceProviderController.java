@@ -3,21 +3,27 @@ package com.stylo.api_agendamento.adapters.inbound.rest.controllers;
 import com.stylo.api_agendamento.adapters.inbound.rest.dto.serviceProvider.AddressRequest;
 import com.stylo.api_agendamento.adapters.inbound.rest.dto.serviceProvider.RegisterServiceProviderRequest;
 import com.stylo.api_agendamento.adapters.inbound.rest.dto.serviceProvider.UpdateServiceProviderInput;
+import com.stylo.api_agendamento.core.common.CursorPage;
 import com.stylo.api_agendamento.core.common.PagedResult;
 import com.stylo.api_agendamento.core.domain.Service; // ✨ IMPORT ADICIONADO
 import com.stylo.api_agendamento.core.domain.ServiceProvider;
+import com.stylo.api_agendamento.core.domain.search.TypeaheadSuggestion;
 import com.stylo.api_agendamento.core.domain.vo.Address;
 import com.stylo.api_agendamento.core.domain.vo.Document;
 import com.stylo.api_agendamento.core.domain.vo.Slug;
 import com.stylo.api_agendamento.core.exceptions.EntityNotFoundException;
 import com.stylo.api_agendamento.core.ports.IServiceProviderRepository;
 import com.stylo.api_agendamento.core.ports.IServiceRepository; // ✨ IMPORT ADICIONADO
+import com.stylo.api_agendamento.core.usecases.AutocompleteProvidersUseCase;
+import com.stylo.api_agendamento.core.usecases.FindEarliestTeamSlotsUseCase;
 import com.stylo.api_agendamento.core.usecases.ListProfessionalsByProviderUseCase; // ✨ IMPORT ADICIONADO
 import com.stylo.api_agendamento.core.usecases.RegisterServiceProviderUseCase;
 import com.stylo.api_agendamento.core.usecases.SearchServiceProvidersUseCase;
 import com.stylo.api_agendamento.core.usecases.UpdateServiceProviderProfileUseCase;
 import com.stylo.api_agendamento.core.usecases.dto.ProfessionalProfile; // ✨ IMPORT ADICIONADO
 import com.stylo.api_agendamento.core.usecases.dto.ProviderSearchCriteria;
+import com.stylo.api_agendamento.core.usecases.dto.ProviderSearchResult;
+import com.stylo.api_agendamento.core.usecases.dto.TeamSlot;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -28,9 +34,11 @@ import lombok.RequiredArgsConstructor;
 
 import java.math.BigDecimal;
 import java.text.Normalizer;
+import java.time.LocalDateTime;
 import java.util.List; // ✨ IMPORT ADICIONADO
 import java.util.UUID; // ✨ IMPORT ADICIONADO
 
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -45,6 +53,7 @@ public class ServiceProviderController {
         private final RegisterServiceProviderUseCase registerUseCase;
         private final UpdateServiceProviderProfileUseCase updateProfileUseCase;
         private final SearchServiceProvidersUseCase searchServiceProvidersUseCase;
+        private final AutocompleteProvidersUseCase autocompleteProvidersUseCase;
 
         // ✨ Repositório injetado para resolver a busca pública
         private final IServiceProviderRepository repository;
@@ -53,6 +62,9 @@ public class ServiceProviderController {
         private final IServiceRepository serviceRepository;
         private final ListProfessionalsByProviderUseCase listProfessionalsUseCase;
 
+        // ✨ Busca "qualquer profissional" (primeiros horários livres da equipe)
+        private final FindEarliestTeamSlotsUseCase findEarliestTeamSlotsUseCase;
+
         @Operation(summary = "Criar Conta (Onboarding)", description = "Regista um novo estabelecimento e sincroniza com o Firebase.")
         @ApiResponses({
                         @ApiResponse(responseCode = "201", description = "Estabelecimento registado com sucesso"),
@@ -123,6 +135,19 @@ public class ServiceProviderController {
                 return ResponseEntity.ok(new PublicBookingDataResponse(provider, professionals, services));
         }
 
+        @Operation(summary = "Primeiros Horários da Equipe", description = "Busca \"qualquer profissional\": retorna os primeiros horários livres (profissional + início) entre todos os profissionais que realizam os serviços selecionados.")
+        @GetMapping("/public/{id}/earliest-slots")
+        public ResponseEntity<List<TeamSlot>> getEarliestTeamSlots(
+                        @PathVariable UUID id,
+                        @RequestParam List<UUID> serviceIds,
+                        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+                        @RequestParam(required = false) Integer limit) {
+
+                var input = new FindEarliestTeamSlotsUseCase.Input(id, serviceIds, from, to, limit);
+                return ResponseEntity.ok(findEarliestTeamSlotsUseCase.execute(input));
+        }
+
         @Operation(summary = "Buscar Perfil Público por Slug", description = "Retorna os dados públicos de um estabelecimento usando a sua URL amigável (ex: /public/slug/arthurbarber).")
         @ApiResponses({
                         @ApiResponse(responseCode = "200", description = "Perfil encontrado com sucesso"),
@@ -141,24 +166,59 @@ public class ServiceProviderController {
         }
 
         @GetMapping("/search")
-        @Operation(summary = "Busca avançada de estabelecimentos", description = "Retorna estabelecimentos aplicando filtros dinâmicos de nome, cidade, preço e avaliação.")
-        public ResponseEntity<PagedResult<ServiceProvider>> search(
+        @Operation(summary = "Busca avançada de estabelecimentos", description = "Retorna estabelecimentos aplicando filtros dinâmicos de nome, cidade, preço e avaliação. Com lat/lng, filtra pelo raio (radiusKm, padrão 10 km) e retorna a distância; sortByDistance ordena pelo mais próximo.")
+        public ResponseEntity<PagedResult<ProviderSearchResult>> search(
                         @RequestParam(required = false) String searchTerm,
                         @RequestParam(required = false) String city,
                         @RequestParam(required = false) Double minRating,
                         @RequestParam(required = false) BigDecimal minPrice,
                         @RequestParam(required = false) BigDecimal maxPrice,
+                        @RequestParam(required = false) Double lat,
+                        @RequestParam(required = false) Double lng,
+                        @RequestParam(required = false) Double radiusKm,
+                        @RequestParam(defaultValue = "false") boolean sortByDistance,
                         @RequestParam(defaultValue = "0") int page,
                         @RequestParam(defaultValue = "10") int size) {
 
                 ProviderSearchCriteria criteria = new ProviderSearchCriteria(
-                                searchTerm, city, minRating, minPrice, maxPrice);
+                                searchTerm, city, minRating, minPrice, maxPrice, lat, lng, radiusKm, sortByDistance);
 
-                PagedResult<ServiceProvider> result = searchServiceProvidersUseCase.execute(criteria, page, size);
+                PagedResult<ProviderSearchResult> result = searchServiceProvidersUseCase.execute(criteria, page, size);
 
                 return ResponseEntity.ok(result);
         }
 
+        @GetMapping("/autocomplete")
+        @Operation(summary = "Autocomplete da busca", description = "Sugestões de nomes de estabelecimentos e de serviços que começam pelo texto digitado (mínimo 2 caracteres, sem diferenciar acentos). Respondido da memória, para uso a cada tecla; o limite padrão é 8 (máximo 20).")
+        public ResponseEntity<List<TypeaheadSuggestion>> autocomplete(
+                        @RequestParam String q,
+                        @RequestParam(required = false) Integer limit) {
+
+                return ResponseEntity.ok(autocompleteProvidersUseCase.execute(q, limit));
+        }
+
+        @GetMapping("/search/scroll")
+        @Operation(summary = "Busca de estabelecimentos (cursor)", description = "Mesmos filtros da busca avançada com paginação por cursor: envie o nextCursor da resposta anterior (vazio na primeira página). O cursor só vale para os mesmos filtros e ordenação. O total só é calculado com includeTotal=true.")
+        public ResponseEntity<CursorPage<ProviderSearchResult>> searchScroll(
+                        @RequestParam(required = false) String searchTerm,
+                        @RequestParam(required = false) String city,
+                        @RequestParam(required = false) Double minRating,
+                        @RequestParam(required = false) BigDecimal minPrice,
+                        @RequestParam(required = false) BigDecimal maxPrice,
+                        @RequestParam(required = false) Double lat,
+                        @RequestParam(required = false) Double lng,
+                        @RequestParam(required = false) Double radiusKm,
+                        @RequestParam(defaultValue = "false") boolean sortByDistance,
+                        @RequestParam(required = false) String cursor,
+                        @RequestParam(defaultValue = "10") int size,
+                        @RequestParam(defaultValue = "false") boolean includeTotal) {
+
+                ProviderSearchCriteria criteria = new ProviderSearchCriteria(
+                                searchTerm, city, minRating, minPrice, maxPrice, lat, lng, radiusKm, sortByDistance);
+
+                return ResponseEntity.ok(searchServiceProvidersUseCase.executeScroll(criteria, cursor, size, includeTotal));
+        }
+
         @Operation(summary = "Atualizar Perfil do Estabelecimento", description = "Atualiza os dados públicos (logo, banner, url/slug, morada) e configurações operacionais (Pix, cancelamento) do salão.")
         @ApiResponses({
                         @ApiResponse(responseCode = "200", description = "Perfil atualizado com sucesso"),
@@ -0,0 +1,20 @@
+package com.stylo.api_agendamento.adapters.inbound.rest.dto.appointment;
+
+import jakarta.validation.constraints.Future;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record SlotHoldRequest(
+        @NotNull(message = "ID do profissional é obrigatório")
+        String professionalId,
+
+        @NotEmpty(message = "Lista de serviços é obrigatória")
+        List<String> serviceIds,
+
+        @NotNull(message = "Data de início é obrigatória")
+        @Future(message = "A data deve ser futura")
+        LocalDateTime startTime
+) {}
@@ -0,0 +1,23 @@
+package com.stylo.api_agendamento.adapters.inbound.rest.dto.appointment;
+
+import com.stylo.api_agendamento.core.domain.schedule.SlotHold;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+public record SlotHoldResponse(
+        String holdId,
+        String professionalId,
+        LocalDateTime startTime,
+        LocalDateTime endTime,
+        Instant expiresAt
+) {
+    public static SlotHoldResponse fromDomain(SlotHold hold) {
+        return new SlotHoldResponse(
+                hold.id().toString(),
+                hold.professionalId().toString(),
+                hold.startTime(),
+                hold.endTime(),
+                hold.expiresAt());
+    }
+}
@@ -0,0 +1,31 @@
+package com.stylo.api_agendamento.adapters.inbound.rest.dto.professional;
+
+import com.stylo.api_agendamento.core.usecases.dto.AvailabilityCalendar;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+public record AvailabilityCalendarResponse(
+        String professionalId,
+        int totalDurationMinutes,
+        List<DayResponse> days) {
+
+    public record DayResponse(
+            LocalDate date,
+            boolean hasAvailability,
+            List<String> slots // Formato "HH:mm", igual ao endpoint de available-slots
+    ) {}
+
+    public static AvailabilityCalendarResponse fromDomain(AvailabilityCalendar calendar) {
+        return new AvailabilityCalendarResponse(
+                calendar.professionalId().toString(),
+                calendar.totalDurationMinutes(),
+                calendar.days().stream()
+                        .map(d -> new DayResponse(
+                                d.date(),
+                                d.hasAvailability(),
+                                d.slots().stream().map(LocalTime::toString).toList()))
+                        .toList());
+    }
+}
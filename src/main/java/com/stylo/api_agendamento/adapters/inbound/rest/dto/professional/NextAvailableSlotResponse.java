@@ -0,0 +1,27 @@
+package com.stylo.api_agendamento.adapters.inbound.rest.dto.professional;
+
+import com.stylo.api_agendamento.core.usecases.dto.NextAvailability;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+public record NextAvailableSlotResponse(
+        String professionalId,
+        boolean found,
+        LocalDate date, // Primeiro dia com vaga (nulo se não encontrado)
+        String firstSlot, // Formato "HH:mm"
+        List<String> slots, // Todos os horários livres desse dia
+        LocalDate searchedUntil) {
+
+    public static NextAvailableSlotResponse fromDomain(NextAvailability next) {
+        List<String> slots = next.slots().stream().map(LocalTime::toString).toList();
+        return new NextAvailableSlotResponse(
+                next.professionalId().toString(),
+                next.found(),
+                next.date(),
+                slots.isEmpty() ? null : slots.get(0),
+                slots,
+                next.searchedUntil());
+    }
+}
@@ -1,10 +1,13 @@
 package com.stylo.api_agendamento.adapters.inbound.rest.exceptions;
 
+import com.stylo.api_agendamento.core.domain.schedule.BookingAdmission;
+import com.stylo.api_agendamento.core.exceptions.BookingQueuedException;
 import com.stylo.api_agendamento.core.exceptions.BusinessException;
 import com.stylo.api_agendamento.core.exceptions.EntityNotFoundException;
 import com.stylo.api_agendamento.core.exceptions.ScheduleConflictException;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatusCode; // ✨ NOVA IMPORTAÇÃO
 import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
@@ -39,6 +42,28 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(409).body(problemDetail);
     }
 
+    @ExceptionHandler(BookingQueuedException.class)
+    public ResponseEntity<ProblemDetail> handleBookingQueued(BookingQueuedException ex) {
+        BookingAdmission admission = ex.getAdmission();
+        long retryAfterSeconds = Math.max(1, (admission.estimatedWait().toMillis() + 999) / 1000);
+
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(HttpStatusCode.valueOf(429), ex.getMessage());
+        problemDetail.setTitle("Fila de Agendamento");
+        problemDetail.setType(URI.create("https://stylo.com/errors/booking-queue"));
+        problemDetail.setProperty("queueStatus", admission.status());
+        problemDetail.setProperty("position", admission.position());
+        problemDetail.setProperty("estimatedWaitSeconds", retryAfterSeconds);
+
+        // A senha só é devolvida para quem entrou na fila (reenviar em X-Booking-Ticket mantém o lugar)
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(429)
+                .header(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        if (admission.status() == BookingAdmission.Status.QUEUED) {
+            problemDetail.setProperty("ticket", admission.ticket());
+            response.header("X-Booking-Ticket", admission.ticket().toString());
+        }
+        return response.body(problemDetail);
+    }
+
     @ExceptionHandler(BusinessException.class)
     public ResponseEntity<ProblemDetail> handleBusinessException(BusinessException ex) {
         // ✨ CORREÇÃO DO AVISO: Usando HttpStatusCode.valueOf(422) ao invés do Enum
@@ -0,0 +1,97 @@
+package com.stylo.api_agendamento.adapters.inbound.rest.export;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Escritor CSV incremental (padrão Excel pt-BR: separador ";", vírgula decimal e BOM UTF-8).
+ * Mantém apenas o buffer de saída em memória, independente do número de linhas.
+ */
+public class CsvStreamWriter {
+
+    private static final char SEPARATOR = ';';
+
+    private static final char DECIMAL_SEPARATOR = ',';
+
+    private final Writer writer;
+
+    public CsvStreamWriter(OutputStream out) {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 16 * 1024);
+    }
+
+    /**
+     * BOM + cabeçalho, já enviados ao cliente (primeiro byte sai antes da consulta terminar).
+     */
+    public void writeHeader(List<String> columns) {
+        try {
+            writer.write('\uFEFF');
+            writeRow(columns.toArray());
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void writeRow(Object[] values) {
+        try {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    writer.write(SEPARATOR);
+                }
+                writer.write(escape(values[i]));
+            }
+            writer.write("\r\n");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    private static String escape(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = format(value);
+        // Texto livre (nomes, descrições) que começa como fórmula seria executado pelo Excel.
+        // Números ficam de fora: um valor negativo precisa continuar numérico na planilha
+        if (!(value instanceof Number) && isFormulaStart(text)) {
+            text = "'" + text;
+        }
+        if (text.indexOf(SEPARATOR) >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+            return '"' + text.replace("\"", "\"\"") + '"';
+        }
+        return text;
+    }
+
+    /**
+     * Decimais com vírgula e sem separador de milhar ("1234,50"): com ponto, o Excel pt-BR
+     * lê o valor como texto ou como 123450. A escala do BigDecimal é mantida.
+     */
+    private static String format(Object value) {
+        if (value instanceof BigDecimal decimal) {
+            return decimal.toPlainString().replace('.', DECIMAL_SEPARATOR);
+        }
+        if ((value instanceof Double || value instanceof Float) && Double.isFinite(((Number) value).doubleValue())) {
+            return new BigDecimal(value.toString()).toPlainString().replace('.', DECIMAL_SEPARATOR);
+        }
+        return value.toString();
+    }
+
+    private static boolean isFormulaStart(String text) {
+        if (text.isEmpty()) {
+            return false;
+        }
+        char first = text.charAt(0);
+        return first == '=' || first == '+' || first == '-' || first == '@' || first == '\t' || first == '\r';
+    }
+}
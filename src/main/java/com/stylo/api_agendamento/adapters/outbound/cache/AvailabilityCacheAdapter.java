@@ -0,0 +1,146 @@
+package com.stylo.api_agendamento.adapters.outbound.cache;
+
+import com.stylo.api_agendamento.core.domain.schedule.SlotEngine;
+import com.stylo.api_agendamento.core.ports.IAvailabilityCache;
+import com.stylo.api_agendamento.core.ports.ICacheService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.StringJoiner;
+import java.util.UUID;
+
+/**
+ * Cache de disponibilidade com chaves versionadas:
+ * availability:slots:{prof}:{data}:{duração}:v{versãoProfissional}.{versãoDia}
+ *
+ * Invalidar = incrementar a versão (INCR atômico). As entradas antigas ficam
+ * órfãs e expiram pelo TTL, sem varredura de chaves (evictPattern/KEYS).
+ */
+@Slf4j
+@Component
+public class AvailabilityCacheAdapter implements IAvailabilityCache {
+
+    private static final long SLOTS_TTL_MINUTES = 10;
+
+    // Precisa viver mais que as entradas: se a versão expirar e voltar a 0,
+    // nenhuma entrada gravada com as versões antigas pode continuar viva
+    private static final long VERSION_TTL_MINUTES = 60 * 24 * 2;
+
+    // Evita incrementar centenas de versões em bloqueios longos (ex: férias)
+    private static final int MAX_DAYS_PER_INVALIDATION = 62;
+
+    private final ICacheService cacheService;
+    private final Counter hits;
+    private final Counter misses;
+
+    public AvailabilityCacheAdapter(ICacheService cacheService, MeterRegistry meterRegistry) {
+        this.cacheService = cacheService;
+        this.hits = Counter.builder("stylo.availability.cache")
+                .description("Leituras do cache de disponibilidade")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("stylo.availability.cache")
+                .description("Leituras do cache de disponibilidade")
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Lookup get(UUID professionalId, LocalDate date, int totalDurationMinutes) {
+        String key;
+        try {
+            key = slotsKey(professionalId, date, totalDurationMinutes);
+        } catch (Exception e) {
+            // Cache é otimização: falha no Redis cai para o cálculo normal
+            log.warn("Falha ao ler versões do cache de disponibilidade: {}", e.getMessage());
+            misses.increment();
+            return new Lookup(null, Optional.empty());
+        }
+
+        try {
+            Optional<String> cached = cacheService.get(key, String.class);
+            if (cached.isPresent()) {
+                hits.increment();
+                return new Lookup(key, Optional.of(decode(cached.get())));
+            }
+        } catch (Exception e) {
+            log.warn("Falha ao ler cache de disponibilidade: {}", e.getMessage());
+        }
+        misses.increment();
+        return new Lookup(key, Optional.empty());
+    }
+
+    @Override
+    public void put(Lookup lookup, List<LocalTime> slots) {
+        if (lookup.versionedKey() == null) {
+            return;
+        }
+        try {
+            cacheService.set(lookup.versionedKey(), encode(slots), SLOTS_TTL_MINUTES);
+        } catch (Exception e) {
+            log.warn("Falha ao gravar cache de disponibilidade: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void invalidateDays(UUID professionalId, LocalDate from, LocalDate to) {
+        LocalDate day = from;
+        for (int i = 0; i < MAX_DAYS_PER_INVALIDATION && !day.isAfter(to); i++) {
+            cacheService.increment(dayVersionKey(professionalId, day), VERSION_TTL_MINUTES);
+            day = day.plusDays(1);
+        }
+        if (!day.isAfter(to)) {
+            invalidateProfessional(professionalId);
+        }
+    }
+
+    @Override
+    public void invalidateProfessional(UUID professionalId) {
+        cacheService.increment(professionalVersionKey(professionalId), VERSION_TTL_MINUTES);
+    }
+
+    // --- CHAVES ---
+
+    private String slotsKey(UUID professionalId, LocalDate date, int totalDurationMinutes) {
+        long professionalVersion = cacheService.getCounter(professionalVersionKey(professionalId));
+        long dayVersion = cacheService.getCounter(dayVersionKey(professionalId, date));
+        return "availability:slots:" + professionalId + ":" + date + ":" + totalDurationMinutes
+                + ":v" + professionalVersion + "." + dayVersion;
+    }
+
+    private static String professionalVersionKey(UUID professionalId) {
+        return "availability:version:" + professionalId;
+    }
+
+    private static String dayVersionKey(UUID professionalId, LocalDate date) {
+        return "availability:version:" + professionalId + ":" + date;
+    }
+
+    // --- SERIALIZAÇÃO (minutos do dia separados por vírgula) ---
+
+    private static String encode(List<LocalTime> slots) {
+        StringJoiner joiner = new StringJoiner(",");
+        for (LocalTime slot : slots) {
+            joiner.add(Integer.toString(SlotEngine.minuteOf(slot)));
+        }
+        return joiner.toString();
+    }
+
+    private static List<LocalTime> decode(String value) {
+        List<LocalTime> slots = new ArrayList<>();
+        if (value.isEmpty()) {
+            return slots;
+        }
+        for (String minute : value.split(",")) {
+            slots.add(SlotEngine.toTime(Integer.parseInt(minute)));
+        }
+        return slots;
+    }
+}
@@ -0,0 +1,174 @@
+package com.stylo.api_agendamento.adapters.outbound.cache;
+
+import com.stylo.api_agendamento.core.domain.schedule.BookingAdmission;
+import com.stylo.api_agendamento.core.ports.IBookingAdmission;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.RedisException;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Sala de espera por profissional no Redis (chaves com hash tag {profissional}):
+ * - admission:{prof}:inflight -> ZSET senha -> expiração da vaga (ms)
+ * - admission:{prof}:waiting  -> ZSET senha -> ordem de chegada (FIFO)
+ * - admission:{prof}:seen     -> ZSET senha -> última tentativa (ms), para descartar quem desistiu
+ * - admission:{prof}:seq      -> contador da ordem de chegada
+ * - admission:{prof}:avg      -> tempo médio de um agendamento (ms, média móvel)
+ *
+ * Tudo em um único script por tentativa: sem fila, o caminho comum é um round-trip.
+ */
+@Slf4j
+@Component
+public class RedisBookingAdmissionAdapter implements IBookingAdmission {
+
+    // ARGV = senha, agoraMs, vagaMs, inatividadeMs, maxEmAndamento, maxFila, mediaPadrãoMs
+    // Retorno = { 1 admitido | 0 na fila | -1 fila cheia, posição, médiaMs }
+    private static final String ADMIT_SCRIPT = """
+            local now = tonumber(ARGV[2])
+            redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', now)
+            local idle = redis.call('ZRANGEBYSCORE', KEYS[3], '-inf', now - tonumber(ARGV[4]))
+            for _, t in ipairs(idle) do
+                redis.call('ZREM', KEYS[2], t)
+                redis.call('ZREM', KEYS[3], t)
+            end
+            local avg = tonumber(redis.call('GET', KEYS[5]) or ARGV[7])
+            if redis.call('ZSCORE', KEYS[1], ARGV[1]) then
+                return {1, 0, avg}
+            end
+            if not redis.call('ZSCORE', KEYS[2], ARGV[1]) then
+                if redis.call('ZCARD', KEYS[2]) >= tonumber(ARGV[6]) then
+                    return {-1, redis.call('ZCARD', KEYS[2]), avg}
+                end
+                redis.call('ZADD', KEYS[2], redis.call('INCR', KEYS[4]), ARGV[1])
+            end
+            redis.call('ZADD', KEYS[3], now, ARGV[1])
+            local ttl = tonumber(ARGV[3]) + tonumber(ARGV[4])
+            for i = 1, 4 do
+                redis.call('PEXPIRE', KEYS[i], ttl)
+            end
+            local rank = redis.call('ZRANK', KEYS[2], ARGV[1])
+            local free = tonumber(ARGV[5]) - redis.call('ZCARD', KEYS[1])
+            if rank < free then
+                redis.call('ZREM', KEYS[2], ARGV[1])
+                redis.call('ZREM', KEYS[3], ARGV[1])
+                redis.call('ZADD', KEYS[1], now + tonumber(ARGV[3]), ARGV[1])
+                return {1, 0, avg}
+            end
+            return {0, rank - math.max(free, 0) + 1, avg}
+            """;
+
+    // ARGV = senha, duraçãoMs, ttlMs | média móvel (peso 0.2 para a amostra nova)
+    private static final String RELEASE_SCRIPT = """
+            if redis.call('ZREM', KEYS[1], ARGV[1]) == 1 then
+                local avg = tonumber(redis.call('GET', KEYS[2]) or ARGV[2])
+                redis.call('SET', KEYS[2], math.floor(avg * 0.8 + tonumber(ARGV[2]) * 0.2), 'PX', ARGV[3])
+            end
+            return 1
+            """;
+
+    private static final long DEFAULT_SERVICE_MILLIS = 500;
+
+    private final RedissonClient redissonClient;
+    private final boolean enabled;
+    private final int maxInFlight;
+    private final int maxQueue;
+    private final long leaseMillis;
+    private final long idleMillis;
+
+    public RedisBookingAdmissionAdapter(
+            RedissonClient redissonClient,
+            @Value("${stylo.booking.admission.enabled:true}") boolean enabled,
+            @Value("${stylo.booking.admission.max-in-flight:4}") int maxInFlight,
+            @Value("${stylo.booking.admission.max-queue:200}") int maxQueue,
+            @Value("${stylo.booking.admission.lease-seconds:15}") long leaseSeconds,
+            @Value("${stylo.booking.admission.ticket-idle-seconds:20}") long idleSeconds) {
+        this.redissonClient = redissonClient;
+        this.enabled = enabled;
+        this.maxInFlight = maxInFlight;
+        this.maxQueue = maxQueue;
+        this.leaseMillis = leaseSeconds * 1000;
+        this.idleMillis = idleSeconds * 1000;
+    }
+
+    @Override
+    public BookingAdmission tryAdmit(UUID professionalId, UUID ticket) {
+        UUID effectiveTicket = ticket != null ? ticket : UUID.randomUUID();
+        if (!enabled) {
+            return BookingAdmission.admitted(effectiveTicket);
+        }
+
+        List<Object> result;
+        try {
+            result = redissonClient.getScript(StringCodec.INSTANCE).eval(
+                    RScript.Mode.READ_WRITE,
+                    ADMIT_SCRIPT,
+                    RScript.ReturnType.MULTI,
+                    keys(professionalId, "inflight", "waiting", "seen", "seq", "avg"),
+                    effectiveTicket.toString(),
+                    Long.toString(Instant.now().toEpochMilli()),
+                    Long.toString(leaseMillis),
+                    Long.toString(idleMillis),
+                    Integer.toString(maxInFlight),
+                    Integer.toString(maxQueue),
+                    Long.toString(DEFAULT_SERVICE_MILLIS));
+        } catch (RedisException e) {
+            // Sem Redis a sala de espera não deve derrubar o agendamento (o lock/constraint ainda protegem)
+            log.warn("Sala de espera indisponível, admitindo sem fila: {}", e.getMessage());
+            return BookingAdmission.admitted(effectiveTicket);
+        }
+
+        long status = ((Number) result.get(0)).longValue();
+        int position = ((Number) result.get(1)).intValue();
+        long avgMillis = ((Number) result.get(2)).longValue();
+
+        if (status == 1) {
+            return BookingAdmission.admitted(effectiveTicket);
+        }
+
+        // Atendimento em lotes de maxInFlight: cada "rodada" leva o tempo médio de um agendamento
+        long rounds = (position + maxInFlight - 1) / maxInFlight;
+        Duration estimatedWait = Duration.ofMillis(Math.max(1, rounds) * avgMillis);
+
+        return new BookingAdmission(
+                effectiveTicket,
+                status == 0 ? BookingAdmission.Status.QUEUED : BookingAdmission.Status.REJECTED,
+                position,
+                estimatedWait);
+    }
+
+    @Override
+    public void release(UUID professionalId, UUID ticket, Duration serviceTime) {
+        if (!enabled || ticket == null) {
+            return;
+        }
+        try {
+            redissonClient.getScript(StringCodec.INSTANCE).eval(
+                    RScript.Mode.READ_WRITE,
+                    RELEASE_SCRIPT,
+                    RScript.ReturnType.INTEGER,
+                    keys(professionalId, "inflight", "avg"),
+                    ticket.toString(),
+                    Long.toString(Math.max(1, serviceTime.toMillis())),
+                    Long.toString(Duration.ofDays(1).toMillis()));
+        } catch (RedisException e) {
+            // A vaga expira sozinha ao fim do lease
+            log.warn("Falha ao liberar vaga da sala de espera {}: {}", ticket, e.getMessage());
+        }
+    }
+
+    private static List<Object> keys(UUID professionalId, String... suffixes) {
+        Object[] keys = new Object[suffixes.length];
+        for (int i = 0; i < suffixes.length; i++) {
+            keys[i] = "admission:{" + professionalId + "}:" + suffixes[i];
+        }
+        return List.of(keys);
+    }
+}
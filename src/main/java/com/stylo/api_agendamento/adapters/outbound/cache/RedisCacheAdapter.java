@@ -1,6 +1,7 @@
 package com.stylo.api_agendamento.adapters.outbound.cache;
 
 import com.stylo.api_agendamento.core.ports.ICacheService;
+import org.redisson.api.RAtomicLong;
 import org.redisson.api.RBucket;
 import org.redisson.api.RKeys;
 import org.redisson.api.RedissonClient;
@@ -43,4 +44,17 @@ public class RedisCacheAdapter implements ICacheService {
         RKeys keys = redissonClient.getKeys();
         keys.deleteByPattern(pattern); // Remove todas as chaves que batem com o padrão (ex: appt:prof:123:*)
     }
-}
\ No newline at end of file
+
+    @Override
+    public long increment(String key, long ttlMinutes) {
+        RAtomicLong counter = redissonClient.getAtomicLong(key);
+        long value = counter.incrementAndGet(); // INCR é atômico no Redis
+        counter.expire(Duration.ofMinutes(ttlMinutes));
+        return value;
+    }
+
+    @Override
+    public long getCounter(String key) {
+        return redissonClient.getAtomicLong(key).get(); // Chave inexistente = 0
+    }
+}
@@ -0,0 +1,116 @@
+package com.stylo.api_agendamento.adapters.outbound.cache;
+
+import com.stylo.api_agendamento.core.domain.schedule.SlotHold;
+import com.stylo.api_agendamento.core.ports.ISlotHoldRepository;
+import lombok.RequiredArgsConstructor;
+import org.redisson.api.RMap;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Reservas temporárias em um HASH por profissional/dia:
+ * hold:{profissional}:{data} -> { holdId: "inícioMin|fimMin|usuário|expiraEmMs" }
+ *
+ * O Redis não expira campos de hash individualmente, então a expiração fica no
+ * valor: leituras ignoram reservas vencidas e a gravação as remove. O HASH inteiro
+ * expira junto com a reserva mais longa.
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisSlotHoldAdapter implements ISlotHoldRepository {
+
+    // KEYS[1] = hash do dia | ARGV = holdId, início, fim, usuário, expiraEmMs, agoraMs, ttlMs
+    private static final String TRY_HOLD_SCRIPT = """
+            local entries = redis.call('HGETALL', KEYS[1])
+            local now = tonumber(ARGV[6])
+            local stale = {}
+            for i = 1, #entries, 2 do
+                local s, e, holder, exp = string.match(entries[i + 1], '^(%d+)|(%d+)|([^|]+)|(%d+)$')
+                if s == nil or tonumber(exp) <= now or holder == ARGV[4] then
+                    table.insert(stale, entries[i])
+                elseif tonumber(s) < tonumber(ARGV[3]) and tonumber(e) > tonumber(ARGV[2]) then
+                    return 0
+                end
+            end
+            for _, field in ipairs(stale) do
+                redis.call('HDEL', KEYS[1], field)
+            end
+            redis.call('HSET', KEYS[1], ARGV[1], ARGV[2] .. '|' .. ARGV[3] .. '|' .. ARGV[4] .. '|' .. ARGV[5])
+            if redis.call('PTTL', KEYS[1]) < tonumber(ARGV[7]) then
+                redis.call('PEXPIRE', KEYS[1], ARGV[7])
+            end
+            return 1
+            """;
+
+    private final RedissonClient redissonClient;
+
+    @Override
+    public boolean tryHold(SlotHold hold) {
+        LocalDate date = hold.startTime().toLocalDate();
+        long now = Instant.now().toEpochMilli();
+        long ttlMillis = Math.max(1, hold.expiresAt().toEpochMilli() - now);
+
+        Long result = redissonClient.getScript(StringCodec.INSTANCE).eval(
+                RScript.Mode.READ_WRITE,
+                TRY_HOLD_SCRIPT,
+                RScript.ReturnType.INTEGER,
+                List.<Object>of(key(hold.professionalId(), date)),
+                hold.id().toString(),
+                Long.toString(minuteOn(date, hold.startTime())),
+                Long.toString(minuteOn(date, hold.endTime())),
+                hold.holderUserId().toString(),
+                Long.toString(hold.expiresAt().toEpochMilli()),
+                Long.toString(now),
+                Long.toString(ttlMillis));
+
+        return result != null && result == 1L;
+    }
+
+    @Override
+    public List<SlotHold> findActive(UUID professionalId, LocalDate date) {
+        RMap<String, String> holds = redissonClient.getMap(key(professionalId, date), StringCodec.INSTANCE);
+        Map<String, String> entries = holds.readAllMap(); // Um único HGETALL para o dia
+
+        long now = Instant.now().toEpochMilli();
+        List<SlotHold> active = new ArrayList<>(entries.size());
+        for (Map.Entry<String, String> entry : entries.entrySet()) {
+            String[] parts = entry.getValue().split("\\|");
+            if (parts.length != 4 || Long.parseLong(parts[3]) <= now) {
+                continue;
+            }
+            LocalDateTime dayStart = date.atStartOfDay();
+            active.add(new SlotHold(
+                    UUID.fromString(entry.getKey()),
+                    professionalId,
+                    UUID.fromString(parts[2]),
+                    dayStart.plusMinutes(Long.parseLong(parts[0])),
+                    dayStart.plusMinutes(Long.parseLong(parts[1])),
+                    Instant.ofEpochMilli(Long.parseLong(parts[3]))));
+        }
+        return active;
+    }
+
+    @Override
+    public void release(UUID professionalId, LocalDate date, UUID holdId) {
+        redissonClient.getMap(key(professionalId, date), StringCodec.INSTANCE).fastRemove(holdId.toString());
+    }
+
+    private static String key(UUID professionalId, LocalDate date) {
+        return "hold:" + professionalId + ":" + date;
+    }
+
+    private static long minuteOn(LocalDate date, LocalDateTime time) {
+        return Duration.between(date.atStartOfDay(), time).toMinutes();
+    }
+}
@@ -0,0 +1,89 @@
+package com.stylo.api_agendamento.adapters.outbound.concurrency;
+
+import com.stylo.api_agendamento.core.exceptions.BusinessException;
+import com.stylo.api_agendamento.core.ports.IBookingSequencer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Sequenciador em processo: N filas (stripes), cada uma drenada por uma única
+ * virtual thread. O profissional cai sempre na mesma fila (hash do ID), então
+ * os comandos dele nunca disputam lock dentro do nó: esperam a vez na fila.
+ */
+@Slf4j
+@Component
+public class StripedBookingSequencer implements IBookingSequencer {
+
+    private final ExecutorService[] stripes;
+    private final long maxQueueMillis;
+    private final long maxWaitMillis;
+
+    public StripedBookingSequencer(
+            @Value("${stylo.booking.sequencer.stripes:64}") int stripeCount,
+            @Value("${stylo.booking.sequencer.max-queue-ms:3000}") long maxQueueMillis,
+            @Value("${stylo.booking.sequencer.max-wait-ms:10000}") long maxWaitMillis) {
+        this.stripes = new ExecutorService[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            // A thread só é criada na primeira tarefa da fila
+            stripes[i] = Executors.newSingleThreadExecutor(Thread.ofVirtual().name("booking-seq-" + i).factory());
+        }
+        this.maxQueueMillis = maxQueueMillis;
+        this.maxWaitMillis = maxWaitMillis;
+    }
+
+    @Override
+    public <T> CompletableFuture<T> submit(UUID professionalId, Supplier<T> command) {
+        long deadline = System.currentTimeMillis() + maxQueueMillis;
+
+        return CompletableFuture.supplyAsync(() -> {
+            // Quem esperou demais já não deve ser atendido: descarta sem executar
+            if (System.currentTimeMillis() > deadline) {
+                log.warn("Comando de agendamento descartado após {} ms na fila do profissional {}",
+                        maxQueueMillis, professionalId);
+                throw new BusinessException(
+                        "A agenda deste profissional está muito concorrida no momento. Tente novamente.");
+            }
+            return command.get();
+        }, stripeOf(professionalId))
+                // Comando travado (banco ou lock lento) não segura quem espera além do limite
+                .orTimeout(maxWaitMillis, TimeUnit.MILLISECONDS)
+                .handle((result, error) -> {
+                    if (error == null) {
+                        return result;
+                    }
+                    Throwable cause = error instanceof CompletionException && error.getCause() != null
+                            ? error.getCause()
+                            : error;
+                    if (cause instanceof TimeoutException) {
+                        log.warn("Sem resultado do comando de agendamento do profissional {} após {} ms",
+                                professionalId, maxWaitMillis);
+                        // O comando pode já estar rodando e ainda confirmar o agendamento
+                        throw new BusinessException(
+                                "Não foi possível confirmar o agendamento a tempo. Confira seus agendamentos antes de tentar novamente.");
+                    }
+                    throw error instanceof CompletionException completion ? completion : new CompletionException(cause);
+                });
+    }
+
+    private ExecutorService stripeOf(UUID professionalId) {
+        return stripes[Math.floorMod(professionalId.hashCode(), stripes.length)];
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (ExecutorService stripe : stripes) {
+            stripe.shutdown();
+        }
+    }
+}
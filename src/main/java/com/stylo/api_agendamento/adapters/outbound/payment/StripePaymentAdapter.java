@@ -4,6 +4,7 @@ import com.stripe.Stripe;
 import com.stripe.exception.SignatureVerificationException; // ✨ IMPORT ADICIONADO AQUI
 import com.stripe.model.*;
 import com.stripe.model.checkout.Session;
+import com.stripe.net.RequestOptions;
 import com.stripe.net.Webhook;
 import com.stripe.param.*;
 import com.stripe.param.checkout.SessionCreateParams;
@@ -194,16 +195,34 @@ public class StripePaymentAdapter implements IPaymentProvider {
     }
 
     @Override
-    public void executeTransfer(String sourceTransactionId, String destinationAccountId, BigDecimal amount) {
+    public String executeTransfer(String sourceTransactionId, String destinationAccountId, BigDecimal amount,
+            String idempotencyKey) {
         try {
+            // A chave de idempotência do Stripe expira em 24h: uma retomada posterior
+            // encontra a transferência anterior pelo transfer_group
+            TransferCollection existing = Transfer.list(TransferListParams.builder()
+                    .setTransferGroup(idempotencyKey)
+                    .setLimit(1L)
+                    .build());
+            if (!existing.getData().isEmpty()) {
+                String transferId = existing.getData().get(0).getId();
+                log.info("Transferência {} já executada ({}). Não será repetida.", idempotencyKey, transferId);
+                return transferId;
+            }
+
             TransferCreateParams params = TransferCreateParams.builder()
                     .setAmount(amount.multiply(BigDecimal.valueOf(100)).longValue())
                     .setCurrency("brl")
                     .setDestination(destinationAccountId)
                     .setSourceTransaction(sourceTransactionId)
+                    .setTransferGroup(idempotencyKey)
+                    .build();
+
+            RequestOptions options = RequestOptions.builder()
+                    .setIdempotencyKey(idempotencyKey)
                     .build();
 
-            Transfer.create(params);
+            return Transfer.create(params, options).getId();
         } catch (Exception e) {
             throw new RuntimeException("Erro na transferência manual Stripe: " + e.getMessage());
         }
@@ -0,0 +1,77 @@
+package com.stylo.api_agendamento.adapters.outbound.persistence;
+
+import com.stylo.api_agendamento.core.common.CursorPage;
+import com.stylo.api_agendamento.core.common.PageCursor;
+import com.stylo.api_agendamento.core.exceptions.BusinessException;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Utilitários da paginação por cursor (keyset): nada de OFFSET nem COUNT por página.
+ * A página vem com size + 1 linhas; a linha extra só indica que existe próxima.
+ */
+public final class KeysetScroll {
+
+    public static final int MAX_SIZE = 100;
+
+    private KeysetScroll() {
+    }
+
+    public static Limit limitOf(int size) {
+        if (size <= 0 || size > MAX_SIZE) {
+            throw new BusinessException("O tamanho da página deve estar entre 1 e " + MAX_SIZE + ".");
+        }
+        return Limit.of(size);
+    }
+
+    /**
+     * Posição do Spring Data a partir do cursor: chave da ordenação + "id" (desempate).
+     */
+    public static KeysetScrollPosition positionOf(PageCursor after, String sortProperty, Function<String, ?> keyParser) {
+        if (after == null) {
+            return ScrollPosition.keyset();
+        }
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put(sortProperty, parseKey(after, keyParser));
+        keys.put("id", after.id());
+        return ScrollPosition.forward(keys);
+    }
+
+    public static <K> K parseKey(PageCursor after, Function<String, K> keyParser) {
+        try {
+            return keyParser.apply(after.sortKey());
+        } catch (RuntimeException e) {
+            throw new BusinessException("Cursor de paginação inválido.");
+        }
+    }
+
+    /**
+     * Janela do Spring Data (já busca size + 1 internamente) para a página do domínio.
+     */
+    public static <E, T> CursorPage<T> toCursorPage(Window<E> window, Function<E, T> mapper,
+            Function<E, PageCursor> cursorOf, Long total) {
+        List<E> content = window.getContent();
+        String next = window.hasNext() && !content.isEmpty()
+                ? cursorOf.apply(content.get(content.size() - 1)).encode()
+                : null;
+        return new CursorPage<>(content.stream().map(mapper).toList(), next, next != null, total);
+    }
+
+    /**
+     * Consultas com keyset manual: {@code rows} veio com até size + 1 linhas.
+     */
+    public static <E, T> CursorPage<T> fromOverfetch(List<E> rows, int size, Function<E, T> mapper,
+            Function<E, PageCursor> cursorOf, Long total) {
+        boolean hasNext = rows.size() > size;
+        List<E> page = hasNext ? rows.subList(0, size) : rows;
+        String next = hasNext ? cursorOf.apply(page.get(page.size() - 1)).encode() : null;
+        return new CursorPage<>(page.stream().map(mapper).toList(), next, hasNext, total);
+    }
+}
@@ -0,0 +1,13 @@
+package com.stylo.api_agendamento.adapters.outbound.persistence.appointment;
+
+import java.math.BigDecimal;
+
+/**
+ * Projeção de soma + quantidade.
+ */
+public interface AmountTotalView {
+
+    BigDecimal getTotal();
+
+    Long getCount();
+}
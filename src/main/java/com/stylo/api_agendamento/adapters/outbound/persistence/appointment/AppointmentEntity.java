@@ -14,6 +14,7 @@ import java.util.Set;
 import java.util.UUID;
 
 import org.hibernate.annotations.BatchSize;
+import org.springframework.data.domain.Persistable;
 
 @Entity
 @Table(name = "appointments")
@@ -22,7 +23,7 @@ import org.hibernate.annotations.BatchSize;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder(toBuilder = true)
-public class AppointmentEntity extends BaseEntity {
+public class AppointmentEntity extends BaseEntity implements Persistable<UUID> {
 
     @Id
     private UUID id;
@@ -84,6 +85,9 @@ public class AppointmentEntity extends BaseEntity {
     @Column(name = "external_event_id")
     private String externalEventId; // Mantém String (ID do Google Calendar não é UUID)
 
+    @Column(name = "external_payment_id")
+    private String externalPaymentId; // ID do pagamento no gateway (base do split automático)
+
     // --- FINANCEIRO (Com precisão garantida) ---
     @Column(name = "total_price", precision = 19, scale = 2)
     private BigDecimal totalPrice;
@@ -141,6 +145,28 @@ public class AppointmentEntity extends BaseEntity {
     @Builder.Default
     private Set<AppointmentItemEntity> items = new LinkedHashSet<>(); // ✨ CORRIGIDO PARA SET COM ORDENAÇÃO
 
+    // --- INSERÇÃO EM LOTE ---
+    // O ID nasce no domínio, então o Spring Data trataria toda entidade como existente
+    // (merge = SELECT + INSERT). Marcada como nova, vai direto para persist/INSERT em lote.
+    @Transient
+    @Builder.Default
+    private boolean newEntity = false;
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    public void markAsNew() {
+        this.newEntity = true;
+    }
+
+    @PostPersist
+    @PostLoad
+    protected void markAsStored() {
+        this.newEntity = false;
+    }
+
     // --- CALLBACKS JPA ---
     @PrePersist
     protected void onCreate() {
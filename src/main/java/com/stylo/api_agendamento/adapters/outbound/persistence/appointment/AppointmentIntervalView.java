@@ -0,0 +1,17 @@
+package com.stylo.api_agendamento.adapters.outbound.persistence.appointment;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Projeção do Spring Data: traz apenas as colunas necessárias para montar a
+ * ocupação da agenda (sem hidratar a entidade nem suas coleções).
+ */
+public interface AppointmentIntervalView {
+
+    UUID getProfessionalId();
+
+    LocalDateTime getStartTime();
+
+    LocalDateTime getEndTime();
+}
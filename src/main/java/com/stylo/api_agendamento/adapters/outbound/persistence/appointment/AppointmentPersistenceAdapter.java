@@ -1,10 +1,19 @@
 package com.stylo.api_agendamento.adapters.outbound.persistence.appointment;
 
+import com.stylo.api_agendamento.adapters.outbound.persistence.KeysetScroll;
+import com.stylo.api_agendamento.core.common.CursorPage;
+import com.stylo.api_agendamento.core.common.PageCursor;
 import com.stylo.api_agendamento.core.common.PagedResult;
 import com.stylo.api_agendamento.core.domain.Appointment;
 import com.stylo.api_agendamento.core.domain.AppointmentStatus;
+import com.stylo.api_agendamento.core.domain.schedule.OccupiedInterval;
+import com.stylo.api_agendamento.core.exceptions.ScheduleConflictException;
 import com.stylo.api_agendamento.core.ports.IAppointmentRepository;
+import com.stylo.api_agendamento.core.usecases.dto.AmountTotal;
+import com.stylo.api_agendamento.core.usecases.dto.DailyTotal;
+import com.stylo.api_agendamento.core.usecases.dto.NamedCount;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -12,8 +21,10 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
+import java.sql.SQLException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -25,13 +36,56 @@ public class AppointmentPersistenceAdapter implements IAppointmentRepository {
     private final JpaAppointmentRepository jpaAppointmentRepository;
     private final AppointmentMapper appointmentMapper;
 
+    private static final Sort LATEST_FIRST = Sort.by(Sort.Order.desc("startTime"), Sort.Order.desc("id"));
+
+    // SQLSTATE do Postgres para violação de constraint de exclusão (EXCLUDE USING gist)
+    private static final String EXCLUSION_VIOLATION = "23P01";
+
     @Override
     public Appointment save(Appointment appointment) {
-        var entity = appointmentMapper.toEntity(appointment);
-        var savedEntity = jpaAppointmentRepository.save(entity);
+        var savedEntity = jpaAppointmentRepository.save(appointmentMapper.toEntity(appointment));
         return appointmentMapper.toDomain(savedEntity);
     }
 
+    @Override
+    public Appointment saveBooking(Appointment appointment) {
+        var entity = appointmentMapper.toEntity(appointment);
+        try {
+            // Flush imediato: a constraint de sobreposição é avaliada aqui, e não no commit
+            var savedEntity = jpaAppointmentRepository.saveAndFlush(entity);
+            return appointmentMapper.toDomain(savedEntity);
+        } catch (DataIntegrityViolationException e) {
+            throw translateOverlap(e);
+        }
+    }
+
+    @Override
+    public List<Appointment> insertAll(List<Appointment> appointments) {
+        if (appointments.isEmpty()) {
+            return List.of();
+        }
+        List<AppointmentEntity> entities = appointments.stream()
+                .map(appointmentMapper::toEntity)
+                .toList();
+        entities.forEach(AppointmentEntity::markAsNew);
+        try {
+            // persist + hibernate.jdbc.batch_size: os INSERTs seguem em lote
+            return jpaAppointmentRepository.saveAllAndFlush(entities).stream()
+                    .map(appointmentMapper::toDomain)
+                    .toList();
+        } catch (DataIntegrityViolationException e) {
+            throw translateOverlap(e);
+        }
+    }
+
+    private static RuntimeException translateOverlap(DataIntegrityViolationException e) {
+        if (e.getMostSpecificCause() instanceof SQLException sql
+                && EXCLUSION_VIOLATION.equals(sql.getSQLState())) {
+            return new ScheduleConflictException("Desculpe, este horário acabou de ser ocupado por outro cliente.");
+        }
+        return e;
+    }
+
     @Override
     public Optional<Appointment> findById(UUID id) {
         return jpaAppointmentRepository.findById(id)
@@ -59,6 +113,40 @@ public class AppointmentPersistenceAdapter implements IAppointmentRepository {
                 .toList();
     }
 
+    @Override
+    public List<OccupiedInterval> findOccupiedIntervals(UUID professionalId, LocalDateTime start, LocalDateTime end) {
+        return jpaAppointmentRepository.findOccupiedIntervals(professionalId, start, end)
+                .stream()
+                .map(view -> new OccupiedInterval(view.getProfessionalId(), view.getStartTime(), view.getEndTime()))
+                .toList();
+    }
+
+    @Override
+    public List<OccupiedInterval> findBookedIntervals(UUID professionalId, LocalDateTime start, LocalDateTime end) {
+        return jpaAppointmentRepository.findBookedIntervals(professionalId, start, end)
+                .stream()
+                .map(view -> new OccupiedInterval(view.getProfessionalId(), view.getStartTime(), view.getEndTime()))
+                .toList();
+    }
+
+    @Override
+    public Optional<OccupiedInterval> findBookedSpan(UUID professionalId) {
+        return jpaAppointmentRepository.findBookedSpan(professionalId)
+                .map(view -> new OccupiedInterval(view.getProfessionalId(), view.getStartTime(), view.getEndTime()));
+    }
+
+    @Override
+    public List<OccupiedInterval> findOccupiedIntervalsByProfessionals(Collection<UUID> professionalIds,
+            LocalDateTime start, LocalDateTime end) {
+        if (professionalIds == null || professionalIds.isEmpty()) {
+            return List.of();
+        }
+        return jpaAppointmentRepository.findOccupiedIntervalsByProfessionals(professionalIds, start, end)
+                .stream()
+                .map(view -> new OccupiedInterval(view.getProfessionalId(), view.getStartTime(), view.getEndTime()))
+                .toList();
+    }
+
     @Override
     public boolean hasConflictingAppointment(UUID professionalId, LocalDateTime start, LocalDateTime end) {
         return jpaAppointmentRepository.existsOverlapping(professionalId, start, end);
@@ -96,6 +184,36 @@ public class AppointmentPersistenceAdapter implements IAppointmentRepository {
         return result != null ? result : BigDecimal.ZERO;
     }
 
+    @Override
+    public List<DailyTotal> sumCompletedRevenueByDay(UUID providerId, LocalDateTime start, LocalDateTime end) {
+        return jpaAppointmentRepository.sumCompletedRevenueByDay(providerId, start, end)
+                .stream()
+                .map(view -> new DailyTotal(view.getDay(), view.getTotal(), view.getCount()))
+                .toList();
+    }
+
+    @Override
+    public AmountTotal sumCompletedByClient(UUID clientId) {
+        AmountTotalView view = jpaAppointmentRepository.sumCompletedByClient(clientId);
+        return new AmountTotal(view.getTotal(), view.getCount());
+    }
+
+    @Override
+    public List<NamedCount> countCompletedByProfessionalForClient(UUID clientId, int limit) {
+        return jpaAppointmentRepository.countCompletedByProfessionalForClient(clientId, PageRequest.of(0, limit))
+                .stream()
+                .map(view -> new NamedCount(view.getName(), view.getCount()))
+                .toList();
+    }
+
+    @Override
+    public List<NamedCount> countCompletedServicesForClient(UUID clientId, int limit) {
+        return jpaAppointmentRepository.countCompletedServicesForClient(clientId, PageRequest.of(0, limit))
+                .stream()
+                .map(view -> new NamedCount(view.getName(), view.getCount()))
+                .toList();
+    }
+
     @Override
     public PagedResult<Appointment> findAllByClientId(UUID clientId, int page, int size) {
         Pageable pageable = PageRequest.of(page, size, Sort.by("startTime").descending());
@@ -116,6 +234,23 @@ public class AppointmentPersistenceAdapter implements IAppointmentRepository {
                 entityPage.getTotalPages());
     }
 
+    @Override
+    public CursorPage<Appointment> findAllByClientIdAfter(UUID clientId, PageCursor after, int size,
+            boolean includeTotal) {
+        var window = jpaAppointmentRepository.findByClientId(clientId,
+                KeysetScroll.positionOf(after, "startTime", LocalDateTime::parse), LATEST_FIRST,
+                KeysetScroll.limitOf(size));
+
+        return KeysetScroll.toCursorPage(window, appointmentMapper::toDomain,
+                a -> new PageCursor(a.getStartTime().toString(), a.getId()),
+                includeTotal ? jpaAppointmentRepository.countByClientId(clientId) : null);
+    }
+
+    @Override
+    public List<UUID> findPendingSplitIdsByProvider(UUID providerId, LocalDateTime before) {
+        return jpaAppointmentRepository.findPendingSplitIdsByProvider(providerId, before);
+    }
+
     @Override
     public List<Appointment> findPendingSettlementByProfessional(UUID professionalId) {
         return jpaAppointmentRepository
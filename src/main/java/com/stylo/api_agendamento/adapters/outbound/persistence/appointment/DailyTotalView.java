@@ -0,0 +1,16 @@
+package com.stylo.api_agendamento.adapters.outbound.persistence.appointment;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Projeção das agregações diárias (GROUP BY dia) feitas no banco.
+ */
+public interface DailyTotalView {
+
+    LocalDate getDay();
+
+    BigDecimal getTotal();
+
+    Long getCount();
+}
@@ -1,7 +1,11 @@
 package com.stylo.api_agendamento.adapters.outbound.persistence.appointment;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -11,6 +15,7 @@ import com.stylo.api_agendamento.core.domain.AppointmentStatus;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -39,6 +44,11 @@ public interface JpaAppointmentRepository extends JpaRepository<AppointmentEntit
 
     Page<AppointmentEntity> findAllByClientId(UUID clientId, Pageable pageable);
 
+    // Keyset do histórico do cliente (paginação por cursor)
+    Window<AppointmentEntity> findByClientId(UUID clientId, ScrollPosition position, Sort sort, Limit limit);
+
+    long countByClientId(UUID clientId);
+
     @Query("""
                 SELECT COUNT(a) > 0 FROM AppointmentEntity a
                 WHERE a.professionalId = :professionalId
@@ -50,6 +60,55 @@ public interface JpaAppointmentRepository extends JpaRepository<AppointmentEntit
             @Param("startTime") LocalDateTime startTime,
             @Param("endTime") LocalDateTime endTime);
 
+    // Projeção leve para disponibilidade: sem entidade, sem coleções (1 query por período)
+    @Query("""
+                SELECT a.professionalId AS professionalId, a.startTime AS startTime, a.endTime AS endTime
+                FROM AppointmentEntity a
+                WHERE a.professionalId = :professionalId
+                AND a.status IN ('PENDING', 'SCHEDULED', 'BLOCKED')
+                AND (a.startTime < :endTime AND a.endTime > :startTime)
+                ORDER BY a.startTime ASC
+            """)
+    List<AppointmentIntervalView> findOccupiedIntervals(
+            @Param("professionalId") UUID professionalId,
+            @Param("startTime") LocalDateTime startTime,
+            @Param("endTime") LocalDateTime endTime);
+
+    @Query("""
+                SELECT a.professionalId AS professionalId, a.startTime AS startTime, a.endTime AS endTime
+                FROM AppointmentEntity a
+                WHERE a.professionalId = :professionalId
+                AND a.status <> 'CANCELLED'
+                AND (a.startTime < :endTime AND a.endTime > :startTime)
+                ORDER BY a.startTime ASC
+            """)
+    List<AppointmentIntervalView> findBookedIntervals(
+            @Param("professionalId") UUID professionalId,
+            @Param("startTime") LocalDateTime startTime,
+            @Param("endTime") LocalDateTime endTime);
+
+    @Query("""
+                SELECT a.professionalId AS professionalId, MIN(a.startTime) AS startTime, MAX(a.endTime) AS endTime
+                FROM AppointmentEntity a
+                WHERE a.professionalId = :professionalId
+                AND a.status <> 'CANCELLED'
+                GROUP BY a.professionalId
+            """)
+    Optional<AppointmentIntervalView> findBookedSpan(@Param("professionalId") UUID professionalId);
+
+    @Query("""
+                SELECT a.professionalId AS professionalId, a.startTime AS startTime, a.endTime AS endTime
+                FROM AppointmentEntity a
+                WHERE a.professionalId IN :professionalIds
+                AND a.status IN ('PENDING', 'SCHEDULED', 'BLOCKED')
+                AND (a.startTime < :endTime AND a.endTime > :startTime)
+                ORDER BY a.professionalId, a.startTime ASC
+            """)
+    List<AppointmentIntervalView> findOccupiedIntervalsByProfessionals(
+            @Param("professionalIds") Collection<UUID> professionalIds,
+            @Param("startTime") LocalDateTime startTime,
+            @Param("endTime") LocalDateTime endTime);
+
     @Query("SELECT a FROM AppointmentEntity a " +
             "WHERE a.reminderSent = false " + // ✨ Atualizado aqui
             "AND a.status = 'SCHEDULED' " +
@@ -114,6 +173,66 @@ public interface JpaAppointmentRepository extends JpaRepository<AppointmentEntit
 
     List<AppointmentEntity> findAllByProfessionalIdAndCommissionSettledFalse(UUID professionalId);
 
+    @Query(value = """
+                SELECT a.id FROM appointments a
+                WHERE a.provider_id = :providerId
+                AND a.status = 'COMPLETED'
+                AND a.commission_settled = false
+                AND a.external_payment_id IS NOT NULL
+                AND a.external_payment_id NOT LIKE 'POS-OFFLINE-%'
+                AND a.is_personal_block = false
+                AND a.start_time < :before
+                ORDER BY a.start_time
+            """, nativeQuery = true)
+    List<UUID> findPendingSplitIdsByProvider(@Param("providerId") UUID providerId,
+            @Param("before") LocalDateTime before);
+
+    // --- AGREGAÇÕES NO BANCO (sem materializar entidades) ---
+
+    // start_time (TIMESTAMPTZ) guarda o relógio local do estabelecimento como UTC:
+    // truncar em UTC devolve o dia local do atendimento
+    @Query(value = """
+                SELECT CAST(date_trunc('day', a.start_time AT TIME ZONE 'UTC') AS DATE) AS day,
+                       COALESCE(SUM(a.final_price), 0) AS total,
+                       COUNT(*) AS count
+                FROM appointments a
+                WHERE a.provider_id = :providerId
+                AND a.status = 'COMPLETED'
+                AND a.is_personal_block = false
+                AND a.start_time >= :start AND a.start_time < :end
+                GROUP BY 1
+                ORDER BY 1
+            """, nativeQuery = true)
+    List<DailyTotalView> sumCompletedRevenueByDay(
+            @Param("providerId") UUID providerId,
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end);
+
+    @Query("""
+                SELECT COALESCE(SUM(a.finalPrice), 0) AS total, COUNT(a) AS count
+                FROM AppointmentEntity a
+                WHERE a.clientId = :clientId AND a.status = 'COMPLETED'
+            """)
+    AmountTotalView sumCompletedByClient(@Param("clientId") UUID clientId);
+
+    @Query("""
+                SELECT a.professionalName AS name, COUNT(a) AS count
+                FROM AppointmentEntity a
+                WHERE a.clientId = :clientId AND a.status = 'COMPLETED'
+                GROUP BY a.professionalName
+                ORDER BY COUNT(a) DESC
+            """)
+    List<NamedCountView> countCompletedByProfessionalForClient(@Param("clientId") UUID clientId, Pageable pageable);
+
+    @Query("""
+                SELECT s.name AS name, COUNT(a) AS count
+                FROM AppointmentEntity a JOIN a.services s
+                WHERE a.clientId = :clientId AND a.status = 'COMPLETED'
+                GROUP BY s.name
+                ORDER BY COUNT(a) DESC
+            """)
+    List<NamedCountView> countCompletedServicesForClient(@Param("clientId") UUID clientId, Pageable pageable);
+
     boolean existsByExternalEventId(String externalEventId);
 
     @EntityGraph(attributePaths = { "items" })
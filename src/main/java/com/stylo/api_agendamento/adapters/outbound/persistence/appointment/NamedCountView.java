@@ -0,0 +1,11 @@
+package com.stylo.api_agendamento.adapters.outbound.persistence.appointment;
+
+/**
+ * Projeção de contagens agrupadas por nome.
+ */
+public interface NamedCountView {
+
+    String getName();
+
+    Long getCount();
+}
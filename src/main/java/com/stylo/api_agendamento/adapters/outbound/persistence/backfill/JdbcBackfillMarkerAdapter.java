@@ -0,0 +1,31 @@
+package com.stylo.api_agendamento.adapters.outbound.persistence.backfill;
+
+import com.stylo.api_agendamento.core.ports.IBackfillMarkerRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+@Component
+public class JdbcBackfillMarkerAdapter implements IBackfillMarkerRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcBackfillMarkerAdapter(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Override
+    public boolean isCompleted(String name) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM backfill_markers WHERE name = ?)", Boolean.class, name));
+    }
+
+    @Override
+    public void markCompleted(String name) {
+        jdbcTemplate.update("""
+                INSERT INTO backfill_markers (name, completed_at) VALUES (?, NOW())
+                ON CONFLICT (name) DO UPDATE SET completed_at = EXCLUDED.completed_at
+                """, name);
+    }
+}
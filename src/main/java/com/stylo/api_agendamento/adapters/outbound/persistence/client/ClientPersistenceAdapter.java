@@ -1,9 +1,13 @@
 package com.stylo.api_agendamento.adapters.outbound.persistence.client;
 
+import com.stylo.api_agendamento.adapters.outbound.persistence.KeysetScroll;
+import com.stylo.api_agendamento.core.common.CursorPage;
+import com.stylo.api_agendamento.core.common.PageCursor;
 import com.stylo.api_agendamento.core.common.PagedResult;
 import com.stylo.api_agendamento.core.domain.Client;
 import com.stylo.api_agendamento.core.ports.IClientRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -83,4 +87,20 @@ public class ClientPersistenceAdapter implements IClientRepository {
                 entityPage.getTotalElements(),
                 entityPage.getTotalPages());
     }
-}
\ No newline at end of file
+
+    @Override
+    public CursorPage<Client> findAllByProviderIdAfter(UUID providerId, String nameFilter, PageCursor after, int size,
+            boolean includeTotal) {
+        // size + 1: a linha extra só indica que existe próxima página
+        List<ClientEntity> rows = jpaClientRepository.findClientsByProviderInteractionAfter(
+                providerId,
+                nameFilter,
+                after != null ? after.sortKey() : null,
+                after != null ? after.id() : null,
+                Limit.of(KeysetScroll.limitOf(size).max() + 1));
+
+        return KeysetScroll.fromOverfetch(rows, size, clientMapper::toDomain,
+                c -> new PageCursor(c.getName(), c.getId()),
+                includeTotal ? jpaClientRepository.countClientsByProviderInteraction(providerId, nameFilter) : null);
+    }
+}
@@ -1,5 +1,6 @@
 package com.stylo.api_agendamento.adapters.outbound.persistence.client;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -7,6 +8,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -33,4 +35,34 @@ public interface JpaClientRepository extends JpaRepository<ClientEntity, UUID> {
             @Param("providerId") UUID providerId,
             @Param("nameFilter") String nameFilter,
             Pageable pageable);
-}
\ No newline at end of file
+
+    // Keyset (paginação por cursor): (nome, id) depois do último item; EXISTS dispensa o DISTINCT
+    @Query("""
+            SELECT c FROM ClientEntity c
+            WHERE EXISTS (
+                SELECT 1 FROM AppointmentEntity a
+                WHERE a.clientId = c.id AND a.serviceProviderId = :providerId
+            )
+            AND (:nameFilter IS NULL OR LOWER(c.name) LIKE LOWER(CONCAT('%', :nameFilter, '%')))
+            AND (:afterName IS NULL OR c.name > :afterName OR (c.name = :afterName AND c.id > :afterId))
+            ORDER BY c.name ASC, c.id ASC
+           """)
+    List<ClientEntity> findClientsByProviderInteractionAfter(
+            @Param("providerId") UUID providerId,
+            @Param("nameFilter") String nameFilter,
+            @Param("afterName") String afterName,
+            @Param("afterId") UUID afterId,
+            Limit limit);
+
+    @Query("""
+            SELECT COUNT(c) FROM ClientEntity c
+            WHERE EXISTS (
+                SELECT 1 FROM AppointmentEntity a
+                WHERE a.clientId = c.id AND a.serviceProviderId = :providerId
+            )
+            AND (:nameFilter IS NULL OR LOWER(c.name) LIKE LOWER(CONCAT('%', :nameFilter, '%')))
+           """)
+    long countClientsByProviderInteraction(
+            @Param("providerId") UUID providerId,
+            @Param("nameFilter") String nameFilter);
+}
@@ -0,0 +1,31 @@
+package com.stylo.api_agendamento.adapters.outbound.persistence.clientstats;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "client_stats")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClientStatsEntity {
+
+    @Id
+    @Column(name = "client_id")
+    private UUID clientId;
+
+    @Column(name = "total_spent", nullable = false, precision = 19, scale = 2)
+    private BigDecimal totalSpent;
+
+    @Column(name = "visit_count", nullable = false)
+    private int visitCount;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,81 @@
+package com.stylo.api_agendamento.adapters.outbound.persistence.clientstats;
+
+import com.stylo.api_agendamento.core.ports.IClientStatsRepository;
+import com.stylo.api_agendamento.core.usecases.dto.ClientStats;
+import com.stylo.api_agendamento.core.usecases.dto.NamedCount;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+@Component
+@RequiredArgsConstructor
+public class ClientStatsPersistenceAdapter implements IClientStatsRepository {
+
+    private static final String SERVICE = "SERVICE";
+    private static final String PROFESSIONAL = "PROFESSIONAL";
+
+    private final JpaClientStatsRepository repository;
+
+    // MANDATORY: o incremento só é consistente se fizer parte da transação da finalização
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordVisit(UUID clientId, BigDecimal amount, List<String> serviceNames, String professionalName) {
+        if (clientId == null) {
+            return;
+        }
+        repository.incrementVisit(clientId, amount != null ? amount : BigDecimal.ZERO);
+
+        Map<String, Integer> services = new LinkedHashMap<>();
+        for (String name : serviceNames) {
+            if (name != null) {
+                services.merge(name, 1, Integer::sum);
+            }
+        }
+        services.forEach((name, count) -> repository.incrementCounter(clientId, SERVICE, name, count));
+
+        if (professionalName != null) {
+            repository.incrementCounter(clientId, PROFESSIONAL, professionalName, 1);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<ClientStats> findByClient(UUID clientId, int topServices, int topProfessionals) {
+        List<ClientStatsRowView> rows = repository.findWithRankings(clientId, topServices, topProfessionals);
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+
+        List<NamedCount> services = new ArrayList<>();
+        List<NamedCount> professionals = new ArrayList<>();
+        for (ClientStatsRowView row : rows) {
+            if (SERVICE.equals(row.getKind())) {
+                services.add(new NamedCount(row.getName(), row.getCount()));
+            } else if (PROFESSIONAL.equals(row.getKind())) {
+                professionals.add(new NamedCount(row.getName(), row.getCount()));
+            }
+        }
+
+        ClientStatsRowView totals = rows.get(0);
+        return Optional.of(new ClientStats(totals.getTotalSpent(), totals.getVisitCount(), services, professionals));
+    }
+
+    @Override
+    @Transactional
+    public void rebuildAll() {
+        repository.lockForRebuild();
+        repository.deleteAllRows();
+        repository.insertTotalsFromLive();
+        repository.insertProfessionalCountersFromLive();
+        repository.insertServiceCountersFromLive();
+    }
+}
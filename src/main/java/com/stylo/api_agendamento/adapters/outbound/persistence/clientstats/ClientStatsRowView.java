@@ -0,0 +1,19 @@
+package com.stylo.api_agendamento.adapters.outbound.persistence.clientstats;
+
+import java.math.BigDecimal;
+
+/**
+ * Linha da leitura de client_stats: totais repetidos + um contador (kind/name nulos se não houver).
+ */
+public interface ClientStatsRowView {
+
+    BigDecimal getTotalSpent();
+
+    Integer getVisitCount();
+
+    String getKind();
+
+    String getName();
+
+    Integer getCount();
+}
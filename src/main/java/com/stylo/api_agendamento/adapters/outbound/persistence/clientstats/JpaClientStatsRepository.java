@@ -0,0 +1,97 @@
+package com.stylo.api_agendamento.adapters.outbound.persistence.clientstats;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+public interface JpaClientStatsRepository extends JpaRepository<ClientStatsEntity, UUID> {
+
+    @Modifying
+    @Query(value = """
+                INSERT INTO client_stats (client_id, total_spent, visit_count, updated_at)
+                VALUES (:clientId, :amount, 1, NOW())
+                ON CONFLICT (client_id)
+                DO UPDATE SET total_spent = client_stats.total_spent + EXCLUDED.total_spent,
+                              visit_count = client_stats.visit_count + 1,
+                              updated_at = EXCLUDED.updated_at
+            """, nativeQuery = true)
+    void incrementVisit(@Param("clientId") UUID clientId, @Param("amount") BigDecimal amount);
+
+    @Modifying
+    @Query(value = """
+                INSERT INTO client_stat_counters (client_id, kind, name, visit_count)
+                VALUES (:clientId, :kind, :name, :count)
+                ON CONFLICT (client_id, kind, name)
+                DO UPDATE SET visit_count = client_stat_counters.visit_count + EXCLUDED.visit_count
+            """, nativeQuery = true)
+    void incrementCounter(@Param("clientId") UUID clientId,
+            @Param("kind") String kind,
+            @Param("name") String name,
+            @Param("count") int count);
+
+    // Totais + top N de cada tipo em uma ida ao banco (cada ramo do LATERAL lê o índice de ranking)
+    @Query(value = """
+                SELECT cs.total_spent AS totalSpent, cs.visit_count AS visitCount,
+                       c.kind AS kind, c.name AS name, c.visit_count AS count
+                FROM client_stats cs
+                LEFT JOIN LATERAL (
+                    (SELECT kind, name, visit_count FROM client_stat_counters
+                     WHERE client_id = cs.client_id AND kind = 'SERVICE'
+                     ORDER BY visit_count DESC, name LIMIT :topServices)
+                    UNION ALL
+                    (SELECT kind, name, visit_count FROM client_stat_counters
+                     WHERE client_id = cs.client_id AND kind = 'PROFESSIONAL'
+                     ORDER BY visit_count DESC, name LIMIT :topProfessionals)
+                ) c ON true
+                WHERE cs.client_id = :clientId
+            """, nativeQuery = true)
+    List<ClientStatsRowView> findWithRankings(@Param("clientId") UUID clientId,
+            @Param("topServices") int topServices,
+            @Param("topProfessionals") int topProfessionals);
+
+    // Bloqueia os incrementos concorrentes até o fim da reconstrução (eles esperam e aplicam depois)
+    @Modifying
+    @Query(value = "LOCK TABLE client_stats IN EXCLUSIVE MODE", nativeQuery = true)
+    void lockForRebuild();
+
+    @Modifying
+    @Query(value = "DELETE FROM client_stats", nativeQuery = true)
+    void deleteAllRows();
+
+    @Modifying
+    @Query(value = """
+                INSERT INTO client_stats (client_id, total_spent, visit_count, updated_at)
+                SELECT a.client_id, COALESCE(SUM(a.final_price), 0), COUNT(*), NOW()
+                FROM appointments a
+                WHERE a.status = 'COMPLETED' AND a.client_id IS NOT NULL
+                GROUP BY a.client_id
+            """, nativeQuery = true)
+    void insertTotalsFromLive();
+
+    @Modifying
+    @Query(value = """
+                INSERT INTO client_stat_counters (client_id, kind, name, visit_count)
+                SELECT a.client_id, 'PROFESSIONAL', a.professional_name, COUNT(*)
+                FROM appointments a
+                WHERE a.status = 'COMPLETED' AND a.client_id IS NOT NULL AND a.professional_name IS NOT NULL
+                GROUP BY a.client_id, a.professional_name
+            """, nativeQuery = true)
+    void insertProfessionalCountersFromLive();
+
+    @Modifying
+    @Query(value = """
+                INSERT INTO client_stat_counters (client_id, kind, name, visit_count)
+                SELECT a.client_id, 'SERVICE', s.name, COUNT(*)
+                FROM appointments a
+                JOIN appointment_services aps ON aps.appointment_id = a.id
+                JOIN services s ON s.id = aps.service_id
+                WHERE a.status = 'COMPLETED' AND a.client_id IS NOT NULL
+                GROUP BY a.client_id, s.name
+            """, nativeQuery = true)
+    void insertServiceCountersFromLive();
+}
@@ -0,0 +1,112 @@
+package com.stylo.api_agendamento.adapters.outbound.persistence.export;
+
+import com.stylo.api_agendamento.core.ports.IFinancialExportRepository;
+import com.stylo.api_agendamento.core.usecases.dto.FinancialExportType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Exportações lidas direto via JDBC, fora do contexto de persistência do JPA.
+ * Cursor forward-only com fetch size: o PostgreSQL só usa cursor de servidor com
+ * autocommit desligado, por isso a leitura roda dentro de uma transação read-only.
+ */
+@Component
+public class JdbcFinancialExportAdapter implements IFinancialExportRepository {
+
+    private static final int FETCH_SIZE = 1000;
+
+    // Horários dos agendamentos (TIMESTAMPTZ) guardam o relógio local do estabelecimento em UTC
+    private static final String APPOINTMENTS_SQL = """
+            SELECT to_char(a.start_time AT TIME ZONE 'UTC', 'YYYY-MM-DD HH24:MI'),
+                   to_char(a.end_time AT TIME ZONE 'UTC', 'YYYY-MM-DD HH24:MI'),
+                   a.status, a.client_name, a.professional_name,
+                   (SELECT string_agg(s.name, ', ')
+                      FROM appointment_services aps JOIN services s ON s.id = aps.service_id
+                     WHERE aps.appointment_id = a.id),
+                   a.total_price, a.discount_amount, a.final_price,
+                   a.professional_commission, a.service_provider_fee, a.payment_method, a.id
+            FROM appointments a
+            WHERE a.provider_id = ?
+            AND a.is_personal_block = false
+            AND a.start_time >= CAST(? AS timestamp) AT TIME ZONE 'UTC'
+            AND a.start_time < CAST(? AS timestamp) AT TIME ZONE 'UTC'
+            ORDER BY a.start_time
+            """;
+
+    private static final String EXPENSES_SQL = """
+            SELECT to_char(e.date, 'YYYY-MM-DD'), e.description, e.category, e.type, e.amount, e.id
+            FROM expenses e
+            WHERE e.service_provider_id = ?
+            AND e.date >= CAST(? AS timestamp) AND e.date < CAST(? AS timestamp)
+            ORDER BY e.date
+            """;
+
+    private static final String CASH_TRANSACTIONS_SQL = """
+            SELECT to_char(t."timestamp", 'YYYY-MM-DD HH24:MI'), t.type, t.description, t.amount,
+                   t.cash_register_id, t.performed_by_user_id
+            FROM cash_transactions t
+            JOIN cash_registers r ON r.id = t.cash_register_id
+            WHERE r.provider_id = ?
+            AND t."timestamp" >= CAST(? AS timestamp) AND t."timestamp" < CAST(? AS timestamp)
+            ORDER BY t."timestamp"
+            """;
+
+    private static final String PAYOUTS_SQL = """
+            SELECT to_char(p.processed_at, 'YYYY-MM-DD HH24:MI'), COALESCE(pr.name, CAST(p.professional_id AS TEXT)),
+                   p.total_amount, p.status, p.id
+            FROM payouts p
+            LEFT JOIN professionals pr ON pr.id = p.professional_id
+            WHERE p.service_provider_id = ?
+            AND p.processed_at >= CAST(? AS timestamp) AND p.processed_at < CAST(? AS timestamp)
+            ORDER BY p.processed_at
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcFinancialExportAdapter(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(FETCH_SIZE);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void stream(FinancialExportType type, UUID providerId, LocalDateTime start, LocalDateTime end,
+            Consumer<Object[]> rowConsumer) {
+
+        int columns = type.getColumns().size();
+
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(
+                    sqlOf(type), ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setObject(1, providerId);
+            ps.setObject(2, start);
+            ps.setObject(3, end);
+            return ps;
+        }, (RowCallbackHandler) rs -> {
+            // Cada linha sai direto para o consumidor; nada fica acumulado
+            Object[] row = new Object[columns];
+            for (int i = 0; i < columns; i++) {
+                row[i] = rs.getObject(i + 1);
+            }
+            rowConsumer.accept(row);
+        });
+    }
+
+    private static String sqlOf(FinancialExportType type) {
+        return switch (type) {
+            case APPOINTMENTS -> APPOINTMENTS_SQL;
+            case EXPENSES -> EXPENSES_SQL;
+            case CASH_TRANSACTIONS -> CASH_TRANSACTIONS_SQL;
+            case PAYOUTS -> PAYOUTS_SQL;
+        };
+    }
+}
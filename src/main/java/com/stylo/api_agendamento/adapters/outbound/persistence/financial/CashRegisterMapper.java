@@ -15,6 +15,10 @@ public interface CashRegisterMapper {
     // ==== De Entidade para Domínio ====
     CashRegister toDomain(CashRegisterEntity entity);
 
+    // ✨ Só o cabeçalho: não toca na coleção LAZY de transações
+    @Mapping(target = "transactions", ignore = true)
+    CashRegister toSummary(CashRegisterEntity entity);
+
     @Mapping(target = "cashRegisterId", source = "cashRegister.id")
     CashTransaction toDomainTransaction(CashTransactionEntity entity);
 
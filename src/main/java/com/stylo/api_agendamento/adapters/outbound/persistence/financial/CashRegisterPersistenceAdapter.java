@@ -1,10 +1,18 @@
 package com.stylo.api_agendamento.adapters.outbound.persistence.financial;
 
+import com.stylo.api_agendamento.core.common.PagedResult;
 import com.stylo.api_agendamento.core.domain.financial.CashRegister;
+import com.stylo.api_agendamento.core.domain.financial.CashTransaction;
+import com.stylo.api_agendamento.core.exceptions.BusinessException;
 import com.stylo.api_agendamento.core.ports.ICashRegisterRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -14,7 +22,10 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class CashRegisterPersistenceAdapter implements ICashRegisterRepository {
 
+    private static final Sort TRANSACTIONS_IN_ORDER = Sort.by(Sort.Order.asc("timestamp"), Sort.Order.asc("id"));
+
     private final JpaCashRegisterRepository repository;
+    private final JpaCashTransactionRepository transactionRepository;
     private final CashRegisterMapper mapper;
 
     @Override
@@ -27,21 +38,86 @@ public class CashRegisterPersistenceAdapter implements ICashRegisterRepository {
     @Override
     public Optional<CashRegister> findOpenByProviderId(UUID providerId) {
         return repository.findByProviderIdAndIsOpenTrue(providerId)
-                .map(mapper::toDomain);
+                .map(mapper::toSummary);
+    }
+
+    @Override
+    @Transactional
+    public Optional<CashRegister> findOpenByProviderIdForUpdate(UUID providerId) {
+        return repository.findOpenByProviderIdForUpdate(providerId)
+                .map(mapper::toSummary);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Optional<CashRegister> findById(UUID id) {
         return repository.findById(id)
                 .map(mapper::toDomain);
     }
 
+    @Override
+    public Optional<CashRegister> findSummaryById(UUID id) {
+        return repository.findById(id)
+                .map(mapper::toSummary);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PagedResult<CashTransaction> findTransactions(UUID cashRegisterId, int page, int size) {
+        Page<CashTransactionEntity> entityPage = transactionRepository.findByCashRegisterId(
+                cashRegisterId, PageRequest.of(page, size, TRANSACTIONS_IN_ORDER));
+
+        return new PagedResult<>(
+                entityPage.getContent().stream().map(mapper::toDomainTransaction).toList(),
+                entityPage.getNumber(),
+                entityPage.getSize(),
+                entityPage.getTotalElements(),
+                entityPage.getTotalPages()
+        );
+    }
+
     // ✨ NOVA IMPLEMENTAÇÃO
     @Override
     public List<CashRegister> findClosedByProviderAndPeriod(UUID providerId, LocalDateTime start, LocalDateTime end) {
         return repository.findByProviderIdAndIsOpenFalseAndCloseTimeBetween(providerId, start, end)
                 .stream()
-                .map(mapper::toDomain)
+                .map(mapper::toSummary)
                 .toList(); // Usando Java 16+ toList()
     }
-}
\ No newline at end of file
+
+    @Override
+    @Transactional
+    public Optional<BigDecimal> appendTransaction(CashTransaction transaction) {
+        Optional<BigDecimal> balance = repository.addToBalance(
+                transaction.getCashRegisterId(), transaction.getType().delta(transaction.getAmount()));
+
+        balance.ifPresent(newBalance -> insert(transaction));
+        return balance;
+    }
+
+    @Override
+    @Transactional
+    public void close(CashRegister closedRegister, CashTransaction closingTransaction) {
+        int updated = repository.close(
+                closedRegister.getId(),
+                closedRegister.getCloseTime(),
+                closedRegister.getFinalBalance(),
+                closedRegister.getClosedByUserId());
+
+        if (updated == 0) {
+            throw new BusinessException("Caixa já está fechado.");
+        }
+        insert(closingTransaction);
+    }
+
+    private void insert(CashTransaction transaction) {
+        transactionRepository.append(
+                transaction.getId(),
+                transaction.getCashRegisterId(),
+                transaction.getType().name(),
+                transaction.getAmount(),
+                transaction.getDescription(),
+                transaction.getTimestamp(),
+                transaction.getPerformedByUserId());
+    }
+}
@@ -0,0 +1,11 @@
+package com.stylo.api_agendamento.adapters.outbound.persistence.financial;
+
+import java.time.LocalDate;
+
+/**
+ * Projeção de um dia retornado pelas consultas nativas do rollup financeiro.
+ */
+public interface CashflowDayView {
+
+    LocalDate getDay();
+}
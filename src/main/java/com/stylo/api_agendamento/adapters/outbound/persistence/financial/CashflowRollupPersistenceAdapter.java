@@ -0,0 +1,107 @@
+package com.stylo.api_agendamento.adapters.outbound.persistence.financial;
+
+import com.stylo.api_agendamento.core.ports.ICashflowRollupRepository;
+import com.stylo.api_agendamento.core.usecases.dto.DailyCashFlow;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@Component
+public class CashflowRollupPersistenceAdapter implements ICashflowRollupRepository {
+
+    /*
+     * Advisory locks de transação por estabelecimento: incrementos pegam o compartilhado
+     * (não disputam entre si) e a reconstrução o exclusivo. Assim o DELETE + INSERT nunca
+     * intercala com um incremento: ou ele já commitou e entra na agregação, ou espera e
+     * soma por cima do valor reconstruído.
+     */
+    private static final String INCREMENT_LOCK_SQL = """
+            SELECT pg_advisory_xact_lock_shared(hashtext('provider_daily_cashflow'), hashtext(?))
+            """;
+
+    private static final String REBUILD_LOCK_SQL = """
+            SELECT pg_advisory_xact_lock(hashtext('provider_daily_cashflow'), hashtext(?))
+            """;
+
+    private final JpaProviderDailyCashflowRepository repository;
+    private final JdbcTemplate jdbcTemplate;
+
+    public CashflowRollupPersistenceAdapter(JpaProviderDailyCashflowRepository repository, DataSource dataSource) {
+        this.repository = repository;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    // MANDATORY: o incremento só é consistente se fizer parte da transação da escrita de origem
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void addRevenue(UUID providerId, LocalDate day, BigDecimal amount) {
+        if (amount == null || amount.signum() == 0) {
+            return;
+        }
+        lock(INCREMENT_LOCK_SQL, providerId);
+        repository.increment(providerId, day, amount, BigDecimal.ZERO);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void addExpense(UUID providerId, LocalDate day, BigDecimal amount) {
+        if (amount == null || amount.signum() == 0) {
+            return;
+        }
+        lock(INCREMENT_LOCK_SQL, providerId);
+        repository.increment(providerId, day, BigDecimal.ZERO, amount);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<DailyCashFlow> findByProviderAndPeriod(UUID providerId, LocalDate from, LocalDate to) {
+        return repository.findAllByServiceProviderIdAndDayBetweenOrderByDayAsc(providerId, from, to)
+                .stream()
+                .map(row -> new DailyCashFlow(row.getDay(), row.getRevenue(), row.getExpenses()))
+                .toList();
+    }
+
+    @Override
+    @Transactional
+    public void rebuild(UUID providerId, LocalDate from, LocalDate to) {
+        lock(REBUILD_LOCK_SQL, providerId);
+        repository.deleteRange(providerId, from, to);
+        repository.insertFromLive(providerId, from.atStartOfDay(), to.plusDays(1).atStartOfDay());
+    }
+
+    @Override
+    @Transactional
+    public void rebuildAll(UUID providerId) {
+        lock(REBUILD_LOCK_SQL, providerId);
+        repository.deleteAllByProvider(providerId);
+        // Lido sob o lock: um incremento em um dia novo não fica fora do intervalo
+        CashflowSpanView span = repository.findSourceSpan(providerId);
+        if (span.getFirstDay() != null) {
+            repository.insertFromLive(providerId, span.getFirstDay().atStartOfDay(),
+                    span.getLastDay().plusDays(1).atStartOfDay());
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<LocalDate> findInconsistentDays(UUID providerId, LocalDate from, LocalDate to) {
+        return repository.findInconsistentDays(providerId, from, to,
+                from.atStartOfDay(), to.plusDays(1).atStartOfDay())
+                .stream()
+                .map(CashflowDayView::getDay)
+                .toList();
+    }
+
+    private void lock(String sql, UUID providerId) {
+        jdbcTemplate.query(sql, (RowCallbackHandler) rs -> {
+        }, providerId.toString());
+    }
+}
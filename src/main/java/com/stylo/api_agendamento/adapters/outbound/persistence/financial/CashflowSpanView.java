@@ -0,0 +1,13 @@
+package com.stylo.api_agendamento.adapters.outbound.persistence.financial;
+
+import java.time.LocalDate;
+
+/**
+ * Primeiro e último dia com movimento de um estabelecimento (nulos se não houver nenhum).
+ */
+public interface CashflowSpanView {
+
+    LocalDate getFirstDay();
+
+    LocalDate getLastDay();
+}
@@ -8,7 +8,10 @@ import java.util.UUID;
 import com.stylo.api_agendamento.adapters.outbound.persistence.BaseEntity;
 
 @Entity
-@Table(name = "expenses")
+@Table(name = "expenses", indexes = {
+        // Keyset da listagem (data mais recente primeiro)
+        @Index(name = "idx_expenses_provider_date", columnList = "service_provider_id, date DESC, id DESC")
+})
 @Getter
 @Setter
 @NoArgsConstructor
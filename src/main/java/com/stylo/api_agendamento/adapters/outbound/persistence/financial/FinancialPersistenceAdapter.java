@@ -1,11 +1,17 @@
 package com.stylo.api_agendamento.adapters.outbound.persistence.financial;
 
 import com.stylo.api_agendamento.adapters.outbound.persistence.appointment.JpaAppointmentRepository;
+import com.stylo.api_agendamento.adapters.outbound.persistence.KeysetScroll;
+import com.stylo.api_agendamento.core.common.CursorPage;
+import com.stylo.api_agendamento.core.common.PageCursor;
 import com.stylo.api_agendamento.core.common.PagedResult;
 import com.stylo.api_agendamento.core.domain.Expense;
 import com.stylo.api_agendamento.core.domain.Payout;
 import com.stylo.api_agendamento.core.domain.vo.PaymentMethod;
+import com.stylo.api_agendamento.core.ports.ICashflowRollupRepository;
 import com.stylo.api_agendamento.core.ports.IFinancialRepository;
+import com.stylo.api_agendamento.core.usecases.dto.DailyTotal;
+import com.stylo.api_agendamento.core.usecases.dto.SettledPayout;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -13,6 +19,7 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -24,22 +31,44 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class FinancialPersistenceAdapter implements IFinancialRepository {
 
+    private static final Sort EXPENSES_NEWEST_FIRST = Sort.by(Sort.Order.desc("date"), Sort.Order.desc("id"));
+
     private final JpaExpenseRepository jpaExpenseRepository;
     private final ExpenseMapper expenseMapper;
     private final JpaPayoutRepository jpaPayoutRepository;
     private final PayoutMapper payoutMapper;
     private final JpaAppointmentRepository jpaAppointmentRepository;
+    private final ICashflowRollupRepository cashflowRollupRepository;
 
+    // O rollup diário (provider_daily_cashflow) é ajustado na mesma transação da despesa,
+    // pelo port do rollup: o incremento respeita o lock da reconstrução
     @Override
+    @Transactional
     public Expense saveExpense(Expense expense) {
+        if (expense.getId() != null) {
+            // Edição: estorna o valor/dia anteriores antes de somar os novos
+            jpaExpenseRepository.findById(expense.getId()).ifPresent(this::revertFromCashflow);
+        }
+
         var entity = expenseMapper.toEntity(expense);
         var savedEntity = jpaExpenseRepository.save(entity);
+        cashflowRollupRepository.addExpense(savedEntity.getServiceProviderId(), savedEntity.getDate().toLocalDate(),
+                savedEntity.getAmount());
         return expenseMapper.toDomain(savedEntity);
     }
 
     @Override
+    @Transactional
     public void deleteExpense(UUID expenseId) {
-        jpaExpenseRepository.deleteById(expenseId);
+        jpaExpenseRepository.findById(expenseId).ifPresent(existing -> {
+            revertFromCashflow(existing);
+            jpaExpenseRepository.delete(existing);
+        });
+    }
+
+    private void revertFromCashflow(ExpenseEntity existing) {
+        cashflowRollupRepository.addExpense(existing.getServiceProviderId(), existing.getDate().toLocalDate(),
+                existing.getAmount().negate());
     }
 
     @Override
@@ -68,6 +97,26 @@ public class FinancialPersistenceAdapter implements IFinancialRepository {
         );
     }
 
+    @Override
+    public CursorPage<Expense> findAllExpensesByProviderIdAfter(UUID providerId, PageCursor after, int size,
+            boolean includeTotal) {
+        var window = jpaExpenseRepository.findByServiceProviderId(providerId,
+                KeysetScroll.positionOf(after, "date", LocalDateTime::parse), EXPENSES_NEWEST_FIRST,
+                KeysetScroll.limitOf(size));
+
+        return KeysetScroll.toCursorPage(window, expenseMapper::toDomain,
+                e -> new PageCursor(e.getDate().toString(), e.getId()),
+                includeTotal ? jpaExpenseRepository.countByServiceProviderId(providerId) : null);
+    }
+
+    @Override
+    public List<DailyTotal> sumExpensesByDay(UUID providerId, LocalDateTime start, LocalDateTime end) {
+        return jpaExpenseRepository.sumByDay(providerId, start, end)
+                .stream()
+                .map(view -> new DailyTotal(view.getDay(), view.getTotal(), view.getCount()))
+                .toList();
+    }
+
     // ✨ CORREÇÃO: A interface espera List<Payout> e não PagedResult
     @Override
     public List<Payout> findPayoutsByProfessional(UUID professionalId, int page, int size) {
@@ -87,15 +136,26 @@ public class FinancialPersistenceAdapter implements IFinancialRepository {
     @Override
     public BigDecimal findNetProfitByProviderAndPeriod(UUID providerId, LocalDateTime start, LocalDateTime end) {
         BigDecimal totalFees = jpaAppointmentRepository.sumNetRevenue(providerId, start, end);
-        List<ExpenseEntity> expenses = jpaExpenseRepository.findAllByServiceProviderIdAndDateBetween(providerId, start, end);
-
-        BigDecimal totalExpenses = expenses.stream()
-                .map(ExpenseEntity::getAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        // Soma feita no banco, sem carregar as despesas
+        BigDecimal totalExpenses = jpaExpenseRepository.sumAmount(providerId, start, end);
 
         return (totalFees != null ? totalFees : BigDecimal.ZERO).subtract(totalExpenses);
     }
 
+    @Override
+    @Transactional
+    public List<SettledPayout> settleCommissions(UUID providerId, UUID professionalId, LocalDateTime completedBefore,
+            LocalDateTime processedAt) {
+        return jpaPayoutRepository.settleCommissions(providerId, professionalId, completedBefore, processedAt)
+                .stream()
+                .map(view -> new SettledPayout(
+                        view.getPayoutId(),
+                        view.getProfessionalId(),
+                        view.getTotalAmount(),
+                        view.getAppointmentCount().intValue()))
+                .toList();
+    }
+
     @Override
     public Payout savePayout(Payout payout) {
         var entity = payoutMapper.toEntity(payout);
@@ -0,0 +1,182 @@
+package com.stylo.api_agendamento.adapters.outbound.persistence.financial;
+
+import com.stylo.api_agendamento.core.domain.financial.CashTransactionType;
+import com.stylo.api_agendamento.core.domain.vo.PaymentMethod;
+import com.stylo.api_agendamento.core.ports.ICashReconciliationRepository;
+import com.stylo.api_agendamento.core.usecases.dto.AmountTotal;
+import com.stylo.api_agendamento.core.usecases.dto.CashReconciliationSummary;
+import com.stylo.api_agendamento.core.usecases.dto.CashRegisterReconciliation;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Conciliação de caixa lida via JDBC com agregação no banco: cada sessão vira uma
+ * linha já somada por tipo de movimentação, sem carregar as transações.
+ */
+@Component
+public class JdbcCashReconciliationAdapter implements ICashReconciliationRepository {
+
+    private static final int FETCH_SIZE = 500;
+
+    private static final String REGISTERS_FILTER = """
+            r.provider_id = ? AND r.open_time >= ? AND r.open_time < ?
+            """;
+
+    private static final String COUNT_SQL = "SELECT COUNT(*) FROM cash_registers r WHERE " + REGISTERS_FILTER;
+
+    // A página é recortada antes da agregação: o custo depende do tamanho da página, não do período
+    private static final String REGISTERS_SQL = """
+            WITH page AS (
+                SELECT r.* FROM cash_registers r
+                WHERE %s
+                ORDER BY r.open_time, r.id
+                LIMIT ? OFFSET ?
+            ),
+            totals AS (
+                SELECT t.cash_register_id,
+                       COALESCE(SUM(t.amount) FILTER (WHERE t.type = 'SALE'), 0) AS sales,
+                       COALESCE(SUM(t.amount) FILTER (WHERE t.type = 'BLEED'), 0) AS bleeds,
+                       COALESCE(SUM(t.amount) FILTER (WHERE t.type = 'REINFORCEMENT'), 0) AS reinforcements,
+                       COUNT(*) FILTER (WHERE t.type <> 'CLOSING') AS transaction_count,
+                       string_agg(DISTINCT u.name, ', ') AS operators
+                FROM cash_transactions t
+                LEFT JOIN users u ON u.id = t.performed_by_user_id
+                WHERE t.cash_register_id IN (SELECT id FROM page)
+                GROUP BY t.cash_register_id
+            )
+            SELECT p.id, p.open_time, p.close_time, p.is_open,
+                   p.initial_balance, p.calculated_balance, p.final_balance,
+                   p.final_balance - p.calculated_balance AS closing_difference,
+                   COALESCE(t.sales, 0), COALESCE(t.bleeds, 0), COALESCE(t.reinforcements, 0),
+                   COALESCE(t.transaction_count, 0),
+                   uo.name, uc.name, t.operators
+            FROM page p
+            LEFT JOIN totals t ON t.cash_register_id = p.id
+            LEFT JOIN users uo ON uo.id = p.opened_by_user_id
+            LEFT JOIN users uc ON uc.id = p.closed_by_user_id
+            ORDER BY p.open_time, p.id
+            """.formatted(REGISTERS_FILTER);
+
+    private static final String TOTALS_BY_TYPE_SQL = """
+            SELECT t.type, SUM(t.amount)
+            FROM cash_transactions t
+            JOIN cash_registers r ON r.id = t.cash_register_id
+            WHERE %s
+            GROUP BY t.type
+            """.formatted(REGISTERS_FILTER);
+
+    private static final String BREAKS_SQL = """
+            SELECT COUNT(*),
+                   COUNT(*) FILTER (WHERE r.is_open),
+                   COALESCE(SUM(r.final_balance - r.calculated_balance), 0),
+                   COALESCE(SUM(r.final_balance - r.calculated_balance) FILTER (WHERE r.final_balance < r.calculated_balance), 0),
+                   COALESCE(SUM(r.final_balance - r.calculated_balance) FILTER (WHERE r.final_balance > r.calculated_balance), 0)
+            FROM cash_registers r
+            WHERE %s
+            """.formatted(REGISTERS_FILTER);
+
+    // Horários dos agendamentos (TIMESTAMPTZ) guardam o relógio local do estabelecimento em UTC
+    private static final String PAYMENT_METHODS_SQL = """
+            SELECT a.payment_method, COALESCE(SUM(a.final_price), 0), COUNT(*)
+            FROM appointments a
+            WHERE a.provider_id = ?
+            AND a.status = 'COMPLETED'
+            AND a.payment_method IS NOT NULL
+            AND a.start_time >= CAST(? AS timestamp) AT TIME ZONE 'UTC'
+            AND a.start_time < CAST(? AS timestamp) AT TIME ZONE 'UTC'
+            GROUP BY a.payment_method
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcCashReconciliationAdapter(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(FETCH_SIZE);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long countRegisters(UUID providerId, LocalDateTime start, LocalDateTime end) {
+        Long count = jdbcTemplate.queryForObject(COUNT_SQL, Long.class, providerId, start, end);
+        return count != null ? count : 0;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamRegisters(UUID providerId, LocalDateTime start, LocalDateTime end, int page, int size,
+            Consumer<CashRegisterReconciliation> consumer) {
+
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(
+                    REGISTERS_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setObject(1, providerId);
+            ps.setObject(2, start);
+            ps.setObject(3, end);
+            ps.setInt(4, size);
+            ps.setLong(5, (long) page * size);
+            return ps;
+        }, (RowCallbackHandler) rs -> consumer.accept(toReconciliation(rs)));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CashReconciliationSummary summarize(UUID providerId, LocalDateTime start, LocalDateTime end) {
+        Map<CashTransactionType, BigDecimal> totalsByType = new EnumMap<>(CashTransactionType.class);
+        jdbcTemplate.query(TOTALS_BY_TYPE_SQL, (RowCallbackHandler) rs ->
+                totalsByType.put(CashTransactionType.valueOf(rs.getString(1)), rs.getBigDecimal(2)),
+                providerId, start, end);
+
+        Map<PaymentMethod, AmountTotal> totalsByPaymentMethod = new EnumMap<>(PaymentMethod.class);
+        jdbcTemplate.query(PAYMENT_METHODS_SQL, (RowCallbackHandler) rs ->
+                totalsByPaymentMethod.put(PaymentMethod.valueOf(rs.getString(1)),
+                        new AmountTotal(rs.getBigDecimal(2), rs.getLong(3))),
+                providerId, start, end);
+
+        return jdbcTemplate.queryForObject(BREAKS_SQL, (rs, rowNum) -> new CashReconciliationSummary(
+                rs.getLong(1),
+                rs.getLong(2),
+                totalsByType,
+                totalsByPaymentMethod,
+                rs.getBigDecimal(3),
+                rs.getBigDecimal(4),
+                rs.getBigDecimal(5)),
+                providerId, start, end);
+    }
+
+    private static CashRegisterReconciliation toReconciliation(ResultSet rs) throws SQLException {
+        return new CashRegisterReconciliation(
+                rs.getObject(1, UUID.class),
+                toLocalDateTime(rs.getTimestamp(2)),
+                toLocalDateTime(rs.getTimestamp(3)),
+                rs.getBoolean(4),
+                rs.getBigDecimal(5),
+                rs.getBigDecimal(6),
+                rs.getBigDecimal(7),
+                rs.getBigDecimal(8),
+                rs.getBigDecimal(9),
+                rs.getBigDecimal(10),
+                rs.getBigDecimal(11),
+                rs.getLong(12),
+                rs.getString(13),
+                rs.getString(14),
+                rs.getString(15));
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+}
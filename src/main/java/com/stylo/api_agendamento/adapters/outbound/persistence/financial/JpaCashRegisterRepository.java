@@ -1,8 +1,14 @@
 package com.stylo.api_agendamento.adapters.outbound.persistence.financial;
 
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -13,6 +19,34 @@ public interface JpaCashRegisterRepository extends JpaRepository<CashRegisterEnt
     
     Optional<CashRegisterEntity> findByProviderIdAndIsOpenTrue(UUID providerId);
 
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM CashRegisterEntity c WHERE c.providerId = :providerId AND c.isOpen = true")
+    Optional<CashRegisterEntity> findOpenByProviderIdForUpdate(@Param("providerId") UUID providerId);
+
+    // Atualização atômica do saldo: o lock de linha do UPDATE serializa vendas concorrentes
+    // (sem lost update) e a condição impede caixa negativo e lançamento em caixa fechado.
+    @Query(value = """
+                UPDATE cash_registers
+                SET calculated_balance = calculated_balance + :delta
+                WHERE id = :registerId
+                AND is_open = true
+                AND calculated_balance + :delta >= 0
+                RETURNING calculated_balance
+            """, nativeQuery = true)
+    Optional<BigDecimal> addToBalance(@Param("registerId") UUID registerId, @Param("delta") BigDecimal delta);
+
+    @Modifying
+    @Query(value = """
+                UPDATE cash_registers
+                SET is_open = false, close_time = :closeTime, final_balance = :finalBalance,
+                    closed_by_user_id = :closedBy
+                WHERE id = :registerId AND is_open = true
+            """, nativeQuery = true)
+    int close(@Param("registerId") UUID registerId,
+            @Param("closeTime") LocalDateTime closeTime,
+            @Param("finalBalance") BigDecimal finalBalance,
+            @Param("closedBy") UUID closedBy);
+
     // ✨ NOVO MÉTODO: O Spring Data JPA traduz isso nativamente para SQL
     List<CashRegisterEntity> findByProviderIdAndIsOpenFalseAndCloseTimeBetween(
             UUID providerId, 
@@ -0,0 +1,32 @@
+package com.stylo.api_agendamento.adapters.outbound.persistence.financial;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public interface JpaCashTransactionRepository extends JpaRepository<CashTransactionEntity, UUID> {
+
+    // Usa o índice (cash_register_id, timestamp) de V28
+    Page<CashTransactionEntity> findByCashRegisterId(UUID cashRegisterId, Pageable pageable);
+
+    // INSERT direto: sem carregar o caixa nem a coleção de transações
+    @Modifying
+    @Query(value = """
+                INSERT INTO cash_transactions (id, cash_register_id, type, amount, description, "timestamp", performed_by_user_id)
+                VALUES (:id, :registerId, :type, :amount, :description, :timestamp, :userId)
+            """, nativeQuery = true)
+    void append(@Param("id") UUID id,
+            @Param("registerId") UUID registerId,
+            @Param("type") String type,
+            @Param("amount") BigDecimal amount,
+            @Param("description") String description,
+            @Param("timestamp") LocalDateTime timestamp,
+            @Param("userId") UUID userId);
+}
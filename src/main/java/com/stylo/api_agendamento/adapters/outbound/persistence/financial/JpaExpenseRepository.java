@@ -1,10 +1,18 @@
 package com.stylo.api_agendamento.adapters.outbound.persistence.financial;
 
+import com.stylo.api_agendamento.adapters.outbound.persistence.appointment.DailyTotalView;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
@@ -21,4 +29,33 @@ public interface JpaExpenseRepository extends JpaRepository<ExpenseEntity, UUID>
 
     // Adicione este método para suportar a listagem paginada por estabelecimento
     Page<ExpenseEntity> findAllByServiceProviderId(UUID serviceProviderId, Pageable pageable);
+
+    // Keyset (paginação por cursor)
+    Window<ExpenseEntity> findByServiceProviderId(UUID serviceProviderId, ScrollPosition position, Sort sort, Limit limit);
+
+    long countByServiceProviderId(UUID serviceProviderId);
+
+    // Data de competência informada pelo usuário (sem fuso): o dia é o da própria data
+    @Query(value = """
+                SELECT CAST(date_trunc('day', e.date) AS DATE) AS day,
+                       COALESCE(SUM(e.amount), 0) AS total,
+                       COUNT(*) AS count
+                FROM expenses e
+                WHERE e.service_provider_id = :providerId
+                AND e.date >= :start AND e.date < :end
+                GROUP BY 1
+                ORDER BY 1
+            """, nativeQuery = true)
+    List<DailyTotalView> sumByDay(@Param("providerId") UUID providerId,
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end);
+
+    @Query("""
+                SELECT COALESCE(SUM(e.amount), 0) FROM ExpenseEntity e
+                WHERE e.serviceProviderId = :providerId
+                AND e.date BETWEEN :start AND :end
+            """)
+    BigDecimal sumAmount(@Param("providerId") UUID providerId,
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end);
 }
\ No newline at end of file
@@ -1,14 +1,77 @@
 package com.stylo.api_agendamento.adapters.outbound.persistence.financial;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 @Repository
 public interface JpaPayoutRepository extends JpaRepository<PayoutEntity, UUID> {
 
     Page<PayoutEntity> findAllByProfessionalId(UUID professionalId, Pageable pageable);
+
+    /*
+     * Fechamento em um único comando (CTEs com escrita):
+     * 1. settled: marca as comissões concluídas e não liquidadas (UPDATE ... RETURNING)
+     * 2. totals:  soma por profissional no próprio banco
+     * 3. INSERT dos repasses (com a referência MANUAL-SETTLEMENT-<id>) e dos vínculos payout_appointments
+     * O UPDATE trava as linhas: fechamentos concorrentes não liquidam o mesmo agendamento duas vezes.
+     * Profissional nulo = todos os profissionais do estabelecimento.
+     * completedBefore limita aos atendimentos iniciados antes dele (fim da competência); nulo = sem limite.
+     *
+     * Comissão zero: o agendamento é liquidado (não há nada a pagar, e assim não volta a
+     * aparecer como pendente), mas não entra em repasse nem em payout_appointments.
+     * Repasses de R$ 0 não são criados.
+     */
+    @Query(value = """
+                WITH settled AS (
+                    UPDATE appointments a
+                    SET commission_settled = true
+                    WHERE a.provider_id = :providerId
+                    AND (CAST(:professionalId AS uuid) IS NULL OR a.professional_id = CAST(:professionalId AS uuid))
+                    AND a.status = 'COMPLETED'
+                    AND a.commission_settled = false
+                    AND a.is_personal_block = false
+                    AND (CAST(:completedBefore AS timestamp) IS NULL
+                         OR a.start_time < CAST(:completedBefore AS timestamp))
+                    RETURNING a.id, a.professional_id, COALESCE(a.professional_commission, 0) AS commission
+                ),
+                totals AS (
+                    SELECT gen_random_uuid() AS payout_id, s.professional_id,
+                           SUM(s.commission) AS total_amount, COUNT(*) AS appointment_count
+                    FROM settled s
+                    WHERE s.commission > 0
+                    GROUP BY s.professional_id
+                ),
+                inserted_payouts AS (
+                    INSERT INTO payouts (id, professional_id, service_provider_id, total_amount, processed_at,
+                                         status, external_transfer_id, created_at, updated_at)
+                    SELECT t.payout_id, t.professional_id, :providerId, t.total_amount, :processedAt,
+                           'PAID', 'MANUAL-SETTLEMENT-' || LEFT(CAST(t.payout_id AS text), 8),
+                           :processedAt, :processedAt
+                    FROM totals t
+                    RETURNING id
+                ),
+                inserted_links AS (
+                    INSERT INTO payout_appointments (payout_id, appointment_id)
+                    SELECT t.payout_id, s.id
+                    FROM settled s
+                    JOIN totals t ON t.professional_id = s.professional_id
+                    WHERE s.commission > 0
+                )
+                SELECT t.payout_id AS payoutId, t.professional_id AS professionalId,
+                       t.total_amount AS totalAmount, t.appointment_count AS appointmentCount
+                FROM totals t
+                JOIN inserted_payouts p ON p.id = t.payout_id
+            """, nativeQuery = true)
+    List<SettledPayoutView> settleCommissions(@Param("providerId") UUID providerId,
+            @Param("professionalId") UUID professionalId,
+            @Param("completedBefore") LocalDateTime completedBefore,
+            @Param("processedAt") LocalDateTime processedAt);
 }
\ No newline at end of file
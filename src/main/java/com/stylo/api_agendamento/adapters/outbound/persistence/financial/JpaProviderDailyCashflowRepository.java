@@ -0,0 +1,112 @@
+package com.stylo.api_agendamento.adapters.outbound.persistence.financial;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface JpaProviderDailyCashflowRepository
+        extends JpaRepository<ProviderDailyCashflowEntity, ProviderDailyCashflowEntity.Key> {
+
+    /*
+     * Agregação "ao vivo" usada na reconstrução e na verificação de consistência.
+     * start_time é TIMESTAMPTZ e a aplicação grava em UTC: o dia é extraído em UTC,
+     * igual ao LocalDateTime.toLocalDate() do domínio.
+     */
+    String LIVE_DAILY_TOTALS = """
+                SELECT d.day AS day, SUM(d.revenue) AS revenue, SUM(d.expenses) AS expenses
+                FROM (
+                    SELECT CAST(a.start_time AT TIME ZONE 'UTC' AS DATE) AS day,
+                           COALESCE(a.final_price, 0) AS revenue, 0 AS expenses
+                    FROM appointments a
+                    WHERE a.provider_id = :providerId
+                    AND a.status = 'COMPLETED'
+                    AND a.is_personal_block = false
+                    AND a.start_time >= :startTime AND a.start_time < :endTime
+                    UNION ALL
+                    SELECT CAST(e.date AS DATE), 0, e.amount
+                    FROM expenses e
+                    WHERE e.service_provider_id = :providerId
+                    AND e.date >= :startTime AND e.date < :endTime
+                ) d
+                GROUP BY d.day
+            """;
+
+    // Incremento atômico: escritas concorrentes no mesmo dia somam sem lost update
+    @Modifying
+    @Query(value = """
+                INSERT INTO provider_daily_cashflow (service_provider_id, day, revenue, expenses, updated_at)
+                VALUES (:providerId, :day, :revenue, :expenses, NOW())
+                ON CONFLICT (service_provider_id, day)
+                DO UPDATE SET revenue = provider_daily_cashflow.revenue + EXCLUDED.revenue,
+                              expenses = provider_daily_cashflow.expenses + EXCLUDED.expenses,
+                              updated_at = EXCLUDED.updated_at
+            """, nativeQuery = true)
+    void increment(@Param("providerId") UUID providerId,
+            @Param("day") LocalDate day,
+            @Param("revenue") BigDecimal revenue,
+            @Param("expenses") BigDecimal expenses);
+
+    List<ProviderDailyCashflowEntity> findAllByServiceProviderIdAndDayBetweenOrderByDayAsc(
+            UUID serviceProviderId, LocalDate from, LocalDate to);
+
+    @Modifying
+    @Query(value = """
+                DELETE FROM provider_daily_cashflow
+                WHERE service_provider_id = :providerId AND day BETWEEN :fromDate AND :toDate
+            """, nativeQuery = true)
+    void deleteRange(@Param("providerId") UUID providerId,
+            @Param("fromDate") LocalDate fromDate,
+            @Param("toDate") LocalDate toDate);
+
+    @Modifying
+    @Query(value = "DELETE FROM provider_daily_cashflow WHERE service_provider_id = :providerId", nativeQuery = true)
+    void deleteAllByProvider(@Param("providerId") UUID providerId);
+
+    // Mesmos filtros da agregação ao vivo, sem período: delimita a reconstrução do histórico inteiro
+    @Query(value = """
+                SELECT MIN(d.day) AS firstDay, MAX(d.day) AS lastDay
+                FROM (
+                    SELECT CAST(a.start_time AT TIME ZONE 'UTC' AS DATE) AS day
+                    FROM appointments a
+                    WHERE a.provider_id = :providerId
+                    AND a.status = 'COMPLETED'
+                    AND a.is_personal_block = false
+                    UNION ALL
+                    SELECT CAST(e.date AS DATE)
+                    FROM expenses e
+                    WHERE e.service_provider_id = :providerId
+                ) d
+            """, nativeQuery = true)
+    CashflowSpanView findSourceSpan(@Param("providerId") UUID providerId);
+
+    @Modifying
+    @Query(value = "INSERT INTO provider_daily_cashflow (service_provider_id, day, revenue, expenses, updated_at) " +
+            "SELECT :providerId, live.day, live.revenue, live.expenses, NOW() FROM (" + LIVE_DAILY_TOTALS + ") live",
+            nativeQuery = true)
+    void insertFromLive(@Param("providerId") UUID providerId,
+            @Param("startTime") LocalDateTime startTime,
+            @Param("endTime") LocalDateTime endTime);
+
+    // Dias em que o rollup diverge da agregação ao vivo (linha faltando, sobrando ou com valor diferente)
+    @Query(value = "SELECT COALESCE(live.day, r.day) AS day " +
+            "FROM (" + LIVE_DAILY_TOTALS + ") live " +
+            "FULL OUTER JOIN (SELECT * FROM provider_daily_cashflow " +
+            "    WHERE service_provider_id = :providerId AND day BETWEEN :fromDate AND :toDate) r " +
+            "ON r.day = live.day " +
+            "WHERE COALESCE(live.revenue, 0) <> COALESCE(r.revenue, 0) " +
+            "OR COALESCE(live.expenses, 0) <> COALESCE(r.expenses, 0) " +
+            "ORDER BY 1",
+            nativeQuery = true)
+    List<CashflowDayView> findInconsistentDays(@Param("providerId") UUID providerId,
+            @Param("fromDate") LocalDate fromDate,
+            @Param("toDate") LocalDate toDate,
+            @Param("startTime") LocalDateTime startTime,
+            @Param("endTime") LocalDateTime endTime);
+}
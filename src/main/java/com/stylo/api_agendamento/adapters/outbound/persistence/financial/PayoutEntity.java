@@ -36,6 +36,9 @@ public class PayoutEntity extends BaseEntity {
 
     private String status;
 
+    @Column(name = "external_transfer_id")
+    private String externalTransferId; // Referência da transferência (manual: "MANUAL-SETTLEMENT-...")
+
     // ✨ Melhoria: Inicialização segura da lista para evitar NullPointerExceptions
     @ElementCollection(fetch = FetchType.LAZY)
     @CollectionTable(name = "payout_appointments", joinColumns = @JoinColumn(name = "payout_id"))
@@ -0,0 +1,46 @@
+package com.stylo.api_agendamento.adapters.outbound.persistence.financial;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "provider_daily_cashflow")
+@IdClass(ProviderDailyCashflowEntity.Key.class)
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProviderDailyCashflowEntity {
+
+    @Id
+    @Column(name = "service_provider_id")
+    private UUID serviceProviderId;
+
+    @Id
+    @Column(name = "day")
+    private LocalDate day;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal revenue;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal expenses;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private UUID serviceProviderId;
+        private LocalDate day;
+    }
+}
@@ -0,0 +1,18 @@
+package com.stylo.api_agendamento.adapters.outbound.persistence.financial;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Projeção dos repasses criados pelo fechamento em lote.
+ */
+public interface SettledPayoutView {
+
+    UUID getPayoutId();
+
+    UUID getProfessionalId();
+
+    BigDecimal getTotalAmount();
+
+    Long getAppointmentCount();
+}
@@ -0,0 +1,26 @@
+package com.stylo.api_agendamento.adapters.outbound.persistence.occupancy;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+public interface JpaProfessionalDailyOccupancyRepository
+        extends JpaRepository<ProfessionalDailyOccupancyEntity, ProfessionalDailyOccupancyEntity.Key> {
+
+    // Varredura pela PK (professional_id, day): custo proporcional a profissionais × dias, não a agendamentos
+    @Query(value = """
+                SELECT o.professional_id AS professionalId, SUM(o.occupied_minutes) AS occupiedMinutes
+                FROM professional_daily_occupancy o
+                JOIN professionals p ON p.id = o.professional_id
+                WHERE p.provider_id = :providerId
+                AND o.day BETWEEN :fromDate AND :toDate
+                GROUP BY o.professional_id
+            """, nativeQuery = true)
+    List<OccupancyTotalView> sumByProvider(@Param("providerId") UUID providerId,
+            @Param("fromDate") LocalDate fromDate,
+            @Param("toDate") LocalDate toDate);
+}
@@ -0,0 +1,83 @@
+package com.stylo.api_agendamento.adapters.outbound.persistence.occupancy;
+
+import com.stylo.api_agendamento.core.ports.IOccupancyRollupRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+@Component
+public class OccupancyRollupPersistenceAdapter implements IOccupancyRollupRepository {
+
+    // Advisory lock de transação: (tabela, profissional), liberado no commit/rollback
+    private static final String LOCK_SQL = """
+            SELECT pg_advisory_xact_lock(hashtext('professional_daily_occupancy'), hashtext(?))
+            """;
+
+    // Um comando por trecho (até 31 dias) em vez de um upsert por dia; dias sem mudança não são regravados
+    private static final String SAVE_DAYS_SQL = """
+            INSERT INTO professional_daily_occupancy (professional_id, day, occupied_minutes, updated_at)
+            SELECT ?, d.day, d.minutes, NOW()
+            FROM unnest(?, ?) AS d(day, minutes)
+            ON CONFLICT (professional_id, day)
+            DO UPDATE SET occupied_minutes = EXCLUDED.occupied_minutes, updated_at = EXCLUDED.updated_at
+            WHERE professional_daily_occupancy.occupied_minutes IS DISTINCT FROM EXCLUDED.occupied_minutes
+            """;
+
+    private final JpaProfessionalDailyOccupancyRepository repository;
+    private final JdbcTemplate jdbcTemplate;
+
+    public OccupancyRollupPersistenceAdapter(JpaProfessionalDailyOccupancyRepository repository,
+            DataSource dataSource) {
+        this.repository = repository;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void lockProfessional(UUID professionalId) {
+        jdbcTemplate.query(LOCK_SQL, (RowCallbackHandler) rs -> {
+        }, professionalId.toString());
+    }
+
+    @Override
+    @Transactional
+    public void saveDays(UUID professionalId, Map<LocalDate, Integer> occupiedMinutesByDay) {
+        if (occupiedMinutesByDay.isEmpty()) {
+            return;
+        }
+
+        Date[] days = new Date[occupiedMinutesByDay.size()];
+        Integer[] minutes = new Integer[occupiedMinutesByDay.size()];
+        int i = 0;
+        for (Map.Entry<LocalDate, Integer> entry : occupiedMinutesByDay.entrySet()) {
+            days[i] = Date.valueOf(entry.getKey());
+            minutes[i] = entry.getValue();
+            i++;
+        }
+
+        jdbcTemplate.update(SAVE_DAYS_SQL, ps -> {
+            ps.setObject(1, professionalId);
+            ps.setArray(2, ps.getConnection().createArrayOf("date", days));
+            ps.setArray(3, ps.getConnection().createArrayOf("int4", minutes));
+        });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<UUID, Long> sumOccupiedMinutesByProfessional(UUID providerId, LocalDate from, LocalDate to) {
+        Map<UUID, Long> totals = new HashMap<>();
+        for (OccupancyTotalView view : repository.sumByProvider(providerId, from, to)) {
+            totals.put(view.getProfessionalId(), view.getOccupiedMinutes());
+        }
+        return totals;
+    }
+}
@@ -0,0 +1,13 @@
+package com.stylo.api_agendamento.adapters.outbound.persistence.occupancy;
+
+import java.util.UUID;
+
+/**
+ * Projeção da soma de minutos ocupados por profissional no período.
+ */
+public interface OccupancyTotalView {
+
+    UUID getProfessionalId();
+
+    Long getOccupiedMinutes();
+}
@@ -0,0 +1,42 @@
+package com.stylo.api_agendamento.adapters.outbound.persistence.occupancy;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "professional_daily_occupancy")
+@IdClass(ProfessionalDailyOccupancyEntity.Key.class)
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProfessionalDailyOccupancyEntity {
+
+    @Id
+    @Column(name = "professional_id")
+    private UUID professionalId;
+
+    @Id
+    @Column(name = "day")
+    private LocalDate day;
+
+    @Column(name = "occupied_minutes", nullable = false)
+    private int occupiedMinutes;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private UUID professionalId;
+        private LocalDate day;
+    }
+}
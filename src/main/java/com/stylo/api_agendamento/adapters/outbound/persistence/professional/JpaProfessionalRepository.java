@@ -27,4 +27,7 @@ public interface JpaProfessionalRepository extends JpaRepository<ProfessionalEnt
     Optional<ProfessionalEntity> findByIdWithLock(@Param("id") UUID id);
 
     List<ProfessionalEntity> findByServiceProviderId(UUID providerId);
+
+    @Query("SELECT p.id FROM ProfessionalEntity p WHERE p.isActive = true")
+    List<UUID> findAllIds();
 }
\ No newline at end of file
@@ -12,6 +12,7 @@ import com.stylo.api_agendamento.adapters.outbound.persistence.DailyAvailability
 import com.stylo.api_agendamento.adapters.outbound.persistence.service.ServiceEntity;
 import com.stylo.api_agendamento.adapters.outbound.persistence.BaseEntity;
 import com.stylo.api_agendamento.core.domain.RemunerationType;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.SQLRestriction;
 
 @Entity
@@ -54,17 +55,20 @@ public class ProfessionalEntity extends BaseEntity {
     @ElementCollection(fetch = FetchType.LAZY)
     @CollectionTable(name = "professional_specialties", joinColumns = @JoinColumn(name = "professional_id"))
     @Column(name = "specialty")
+    @BatchSize(size = 50) // ✨ FETCH EM LOTE: listagens da equipe sem N+1
     @Builder.Default
     private List<String> specialties = new ArrayList<>();
 
     @ManyToMany(fetch = FetchType.LAZY)
     @JoinTable(name = "professional_services", joinColumns = @JoinColumn(name = "professional_id"), inverseJoinColumns = @JoinColumn(name = "service_id"))
+    @BatchSize(size = 50)
     @Builder.Default
     private List<ServiceEntity> services = new ArrayList<>();
 
     @Builder.Default
     @OneToMany(mappedBy = "professionalId",
             cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
+    @BatchSize(size = 50)
     private List<DailyAvailabilityEntity> availability = new ArrayList<>();
 
     @Column(name = "slot_interval")
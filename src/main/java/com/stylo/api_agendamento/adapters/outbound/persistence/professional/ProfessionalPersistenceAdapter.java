@@ -138,4 +138,9 @@ public class ProfessionalPersistenceAdapter implements IProfessionalRepository {
                 .map(professionalMapper::toDomain)
                 .collect(Collectors.toList());
     }
-}
\ No newline at end of file
+
+    @Override
+    public List<UUID> findAllIds() {
+        return jpaProfessionalRepository.findAllIds();
+    }
+}
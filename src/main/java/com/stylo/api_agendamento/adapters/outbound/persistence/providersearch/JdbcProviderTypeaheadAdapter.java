@@ -0,0 +1,107 @@
+package com.stylo.api_agendamento.adapters.outbound.persistence.providersearch;
+
+import com.stylo.api_agendamento.core.ports.IProviderTypeaheadRepository;
+import com.stylo.api_agendamento.core.usecases.dto.ProviderTypeaheadEntry;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Fonte do autocomplete lida via JDBC: uma linha por serviço ativo, agrupada por
+ * estabelecimento no cliente (ORDER BY sp.id), sem carregar entidades.
+ * Lê as tabelas de origem, e não o provider_search_doc, para não depender do backfill dele.
+ */
+@Component
+public class JdbcProviderTypeaheadAdapter implements IProviderTypeaheadRepository {
+
+    private static final int FETCH_SIZE = 1000;
+
+    // services.is_active é mantida pelo Hibernate; resolvida só na execução
+    private static final String PROVIDERS_SQL = """
+            SELECT sp.id, sp.business_name, COALESCE(sp.total_reviews, 0), s.name
+            FROM service_providers sp
+            LEFT JOIN services s ON s.provider_id = sp.id AND s.is_active
+            WHERE sp.is_active AND sp.public_profile_slug IS NOT NULL
+            %s
+            ORDER BY sp.id
+            """;
+
+    private static final String ALL_SQL = PROVIDERS_SQL.formatted("");
+
+    private static final String BY_PROVIDER_SQL = PROVIDERS_SQL.formatted("AND sp.id = ?");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcProviderTypeaheadAdapter(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(FETCH_SIZE);
+    }
+
+    // Transação somente leitura: sem ela o driver do Postgres ignora o fetch size e carrega tudo
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachProvider(Consumer<ProviderTypeaheadEntry> consumer) {
+        Grouper grouper = new Grouper(consumer);
+        jdbcTemplate.query(ALL_SQL, grouper);
+        grouper.flush();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<ProviderTypeaheadEntry> findByProviderId(UUID providerId) {
+        List<ProviderTypeaheadEntry> found = new ArrayList<>(1);
+        Grouper grouper = new Grouper(found::add);
+        jdbcTemplate.query(BY_PROVIDER_SQL, grouper, providerId);
+        grouper.flush();
+        return found.stream().findFirst();
+    }
+
+    /**
+     * Junta as linhas consecutivas do mesmo estabelecimento em uma entrada.
+     */
+    private static final class Grouper implements RowCallbackHandler {
+
+        private final Consumer<ProviderTypeaheadEntry> consumer;
+        private UUID providerId;
+        private String businessName;
+        private int totalReviews;
+        private List<String> serviceNames = new ArrayList<>();
+
+        private Grouper(Consumer<ProviderTypeaheadEntry> consumer) {
+            this.consumer = consumer;
+        }
+
+        @Override
+        public void processRow(ResultSet rs) throws SQLException {
+            UUID id = rs.getObject(1, UUID.class);
+            if (!id.equals(providerId)) {
+                flush();
+                providerId = id;
+                businessName = rs.getString(2);
+                totalReviews = rs.getInt(3);
+            }
+            String serviceName = rs.getString(4);
+            if (serviceName != null) {
+                serviceNames.add(serviceName);
+            }
+        }
+
+        private void flush() {
+            if (providerId != null) {
+                consumer.accept(new ProviderTypeaheadEntry(providerId, businessName, totalReviews, serviceNames));
+            }
+            providerId = null;
+            serviceNames = new ArrayList<>();
+        }
+    }
+}
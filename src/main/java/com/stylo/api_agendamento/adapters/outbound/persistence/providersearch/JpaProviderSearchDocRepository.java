@@ -0,0 +1,277 @@
+package com.stylo.api_agendamento.adapters.outbound.persistence.providersearch;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+public interface JpaProviderSearchDocRepository extends JpaRepository<ProviderSearchDocEntity, UUID> {
+
+    // flushAutomatically: o upsert lê service_providers/services, que podem ter alterações
+    // pendentes no contexto de persistência da mesma transação
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+                INSERT INTO provider_search_doc (provider_id, business_name, is_active, is_public, city, lat, lng,
+                    average_rating, total_reviews, min_price, max_price, service_names, search_vector, updated_at)
+                SELECT sp.id, sp.business_name, sp.is_active, sp.public_profile_slug IS NOT NULL,
+                       lower(sp.address_city), sp.address_lat, sp.address_lng,
+                       COALESCE(sp.average_rating, 0), COALESCE(sp.total_reviews, 0),
+                       sv.min_price, sv.max_price, COALESCE(sv.service_names, ''),
+                       setweight(to_tsvector('portuguese', immutable_unaccent(sp.business_name)), 'A')
+                           || setweight(to_tsvector('portuguese', immutable_unaccent(COALESCE(sv.service_names, ''))), 'B'),
+                       NOW()
+                FROM service_providers sp
+                LEFT JOIN LATERAL (
+                    SELECT MIN(s.price) AS min_price, MAX(s.price) AS max_price,
+                           string_agg(s.name, ' ' ORDER BY s.name) AS service_names
+                    FROM services s
+                    WHERE s.provider_id = sp.id AND s.is_active
+                ) sv ON TRUE
+                WHERE sp.id = :providerId
+                ON CONFLICT (provider_id) DO UPDATE SET
+                    business_name = EXCLUDED.business_name,
+                    is_active = EXCLUDED.is_active,
+                    is_public = EXCLUDED.is_public,
+                    city = EXCLUDED.city,
+                    lat = EXCLUDED.lat,
+                    lng = EXCLUDED.lng,
+                    average_rating = EXCLUDED.average_rating,
+                    total_reviews = EXCLUDED.total_reviews,
+                    min_price = EXCLUDED.min_price,
+                    max_price = EXCLUDED.max_price,
+                    service_names = EXCLUDED.service_names,
+                    search_vector = EXCLUDED.search_vector,
+                    updated_at = EXCLUDED.updated_at
+            """, nativeQuery = true)
+    void refresh(@Param("providerId") UUID providerId);
+
+    @Modifying
+    @Query(value = """
+                INSERT INTO provider_search_doc (provider_id, business_name, is_active, is_public, city, lat, lng,
+                    average_rating, total_reviews, min_price, max_price, service_names, search_vector, updated_at)
+                SELECT sp.id, sp.business_name, sp.is_active, sp.public_profile_slug IS NOT NULL,
+                       lower(sp.address_city), sp.address_lat, sp.address_lng,
+                       COALESCE(sp.average_rating, 0), COALESCE(sp.total_reviews, 0),
+                       sv.min_price, sv.max_price, COALESCE(sv.service_names, ''),
+                       setweight(to_tsvector('portuguese', immutable_unaccent(sp.business_name)), 'A')
+                           || setweight(to_tsvector('portuguese', immutable_unaccent(COALESCE(sv.service_names, ''))), 'B'),
+                       NOW()
+                FROM service_providers sp
+                LEFT JOIN LATERAL (
+                    SELECT MIN(s.price) AS min_price, MAX(s.price) AS max_price,
+                           string_agg(s.name, ' ' ORDER BY s.name) AS service_names
+                    FROM services s
+                    WHERE s.provider_id = sp.id AND s.is_active
+                ) sv ON TRUE
+                ON CONFLICT (provider_id) DO UPDATE SET
+                    business_name = EXCLUDED.business_name,
+                    is_active = EXCLUDED.is_active,
+                    is_public = EXCLUDED.is_public,
+                    city = EXCLUDED.city,
+                    lat = EXCLUDED.lat,
+                    lng = EXCLUDED.lng,
+                    average_rating = EXCLUDED.average_rating,
+                    total_reviews = EXCLUDED.total_reviews,
+                    min_price = EXCLUDED.min_price,
+                    max_price = EXCLUDED.max_price,
+                    service_names = EXCLUDED.service_names,
+                    search_vector = EXCLUDED.search_vector,
+                    updated_at = EXCLUDED.updated_at
+            """, nativeQuery = true)
+    void refreshAll();
+
+    @Modifying
+    @Query(value = "LOCK TABLE provider_search_doc IN EXCLUSIVE MODE", nativeQuery = true)
+    void lockForRebuild();
+
+    // Uma tabela, sem JOIN: o LATERAL só calcula a distância da própria linha.
+    // Preço por sobreposição: a faixa do estabelecimento (menor a maior serviço ativo) intersecta
+    // [minPrice, maxPrice]. O fallback ao vivo (JpaServiceProviderRepository) aplica a mesma regra.
+    @Query(value = """
+                SELECT d.provider_id AS id, g.distance_km AS distanceKm
+                FROM provider_search_doc d
+                CROSS JOIN LATERAL (
+                    SELECT CASE WHEN CAST(:lat AS double precision) IS NULL THEN NULL
+                        ELSE 6371.0 * 2 * asin(sqrt(
+                            power(sin(radians(d.lat - CAST(:lat AS double precision)) / 2), 2)
+                            + cos(radians(CAST(:lat AS double precision))) * cos(radians(d.lat))
+                            * power(sin(radians(d.lng - CAST(:lng AS double precision)) / 2), 2)))
+                    END AS distance_km
+                ) g
+                WHERE d.is_active AND d.is_public
+                AND (CAST(:tsQuery AS text) IS NULL
+                    OR d.search_vector @@ to_tsquery('portuguese', immutable_unaccent(CAST(:tsQuery AS text)))
+                    OR immutable_unaccent(lower(CAST(:fuzzyTerm AS text))) <% immutable_unaccent(lower(d.business_name))
+                    OR immutable_unaccent(lower(CAST(:fuzzyTerm AS text))) <% immutable_unaccent(lower(d.service_names)))
+                AND (CAST(:city AS text) IS NULL OR d.city = lower(CAST(:city AS text)))
+                AND (CAST(:minRating AS double precision) IS NULL OR d.average_rating >= CAST(:minRating AS double precision))
+                AND (CAST(:minPrice AS numeric) IS NULL OR d.max_price >= CAST(:minPrice AS numeric))
+                AND (CAST(:maxPrice AS numeric) IS NULL OR d.min_price <= CAST(:maxPrice AS numeric))
+                AND (CAST(:minLat AS double precision) IS NULL
+                    OR d.lat BETWEEN CAST(:minLat AS double precision) AND CAST(:maxLat AS double precision))
+                AND (CAST(:minLng AS double precision) IS NULL
+                    OR d.lng BETWEEN CAST(:minLng AS double precision) AND CAST(:maxLng AS double precision))
+                AND (CAST(:radiusKm AS double precision) IS NULL OR g.distance_km <= CAST(:radiusKm AS double precision))
+                ORDER BY CASE WHEN :sortByDistance THEN g.distance_km END ASC NULLS LAST,
+                    CASE WHEN CAST(:tsQuery AS text) IS NULL THEN 0
+                        ELSE ts_rank(d.search_vector, to_tsquery('portuguese', immutable_unaccent(CAST(:tsQuery AS text)))) END DESC,
+                    CASE WHEN CAST(:fuzzyTerm AS text) IS NULL THEN 0
+                        ELSE word_similarity(immutable_unaccent(lower(CAST(:fuzzyTerm AS text))), immutable_unaccent(lower(d.business_name))) END DESC,
+                    g.distance_km ASC NULLS LAST,
+                    d.average_rating DESC,
+                    d.provider_id
+            """, countQuery = """
+                SELECT COUNT(*)
+                FROM provider_search_doc d
+                CROSS JOIN LATERAL (
+                    SELECT CASE WHEN CAST(:lat AS double precision) IS NULL THEN NULL
+                        ELSE 6371.0 * 2 * asin(sqrt(
+                            power(sin(radians(d.lat - CAST(:lat AS double precision)) / 2), 2)
+                            + cos(radians(CAST(:lat AS double precision))) * cos(radians(d.lat))
+                            * power(sin(radians(d.lng - CAST(:lng AS double precision)) / 2), 2)))
+                    END AS distance_km
+                ) g
+                WHERE d.is_active AND d.is_public
+                AND (CAST(:tsQuery AS text) IS NULL
+                    OR d.search_vector @@ to_tsquery('portuguese', immutable_unaccent(CAST(:tsQuery AS text)))
+                    OR immutable_unaccent(lower(CAST(:fuzzyTerm AS text))) <% immutable_unaccent(lower(d.business_name))
+                    OR immutable_unaccent(lower(CAST(:fuzzyTerm AS text))) <% immutable_unaccent(lower(d.service_names)))
+                AND (CAST(:city AS text) IS NULL OR d.city = lower(CAST(:city AS text)))
+                AND (CAST(:minRating AS double precision) IS NULL OR d.average_rating >= CAST(:minRating AS double precision))
+                AND (CAST(:minPrice AS numeric) IS NULL OR d.max_price >= CAST(:minPrice AS numeric))
+                AND (CAST(:maxPrice AS numeric) IS NULL OR d.min_price <= CAST(:maxPrice AS numeric))
+                AND (CAST(:minLat AS double precision) IS NULL
+                    OR d.lat BETWEEN CAST(:minLat AS double precision) AND CAST(:maxLat AS double precision))
+                AND (CAST(:minLng AS double precision) IS NULL
+                    OR d.lng BETWEEN CAST(:minLng AS double precision) AND CAST(:maxLng AS double precision))
+                AND (CAST(:radiusKm AS double precision) IS NULL OR g.distance_km <= CAST(:radiusKm AS double precision))
+            """, nativeQuery = true)
+    Page<ProviderSearchHitView> search(@Param("tsQuery") String tsQuery,
+            @Param("fuzzyTerm") String fuzzyTerm,
+            @Param("city") String city,
+            @Param("minRating") Double minRating,
+            @Param("minPrice") BigDecimal minPrice,
+            @Param("maxPrice") BigDecimal maxPrice,
+            @Param("lat") Double lat,
+            @Param("lng") Double lng,
+            @Param("radiusKm") Double radiusKm,
+            @Param("minLat") Double minLat,
+            @Param("maxLat") Double maxLat,
+            @Param("minLng") Double minLng,
+            @Param("maxLng") Double maxLng,
+            @Param("sortByDistance") boolean sortByDistance,
+            Pageable pageable);
+
+    // Keyset da busca: chave crescente (distância, -relevância ou -nota), desempate + ID.
+    // Na relevância o desempate é -word_similarity, como na busca paginada: casamentos só por
+    // erro de digitação têm ts_rank 0 e seguem ordenados pela similaridade, não pelo ID.
+    @Query(value = """
+                SELECT d.provider_id AS id, g.distance_km AS distanceKm,
+                       k.sort_key AS sortKey, k.sort_tiebreak AS sortTiebreak
+                FROM provider_search_doc d
+                CROSS JOIN LATERAL (
+                    SELECT CASE WHEN CAST(:lat AS double precision) IS NULL THEN NULL
+                        ELSE 6371.0 * 2 * asin(sqrt(
+                            power(sin(radians(d.lat - CAST(:lat AS double precision)) / 2), 2)
+                            + cos(radians(CAST(:lat AS double precision))) * cos(radians(d.lat))
+                            * power(sin(radians(d.lng - CAST(:lng AS double precision)) / 2), 2)))
+                    END AS distance_km
+                ) g
+                CROSS JOIN LATERAL (
+                    SELECT CASE
+                        WHEN :sortByDistance THEN g.distance_km
+                        WHEN CAST(:tsQuery AS text) IS NOT NULL
+                            THEN -CAST(ts_rank(d.search_vector, to_tsquery('portuguese', immutable_unaccent(CAST(:tsQuery AS text)))) AS double precision)
+                        ELSE -d.average_rating
+                    END AS sort_key,
+                    CASE
+                        WHEN NOT :sortByDistance AND CAST(:tsQuery AS text) IS NOT NULL
+                            THEN -CAST(word_similarity(immutable_unaccent(lower(CAST(:fuzzyTerm AS text))), immutable_unaccent(lower(d.business_name))) AS double precision)
+                        ELSE 0
+                    END AS sort_tiebreak
+                ) k
+                WHERE d.is_active AND d.is_public
+                AND (CAST(:tsQuery AS text) IS NULL
+                    OR d.search_vector @@ to_tsquery('portuguese', immutable_unaccent(CAST(:tsQuery AS text)))
+                    OR immutable_unaccent(lower(CAST(:fuzzyTerm AS text))) <% immutable_unaccent(lower(d.business_name))
+                    OR immutable_unaccent(lower(CAST(:fuzzyTerm AS text))) <% immutable_unaccent(lower(d.service_names)))
+                AND (CAST(:city AS text) IS NULL OR d.city = lower(CAST(:city AS text)))
+                AND (CAST(:minRating AS double precision) IS NULL OR d.average_rating >= CAST(:minRating AS double precision))
+                AND (CAST(:minPrice AS numeric) IS NULL OR d.max_price >= CAST(:minPrice AS numeric))
+                AND (CAST(:maxPrice AS numeric) IS NULL OR d.min_price <= CAST(:maxPrice AS numeric))
+                AND (CAST(:minLat AS double precision) IS NULL
+                    OR d.lat BETWEEN CAST(:minLat AS double precision) AND CAST(:maxLat AS double precision))
+                AND (CAST(:minLng AS double precision) IS NULL
+                    OR d.lng BETWEEN CAST(:minLng AS double precision) AND CAST(:maxLng AS double precision))
+                AND (CAST(:radiusKm AS double precision) IS NULL OR g.distance_km <= CAST(:radiusKm AS double precision))
+                AND (CAST(:afterId AS uuid) IS NULL
+                    OR (k.sort_key, k.sort_tiebreak, d.provider_id)
+                        > (CAST(:afterKey AS double precision), CAST(:afterTiebreak AS double precision), CAST(:afterId AS uuid)))
+                ORDER BY k.sort_key ASC NULLS LAST, k.sort_tiebreak ASC, d.provider_id ASC
+                LIMIT :limit
+            """, nativeQuery = true)
+    List<ProviderSearchCursorView> searchAfter(@Param("tsQuery") String tsQuery,
+            @Param("fuzzyTerm") String fuzzyTerm,
+            @Param("city") String city,
+            @Param("minRating") Double minRating,
+            @Param("minPrice") BigDecimal minPrice,
+            @Param("maxPrice") BigDecimal maxPrice,
+            @Param("lat") Double lat,
+            @Param("lng") Double lng,
+            @Param("radiusKm") Double radiusKm,
+            @Param("minLat") Double minLat,
+            @Param("maxLat") Double maxLat,
+            @Param("minLng") Double minLng,
+            @Param("maxLng") Double maxLng,
+            @Param("sortByDistance") boolean sortByDistance,
+            @Param("afterKey") Double afterKey,
+            @Param("afterTiebreak") Double afterTiebreak,
+            @Param("afterId") UUID afterId,
+            @Param("limit") int limit);
+
+    @Query(value = """
+                SELECT COUNT(*)
+                FROM provider_search_doc d
+                CROSS JOIN LATERAL (
+                    SELECT CASE WHEN CAST(:lat AS double precision) IS NULL THEN NULL
+                        ELSE 6371.0 * 2 * asin(sqrt(
+                            power(sin(radians(d.lat - CAST(:lat AS double precision)) / 2), 2)
+                            + cos(radians(CAST(:lat AS double precision))) * cos(radians(d.lat))
+                            * power(sin(radians(d.lng - CAST(:lng AS double precision)) / 2), 2)))
+                    END AS distance_km
+                ) g
+                WHERE d.is_active AND d.is_public
+                AND (CAST(:tsQuery AS text) IS NULL
+                    OR d.search_vector @@ to_tsquery('portuguese', immutable_unaccent(CAST(:tsQuery AS text)))
+                    OR immutable_unaccent(lower(CAST(:fuzzyTerm AS text))) <% immutable_unaccent(lower(d.business_name))
+                    OR immutable_unaccent(lower(CAST(:fuzzyTerm AS text))) <% immutable_unaccent(lower(d.service_names)))
+                AND (CAST(:city AS text) IS NULL OR d.city = lower(CAST(:city AS text)))
+                AND (CAST(:minRating AS double precision) IS NULL OR d.average_rating >= CAST(:minRating AS double precision))
+                AND (CAST(:minPrice AS numeric) IS NULL OR d.max_price >= CAST(:minPrice AS numeric))
+                AND (CAST(:maxPrice AS numeric) IS NULL OR d.min_price <= CAST(:maxPrice AS numeric))
+                AND (CAST(:minLat AS double precision) IS NULL
+                    OR d.lat BETWEEN CAST(:minLat AS double precision) AND CAST(:maxLat AS double precision))
+                AND (CAST(:minLng AS double precision) IS NULL
+                    OR d.lng BETWEEN CAST(:minLng AS double precision) AND CAST(:maxLng AS double precision))
+                AND (CAST(:radiusKm AS double precision) IS NULL OR g.distance_km <= CAST(:radiusKm AS double precision))
+            """, nativeQuery = true)
+    long countMatches(@Param("tsQuery") String tsQuery,
+            @Param("fuzzyTerm") String fuzzyTerm,
+            @Param("city") String city,
+            @Param("minRating") Double minRating,
+            @Param("minPrice") BigDecimal minPrice,
+            @Param("maxPrice") BigDecimal maxPrice,
+            @Param("lat") Double lat,
+            @Param("lng") Double lng,
+            @Param("radiusKm") Double radiusKm,
+            @Param("minLat") Double minLat,
+            @Param("maxLat") Double maxLat,
+            @Param("minLng") Double minLng,
+            @Param("maxLng") Double maxLng);
+}
@@ -0,0 +1,12 @@
+package com.stylo.api_agendamento.adapters.outbound.persistence.providersearch;
+
+/**
+ * Linha da busca por cursor: além do ID e da distância, as chaves de ordenação usadas no keyset.
+ */
+public interface ProviderSearchCursorView extends ProviderSearchHitView {
+
+    Double getSortKey();
+
+    // Desempate da relevância: similaridade dos trigramas (0 nos outros modos)
+    Double getSortTiebreak();
+}
@@ -0,0 +1,62 @@
+package com.stylo.api_agendamento.adapters.outbound.persistence.providersearch;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Linha do read model provider_search_doc. Escrita só por SQL (upsert a partir do
+ * estabelecimento e dos serviços); a coluna search_vector não é mapeada.
+ */
+@Entity
+@Table(name = "provider_search_doc")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProviderSearchDocEntity {
+
+    @Id
+    @Column(name = "provider_id")
+    private UUID providerId;
+
+    @Column(name = "business_name", nullable = false, length = 150)
+    private String businessName;
+
+    @Column(name = "is_active", nullable = false)
+    private boolean active;
+
+    @Column(name = "is_public", nullable = false)
+    private boolean publicProfile;
+
+    @Column(name = "city", length = 100)
+    private String city;
+
+    @Column(name = "lat")
+    private Double lat;
+
+    @Column(name = "lng")
+    private Double lng;
+
+    @Column(name = "average_rating", nullable = false)
+    private double averageRating;
+
+    @Column(name = "total_reviews", nullable = false)
+    private int totalReviews;
+
+    @Column(name = "min_price", precision = 19, scale = 2)
+    private BigDecimal minPrice;
+
+    @Column(name = "max_price", precision = 19, scale = 2)
+    private BigDecimal maxPrice;
+
+    @Column(name = "service_names", nullable = false, columnDefinition = "TEXT")
+    private String serviceNames;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
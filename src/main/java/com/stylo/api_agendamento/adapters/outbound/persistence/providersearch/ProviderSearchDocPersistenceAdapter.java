@@ -0,0 +1,151 @@
+package com.stylo.api_agendamento.adapters.outbound.persistence.providersearch;
+
+import com.stylo.api_agendamento.adapters.outbound.persistence.KeysetScroll;
+import com.stylo.api_agendamento.core.common.CursorPage;
+import com.stylo.api_agendamento.core.common.PageCursor;
+import com.stylo.api_agendamento.core.common.PagedResult;
+import com.stylo.api_agendamento.core.exceptions.BusinessException;
+import com.stylo.api_agendamento.core.ports.IProviderSearchDocRepository;
+import com.stylo.api_agendamento.core.usecases.dto.ProviderSearchCriteria;
+import com.stylo.api_agendamento.core.usecases.dto.ProviderSearchHit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+@Component
+@RequiredArgsConstructor
+public class ProviderSearchDocPersistenceAdapter implements IProviderSearchDocRepository {
+
+    private final JpaProviderSearchDocRepository repository;
+
+    // MANDATORY: o documento só é consistente se fizer parte da transação da alteração
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void refresh(UUID providerId) {
+        if (providerId == null) {
+            return;
+        }
+        repository.refresh(providerId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PagedResult<ProviderSearchHit> search(ProviderSearchCriteria criteria, int page, int size) {
+        ProviderSearchParams params = ProviderSearchParams.of(criteria);
+
+        Page<ProviderSearchHitView> hits = repository.search(
+                params.tsQuery(),
+                params.fuzzyTerm(),
+                params.city(),
+                params.minRating(),
+                params.minPrice(),
+                params.maxPrice(),
+                params.lat(),
+                params.lng(),
+                params.radiusKm(),
+                params.minLat(),
+                params.maxLat(),
+                params.minLng(),
+                params.maxLng(),
+                params.sortByDistance(),
+                PageRequest.of(page, size));
+
+        return new PagedResult<>(
+                hits.getContent().stream()
+                        .map(hit -> new ProviderSearchHit(hit.getId(), hit.getDistanceKm()))
+                        .toList(),
+                hits.getNumber(),
+                hits.getSize(),
+                hits.getTotalElements(),
+                hits.getTotalPages());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<ProviderSearchHit> searchAfter(ProviderSearchCriteria criteria, PageCursor after, int size,
+            boolean includeTotal) {
+        ProviderSearchParams params = ProviderSearchParams.of(criteria);
+        String scope = params.cursorScope();
+        SearchKey afterKey = after != null ? KeysetScroll.parseKey(after, SearchKey::parse) : null;
+        if (afterKey != null && !afterKey.scope().equals(scope)) {
+            throw new BusinessException("O cursor pertence a outra busca. Recomece da primeira página.");
+        }
+
+        // size + 1: a linha extra só indica que existe próxima página
+        List<ProviderSearchCursorView> rows = repository.searchAfter(
+                params.tsQuery(),
+                params.fuzzyTerm(),
+                params.city(),
+                params.minRating(),
+                params.minPrice(),
+                params.maxPrice(),
+                params.lat(),
+                params.lng(),
+                params.radiusKm(),
+                params.minLat(),
+                params.maxLat(),
+                params.minLng(),
+                params.maxLng(),
+                params.sortByDistance(),
+                afterKey != null ? afterKey.sortKey() : null,
+                afterKey != null ? afterKey.tiebreak() : null,
+                after != null ? after.id() : null,
+                KeysetScroll.limitOf(size).max() + 1);
+
+        Long total = includeTotal
+                ? repository.countMatches(
+                        params.tsQuery(),
+                        params.fuzzyTerm(),
+                        params.city(),
+                        params.minRating(),
+                        params.minPrice(),
+                        params.maxPrice(),
+                        params.lat(),
+                        params.lng(),
+                        params.radiusKm(),
+                        params.minLat(),
+                        params.maxLat(),
+                        params.minLng(),
+                        params.maxLng())
+                : null;
+
+        return KeysetScroll.fromOverfetch(rows, size,
+                row -> new ProviderSearchHit(row.getId(), row.getDistanceKm()),
+                row -> new PageCursor(new SearchKey(scope, row.getSortKey(), row.getSortTiebreak()).format(), row.getId()),
+                total);
+    }
+
+    @Override
+    @Transactional
+    public void rebuildAll() {
+        repository.lockForRebuild();
+        repository.refreshAll();
+    }
+
+    /**
+     * Chave do cursor da busca: escopo (modo + filtros), chave de ordenação e desempate.
+     */
+    private record SearchKey(String scope, double sortKey, double tiebreak) {
+
+        private static final String SEPARATOR = "|";
+
+        String format() {
+            return scope + SEPARATOR + sortKey + SEPARATOR + tiebreak;
+        }
+
+        static SearchKey parse(String raw) {
+            String[] parts = raw.split(Pattern.quote(SEPARATOR), -1);
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("Formato de cursor inesperado");
+            }
+            return new SearchKey(parts[0], Double.parseDouble(parts[1]), Double.parseDouble(parts[2]));
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.stylo.api_agendamento.adapters.outbound.persistence.providersearch;
+
+import java.util.UUID;
+
+/**
+ * Linha da busca de estabelecimentos: ID na ordem do ranking + distância (nula sem localização).
+ */
+public interface ProviderSearchHitView {
+
+    UUID getId();
+
+    Double getDistanceKm();
+}
@@ -0,0 +1,96 @@
+package com.stylo.api_agendamento.adapters.outbound.persistence.providersearch;
+
+import com.stylo.api_agendamento.core.usecases.dto.ProviderSearchCriteria;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Parâmetros das consultas de busca já normalizados: tsquery de prefixos, termo
+ * para os trigramas e a caixa lat/lng que pré-filtra a haversine.
+ */
+public record ProviderSearchParams(
+        String tsQuery,
+        String fuzzyTerm,
+        String city,
+        Double minRating,
+        BigDecimal minPrice,
+        BigDecimal maxPrice,
+        Double lat,
+        Double lng,
+        Double radiusKm,
+        Double minLat,
+        Double maxLat,
+        Double minLng,
+        Double maxLng,
+        boolean sortByDistance) {
+
+    private static final Pattern TSQUERY_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private static final double KM_PER_DEGREE = 111.045;
+
+    public static ProviderSearchParams of(ProviderSearchCriteria criteria) {
+        String term = criteria.searchTerm() == null || criteria.searchTerm().isBlank()
+                ? null
+                : criteria.searchTerm().trim();
+        String city = criteria.city() == null || criteria.city().isBlank() ? null : criteria.city().trim();
+
+        if (!criteria.hasLocation()) {
+            return new ProviderSearchParams(toPrefixTsQuery(term), term, city,
+                    criteria.minRating(), criteria.minPrice(), criteria.maxPrice(),
+                    null, null, null, null, null, null, null, false);
+        }
+
+        double lat = criteria.latitude();
+        double lng = criteria.longitude();
+        double radiusKm = criteria.radiusKm();
+
+        double latDelta = radiusKm / KM_PER_DEGREE;
+        double minLat = Math.max(-90, lat - latDelta);
+        double maxLat = Math.min(90, lat + latDelta);
+
+        // O grau de longitude encolhe com o cosseno; usa a latitude mais afastada da caixa.
+        // Perto dos polos ou cruzando o antimeridiano a longitude fica sem limite.
+        Double minLng = null;
+        Double maxLng = null;
+        double widestCos = Math.cos(Math.toRadians(Math.max(Math.abs(minLat), Math.abs(maxLat))));
+        if (widestCos > 0) {
+            double lngDelta = radiusKm / (KM_PER_DEGREE * widestCos);
+            if (lng - lngDelta >= -180 && lng + lngDelta <= 180) {
+                minLng = lng - lngDelta;
+                maxLng = lng + lngDelta;
+            }
+        }
+
+        return new ProviderSearchParams(toPrefixTsQuery(term), term, city,
+                criteria.minRating(), criteria.minPrice(), criteria.maxPrice(),
+                lat, lng, radiusKm, minLat, maxLat, minLng, maxLng, criteria.sortByDistance());
+    }
+
+    /**
+     * Identifica a busca dona de um cursor: modo de ordenação + hash dos filtros. O keyset de
+     * uma busca não vale em outra (a chave muda de significado), então o cursor carrega isso.
+     */
+    public String cursorScope() {
+        String mode = sortByDistance ? "distance" : tsQuery != null ? "relevance" : "rating";
+        return mode + "-" + Integer.toHexString(Objects.hash(tsQuery, fuzzyTerm, city, minRating,
+                minPrice, maxPrice, lat, lng, radiusKm));
+    }
+
+    /**
+     * Converte o termo digitado em tsquery de prefixos ("barb cort" -> "barb:* & cort:*"),
+     * descartando os operadores da sintaxe do to_tsquery.
+     */
+    private static String toPrefixTsQuery(String term) {
+        if (term == null) {
+            return null;
+        }
+        String query = TSQUERY_SEPARATOR.splitAsStream(term.toLowerCase())
+                .filter(token -> !token.isEmpty())
+                .map(token -> token + ":*")
+                .collect(Collectors.joining(" & "));
+        return query.isEmpty() ? null : query;
+    }
+}
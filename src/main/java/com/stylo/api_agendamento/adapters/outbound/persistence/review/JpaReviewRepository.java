@@ -1,7 +1,11 @@
 package com.stylo.api_agendamento.adapters.outbound.persistence.review;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -17,6 +21,15 @@ public interface JpaReviewRepository extends JpaRepository<ReviewEntity, UUID> {
     
     // Busca paginada por estabelecimento
     Page<ReviewEntity> findAllByServiceProviderId(UUID serviceProviderId, Pageable pageable);
+
+    // Keyset (paginação por cursor)
+    Window<ReviewEntity> findByProfessionalId(UUID professionalId, ScrollPosition position, Sort sort, Limit limit);
+
+    Window<ReviewEntity> findByServiceProviderId(UUID serviceProviderId, ScrollPosition position, Sort sort, Limit limit);
+
+    long countByProfessionalId(UUID professionalId);
+
+    long countByServiceProviderId(UUID serviceProviderId);
     
     boolean existsByAppointmentId(UUID appointmentId);
 
@@ -7,7 +7,11 @@ import java.util.UUID;
 import com.stylo.api_agendamento.adapters.outbound.persistence.BaseEntity;
 
 @Entity
-@Table(name = "reviews")
+@Table(name = "reviews", indexes = {
+        // Keyset das listagens (mais recentes primeiro)
+        @Index(name = "idx_reviews_provider_created", columnList = "service_provider_id, created_at DESC, id DESC"),
+        @Index(name = "idx_reviews_professional_created", columnList = "professional_id, created_at DESC, id DESC")
+})
 @Getter
 @Setter
 @NoArgsConstructor
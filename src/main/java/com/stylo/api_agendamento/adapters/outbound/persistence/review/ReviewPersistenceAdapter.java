@@ -1,5 +1,8 @@
 package com.stylo.api_agendamento.adapters.outbound.persistence.review;
 
+import com.stylo.api_agendamento.adapters.outbound.persistence.KeysetScroll;
+import com.stylo.api_agendamento.core.common.CursorPage;
+import com.stylo.api_agendamento.core.common.PageCursor;
 import com.stylo.api_agendamento.core.common.PagedResult;
 import com.stylo.api_agendamento.core.domain.Review;
 import com.stylo.api_agendamento.core.ports.IReviewRepository;
@@ -10,6 +13,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -18,6 +22,8 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class ReviewPersistenceAdapter implements IReviewRepository {
 
+    private static final Sort NEWEST_FIRST = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+
     private final JpaReviewRepository jpaReviewRepository;
     private final ReviewMapper reviewMapper;
 
@@ -51,6 +57,25 @@ public class ReviewPersistenceAdapter implements IReviewRepository {
         return toPagedResult(entityPage);
     }
 
+    @Override
+    public CursorPage<Review> findAllByProfessionalIdAfter(UUID professionalId, PageCursor after, int size,
+            boolean includeTotal) {
+        var window = jpaReviewRepository.findByProfessionalId(professionalId,
+                KeysetScroll.positionOf(after, "createdAt", LocalDateTime::parse), NEWEST_FIRST, KeysetScroll.limitOf(size));
+
+        return KeysetScroll.toCursorPage(window, reviewMapper::toDomain, ReviewPersistenceAdapter::cursorOf,
+                includeTotal ? jpaReviewRepository.countByProfessionalId(professionalId) : null);
+    }
+
+    @Override
+    public CursorPage<Review> findAllByProviderIdAfter(UUID providerId, PageCursor after, int size, boolean includeTotal) {
+        var window = jpaReviewRepository.findByServiceProviderId(providerId,
+                KeysetScroll.positionOf(after, "createdAt", LocalDateTime::parse), NEWEST_FIRST, KeysetScroll.limitOf(size));
+
+        return KeysetScroll.toCursorPage(window, reviewMapper::toDomain, ReviewPersistenceAdapter::cursorOf,
+                includeTotal ? jpaReviewRepository.countByServiceProviderId(providerId) : null);
+    }
+
     @Override
     public Double getAverageRatingByProfessional(UUID professionalId) {
         Double avg = jpaReviewRepository.getAverageRatingByProfessionalId(professionalId);
@@ -76,4 +101,8 @@ public class ReviewPersistenceAdapter implements IReviewRepository {
                 entityPage.getTotalPages()
         );
     }
-}
\ No newline at end of file
+
+    private static PageCursor cursorOf(ReviewEntity entity) {
+        return new PageCursor(entity.getCreatedAt().toString(), entity.getId());
+    }
+}
@@ -1,20 +1,21 @@
 package com.stylo.api_agendamento.adapters.outbound.persistence.serviceProvider;
 
+import com.stylo.api_agendamento.adapters.outbound.persistence.providersearch.ProviderSearchHitView;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface JpaServiceProviderRepository extends JpaRepository<ServiceProviderEntity, UUID>, JpaSpecificationExecutor<ServiceProviderEntity> {
+public interface JpaServiceProviderRepository extends JpaRepository<ServiceProviderEntity, UUID> {
 
     Optional<ServiceProviderEntity> findByPublicProfileSlug(String slug);
 
@@ -33,6 +34,107 @@ public interface JpaServiceProviderRepository extends JpaRepository<ServiceProvi
     @Query("SELECT s FROM ServiceProviderEntity s WHERE s.subscriptionStatus = 'TRIAL' AND s.trialEndsAt <= :now")
     List<ServiceProviderEntity> findExpiredTrials(@Param("now") LocalDateTime now);
 
+    @Query("SELECT s.id FROM ServiceProviderEntity s")
+    List<UUID> findAllIds();
+
+    // A ordem (e a comparação) de UUID é a do Postgres, a mesma usada nos limites dos lotes
+    @Query(value = """
+                SELECT sp.id FROM service_providers sp
+                WHERE (CAST(:fromId AS uuid) IS NULL OR sp.id >= CAST(:fromId AS uuid))
+                AND (CAST(:toId AS uuid) IS NULL OR sp.id < CAST(:toId AS uuid))
+                ORDER BY sp.id
+            """, nativeQuery = true)
+    List<UUID> findIdsInRange(@Param("fromId") UUID fromId, @Param("toId") UUID toId);
+
+    /*
+     * Estabelecimentos que casam com o texto, um ramo por índice (UNION): nome por
+     * full-text e por trigramas em service_providers, nome do serviço em services.
+     * Um EXISTS em services dentro do OR principal impede o BitmapOr e leva a uma
+     * varredura completa de service_providers.
+     */
+    String TEXT_MATCH_IDS = """
+                SELECT sp.id FROM service_providers sp
+                WHERE to_tsvector('portuguese', immutable_unaccent(COALESCE(sp.business_name, '')))
+                    @@ to_tsquery('portuguese', immutable_unaccent(CAST(:tsQuery AS text)))
+                UNION
+                SELECT sp.id FROM service_providers sp
+                WHERE immutable_unaccent(lower(CAST(:fuzzyTerm AS text))) <% immutable_unaccent(lower(sp.business_name))
+                UNION
+                SELECT s.provider_id FROM services s
+                WHERE s.is_active
+                AND (to_tsvector('portuguese', immutable_unaccent(s.name))
+                        @@ to_tsquery('portuguese', immutable_unaccent(CAST(:tsQuery AS text)))
+                    OR immutable_unaccent(lower(CAST(:fuzzyTerm AS text))) <% immutable_unaccent(lower(s.name)))
+            """;
+
+    // Filtros da busca, comuns à página e ao COUNT. Preço com a mesma regra do provider_search_doc:
+    // a faixa do estabelecimento (menor a maior serviço ativo) intersecta [minPrice, maxPrice].
+    // Via EXISTS (sem JOIN + DISTINCT), então o COUNT não precisa deduplicar.
+    // Proximidade: a caixa lat/lng (calculada pelo adapter) usa o índice de V30 e a
+    // haversine só roda sobre quem caiu dentro dela.
+    String SEARCH_FROM_WHERE = """
+                FROM service_providers sp
+                CROSS JOIN LATERAL (
+                    SELECT CASE WHEN CAST(:lat AS double precision) IS NULL THEN NULL
+                        ELSE 6371.0 * 2 * asin(sqrt(
+                            power(sin(radians(sp.address_lat - CAST(:lat AS double precision)) / 2), 2)
+                            + cos(radians(CAST(:lat AS double precision))) * cos(radians(sp.address_lat))
+                            * power(sin(radians(sp.address_lng - CAST(:lng AS double precision)) / 2), 2)))
+                    END AS distance_km
+                ) d
+                WHERE sp.public_profile_slug IS NOT NULL AND sp.is_active
+                AND (CAST(:tsQuery AS text) IS NULL OR sp.id IN (
+            """ + TEXT_MATCH_IDS + """
+                ))
+                AND (CAST(:city AS text) IS NULL OR lower(sp.address_city) = lower(CAST(:city AS text)))
+                AND (CAST(:minRating AS double precision) IS NULL OR sp.average_rating >= CAST(:minRating AS double precision))
+                AND ((CAST(:minPrice AS numeric) IS NULL AND CAST(:maxPrice AS numeric) IS NULL)
+                    OR EXISTS (SELECT 1 FROM services s
+                        WHERE s.provider_id = sp.id AND s.is_active
+                        GROUP BY s.provider_id
+                        HAVING (CAST(:minPrice AS numeric) IS NULL OR MAX(s.price) >= CAST(:minPrice AS numeric))
+                        AND (CAST(:maxPrice AS numeric) IS NULL OR MIN(s.price) <= CAST(:maxPrice AS numeric))))
+                AND (CAST(:minLat AS double precision) IS NULL
+                    OR sp.address_lat BETWEEN CAST(:minLat AS double precision) AND CAST(:maxLat AS double precision))
+                AND (CAST(:minLng AS double precision) IS NULL
+                    OR sp.address_lng BETWEEN CAST(:minLng AS double precision) AND CAST(:maxLng AS double precision))
+                AND (CAST(:radiusKm AS double precision) IS NULL OR d.distance_km <= CAST(:radiusKm AS double precision))
+            """;
+
+    // Busca pública direto nas tabelas de origem (só até o backfill do provider_search_doc).
+    // Mesmo ranking do documento: ts_rank do nome (peso A) + serviços ativos (peso B), calculado
+    // só para os que casaram; depois word_similarity do nome, para erros de digitação.
+    @Query(value = "SELECT sp.id AS id, d.distance_km AS distanceKm " + SEARCH_FROM_WHERE + """
+                ORDER BY CASE WHEN :sortByDistance THEN d.distance_km END ASC NULLS LAST,
+                    CASE WHEN CAST(:tsQuery AS text) IS NULL THEN 0
+                        ELSE ts_rank(
+                            setweight(to_tsvector('portuguese', immutable_unaccent(COALESCE(sp.business_name, ''))), 'A')
+                            || setweight(to_tsvector('portuguese', immutable_unaccent(COALESCE(
+                                (SELECT string_agg(s.name, ' ') FROM services s WHERE s.provider_id = sp.id AND s.is_active),
+                                ''))), 'B'),
+                            to_tsquery('portuguese', immutable_unaccent(CAST(:tsQuery AS text)))) END DESC,
+                    CASE WHEN CAST(:fuzzyTerm AS text) IS NULL THEN 0
+                        ELSE word_similarity(immutable_unaccent(lower(CAST(:fuzzyTerm AS text))), immutable_unaccent(lower(sp.business_name))) END DESC,
+                    d.distance_km ASC NULLS LAST,
+                    sp.average_rating DESC NULLS LAST,
+                    sp.id
+            """, countQuery = "SELECT COUNT(*) " + SEARCH_FROM_WHERE, nativeQuery = true)
+    Page<ProviderSearchHitView> search(@Param("tsQuery") String tsQuery,
+            @Param("fuzzyTerm") String fuzzyTerm,
+            @Param("city") String city,
+            @Param("minRating") Double minRating,
+            @Param("minPrice") BigDecimal minPrice,
+            @Param("maxPrice") BigDecimal maxPrice,
+            @Param("lat") Double lat,
+            @Param("lng") Double lng,
+            @Param("radiusKm") Double radiusKm,
+            @Param("minLat") Double minLat,
+            @Param("maxLat") Double maxLat,
+            @Param("minLng") Double minLng,
+            @Param("maxLng") Double maxLng,
+            @Param("sortByDistance") boolean sortByDistance,
+            Pageable pageable);
+
     @Query(value = "SELECT sp.* FROM service_providers sp INNER JOIN client_favorite_providers cfp ON sp.id = cfp.provider_id WHERE cfp.client_id = :clientId", countQuery = "SELECT COUNT(*) FROM client_favorite_providers WHERE client_id = :clientId", nativeQuery = true)
     Page<ServiceProviderEntity> findFavoriteProvidersByClientId(@Param("clientId") UUID clientId, Pageable pageable);
 }
\ No newline at end of file
@@ -1,21 +1,24 @@
 package com.stylo.api_agendamento.adapters.outbound.persistence.serviceProvider;
 
+import com.stylo.api_agendamento.adapters.outbound.persistence.providersearch.ProviderSearchHitView;
+import com.stylo.api_agendamento.adapters.outbound.persistence.providersearch.ProviderSearchParams;
 import com.stylo.api_agendamento.core.common.PagedResult;
 import com.stylo.api_agendamento.core.domain.ServiceProvider;
 import com.stylo.api_agendamento.core.domain.vo.Document;
 import com.stylo.api_agendamento.core.domain.vo.Slug;
 import com.stylo.api_agendamento.core.ports.IServiceProviderRepository;
 import com.stylo.api_agendamento.core.usecases.dto.ProviderSearchCriteria;
+import com.stylo.api_agendamento.core.usecases.dto.ProviderSearchHit;
 
 import lombok.RequiredArgsConstructor;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -41,6 +44,17 @@ public class ServiceProviderPersistenceAdapter implements IServiceProviderReposi
                 .map(serviceProviderMapper::toDomain);
     }
 
+    @Override
+    public List<ServiceProvider> findAllByIds(Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return jpaServiceProviderRepository.findAllById(ids)
+                .stream()
+                .map(serviceProviderMapper::toDomain)
+                .toList();
+    }
+
     @Override
     public Optional<ServiceProvider> findBySlug(Slug slug) {
         return jpaServiceProviderRepository.findByPublicProfileSlug(slug.value())
@@ -65,6 +79,16 @@ public class ServiceProviderPersistenceAdapter implements IServiceProviderReposi
                 .toList();
     }
 
+    @Override
+    public List<UUID> findAllIds() {
+        return jpaServiceProviderRepository.findAllIds();
+    }
+
+    @Override
+    public List<UUID> findIdsInRange(UUID fromInclusive, UUID toExclusive) {
+        return jpaServiceProviderRepository.findIdsInRange(fromInclusive, toExclusive);
+    }
+
     @Override
     public List<ServiceProvider> findAllWithPublicProfile() {
         return jpaServiceProviderRepository.findByPublicProfileSlugIsNotNull()
@@ -108,24 +132,34 @@ public class ServiceProviderPersistenceAdapter implements IServiceProviderReposi
     }
 
     @Override
-    public PagedResult<ServiceProvider> searchProviders(ProviderSearchCriteria criteria, int page, int size) {
-        Pageable pageable = PageRequest.of(page, size);
-
-        // Constrói os filtros dinâmicos
-        Specification<ServiceProviderEntity> spec = ServiceProviderSpecification.build(criteria);
-
-        // Executa a busca super otimizada
-        Page<ServiceProviderEntity> entityPage = jpaServiceProviderRepository.findAll(spec, pageable);
-
-        List<ServiceProvider> domainList = entityPage.getContent().stream()
-                .map(serviceProviderMapper::toDomain)
-                .collect(Collectors.toList());
+    public PagedResult<ProviderSearchHit> searchProviders(ProviderSearchCriteria criteria, int page, int size) {
+        ProviderSearchParams params = ProviderSearchParams.of(criteria);
+
+        // Índice textual + trigramas (V29) e caixa lat/lng (V30): ranqueado, sem JOIN/DISTINCT
+        Page<ProviderSearchHitView> hits = jpaServiceProviderRepository.search(
+                params.tsQuery(),
+                params.fuzzyTerm(),
+                params.city(),
+                params.minRating(),
+                params.minPrice(),
+                params.maxPrice(),
+                params.lat(),
+                params.lng(),
+                params.radiusKm(),
+                params.minLat(),
+                params.maxLat(),
+                params.minLng(),
+                params.maxLng(),
+                params.sortByDistance(),
+                PageRequest.of(page, size));
 
         return new PagedResult<>(
-                domainList,
-                entityPage.getNumber(),
-                entityPage.getSize(),
-                entityPage.getTotalElements(),
-                entityPage.getTotalPages());
+                hits.getContent().stream()
+                        .map(hit -> new ProviderSearchHit(hit.getId(), hit.getDistanceKm()))
+                        .toList(),
+                hits.getNumber(),
+                hits.getSize(),
+                hits.getTotalElements(),
+                hits.getTotalPages());
     }
-}
\ No newline at end of file
+}
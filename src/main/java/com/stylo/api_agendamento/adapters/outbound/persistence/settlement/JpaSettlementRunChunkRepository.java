@@ -0,0 +1,53 @@
+package com.stylo.api_agendamento.adapters.outbound.persistence.settlement;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface JpaSettlementRunChunkRepository
+        extends JpaRepository<SettlementRunChunkEntity, SettlementRunChunkEntity.Key> {
+
+    @Query("SELECT c FROM SettlementRunChunkEntity c WHERE c.runId = :runId AND c.status <> 'DONE' ORDER BY c.chunkIndex")
+    List<SettlementRunChunkEntity> findPending(@Param("runId") UUID runId);
+
+    // Reserva condicional: um único UPDATE decide entre instâncias concorrentes.
+    // O relógio do lease é sempre o do banco (NOW()), nunca o da aplicação.
+    @Modifying
+    @Query(value = """
+                UPDATE settlement_run_chunks
+                SET status = 'RUNNING', attempts = attempts + 1, updated_at = NOW()
+                WHERE run_id = :runId AND chunk_index = :chunkIndex
+                AND (status IN ('PENDING', 'FAILED')
+                     OR (status = 'RUNNING' AND updated_at < NOW() - make_interval(mins => :leaseMinutes)))
+            """, nativeQuery = true)
+    int claim(@Param("runId") UUID runId,
+            @Param("chunkIndex") int chunkIndex,
+            @Param("leaseMinutes") int leaseMinutes);
+
+    @Modifying
+    @Query(value = """
+                UPDATE settlement_run_chunks
+                SET status = :status,
+                    providers_processed = :providers,
+                    splits_processed = :splits,
+                    payouts_created = :payouts,
+                    failed_providers = :failures,
+                    duration_ms = :durationMs,
+                    last_error = :lastError,
+                    updated_at = NOW()
+                WHERE run_id = :runId AND chunk_index = :chunkIndex
+            """, nativeQuery = true)
+    void saveResult(@Param("runId") UUID runId,
+            @Param("chunkIndex") int chunkIndex,
+            @Param("status") String status,
+            @Param("providers") int providers,
+            @Param("splits") int splits,
+            @Param("payouts") int payouts,
+            @Param("failures") int failures,
+            @Param("durationMs") long durationMs,
+            @Param("lastError") String lastError);
+}
@@ -0,0 +1,38 @@
+package com.stylo.api_agendamento.adapters.outbound.persistence.settlement;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface JpaSettlementRunRepository extends JpaRepository<SettlementRunEntity, UUID> {
+
+    Optional<SettlementRunEntity> findByPeriod(String period);
+
+    List<SettlementRunEntity> findAllByStatusInOrderByStartedAtAsc(List<String> statuses);
+
+    // A UNIQUE(period) decide quem planeja a competência quando duas instâncias disparam juntas
+    @Modifying
+    @Query(value = """
+                INSERT INTO settlement_runs (id, period, status, total_chunks, started_at)
+                VALUES (:id, :period, :status, :totalChunks, NOW())
+                ON CONFLICT (period) DO NOTHING
+            """, nativeQuery = true)
+    int insertIfAbsent(@Param("id") UUID id,
+            @Param("period") String period,
+            @Param("status") String status,
+            @Param("totalChunks") int totalChunks);
+
+    @Modifying
+    @Query(value = """
+                UPDATE settlement_runs
+                SET status = :status,
+                    finished_at = CASE WHEN :status = 'COMPLETED' THEN NOW() ELSE finished_at END
+                WHERE id = :id
+            """, nativeQuery = true)
+    void updateStatus(@Param("id") UUID id, @Param("status") String status);
+}
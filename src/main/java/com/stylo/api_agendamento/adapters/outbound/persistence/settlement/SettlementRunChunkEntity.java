@@ -0,0 +1,71 @@
+package com.stylo.api_agendamento.adapters.outbound.persistence.settlement;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "settlement_run_chunks")
+@IdClass(SettlementRunChunkEntity.Key.class)
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SettlementRunChunkEntity {
+
+    @Id
+    @Column(name = "run_id")
+    private UUID runId;
+
+    @Id
+    @Column(name = "chunk_index")
+    private int chunkIndex;
+
+    @Column(name = "from_provider_id")
+    private UUID fromProviderId;
+
+    @Column(name = "to_provider_id")
+    private UUID toProviderId;
+
+    @Column(name = "provider_count", nullable = false)
+    private int providerCount;
+
+    @Column(name = "status", nullable = false, length = 20)
+    private String status;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "providers_processed", nullable = false)
+    private int providersProcessed;
+
+    @Column(name = "splits_processed", nullable = false)
+    private int splitsProcessed;
+
+    @Column(name = "payouts_created", nullable = false)
+    private int payoutsCreated;
+
+    @Column(name = "failed_providers", nullable = false)
+    private int failedProviders;
+
+    @Column(name = "duration_ms", nullable = false)
+    private long durationMs;
+
+    @Column(name = "last_error", columnDefinition = "TEXT")
+    private String lastError;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private UUID runId;
+        private int chunkIndex;
+    }
+}
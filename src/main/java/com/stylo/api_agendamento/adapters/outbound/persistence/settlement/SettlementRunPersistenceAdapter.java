@@ -0,0 +1,115 @@
+package com.stylo.api_agendamento.adapters.outbound.persistence.settlement;
+
+import com.stylo.api_agendamento.core.domain.settlement.SettlementChunk;
+import com.stylo.api_agendamento.core.domain.settlement.SettlementChunkResult;
+import com.stylo.api_agendamento.core.domain.settlement.SettlementRun;
+import com.stylo.api_agendamento.core.domain.settlement.SettlementRunStatus;
+import com.stylo.api_agendamento.core.ports.ISettlementRunRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Component
+@RequiredArgsConstructor
+public class SettlementRunPersistenceAdapter implements ISettlementRunRepository {
+
+    private static final List<String> UNFINISHED = List.of(
+            SettlementRunStatus.RUNNING.name(), SettlementRunStatus.FAILED.name());
+
+    private final JpaSettlementRunRepository runRepository;
+    private final JpaSettlementRunChunkRepository chunkRepository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<SettlementRun> findByPeriod(YearMonth period) {
+        return runRepository.findByPeriod(period.toString()).map(this::toDomain);
+    }
+
+    @Override
+    @Transactional
+    public boolean create(SettlementRun run, List<SettlementChunk> chunks) {
+        int inserted = runRepository.insertIfAbsent(
+                run.id(), run.period().toString(), run.status().name(), run.totalChunks());
+        if (inserted == 0) {
+            return false;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        chunkRepository.saveAll(chunks.stream()
+                .map(chunk -> SettlementRunChunkEntity.builder()
+                        .runId(run.id())
+                        .chunkIndex(chunk.index())
+                        .fromProviderId(chunk.fromProviderId())
+                        .toProviderId(chunk.toProviderId())
+                        .providerCount(chunk.providerCount())
+                        .status("PENDING")
+                        .updatedAt(now)
+                        .build())
+                .toList());
+        return true;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<SettlementRun> findUnfinished() {
+        return runRepository.findAllByStatusInOrderByStartedAtAsc(UNFINISHED)
+                .stream()
+                .map(this::toDomain)
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<SettlementChunk> findPendingChunks(UUID runId) {
+        return chunkRepository.findPending(runId)
+                .stream()
+                .map(entity -> new SettlementChunk(
+                        entity.getRunId(),
+                        entity.getChunkIndex(),
+                        entity.getFromProviderId(),
+                        entity.getToProviderId(),
+                        entity.getProviderCount()))
+                .toList();
+    }
+
+    @Override
+    @Transactional
+    public boolean claimChunk(UUID runId, int chunkIndex, int leaseMinutes) {
+        return chunkRepository.claim(runId, chunkIndex, leaseMinutes) == 1;
+    }
+
+    @Override
+    @Transactional
+    public void saveChunkResult(UUID runId, SettlementChunkResult result) {
+        chunkRepository.saveResult(
+                runId,
+                result.index(),
+                result.succeeded() ? "DONE" : "FAILED",
+                result.providers(),
+                result.splits(),
+                result.payouts(),
+                result.failures(),
+                result.durationMs(),
+                result.lastError());
+    }
+
+    @Override
+    @Transactional
+    public void finish(UUID runId, SettlementRunStatus status) {
+        runRepository.updateStatus(runId, status.name());
+    }
+
+    private SettlementRun toDomain(SettlementRunEntity entity) {
+        return new SettlementRun(
+                entity.getId(),
+                YearMonth.parse(entity.getPeriod()),
+                SettlementRunStatus.valueOf(entity.getStatus()),
+                entity.getTotalChunks());
+    }
+}
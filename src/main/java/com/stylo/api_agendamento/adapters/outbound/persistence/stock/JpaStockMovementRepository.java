@@ -1,7 +1,11 @@
 package com.stylo.api_agendamento.adapters.outbound.persistence.stock;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -15,4 +19,13 @@ public interface JpaStockMovementRepository extends JpaRepository<StockMovementE
 
     // Busca todas as movimentações de um estabelecimento (Auditoria geral)
     Page<StockMovementEntity> findAllByServiceProviderId(UUID serviceProviderId, Pageable pageable);
+
+    // Keyset (paginação por cursor)
+    Window<StockMovementEntity> findByProductId(UUID productId, ScrollPosition position, Sort sort, Limit limit);
+
+    Window<StockMovementEntity> findByServiceProviderId(UUID serviceProviderId, ScrollPosition position, Sort sort, Limit limit);
+
+    long countByProductId(UUID productId);
+
+    long countByServiceProviderId(UUID serviceProviderId);
 }
\ No newline at end of file
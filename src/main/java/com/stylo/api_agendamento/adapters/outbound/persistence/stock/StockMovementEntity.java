@@ -9,7 +9,11 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "stock_movements")
+@Table(name = "stock_movements", indexes = {
+        // Keyset do histórico (mais recentes primeiro)
+        @Index(name = "idx_stock_movements_product_created", columnList = "product_id, created_at DESC, id DESC"),
+        @Index(name = "idx_stock_movements_provider_created", columnList = "service_provider_id, created_at DESC, id DESC")
+})
 @Getter
 @Setter
 @NoArgsConstructor
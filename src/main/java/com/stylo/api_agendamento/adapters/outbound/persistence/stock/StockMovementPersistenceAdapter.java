@@ -1,5 +1,8 @@
 package com.stylo.api_agendamento.adapters.outbound.persistence.stock;
 
+import com.stylo.api_agendamento.adapters.outbound.persistence.KeysetScroll;
+import com.stylo.api_agendamento.core.common.CursorPage;
+import com.stylo.api_agendamento.core.common.PageCursor;
 import com.stylo.api_agendamento.core.common.PagedResult;
 import com.stylo.api_agendamento.core.domain.stock.StockMovement;
 import com.stylo.api_agendamento.core.ports.IStockMovementRepository;
@@ -10,6 +13,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -17,6 +21,8 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class StockMovementPersistenceAdapter implements IStockMovementRepository {
 
+    private static final Sort NEWEST_FIRST = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+
     private final JpaStockMovementRepository repository;
     private final StockMovementMapper mapper;
 
@@ -44,6 +50,30 @@ public class StockMovementPersistenceAdapter implements IStockMovementRepository
         return toPagedResult(entityPage);
     }
 
+    @Override
+    public CursorPage<StockMovement> findAllByProductIdAfter(UUID productId, PageCursor after, int size,
+            boolean includeTotal) {
+        var window = repository.findByProductId(productId,
+                KeysetScroll.positionOf(after, "createdAt", LocalDateTime::parse), NEWEST_FIRST, KeysetScroll.limitOf(size));
+
+        return KeysetScroll.toCursorPage(window, mapper::toDomain, StockMovementPersistenceAdapter::cursorOf,
+                includeTotal ? repository.countByProductId(productId) : null);
+    }
+
+    @Override
+    public CursorPage<StockMovement> findAllByProviderIdAfter(UUID providerId, PageCursor after, int size,
+            boolean includeTotal) {
+        var window = repository.findByServiceProviderId(providerId,
+                KeysetScroll.positionOf(after, "createdAt", LocalDateTime::parse), NEWEST_FIRST, KeysetScroll.limitOf(size));
+
+        return KeysetScroll.toCursorPage(window, mapper::toDomain, StockMovementPersistenceAdapter::cursorOf,
+                includeTotal ? repository.countByServiceProviderId(providerId) : null);
+    }
+
+    private static PageCursor cursorOf(StockMovementEntity entity) {
+        return new PageCursor(entity.getCreatedAt().toString(), entity.getId());
+    }
+
     // Método auxiliar para evitar duplicação de lógica de mapeamento
     private PagedResult<StockMovement> toPagedResult(Page<StockMovementEntity> entityPage) {
         List<StockMovement> domainItems = entityPage.getContent().stream()
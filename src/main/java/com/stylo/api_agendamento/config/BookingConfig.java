@@ -0,0 +1,16 @@
+package com.stylo.api_agendamento.config;
+
+import com.stylo.api_agendamento.core.domain.schedule.BookingMode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class BookingConfig {
+
+    // stylo.booking.mode=LOCK | OPTIMISTIC | SEQUENCER (padrão: LOCK)
+    @Bean
+    public BookingMode bookingMode(@Value("${stylo.booking.mode:LOCK}") BookingMode mode) {
+        return mode;
+    }
+}
@@ -0,0 +1,26 @@
+package com.stylo.api_agendamento.config;
+
+import com.stylo.api_agendamento.core.domain.settlement.SettlementBatchSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class SettlementConfig {
+
+    // Cada lote usa no máximo uma conexão por vez: o paralelismo acompanha os núcleos
+    // até o limite do pool, preservando conexões para as requisições da API.
+    @Bean
+    public SettlementBatchSettings settlementBatchSettings(
+            @Value("${stylo.jobs.settlement.chunk-size:50}") int chunkSize,
+            @Value("${stylo.jobs.settlement.parallelism:0}") int parallelism,
+            @Value("${stylo.jobs.settlement.reserved-connections:4}") int reservedConnections,
+            @Value("${stylo.jobs.settlement.chunk-lease-minutes:30}") int leaseMinutes,
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int poolSize) {
+
+        int byCores = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        int byPool = Math.max(1, poolSize - reservedConnections);
+
+        return new SettlementBatchSettings(Math.max(1, chunkSize), Math.min(byCores, byPool), leaseMinutes);
+    }
+}
@@ -0,0 +1,14 @@
+package com.stylo.api_agendamento.core.common;
+
+import java.util.List;
+
+/**
+ * Página por cursor (keyset). {@code nextCursor} é opaco e nulo na última página;
+ * {@code totalElements} só vem preenchido quando o total é pedido explicitamente.
+ */
+public record CursorPage<T>(
+    List<T> items,
+    String nextCursor,
+    boolean hasNext,
+    Long totalElements
+) {}
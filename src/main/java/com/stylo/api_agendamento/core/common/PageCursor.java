@@ -0,0 +1,40 @@
+package com.stylo.api_agendamento.core.common;
+
+import com.stylo.api_agendamento.core.exceptions.BusinessException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Posição de uma paginação por cursor: chave de ordenação do último item + ID (desempate).
+ * Trafega como token opaco (Base64 URL-safe); o formato da chave é de quem ordena.
+ */
+public record PageCursor(String sortKey, UUID id) {
+
+    private static final char SEPARATOR = '\n';
+
+    public String encode() {
+        String raw = (sortKey == null ? "" : sortKey) + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Token vazio ou nulo = primeira página (retorna null).
+     */
+    public static PageCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new BusinessException("Cursor de paginação inválido.");
+            }
+            return new PageCursor(raw.substring(0, separator), UUID.fromString(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException("Cursor de paginação inválido.");
+        }
+    }
+}
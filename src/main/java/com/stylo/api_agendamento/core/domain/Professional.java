@@ -1,5 +1,7 @@
 package com.stylo.api_agendamento.core.domain;
 
+import com.stylo.api_agendamento.core.domain.schedule.IntervalIndex;
+import com.stylo.api_agendamento.core.domain.schedule.SlotEngine;
 import com.stylo.api_agendamento.core.domain.vo.DailyAvailability;
 import com.stylo.api_agendamento.core.exceptions.BusinessException;
 import lombok.*;
@@ -143,40 +145,16 @@ public class Professional {
             return new ArrayList<>();
         }
 
-        List<LocalTime> availableSlots = new ArrayList<>();
-        LocalTime currentSlot = dailyConfig.startTime();
-
-        // Ajuste de fuso horário para "hoje"
-        LocalTime nowInProviderZone = LocalTime.now(providerZoneId);
-        LocalDate todayInProviderZone = LocalDate.now(providerZoneId);
-
-        // O último horário possível deve comportar a duração total dos serviços
-        LocalTime lastPossibleSlot = dailyConfig.endTime().minusMinutes(totalDurationMinutes);
-
-        while (!currentSlot.isAfter(lastPossibleSlot)) {
-            LocalTime slotStart = currentSlot;
-            LocalTime slotEnd = currentSlot.plusMinutes(totalDurationMinutes);
-
-            // Regra 1: Não permitir horários que já passaram hoje
-            boolean isPast = date.isEqual(todayInProviderZone) && slotStart.isBefore(nowInProviderZone);
-
-            // Regra 2: Verificar sobreposição com qualquer ocupação existente
-            boolean hasConflict = existingAppointments.stream().anyMatch(occ -> {
-                LocalTime occStart = occ.getStartTime().toLocalTime();
-                LocalTime occEnd = occ.getEndTime().toLocalTime();
-                // (StartA < EndB) AND (EndA > StartB) -> Sobreposição detectada
-                return slotStart.isBefore(occEnd) && slotEnd.isAfter(occStart);
-            });
-
-            if (!hasConflict && !isPast) {
-                availableSlots.add(slotStart);
-            }
-
-            // Incrementa o slot conforme o intervalo configurado no perfil do profissional
-            currentSlot = currentSlot.plusMinutes(this.slotInterval);
-        }
-
-        return availableSlots;
+        // Mesmo motor de slots usado pelos casos de uso de disponibilidade:
+        // descarta horários passados (fuso do estabelecimento) e sobreposições,
+        // seguindo o intervalo configurado no perfil do profissional
+        return SlotEngine.availableSlots(
+                dailyConfig,
+                date,
+                totalDurationMinutes,
+                this.slotInterval,
+                existingAppointments,
+                LocalDateTime.now(providerZoneId));
     }
 
     // --- REGRAS DE NEGÓCIO: ALINHAMENTO DE SLOTS ---
@@ -273,19 +251,20 @@ public class Professional {
     // --- REGRAS DE NEGÓCIO: BLOQUEIO E AGENDA ---
 
     public void validateCanBlockTime(LocalDateTime start, LocalDateTime end, List<Appointment> existingAppointments) {
+        // SCHEDULED, PENDING e ✨ BLOCKED (bloqueios existentes) ocupam a agenda
+        validateCanBlockTime(start, end, IntervalIndex.ofAppointments(
+                existingAppointments.stream().filter(SlotEngine::occupiesAgenda).toList()));
+    }
+
+    /**
+     * Versão para quem já carregou a agenda em um índice (várias checagens, uma carga).
+     */
+    public void validateCanBlockTime(LocalDateTime start, LocalDateTime end, IntervalIndex occupied) {
         if (!this.isActive)
             throw new BusinessException("Profissional inativo não pode realizar bloqueios.");
 
-        boolean hasConflict = existingAppointments.stream()
-                .anyMatch(app -> (app.getStatus() == AppointmentStatus.SCHEDULED ||
-                        app.getStatus() == AppointmentStatus.PENDING ||
-                        app.getStatus() == AppointmentStatus.BLOCKED // ✨ ADICIONADO: Verifica bloqueios existentes
-                ) &&
-                // Lógica de intersecção de intervalos: (StartA < EndB) e (EndA > StartB)
-                        app.getStartTime().isBefore(end) &&
-                        app.getEndTime().isAfter(start));
-
-        if (hasConflict) {
+        // Intersecção de intervalos (StartA < EndB) e (EndA > StartB) via busca binária
+        if (occupied.overlaps(start, end)) {
             throw new BusinessException(
                     "Não é possível bloquear: já existe um cliente agendado ou um bloqueio neste horário.");
         }
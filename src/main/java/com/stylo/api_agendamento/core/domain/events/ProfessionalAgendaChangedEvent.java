@@ -0,0 +1,30 @@
+package com.stylo.api_agendamento.core.domain.events;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A agenda do profissional mudou nos dias [fromDate, toDate].
+ * Datas nulas = toda a agenda (ex: alteração do expediente semanal).
+ */
+public record ProfessionalAgendaChangedEvent(
+    UUID professionalId,
+    LocalDate fromDate,
+    LocalDate toDate
+) {
+
+    public static ProfessionalAgendaChangedEvent of(UUID professionalId, LocalDateTime start, LocalDateTime end) {
+        LocalDate from = start.toLocalDate();
+        LocalDate to = end != null && end.toLocalDate().isAfter(from) ? end.toLocalDate() : from;
+        return new ProfessionalAgendaChangedEvent(professionalId, from, to);
+    }
+
+    public static ProfessionalAgendaChangedEvent wholeAgenda(UUID professionalId) {
+        return new ProfessionalAgendaChangedEvent(professionalId, null, null);
+    }
+
+    public boolean isWholeAgenda() {
+        return fromDate == null;
+    }
+}
@@ -0,0 +1,11 @@
+package com.stylo.api_agendamento.core.domain.events;
+
+import java.util.UUID;
+
+/**
+ * Mudou algo que aparece na busca do estabelecimento (nome, serviços ativos, avaliações, visibilidade).
+ */
+public record ProviderSearchChangedEvent(
+    UUID providerId
+) {
+}
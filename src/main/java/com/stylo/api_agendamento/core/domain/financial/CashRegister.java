@@ -80,27 +80,33 @@ public class CashRegister {
 
     // --- MÉTODOS DE NEGÓCIO ---
 
-    public void addTransaction(CashTransactionType type, BigDecimal amount, String description, UUID userId) {
+    /**
+     * Valida e cria a movimentação. O caixa é append-only: a transação é inserida e o saldo
+     * atualizado de forma atômica na persistência, sem carregar nem regravar o histórico.
+     */
+    public CashTransaction newTransaction(CashTransactionType type, BigDecimal amount, String description, UUID userId) {
         if (!this.open) {
             throw new BusinessException("O caixa está fechado. Abra o caixa para realizar operações.");
         }
 
-        // Validação: Não pode sangrar mais do que tem (evitar caixa negativo)
-        if (type.isSubtract() && this.calculatedBalance.compareTo(amount) < 0) {
+        // Validação: Não pode sangrar mais do que tem (evitar caixa negativo).
+        // Checagem antecipada; a garantia final é o UPDATE condicional do saldo.
+        if (type.isSubtract() && amount != null && this.calculatedBalance.compareTo(amount) < 0) {
             throw new BusinessException("Saldo insuficiente em caixa para realizar esta operação (Saldo atual: " + this.calculatedBalance + ").");
         }
 
-        // 1. Cria a transação (validações de valor positivo ocorrem lá)
-        CashTransaction transaction = CashTransaction.create(this.id, type, amount, description, userId);
-        
-        // 2. Atualiza o saldo calculado usando a estratégia do Enum
-        this.calculatedBalance = type.apply(this.calculatedBalance, amount);
-        
-        // 3. Adiciona ao histórico
-        this.transactions.add(transaction);
+        // Validações de valor positivo ocorrem na criação da transação
+        return CashTransaction.create(this.id, type, amount, description, userId);
+    }
+
+    /**
+     * Saldo atualizado após uma movimentação já gravada.
+     */
+    public CashRegister withCalculatedBalance(BigDecimal balance) {
+        return this.toBuilder().calculatedBalance(balance).build();
     }
 
-    public void close(UUID userId, BigDecimal finalCountedBalance) {
+    public CashTransaction close(UUID userId, BigDecimal finalCountedBalance) {
         if (!this.open) throw new BusinessException("Caixa já está fechado.");
         if (finalCountedBalance == null || finalCountedBalance.compareTo(BigDecimal.ZERO) < 0) {
             throw new BusinessException("O valor final conferido não pode ser negativo.");
@@ -118,9 +124,10 @@ public class CashRegister {
         this.closingDifference = this.finalBalance.subtract(this.calculatedBalance);
         
         // Registra transação de fechamento (simbólica, valor 0 ou o valor contado, depende da regra. Aqui apenas logamos)
-        this.transactions.add(
-             CashTransaction.create(this.id, CashTransactionType.CLOSING, BigDecimal.ZERO, "Fechamento de Caixa", userId)
-        );
+        CashTransaction closing =
+             CashTransaction.create(this.id, CashTransactionType.CLOSING, BigDecimal.ZERO, "Fechamento de Caixa", userId);
+        this.transactions.add(closing);
+        return closing;
     }
 
     public List<CashTransaction> getTransactions() {
@@ -30,7 +30,10 @@ public class CashTransaction {
         
         // Regra: O valor da transação é sempre positivo (magnitude). 
         // Se é sangria, o Enum trata de subtrair do saldo, mas o registro é de "R$ 50,00".
-        if (amount == null || amount.compareTo(BigDecimal.ZERO) <= 0) {
+        // Marcadores sem efeito no saldo (fechamento) são registrados com valor zero.
+        boolean validAmount = amount != null &&
+                (type.isNeutral() ? amount.signum() >= 0 : amount.signum() > 0);
+        if (!validAmount) {
             throw new BusinessException("O valor da transação deve ser positivo.");
         }
 
@@ -35,6 +35,17 @@ public enum CashTransactionType {
         return this.operation == TransactionOperation.SUBTRACT;
     }
 
+    public boolean isNeutral() {
+        return this.operation == TransactionOperation.NEUTRAL;
+    }
+
+    /**
+     * Variação do saldo provocada pela movimentação (negativa para sangria).
+     */
+    public BigDecimal delta(BigDecimal amount) {
+        return apply(BigDecimal.ZERO, amount);
+    }
+
     private enum TransactionOperation {
         ADD, SUBTRACT, NEUTRAL
     }
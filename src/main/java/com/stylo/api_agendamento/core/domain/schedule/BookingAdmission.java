@@ -0,0 +1,33 @@
+package com.stylo.api_agendamento.core.domain.schedule;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Resultado da sala de espera de agendamentos de um profissional.
+ *
+ * @param ticket        senha FIFO do cliente (reenviada nas novas tentativas para manter o lugar)
+ * @param status        ADMITTED (pode agendar agora), QUEUED (aguardando a vez) ou REJECTED (fila cheia)
+ * @param position      quantas pessoas estão à frente (0 quando admitido)
+ * @param estimatedWait estimativa de espera até a vez do cliente
+ */
+public record BookingAdmission(
+        UUID ticket,
+        Status status,
+        int position,
+        Duration estimatedWait) {
+
+    public enum Status {
+        ADMITTED,
+        QUEUED,
+        REJECTED
+    }
+
+    public static BookingAdmission admitted(UUID ticket) {
+        return new BookingAdmission(ticket, Status.ADMITTED, 0, Duration.ZERO);
+    }
+
+    public boolean isAdmitted() {
+        return status == Status.ADMITTED;
+    }
+}
@@ -0,0 +1,18 @@
+package com.stylo.api_agendamento.core.domain.schedule;
+
+/**
+ * Estratégia de proteção contra double-booking na criação de agendamentos.
+ */
+public enum BookingMode {
+
+    // Lock distribuído (Redisson) por profissional + lock pessimista da linha do profissional
+    LOCK,
+
+    // Sem locks: o INSERT entra direto e a constraint de exclusão do banco
+    // (ex_appointments_professional_overlap) rejeita sobreposições
+    OPTIMISTIC,
+
+    // Fila única por profissional dentro do nó (sem disputa de tryLock entre threads).
+    // O lock distribuído continua valendo entre nós, agora com no máximo um candidato por nó
+    SEQUENCER
+}
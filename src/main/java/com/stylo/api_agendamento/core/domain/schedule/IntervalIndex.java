@@ -0,0 +1,179 @@
+package com.stylo.api_agendamento.core.domain.schedule;
+
+import com.stylo.api_agendamento.core.domain.Appointment;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.function.Function;
+
+/**
+ * Índice imutável de ocupações para consultas de sobreposição em O(log n).
+ *
+ * Os intervalos são convertidos para minutos de época (relógio local, sem fuso),
+ * ordenados e unidos em faixas disjuntas [início, fim). Como as faixas são
+ * disjuntas, início e fim ficam ambos ordenados e uma busca binária responde
+ * "há conflito?" e "quantos minutos ocupados?" sem percorrer a lista.
+ *
+ * Carregue o dia/semana do profissional uma vez e faça quantas consultas precisar.
+ */
+public final class IntervalIndex {
+
+    private static final IntervalIndex EMPTY = new IntervalIndex(new long[0], new long[0], new long[1]);
+
+    private final long[] starts;
+    private final long[] ends;
+    // coveredBefore[i] = soma dos tamanhos das faixas [0, i)
+    private final long[] coveredBefore;
+
+    private IntervalIndex(long[] starts, long[] ends, long[] coveredBefore) {
+        this.starts = starts;
+        this.ends = ends;
+        this.coveredBefore = coveredBefore;
+    }
+
+    public static IntervalIndex empty() {
+        return EMPTY;
+    }
+
+    public static IntervalIndex ofAppointments(Collection<Appointment> appointments) {
+        return build(appointments, Appointment::getStartTime, Appointment::getEndTime);
+    }
+
+    public static IntervalIndex ofIntervals(Collection<OccupiedInterval> intervals) {
+        return build(intervals, OccupiedInterval::startTime, OccupiedInterval::endTime);
+    }
+
+    /**
+     * Existe alguma ocupação que cruza [start, end)?
+     */
+    public boolean overlaps(LocalDateTime start, LocalDateTime end) {
+        long from = floorMinute(start);
+        long to = ceilMinute(end);
+        if (from >= to) {
+            return false;
+        }
+        // A faixa de maior início antes de "to" é também a de maior fim: basta checá-la
+        int i = lastStartBefore(to);
+        return i >= 0 && ends[i] > from;
+    }
+
+    /**
+     * Minutos ocupados dentro de [start, end), sem contar duas vezes ocupações sobrepostas.
+     */
+    public long coveredMinutes(LocalDateTime start, LocalDateTime end) {
+        long from = floorMinute(start);
+        long to = ceilMinute(end);
+        return from >= to ? 0 : coveredUntil(to) - coveredUntil(from);
+    }
+
+    public int size() {
+        return starts.length;
+    }
+
+    public boolean isEmpty() {
+        return starts.length == 0;
+    }
+
+    // --- CONSTRUÇÃO ---
+
+    private static <T> IntervalIndex build(Collection<T> items, Function<T, LocalDateTime> startOf,
+            Function<T, LocalDateTime> endOf) {
+        int n = 0;
+        long[] rawStarts = new long[items.size()];
+        long[] rawEnds = new long[items.size()];
+        for (T item : items) {
+            LocalDateTime start = startOf.apply(item);
+            LocalDateTime end = endOf.apply(item);
+            if (start == null || end == null) {
+                continue;
+            }
+            long from = floorMinute(start);
+            long to = ceilMinute(end);
+            if (from < to) {
+                rawStarts[n] = from;
+                rawEnds[n] = to;
+                n++;
+            }
+        }
+        if (n == 0) {
+            return EMPTY;
+        }
+
+        // Ordena por início sem objetos: (deslocamento << 32) | posição original
+        long base = Long.MAX_VALUE;
+        for (int i = 0; i < n; i++) {
+            base = Math.min(base, rawStarts[i]);
+        }
+        long[] order = new long[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = ((rawStarts[i] - base) << 32) | i;
+        }
+        Arrays.sort(order);
+
+        // Une sobreposições (e faixas encostadas) em faixas disjuntas
+        long[] starts = new long[n];
+        long[] ends = new long[n];
+        int count = 0;
+        for (long packed : order) {
+            int i = (int) packed;
+            if (count > 0 && rawStarts[i] <= ends[count - 1]) {
+                ends[count - 1] = Math.max(ends[count - 1], rawEnds[i]);
+            } else {
+                starts[count] = rawStarts[i];
+                ends[count] = rawEnds[i];
+                count++;
+            }
+        }
+
+        long[] coveredBefore = new long[count + 1];
+        for (int i = 0; i < count; i++) {
+            coveredBefore[i + 1] = coveredBefore[i] + (ends[i] - starts[i]);
+        }
+
+        return new IntervalIndex(Arrays.copyOf(starts, count), Arrays.copyOf(ends, count), coveredBefore);
+    }
+
+    // --- BUSCAS ---
+
+    /**
+     * Índice da última faixa com início < minute, ou -1.
+     */
+    private int lastStartBefore(long minute) {
+        int low = 0;
+        int high = starts.length - 1;
+        int found = -1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (starts[mid] < minute) {
+                found = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Minutos ocupados antes de {@code minute}.
+     */
+    private long coveredUntil(long minute) {
+        int i = lastStartBefore(minute);
+        if (i < 0) {
+            return 0;
+        }
+        return coveredBefore[i] + (Math.min(ends[i], minute) - starts[i]);
+    }
+
+    private static long floorMinute(LocalDateTime time) {
+        return Math.floorDiv(time.toEpochSecond(ZoneOffset.UTC), 60);
+    }
+
+    private static long ceilMinute(LocalDateTime time) {
+        long seconds = time.toEpochSecond(ZoneOffset.UTC);
+        long minute = Math.floorDiv(seconds, 60);
+        return (Math.floorMod(seconds, 60) > 0 || time.getNano() > 0) ? minute + 1 : minute;
+    }
+}
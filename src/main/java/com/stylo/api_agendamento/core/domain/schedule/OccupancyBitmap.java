@@ -0,0 +1,236 @@
+package com.stylo.api_agendamento.core.domain.schedule;
+
+import com.stylo.api_agendamento.core.exceptions.BusinessException;
+
+import java.util.Arrays;
+
+/**
+ * Mapa de ocupação de um dia com resolução de minuto.
+ * Cada bit representa um minuto do dia (1440 bits em 23 words de 64 bits).
+ * Bit ligado = minuto ocupado.
+ *
+ * As consultas trabalham palavra a palavra (64 minutos por operação), evitando
+ * o custo O(slots × ocupações) das comparações de intervalos com LocalTime.
+ */
+public final class OccupancyBitmap {
+
+    public static final int MINUTES_PER_DAY = 1440;
+
+    private static final int WORDS = (MINUTES_PER_DAY + 63) >>> 6;
+
+    private final long[] occupied;
+
+    public OccupancyBitmap() {
+        this.occupied = new long[WORDS];
+    }
+
+    private OccupancyBitmap(long[] occupied) {
+        this.occupied = occupied;
+    }
+
+    public OccupancyBitmap copy() {
+        return new OccupancyBitmap(occupied.clone());
+    }
+
+    /**
+     * Marca o intervalo [fromMinute, toMinute) como ocupado.
+     * Valores fora do dia são recortados para [0, 1440).
+     */
+    public void occupy(int fromMinute, int toMinute) {
+        int from = Math.max(0, fromMinute);
+        int to = Math.min(MINUTES_PER_DAY, toMinute);
+        if (from >= to) {
+            return;
+        }
+
+        int firstWord = from >>> 6;
+        int lastWord = (to - 1) >>> 6;
+        long firstMask = -1L << (from & 63);
+        long lastMask = -1L >>> (63 - ((to - 1) & 63));
+
+        if (firstWord == lastWord) {
+            occupied[firstWord] |= firstMask & lastMask;
+            return;
+        }
+
+        occupied[firstWord] |= firstMask;
+        for (int w = firstWord + 1; w < lastWord; w++) {
+            occupied[w] = -1L;
+        }
+        occupied[lastWord] |= lastMask;
+    }
+
+    /**
+     * Une as ocupações de outro mapa a este (ex: bloqueios temporários).
+     */
+    public void occupyAll(OccupancyBitmap other) {
+        for (int w = 0; w < WORDS; w++) {
+            occupied[w] |= other.occupied[w];
+        }
+    }
+
+    /**
+     * Verifica se o intervalo [startMinute, startMinute + durationMinutes) está
+     * inteiramente livre.
+     */
+    public boolean isFree(int startMinute, int durationMinutes) {
+        int end = startMinute + durationMinutes;
+        if (startMinute < 0 || durationMinutes <= 0 || end > MINUTES_PER_DAY) {
+            return false;
+        }
+
+        int firstWord = startMinute >>> 6;
+        int lastWord = (end - 1) >>> 6;
+        long firstMask = -1L << (startMinute & 63);
+        long lastMask = -1L >>> (63 - ((end - 1) & 63));
+
+        if (firstWord == lastWord) {
+            return (occupied[firstWord] & firstMask & lastMask) == 0;
+        }
+
+        if ((occupied[firstWord] & firstMask) != 0) {
+            return false;
+        }
+        for (int w = firstWord + 1; w < lastWord; w++) {
+            if (occupied[w] != 0) {
+                return false;
+            }
+        }
+        return (occupied[lastWord] & lastMask) == 0;
+    }
+
+    /**
+     * Quantidade de minutos livres dentro da janela [windowStart, windowEnd).
+     */
+    public int freeMinutes(int windowStart, int windowEnd) {
+        long[] free = freeWithin(windowStart, windowEnd);
+        int total = 0;
+        for (long word : free) {
+            total += Long.bitCount(word);
+        }
+        return total;
+    }
+
+    /**
+     * Retorna os minutos de início em que cabem {@code duration} minutos livres
+     * dentro da janela [windowStart, windowEnd).
+     *
+     * Os inícios seguem a grade de {@code step} minutos contada a partir de
+     * {@code windowStart}, e nenhum início anterior a {@code notBefore} é
+     * retornado (horários que já passaram hoje).
+     */
+    public int[] freeStarts(int windowStart, int windowEnd, int duration, int step, int notBefore) {
+        if (duration <= 0) {
+            throw new BusinessException("A duração deve ser maior que zero.");
+        }
+        if (step <= 0) {
+            throw new BusinessException("O intervalo entre horários deve ser maior que zero.");
+        }
+
+        int lastStart = Math.min(windowEnd, MINUTES_PER_DAY) - duration;
+        int candidate = alignUp(Math.max(windowStart, notBefore), windowStart, step);
+        if (candidate > lastStart) {
+            return new int[0];
+        }
+
+        long[] fits = runsOf(freeWithin(windowStart, windowEnd), duration);
+
+        int[] starts = new int[(lastStart - candidate) / step + 1];
+        int count = 0;
+
+        // Salta direto para o próximo bit "cabe" e realinha na grade do expediente
+        while (candidate <= lastStart) {
+            int next = nextSetBit(fits, candidate);
+            if (next < 0 || next > lastStart) {
+                break;
+            }
+            if (next == candidate) {
+                starts[count++] = candidate;
+                candidate += step;
+            } else {
+                candidate = alignUp(next, windowStart, step);
+            }
+        }
+
+        return count == starts.length ? starts : Arrays.copyOf(starts, count);
+    }
+
+    // --- OPERAÇÕES DE BITS ---
+
+    private long[] freeWithin(int windowStart, int windowEnd) {
+        OccupancyBitmap window = new OccupancyBitmap();
+        window.occupy(windowStart, windowEnd);
+
+        long[] free = window.occupied;
+        for (int w = 0; w < WORDS; w++) {
+            free[w] &= ~occupied[w];
+        }
+        return free;
+    }
+
+    /**
+     * Transforma o mapa de minutos livres em um mapa de "cabe aqui": o bit i fica
+     * ligado apenas se os minutos [i, i + length) estiverem todos livres.
+     * Usa duplicação (AND com deslocamentos de 1, 2, 4...), em O(log length) passadas.
+     */
+    private static long[] runsOf(long[] free, int length) {
+        int covered = 1;
+        while (covered < length) {
+            int shift = Math.min(covered, length - covered);
+            andShiftedDown(free, shift);
+            covered += shift;
+        }
+        return free;
+    }
+
+    /**
+     * bits[i] &= bits[i + shift] para todo i, in-place.
+     * Percorre em ordem crescente: cada palavra só lê posições ainda não alteradas.
+     */
+    private static void andShiftedDown(long[] bits, int shift) {
+        int wordShift = shift >>> 6;
+        int bitShift = shift & 63;
+
+        for (int w = 0; w < bits.length; w++) {
+            long lo = wordAt(bits, w + wordShift);
+            long shifted;
+            if (bitShift == 0) {
+                shifted = lo;
+            } else {
+                long hi = wordAt(bits, w + wordShift + 1);
+                shifted = (lo >>> bitShift) | (hi << (64 - bitShift));
+            }
+            bits[w] &= shifted;
+        }
+    }
+
+    private static long wordAt(long[] bits, int index) {
+        return index < bits.length ? bits[index] : 0L;
+    }
+
+    private static int nextSetBit(long[] bits, int from) {
+        int w = from >>> 6;
+        if (w >= bits.length) {
+            return -1;
+        }
+
+        long word = bits[w] & (-1L << (from & 63));
+        while (true) {
+            if (word != 0) {
+                return (w << 6) + Long.numberOfTrailingZeros(word);
+            }
+            if (++w == bits.length) {
+                return -1;
+            }
+            word = bits[w];
+        }
+    }
+
+    private static int alignUp(int minute, int origin, int step) {
+        if (minute <= origin) {
+            return origin;
+        }
+        int offset = minute - origin;
+        return origin + ((offset + step - 1) / step) * step;
+    }
+}
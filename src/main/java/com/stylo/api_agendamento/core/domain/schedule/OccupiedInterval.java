@@ -0,0 +1,14 @@
+package com.stylo.api_agendamento.core.domain.schedule;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Projeção leve de uma ocupação da agenda (agendamento ou bloqueio).
+ * Usada nos cálculos de disponibilidade em lote, sem carregar serviços e itens.
+ */
+public record OccupiedInterval(
+    UUID professionalId,
+    LocalDateTime startTime,
+    LocalDateTime endTime
+) {}
@@ -0,0 +1,224 @@
+package com.stylo.api_agendamento.core.domain.schedule;
+
+import com.stylo.api_agendamento.core.domain.Appointment;
+import com.stylo.api_agendamento.core.domain.AppointmentStatus;
+import com.stylo.api_agendamento.core.domain.vo.DailyAvailability;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Motor de cálculo de horários livres.
+ * Converte o expediente do dia e as ocupações em um {@link OccupancyBitmap} e
+ * responde "quais inícios comportam N minutos livres" com varreduras de bits.
+ *
+ * Compartilhado entre o domínio (Professional) e os casos de uso de disponibilidade.
+ */
+public final class SlotEngine {
+
+    private SlotEngine() {
+    }
+
+    /**
+     * Status que efetivamente ocupam a agenda do profissional.
+     */
+    public static boolean occupiesAgenda(Appointment appointment) {
+        AppointmentStatus status = appointment.getStatus();
+        return status == AppointmentStatus.PENDING ||
+                status == AppointmentStatus.SCHEDULED ||
+                status == AppointmentStatus.BLOCKED;
+    }
+
+    /**
+     * Indexa a grade semanal do profissional pelo dia da semana (apenas dias abertos).
+     */
+    public static Map<DayOfWeek, DailyAvailability> weeklyShifts(Collection<DailyAvailability> availability) {
+        Map<DayOfWeek, DailyAvailability> shifts = new EnumMap<>(DayOfWeek.class);
+        for (DailyAvailability shift : availability) {
+            if (shift.isOpen()) {
+                shifts.putIfAbsent(shift.dayOfWeek(), shift);
+            }
+        }
+        return shifts;
+    }
+
+    /**
+     * Monta o mapa de ocupação do dia. Ocupações que atravessam a meia-noite são
+     * recortadas aos limites do dia.
+     */
+    public static OccupancyBitmap occupancyOf(LocalDate date, Collection<Appointment> occupations) {
+        OccupancyBitmap bitmap = new OccupancyBitmap();
+        for (Appointment occ : occupations) {
+            occupy(bitmap, date, occ.getStartTime(), occ.getEndTime());
+        }
+        return bitmap;
+    }
+
+    /**
+     * Distribui as ocupações de um período em um mapa por dia (índice 0 = {@code from}).
+     * Uma única passada sobre as ocupações, que já vêm de uma única consulta.
+     */
+    public static OccupancyBitmap[] occupancyByDay(LocalDate from, int days, Collection<OccupiedInterval> occupations) {
+        OccupancyBitmap[] bitmaps = new OccupancyBitmap[days];
+        for (int i = 0; i < days; i++) {
+            bitmaps[i] = new OccupancyBitmap();
+        }
+
+        for (OccupiedInterval occ : occupations) {
+            if (occ.startTime() == null || occ.endTime() == null) {
+                continue;
+            }
+            // Normalmente 1 dia; ocupações que atravessam a meia-noite marcam os dois
+            int firstDay = (int) Math.max(0, ChronoUnit.DAYS.between(from, occ.startTime().toLocalDate()));
+            int lastDay = (int) Math.min(days - 1, ChronoUnit.DAYS.between(from, occ.endTime().toLocalDate()));
+            for (int day = firstDay; day <= lastDay; day++) {
+                occupy(bitmaps[day], from.plusDays(day), occ.startTime(), occ.endTime());
+            }
+        }
+        return bitmaps;
+    }
+
+    public static void occupy(OccupancyBitmap bitmap, LocalDate date, LocalDateTime start, LocalDateTime end) {
+        if (start == null || end == null) {
+            return;
+        }
+        bitmap.occupy(startMinuteOn(date, start), endMinuteOn(date, end));
+    }
+
+    public static List<LocalTime> availableSlots(
+            DailyAvailability shift,
+            LocalDate date,
+            int totalDurationMinutes,
+            int slotInterval,
+            Collection<Appointment> occupations,
+            LocalDateTime nowInProviderZone) {
+
+        if (shift == null || !shift.isOpen()) {
+            return new ArrayList<>();
+        }
+        return availableSlots(shift, date, totalDurationMinutes, slotInterval,
+                occupancyOf(date, occupations), nowInProviderZone);
+    }
+
+    public static List<LocalTime> availableSlots(
+            DailyAvailability shift,
+            LocalDate date,
+            int totalDurationMinutes,
+            int slotInterval,
+            OccupancyBitmap occupancy,
+            LocalDateTime nowInProviderZone) {
+
+        if (shift == null || !shift.isOpen()) {
+            return new ArrayList<>();
+        }
+
+        int[] starts = freeStarts(shift, date, totalDurationMinutes, slotInterval, occupancy, nowInProviderZone);
+
+        List<LocalTime> slots = new ArrayList<>(starts.length);
+        for (int start : starts) {
+            slots.add(toTime(start));
+        }
+        return slots;
+    }
+
+    /**
+     * Versão sem alocação de LocalTime: retorna os inícios em minutos do dia.
+     */
+    public static int[] freeStarts(
+            DailyAvailability shift,
+            LocalDate date,
+            int totalDurationMinutes,
+            int slotInterval,
+            OccupancyBitmap occupancy,
+            LocalDateTime nowInProviderZone) {
+
+        if (shift == null || !shift.isOpen()) {
+            return new int[0];
+        }
+
+        // Regra: não permitir horários que já passaram hoje
+        int notBefore = date.isEqual(nowInProviderZone.toLocalDate())
+                ? ceilMinute(nowInProviderZone.toLocalTime())
+                : 0;
+
+        return occupancy.freeStarts(
+                minuteOf(shift.startTime()),
+                minuteOf(shift.endTime()),
+                totalDurationMinutes,
+                slotInterval,
+                notBefore);
+    }
+
+    /**
+     * Inícios livres do expediente restritos a uma janela adicional:
+     * nenhum início antes de {@code notBefore} e nenhum término depois de {@code endLimit}.
+     * A grade de slots continua contada a partir do início do expediente.
+     */
+    public static int[] freeStartsWithin(
+            DailyAvailability shift,
+            int totalDurationMinutes,
+            int slotInterval,
+            OccupancyBitmap occupancy,
+            int notBefore,
+            int endLimit) {
+
+        if (shift == null || !shift.isOpen()) {
+            return new int[0];
+        }
+
+        return occupancy.freeStarts(
+                minuteOf(shift.startTime()),
+                Math.min(minuteOf(shift.endTime()), endLimit),
+                totalDurationMinutes,
+                slotInterval,
+                notBefore);
+    }
+
+    // --- CONVERSÕES ---
+
+    public static int minuteOf(LocalTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    }
+
+    public static LocalTime toTime(int minuteOfDay) {
+        return LocalTime.of(minuteOfDay / 60, minuteOfDay % 60);
+    }
+
+    /**
+     * Minuto do dia arredondado para cima (10:00:30 -> 10:01).
+     */
+    public static int ceilMinute(LocalTime time) {
+        int minute = minuteOf(time);
+        return (time.getSecond() > 0 || time.getNano() > 0) ? minute + 1 : minute;
+    }
+
+    private static int startMinuteOn(LocalDate date, LocalDateTime start) {
+        LocalDate startDate = start.toLocalDate();
+        if (startDate.isBefore(date)) {
+            return 0;
+        }
+        if (startDate.isAfter(date)) {
+            return OccupancyBitmap.MINUTES_PER_DAY;
+        }
+        return minuteOf(start.toLocalTime());
+    }
+
+    private static int endMinuteOn(LocalDate date, LocalDateTime end) {
+        LocalDate endDate = end.toLocalDate();
+        if (endDate.isAfter(date)) {
+            return OccupancyBitmap.MINUTES_PER_DAY;
+        }
+        if (endDate.isBefore(date)) {
+            return 0;
+        }
+        return ceilMinute(end.toLocalTime());
+    }
+}
@@ -0,0 +1,27 @@
+package com.stylo.api_agendamento.core.domain.schedule;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Reserva temporária de um horário durante o checkout (cupom, link de pagamento).
+ * Enquanto não expira, o horário aparece como ocupado para os demais clientes.
+ */
+public record SlotHold(
+    UUID id,
+    UUID professionalId,
+    UUID holderUserId,
+    LocalDateTime startTime,
+    LocalDateTime endTime,
+    Instant expiresAt
+) {
+
+    public boolean isHeldBy(UUID userId) {
+        return holderUserId.equals(userId);
+    }
+
+    public boolean overlaps(LocalDateTime start, LocalDateTime end) {
+        return startTime.isBefore(end) && endTime.isAfter(start);
+    }
+}
@@ -0,0 +1,323 @@
+package com.stylo.api_agendamento.core.domain.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.UUID;
+
+/**
+ * Índice de autocomplete em memória (snapshot imutável).
+ *
+ * Os nomes normalizados (minúsculos, sem acento, só [a-z0-9] e espaço) ficam
+ * concatenados em um único byte[]; cada início de palavra vira uma posição em um
+ * array ordenado pelo texto a partir dali. Completar um prefixo = duas buscas
+ * binárias para achar o intervalo + os k melhores dele por uma árvore de segmentos
+ * (melhor palavra de cada trecho), em O(k log n) mesmo para prefixos curtos.
+ *
+ * Custo: ~1 byte por caractere + 16 bytes por palavra + 3 referências/int por
+ * entrada, alguns MB para 100 mil estabelecimentos.
+ */
+public final class TypeaheadIndex {
+
+    public static final TypeaheadIndex EMPTY = new Builder().build();
+
+    private final byte[] text;
+    private final int[] entryStart; // entrada i ocupa [entryStart[i], entryStart[i + 1])
+    private final String[] labels;
+    private final UUID[] providerIds; // null = termo de serviço
+    private final int[] weights;
+    private final int[] wordStarts; // posições em text, ordenadas pelo texto a partir delas
+    private final int[] wordEntry; // entrada dona de cada posição
+    private final int[] best; // árvore de segmentos: melhor palavra de cada trecho (folhas a partir de n)
+
+    private TypeaheadIndex(byte[] text, int[] entryStart, String[] labels, UUID[] providerIds, int[] weights,
+            int[] wordStarts, int[] wordEntry) {
+        this.text = text;
+        this.entryStart = entryStart;
+        this.labels = labels;
+        this.providerIds = providerIds;
+        this.weights = weights;
+        this.wordStarts = wordStarts;
+        this.wordEntry = wordEntry;
+        this.best = buildTree();
+    }
+
+    public int size() {
+        return labels.length;
+    }
+
+    /**
+     * Até {@code limit} entradas com alguma palavra começando pelo prefixo,
+     * da mais popular para a menos popular (empate: nome mais curto).
+     */
+    public List<TypeaheadSuggestion> complete(String prefix, int limit) {
+        byte[] key = toBytes(normalize(prefix));
+        if (key.length == 0 || limit <= 0 || wordStarts.length == 0) {
+            return List.of();
+        }
+
+        int from = firstWordNotBefore(key, false);
+        int to = firstWordNotBefore(key, true);
+
+        // Trechos candidatos ordenados pela melhor palavra; cada escolha divide o trecho em dois
+        PriorityQueue<int[]> ranges = new PriorityQueue<>(
+                (a, b) -> a[2] == b[2] ? 0 : better(a[2], b[2]) == a[2] ? -1 : 1);
+        offerRange(ranges, from, to);
+
+        List<TypeaheadSuggestion> suggestions = new ArrayList<>(limit);
+        int[] chosen = new int[limit];
+        int count = 0;
+
+        scan:
+        while (count < limit && !ranges.isEmpty()) {
+            int[] range = ranges.poll();
+            int word = range[2];
+            offerRange(ranges, range[0], word);
+            offerRange(ranges, word + 1, range[1]);
+
+            // A mesma entrada aparece uma vez por palavra que casa
+            int entry = wordEntry[word];
+            for (int j = 0; j < count; j++) {
+                if (chosen[j] == entry) {
+                    continue scan;
+                }
+            }
+            chosen[count++] = entry;
+            suggestions.add(TypeaheadSuggestion.of(labels[entry], providerIds[entry]));
+        }
+        return suggestions;
+    }
+
+    /**
+     * Minúsculo, sem acentos, apenas letras/dígitos ASCII separados por um espaço.
+     * "Barbearia D'Ávila" -> "barbearia d avila".
+     */
+    public static String normalize(String value) {
+        if (value == null || value.isEmpty()) {
+            return "";
+        }
+
+        String decomposed = Normalizer.normalize(value, Normalizer.Form.NFD);
+        StringBuilder normalized = new StringBuilder(decomposed.length());
+        boolean pendingSpace = false;
+
+        for (int i = 0; i < decomposed.length(); i++) {
+            char c = Character.toLowerCase(decomposed.charAt(i));
+            if ((c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')) {
+                if (pendingSpace && normalized.length() > 0) {
+                    normalized.append(' ');
+                }
+                pendingSpace = false;
+                normalized.append(c);
+            } else if (Character.getType(c) != Character.NON_SPACING_MARK) {
+                // Acentos (marcas após o NFD) somem; o resto separa palavras
+                pendingSpace = true;
+            }
+        }
+        return normalized.toString();
+    }
+
+    // --- BUSCA ---
+
+    /**
+     * Primeira palavra cujo texto é >= prefixo (ou > prefixo, com {@code strict}),
+     * comparando só os primeiros {@code key.length} bytes.
+     */
+    private int firstWordNotBefore(byte[] key, boolean strict) {
+        int low = 0;
+        int high = wordStarts.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            int cmp = comparePrefix(wordStarts[mid], entryStart[wordEntry[mid] + 1], key);
+            if (cmp < 0 || (strict && cmp == 0)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int comparePrefix(int position, int end, byte[] key) {
+        for (int i = 0; i < key.length; i++) {
+            if (position + i >= end) {
+                return -1;
+            }
+            int diff = text[position + i] - key[i];
+            if (diff != 0) {
+                return diff;
+            }
+        }
+        return 0;
+    }
+
+    private void offerRange(PriorityQueue<int[]> ranges, int from, int to) {
+        if (from < to) {
+            ranges.add(new int[] { from, to, bestWord(from, to) });
+        }
+    }
+
+    // --- ÁRVORE DE SEGMENTOS ---
+
+    private int[] buildTree() {
+        int n = wordStarts.length;
+        int[] tree = new int[2 * n];
+        for (int i = 0; i < n; i++) {
+            tree[n + i] = i;
+        }
+        for (int node = n - 1; node > 0; node--) {
+            tree[node] = better(tree[2 * node], tree[2 * node + 1]);
+        }
+        return tree;
+    }
+
+    /**
+     * Melhor palavra em [from, to).
+     */
+    private int bestWord(int from, int to) {
+        int n = wordStarts.length;
+        int result = -1;
+        for (int lo = from + n, hi = to + n; lo < hi; lo >>>= 1, hi >>>= 1) {
+            if ((lo & 1) == 1) {
+                result = result < 0 ? best[lo] : better(result, best[lo]);
+                lo++;
+            }
+            if ((hi & 1) == 1) {
+                hi--;
+                result = result < 0 ? best[hi] : better(result, best[hi]);
+            }
+        }
+        return result;
+    }
+
+    private int better(int wordA, int wordB) {
+        int a = wordEntry[wordA];
+        int b = wordEntry[wordB];
+        if (a == b) {
+            return Math.min(wordA, wordB);
+        }
+        return ranksBefore(a, b) ? wordA : wordB;
+    }
+
+    /**
+     * Ordem das sugestões: mais popular primeiro; empate, nome mais curto.
+     */
+    private boolean ranksBefore(int a, int b) {
+        if (weights[a] != weights[b]) {
+            return weights[a] > weights[b];
+        }
+        if (labels[a].length() != labels[b].length()) {
+            return labels[a].length() < labels[b].length();
+        }
+        return a < b;
+    }
+
+    private static byte[] toBytes(String normalized) {
+        byte[] bytes = new byte[normalized.length()];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) normalized.charAt(i);
+        }
+        return bytes;
+    }
+
+    // --- CONSTRUÇÃO ---
+
+    public static final class Builder {
+
+        private byte[] text = new byte[1024];
+        private int textLength;
+        private int[] entryStart = new int[64];
+        private String[] labels = new String[64];
+        private UUID[] providerIds = new UUID[64];
+        private int[] weights = new int[64];
+        private int size;
+        private int words;
+
+        /**
+         * @param providerId estabelecimento da sugestão; null para termos de serviço
+         */
+        public Builder add(String label, UUID providerId, int weight) {
+            String key = normalize(label);
+            if (key.isEmpty()) {
+                return this;
+            }
+
+            if (size == labels.length) {
+                int capacity = size * 2;
+                entryStart = Arrays.copyOf(entryStart, capacity);
+                labels = Arrays.copyOf(labels, capacity);
+                providerIds = Arrays.copyOf(providerIds, capacity);
+                weights = Arrays.copyOf(weights, capacity);
+            }
+            if (textLength + key.length() > text.length) {
+                text = Arrays.copyOf(text, Math.max(text.length * 2, textLength + key.length()));
+            }
+
+            entryStart[size] = textLength;
+            for (int i = 0; i < key.length(); i++) {
+                char c = key.charAt(i);
+                if (c != ' ' && (i == 0 || key.charAt(i - 1) == ' ')) {
+                    words++;
+                }
+                text[textLength++] = (byte) c;
+            }
+            labels[size] = label;
+            providerIds[size] = providerId;
+            weights[size] = weight;
+            size++;
+            return this;
+        }
+
+        public TypeaheadIndex build() {
+            byte[] packedText = Arrays.copyOf(text, textLength);
+            int[] starts = Arrays.copyOf(entryStart, size + 1);
+            starts[size] = textLength;
+
+            int[] positions = new int[words];
+            int[] owners = new int[words];
+            int w = 0;
+            for (int entry = 0; entry < size; entry++) {
+                for (int p = starts[entry]; p < starts[entry + 1]; p++) {
+                    if (packedText[p] != ' ' && (p == starts[entry] || packedText[p - 1] == ' ')) {
+                        positions[w] = p;
+                        owners[w] = entry;
+                        w++;
+                    }
+                }
+            }
+
+            // Ordena as palavras pelo texto a partir delas até o fim da entrada
+            Integer[] order = new Integer[words];
+            for (int i = 0; i < words; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, (a, b) -> compareSuffixes(packedText,
+                    positions[a], starts[owners[a] + 1],
+                    positions[b], starts[owners[b] + 1]));
+
+            int[] wordStarts = new int[words];
+            int[] wordEntry = new int[words];
+            for (int i = 0; i < words; i++) {
+                wordStarts[i] = positions[order[i]];
+                wordEntry[i] = owners[order[i]];
+            }
+
+            return new TypeaheadIndex(packedText, starts,
+                    Arrays.copyOf(labels, size), Arrays.copyOf(providerIds, size), Arrays.copyOf(weights, size),
+                    wordStarts, wordEntry);
+        }
+
+        private static int compareSuffixes(byte[] text, int a, int aEnd, int b, int bEnd) {
+            int length = Math.min(aEnd - a, bEnd - b);
+            for (int i = 0; i < length; i++) {
+                int diff = text[a + i] - text[b + i];
+                if (diff != 0) {
+                    return diff;
+                }
+            }
+            return (aEnd - a) - (bEnd - b);
+        }
+    }
+}
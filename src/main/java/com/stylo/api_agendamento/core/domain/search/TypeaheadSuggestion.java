@@ -0,0 +1,23 @@
+package com.stylo.api_agendamento.core.domain.search;
+
+import java.util.UUID;
+
+/**
+ * Sugestão do autocomplete: um estabelecimento (com id) ou um nome de serviço
+ * (sem id; o front usa o texto como termo da busca).
+ */
+public record TypeaheadSuggestion(
+    String label,
+    Kind kind,
+    UUID providerId
+) {
+
+    public enum Kind {
+        PROVIDER,
+        SERVICE
+    }
+
+    public static TypeaheadSuggestion of(String label, UUID providerId) {
+        return new TypeaheadSuggestion(label, providerId != null ? Kind.PROVIDER : Kind.SERVICE, providerId);
+    }
+}
@@ -0,0 +1,14 @@
+package com.stylo.api_agendamento.core.domain.settlement;
+
+/**
+ * Parâmetros do motor de lotes do fechamento mensal.
+ *
+ * @param chunkSize      estabelecimentos por lote
+ * @param parallelism    lotes processados ao mesmo tempo (cada um usa no máximo uma conexão)
+ * @param leaseMinutes   tempo após o qual um lote RUNNING sem atualização é considerado abandonado
+ */
+public record SettlementBatchSettings(
+    int chunkSize,
+    int parallelism,
+    int leaseMinutes
+) {}
@@ -0,0 +1,15 @@
+package com.stylo.api_agendamento.core.domain.settlement;
+
+import java.util.UUID;
+
+/**
+ * Lote de estabelecimentos de um fechamento: faixa [fromProviderId, toProviderId) na
+ * ordem de UUID do banco. Limites nulos = faixa aberta.
+ */
+public record SettlementChunk(
+    UUID runId,
+    int index,
+    UUID fromProviderId,
+    UUID toProviderId,
+    int providerCount
+) {}
@@ -0,0 +1,25 @@
+package com.stylo.api_agendamento.core.domain.settlement;
+
+/**
+ * Resultado de um lote (gravado como checkpoint e usado no relatório da execução).
+ */
+public record SettlementChunkResult(
+    int index,
+    int providers,
+    int splits,
+    int payouts,
+    int failures,
+    long durationMs,
+    String lastError
+) {
+    public boolean succeeded() {
+        return failures == 0;
+    }
+
+    /**
+     * Estabelecimentos processados por segundo.
+     */
+    public double throughput() {
+        return durationMs > 0 ? providers * 1000.0 / durationMs : providers;
+    }
+}
@@ -0,0 +1,18 @@
+package com.stylo.api_agendamento.core.domain.settlement;
+
+import java.time.YearMonth;
+import java.util.UUID;
+
+/**
+ * Execução do fechamento mensal de uma competência.
+ */
+public record SettlementRun(
+    UUID id,
+    YearMonth period,
+    SettlementRunStatus status,
+    int totalChunks
+) {
+    public boolean isCompleted() {
+        return status == SettlementRunStatus.COMPLETED;
+    }
+}
@@ -0,0 +1,7 @@
+package com.stylo.api_agendamento.core.domain.settlement;
+
+public enum SettlementRunStatus {
+    RUNNING,
+    COMPLETED,
+    FAILED // Algum lote terminou com falhas: será retomado na próxima execução
+}
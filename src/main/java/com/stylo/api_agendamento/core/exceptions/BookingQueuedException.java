@@ -0,0 +1,21 @@
+package com.stylo.api_agendamento.core.exceptions;
+
+import com.stylo.api_agendamento.core.domain.schedule.BookingAdmission;
+
+/**
+ * O agendamento não foi admitido agora: o cliente está na fila (ou a fila está cheia)
+ * e deve tentar novamente após a espera estimada.
+ */
+public class BookingQueuedException extends BusinessException {
+
+    private final transient BookingAdmission admission;
+
+    public BookingQueuedException(String message, BookingAdmission admission) {
+        super(message);
+        this.admission = admission;
+    }
+
+    public BookingAdmission getAdmission() {
+        return admission;
+    }
+}
@@ -1,11 +1,18 @@
 package com.stylo.api_agendamento.core.ports;
 
+import com.stylo.api_agendamento.core.common.CursorPage;
+import com.stylo.api_agendamento.core.common.PageCursor;
 import com.stylo.api_agendamento.core.common.PagedResult;
 import com.stylo.api_agendamento.core.domain.Appointment;
+import com.stylo.api_agendamento.core.domain.schedule.OccupiedInterval;
+import com.stylo.api_agendamento.core.usecases.dto.AmountTotal;
+import com.stylo.api_agendamento.core.usecases.dto.DailyTotal;
+import com.stylo.api_agendamento.core.usecases.dto.NamedCount;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -14,6 +21,19 @@ public interface IAppointmentRepository {
 
     Appointment save(Appointment appointment);
 
+    /**
+     * Grava um agendamento que ocupa (ou muda de lugar na) agenda, validando a
+     * sobreposição na hora (flush): a violação vira ScheduleConflictException
+     * dentro do caso de uso, e não um erro genérico no commit.
+     */
+    Appointment saveBooking(Appointment appointment);
+
+    /**
+     * Insere agendamentos novos em lote (sem SELECT prévio por ID).
+     * Sobreposições rejeitadas pelo banco viram ScheduleConflictException.
+     */
+    List<Appointment> insertAll(List<Appointment> appointments);
+
     Optional<Appointment> findById(UUID id);
 
     /**
@@ -22,6 +42,32 @@ public interface IAppointmentRepository {
      */
     List<Appointment> findAllByProfessionalIdAndDate(UUID professionalId, LocalDate date);
 
+    /**
+     * Busca apenas os intervalos que ocupam a agenda (PENDING, SCHEDULED e BLOCKED)
+     * de um profissional no período, em uma única consulta e sem carregar serviços/itens.
+     * Usado pelos cálculos de disponibilidade de vários dias.
+     */
+    List<OccupiedInterval> findOccupiedIntervals(UUID professionalId, LocalDateTime start, LocalDateTime end);
+
+    /**
+     * Mesma projeção de ocupações, para vários profissionais em uma única consulta
+     * (busca "qualquer profissional" da equipe). Agrupar por professionalId no chamador.
+     */
+    List<OccupiedInterval> findOccupiedIntervalsByProfessionals(Collection<UUID> professionalIds,
+            LocalDateTime start, LocalDateTime end);
+
+    /**
+     * Mesma projeção, mas com todos os status exceto CANCELLED (concluídos e no-show
+     * também contam como tempo ocupado nos relatórios de ocupação).
+     */
+    List<OccupiedInterval> findBookedIntervals(UUID professionalId, LocalDateTime start, LocalDateTime end);
+
+    /**
+     * Do primeiro início ao último fim entre os agendamentos não cancelados do
+     * profissional (vazio se não houver nenhum). Delimita o backfill da ocupação.
+     */
+    Optional<OccupiedInterval> findBookedSpan(UUID professionalId);
+
     /**
      * Verifica conflitos de horário (Double Booking).
      * Deve ignorar o próprio agendamento (caso seja uma edição).
@@ -49,17 +95,51 @@ public interface IAppointmentRepository {
      */
     BigDecimal sumProfessionalCommissionByPeriod(UUID professionalId, LocalDateTime start, LocalDateTime end);
 
+    /**
+     * Receita de agendamentos concluídos agrupada por dia, calculada no banco
+     * (sem hidratar entidades). Período semiaberto [start, end).
+     * Os horários são gravados no relógio local do estabelecimento, então o dia
+     * do agendamento é o dia do próprio LocalDateTime.
+     */
+    List<DailyTotal> sumCompletedRevenueByDay(UUID providerId, LocalDateTime start, LocalDateTime end);
+
+    /**
+     * Total gasto e quantidade de atendimentos concluídos do cliente (todo o histórico).
+     */
+    AmountTotal sumCompletedByClient(UUID clientId);
+
+    /**
+     * Profissionais mais frequentes nos atendimentos concluídos do cliente.
+     */
+    List<NamedCount> countCompletedByProfessionalForClient(UUID clientId, int limit);
+
+    /**
+     * Serviços mais realizados nos atendimentos concluídos do cliente.
+     */
+    List<NamedCount> countCompletedServicesForClient(UUID clientId, int limit);
+
     /**
      * Histórico de agendamentos do cliente (Paginado).
      */
     PagedResult<Appointment> findAllByClientId(UUID clientId, int page, int size);
 
+    /**
+     * Histórico do cliente por cursor (mais recentes primeiro), sem OFFSET. O COUNT só roda com includeTotal.
+     */
+    CursorPage<Appointment> findAllByClientIdAfter(UUID clientId, PageCursor after, int size, boolean includeTotal);
+
     /**
      * Busca agendamentos concluídos mas que ainda não tiveram comissão
      * paga/processada.
      */
     List<Appointment> findPendingSettlementByProfessional(UUID professionalId);
 
+    /**
+     * IDs dos agendamentos concluídos, pagos online e com comissão ainda não liquidada
+     * do estabelecimento, com início antes de {@code before} (candidatos ao split automático).
+     */
+    List<UUID> findPendingSplitIdsByProvider(UUID providerId, LocalDateTime before);
+
     List<Appointment> findPendingReminders(LocalDateTime currentTime);
 
     boolean existsByExternalEventId(String externalEventId);
@@ -0,0 +1,44 @@
+package com.stylo.api_agendamento.core.ports;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Cache dos horários livres calculados por profissional/dia/duração.
+ * A invalidação é por versão: nada é apagado, a versão do dia (ou de toda a
+ * agenda do profissional) avança e as entradas antigas deixam de ser lidas.
+ */
+public interface IAvailabilityCache {
+
+    /**
+     * Horários livres do dia (sem o filtro de "horários que já passaram").
+     * A consulta guarda a chave com as versões lidas agora; o {@link #put} de um
+     * miss deve usar essa mesma consulta, feita ANTES de ler o banco.
+     */
+    Lookup get(UUID professionalId, LocalDate date, int totalDurationMinutes);
+
+    /**
+     * Grava sob as versões da consulta: se a agenda mudou durante o cálculo, a versão
+     * já avançou e a entrada nasce órfã (nunca é lida).
+     */
+    void put(Lookup lookup, List<LocalTime> slots);
+
+    /**
+     * Resultado de uma leitura do cache. {@code versionedKey} nulo = cache indisponível (não grava).
+     */
+    record Lookup(String versionedKey, Optional<List<LocalTime>> slots) {
+    }
+
+    /**
+     * Invalida os dias [from, to] da agenda do profissional.
+     */
+    void invalidateDays(UUID professionalId, LocalDate from, LocalDate to);
+
+    /**
+     * Invalida todos os dias (ex: mudança de expediente ou de intervalo entre slots).
+     */
+    void invalidateProfessional(UUID professionalId);
+}
@@ -0,0 +1,14 @@
+package com.stylo.api_agendamento.core.ports;
+
+/**
+ * Registro durável de backfills concluídos (tabela backfill_markers).
+ */
+public interface IBackfillMarkerRepository {
+
+    boolean isCompleted(String name);
+
+    /**
+     * Só deve ser chamado depois que o backfill inteiro terminou sem falhas.
+     */
+    void markCompleted(String name);
+}
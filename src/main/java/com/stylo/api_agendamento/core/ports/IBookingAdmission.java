@@ -0,0 +1,25 @@
+package com.stylo.api_agendamento.core.ports;
+
+import com.stylo.api_agendamento.core.domain.schedule.BookingAdmission;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Controle de admissão de agendamentos por profissional: senhas FIFO e limite
+ * de agendamentos em andamento ao mesmo tempo.
+ */
+public interface IBookingAdmission {
+
+    /**
+     * Tenta entrar (ou avançar) na fila do profissional.
+     * {@code ticket} nulo = primeira tentativa; uma senha nova é emitida.
+     */
+    BookingAdmission tryAdmit(UUID professionalId, UUID ticket);
+
+    /**
+     * Libera a vaga ocupada pela senha admitida, informando quanto o agendamento levou
+     * (alimenta a estimativa de espera da fila).
+     */
+    void release(UUID professionalId, UUID ticket, Duration serviceTime);
+}
@@ -0,0 +1,20 @@
+package com.stylo.api_agendamento.core.ports;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Fila de escrita única por profissional: comandos de agendamento do mesmo
+ * profissional são aplicados um de cada vez, na ordem de chegada.
+ */
+public interface IBookingSequencer {
+
+    /**
+     * Enfileira o comando na fila do profissional.
+     * Se o comando esperar na fila além do limite configurado, o futuro falha sem executá-lo.
+     * O futuro também falha se o resultado não sair dentro da espera máxima, mesmo que o
+     * comando já esteja em execução: quem espera nunca fica preso a um comando travado.
+     */
+    <T> CompletableFuture<T> submit(UUID professionalId, Supplier<T> command);
+}
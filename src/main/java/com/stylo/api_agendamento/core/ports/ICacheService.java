@@ -26,4 +26,16 @@ public interface ICacheService {
      * Remove todas as chaves que começam com um prefixo (ex: "appt:prof:123:*").
      */
     void evictPattern(String pattern);
+
+    /**
+     * Incrementa atomicamente um contador numérico (criado em 0 se não existir)
+     * e renova o seu tempo de vida.
+     * @return Valor após o incremento
+     */
+    long increment(String key, long ttlMinutes);
+
+    /**
+     * Lê um contador numérico. Retorna 0 se a chave não existir.
+     */
+    long getCounter(String key);
 }
\ No newline at end of file
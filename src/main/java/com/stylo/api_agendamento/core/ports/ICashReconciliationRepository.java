@@ -0,0 +1,25 @@
+package com.stylo.api_agendamento.core.ports;
+
+import com.stylo.api_agendamento.core.usecases.dto.CashReconciliationSummary;
+import com.stylo.api_agendamento.core.usecases.dto.CashRegisterReconciliation;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Conciliação de caixa calculada no banco (sem carregar agregados nem transações).
+ * Sessões do período = caixas abertos em [start, end).
+ */
+public interface ICashReconciliationRepository {
+
+    long countRegisters(UUID providerId, LocalDateTime start, LocalDateTime end);
+
+    /**
+     * Percorre uma página de sessões (ordem de abertura), entregando uma a uma ao consumidor.
+     */
+    void streamRegisters(UUID providerId, LocalDateTime start, LocalDateTime end, int page, int size,
+            Consumer<CashRegisterReconciliation> consumer);
+
+    CashReconciliationSummary summarize(UUID providerId, LocalDateTime start, LocalDateTime end);
+}
@@ -1,7 +1,10 @@
 package com.stylo.api_agendamento.core.ports;
 
+import com.stylo.api_agendamento.core.common.PagedResult;
 import com.stylo.api_agendamento.core.domain.financial.CashRegister;
+import com.stylo.api_agendamento.core.domain.financial.CashTransaction;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -9,18 +12,54 @@ import java.util.UUID;
 
 public interface ICashRegisterRepository {
     
+    /**
+     * Grava um caixa novo (abertura) junto com as transações iniciais.
+     */
     CashRegister save(CashRegister cashRegister);
 
     /**
      * Busca o caixa atualmente ABERTO para o estabelecimento.
      * Regra: Só pode haver 1 caixa aberto por Provider.
+     * ✨ Retorna apenas o cabeçalho (saldos e status), sem o histórico de transações.
      */
     Optional<CashRegister> findOpenByProviderId(UUID providerId);
 
+    /**
+     * Igual a {@link #findOpenByProviderId(UUID)}, travando a linha do caixa até o fim da
+     * transação (fechamento: as vendas concorrentes esperam e encontram o caixa fechado).
+     */
+    Optional<CashRegister> findOpenByProviderIdForUpdate(UUID providerId);
+
+    /**
+     * Caixa completo, com o histórico de transações (relatórios).
+     */
     Optional<CashRegister> findById(UUID id);
 
     /**
-     * Histórico de caixas fechados por período.
+     * Apenas o cabeçalho do caixa (saldos e status), sem o histórico de transações.
+     */
+    Optional<CashRegister> findSummaryById(UUID id);
+
+    /**
+     * Movimentações do caixa em ordem cronológica, paginadas (sem carregar o caixa).
+     */
+    PagedResult<CashTransaction> findTransactions(UUID cashRegisterId, int page, int size);
+
+    /**
+     * Histórico de caixas fechados por período (apenas cabeçalhos).
      */
     List<CashRegister> findClosedByProviderAndPeriod(UUID providerId, LocalDateTime start, LocalDateTime end);
-}
\ No newline at end of file
+
+    /**
+     * Lança a movimentação (append-only): UPDATE condicional do saldo do caixa aberto
+     * (nunca negativo) seguido do INSERT da transação.
+     *
+     * @return saldo após a movimentação; vazio se o caixa não estiver aberto ou o saldo ficaria negativo
+     */
+    Optional<BigDecimal> appendTransaction(CashTransaction transaction);
+
+    /**
+     * Grava o fechamento (cabeçalho) e a transação de fechamento.
+     */
+    void close(CashRegister closedRegister, CashTransaction closingTransaction);
+}
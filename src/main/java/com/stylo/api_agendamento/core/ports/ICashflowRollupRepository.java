@@ -0,0 +1,47 @@
+package com.stylo.api_agendamento.core.ports;
+
+import com.stylo.api_agendamento.core.usecases.dto.DailyCashFlow;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Rollup diário do fluxo de caixa por estabelecimento (provider_daily_cashflow).
+ * Os incrementos devem ser chamados dentro da transação da escrita de origem.
+ */
+public interface ICashflowRollupRepository {
+
+    /**
+     * Valor negativo estorna.
+     */
+    void addRevenue(UUID providerId, LocalDate day, BigDecimal amount);
+
+    /**
+     * Valor negativo estorna (ex: exclusão ou alteração de despesa).
+     */
+    void addExpense(UUID providerId, LocalDate day, BigDecimal amount);
+
+    /**
+     * Apenas os dias com movimento, em ordem (no máximo uma linha por dia).
+     */
+    List<DailyCashFlow> findByProviderAndPeriod(UUID providerId, LocalDate from, LocalDate to);
+
+    /**
+     * Recalcula os dias [from, to] a partir dos agendamentos e despesas.
+     * Espera os incrementos em andamento do estabelecimento e bloqueia novos até o commit.
+     */
+    void rebuild(UUID providerId, LocalDate from, LocalDate to);
+
+    /**
+     * Recalcula todo o histórico do estabelecimento, do primeiro ao último dia com
+     * movimento (inclusive despesas com data futura). Mesmo lock de {@link #rebuild}.
+     */
+    void rebuildAll(UUID providerId);
+
+    /**
+     * Dias em que o rollup diverge da agregação direta das tabelas de origem.
+     */
+    List<LocalDate> findInconsistentDays(UUID providerId, LocalDate from, LocalDate to);
+}
@@ -1,5 +1,7 @@
 package com.stylo.api_agendamento.core.ports;
 
+import com.stylo.api_agendamento.core.common.CursorPage;
+import com.stylo.api_agendamento.core.common.PageCursor;
 import com.stylo.api_agendamento.core.common.PagedResult;
 import com.stylo.api_agendamento.core.domain.Client;
 
@@ -28,4 +30,10 @@ public interface IClientRepository {
      * Lista clientes de um estabelecimento com paginação e filtro por nome.
      */
     PagedResult<Client> findAllByProviderId(UUID providerId, String nameFilter, int page, int size);
+
+    /**
+     * Mesma listagem por cursor (ordem alfabética), sem OFFSET. O COUNT só roda com includeTotal.
+     */
+    CursorPage<Client> findAllByProviderIdAfter(UUID providerId, String nameFilter, PageCursor after, int size,
+            boolean includeTotal);
 }
\ No newline at end of file
@@ -0,0 +1,29 @@
+package com.stylo.api_agendamento.core.ports;
+
+import com.stylo.api_agendamento.core.usecases.dto.ClientStats;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Read model client_stats (indicadores vitalícios do cliente).
+ */
+public interface IClientStatsRepository {
+
+    /**
+     * Contabiliza um atendimento concluído. Deve rodar na transação da finalização.
+     */
+    void recordVisit(UUID clientId, BigDecimal amount, List<String> serviceNames, String professionalName);
+
+    /**
+     * Totais e rankings em uma única consulta.
+     */
+    Optional<ClientStats> findByClient(UUID clientId, int topServices, int topProfessionals);
+
+    /**
+     * Recalcula todo o read model a partir dos agendamentos concluídos.
+     */
+    void rebuildAll();
+}
@@ -0,0 +1,21 @@
+package com.stylo.api_agendamento.core.ports;
+
+import com.stylo.api_agendamento.core.usecases.dto.FinancialExportType;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Leitura em streaming para exportações: as linhas são entregues uma a uma ao
+ * consumidor (na ordem de {@link FinancialExportType#getColumns()}), sem montar
+ * listas nem entidades em memória.
+ */
+public interface IFinancialExportRepository {
+
+    /**
+     * Percorre as linhas do período [start, end) do estabelecimento.
+     */
+    void stream(FinancialExportType type, UUID providerId, LocalDateTime start, LocalDateTime end,
+            Consumer<Object[]> rowConsumer);
+}
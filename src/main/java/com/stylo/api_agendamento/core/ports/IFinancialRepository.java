@@ -1,9 +1,13 @@
 package com.stylo.api_agendamento.core.ports;
 
+import com.stylo.api_agendamento.core.common.CursorPage;
+import com.stylo.api_agendamento.core.common.PageCursor;
 import com.stylo.api_agendamento.core.common.PagedResult;
 import com.stylo.api_agendamento.core.domain.Expense;
 import com.stylo.api_agendamento.core.domain.Payout;
 import com.stylo.api_agendamento.core.domain.vo.PaymentMethod;
+import com.stylo.api_agendamento.core.usecases.dto.DailyTotal;
+import com.stylo.api_agendamento.core.usecases.dto.SettledPayout;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -19,6 +23,16 @@ public interface IFinancialRepository {
     
     PagedResult<Expense> findAllExpensesByProviderId(UUID providerId, int page, int size);
 
+    /**
+     * Despesas por cursor (data mais recente primeiro), sem OFFSET. O COUNT só roda com includeTotal.
+     */
+    CursorPage<Expense> findAllExpensesByProviderIdAfter(UUID providerId, PageCursor after, int size, boolean includeTotal);
+
+    /**
+     * Despesas agrupadas por dia de competência, calculadas no banco. Período semiaberto [start, end).
+     */
+    List<DailyTotal> sumExpensesByDay(UUID providerId, LocalDateTime start, LocalDateTime end);
+
     void deleteExpense(UUID expenseId);
 
     // --- RECEITAS (CAIXA / VENDAS) ---
@@ -33,4 +47,15 @@ public interface IFinancialRepository {
     Payout savePayout(Payout payout);
     
     List<Payout> findPayoutsByProfessional(UUID professionalId, int page, int size);
+
+    /**
+     * Liquida em lote as comissões pendentes (agendamentos COMPLETED não liquidados) e
+     * cria um repasse pago por profissional, tudo em um único comando no banco.
+     * Agendamentos com comissão zero são liquidados sem repasse nem vínculo.
+     *
+     * @param professionalId  null = todos os profissionais do estabelecimento
+     * @param completedBefore só atendimentos iniciados antes (fim da competência); null = todos
+     */
+    List<SettledPayout> settleCommissions(UUID providerId, UUID professionalId, LocalDateTime completedBefore,
+            LocalDateTime processedAt);
 }
\ No newline at end of file
@@ -0,0 +1,27 @@
+package com.stylo.api_agendamento.core.ports;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Rollup diário de minutos ocupados por profissional (professional_daily_occupancy).
+ */
+public interface IOccupancyRollupRepository {
+
+    /**
+     * Serializa os recálculos do profissional até o fim da transação corrente.
+     */
+    void lockProfessional(UUID professionalId);
+
+    /**
+     * Grava o valor recalculado de cada dia (substitui o anterior) em um único comando.
+     */
+    void saveDays(UUID professionalId, Map<LocalDate, Integer> occupiedMinutesByDay);
+
+    /**
+     * Soma dos minutos ocupados por profissional do estabelecimento em [from, to].
+     * Profissionais sem linhas no período não aparecem no mapa.
+     */
+    Map<UUID, Long> sumOccupiedMinutesByProfessional(UUID providerId, LocalDate from, LocalDate to);
+}
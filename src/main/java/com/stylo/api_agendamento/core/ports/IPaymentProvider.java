@@ -21,8 +21,12 @@ public interface IPaymentProvider {
 
     /**
      * Executa a divisão do dinheiro (Split) após o recebimento.
+     * Chamadas repetidas com a mesma {@code idempotencyKey} não transferem de novo:
+     * devolvem a transferência já criada.
+     *
+     * @return ID da transferência no gateway
      */
-    void executeTransfer(String sourceChargeId, String targetAccountId, BigDecimal amount);
+    String executeTransfer(String sourceChargeId, String targetAccountId, BigDecimal amount, String idempotencyKey);
 
     // --- ONBOARDING (STRIPE CONNECT) ---
     
@@ -34,4 +34,10 @@ public interface IProfessionalRepository {
     Optional<Professional> findByGatewayAccountId(String accountId);
 
     List<Professional> findByServiceProviderId(UUID providerId);
+
+    /**
+     * IDs dos profissionais ativos (jobs de reconstrução de rollups). Inativos
+     * mantêm o que já foi calculado para eles.
+     */
+    List<UUID> findAllIds();
 }
\ No newline at end of file
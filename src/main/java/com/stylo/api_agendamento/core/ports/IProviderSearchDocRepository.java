@@ -0,0 +1,37 @@
+package com.stylo.api_agendamento.core.ports;
+
+import com.stylo.api_agendamento.core.common.CursorPage;
+import com.stylo.api_agendamento.core.common.PageCursor;
+import com.stylo.api_agendamento.core.common.PagedResult;
+import com.stylo.api_agendamento.core.usecases.dto.ProviderSearchCriteria;
+import com.stylo.api_agendamento.core.usecases.dto.ProviderSearchHit;
+
+import java.util.UUID;
+
+/**
+ * Read model provider_search_doc (busca pública de estabelecimentos).
+ */
+public interface IProviderSearchDocRepository {
+
+    /**
+     * Recalcula o documento do estabelecimento (nome, cidade, nota, faixa de preço e
+     * nomes dos serviços ativos). Deve rodar na transação que alterou esses dados.
+     */
+    void refresh(UUID providerId);
+
+    /**
+     * Busca ranqueada direto no read model, sem JOIN com os serviços.
+     */
+    PagedResult<ProviderSearchHit> search(ProviderSearchCriteria criteria, int page, int size);
+
+    /**
+     * Mesma busca por cursor, sem OFFSET. O COUNT só roda com includeTotal.
+     */
+    CursorPage<ProviderSearchHit> searchAfter(ProviderSearchCriteria criteria, PageCursor after, int size,
+            boolean includeTotal);
+
+    /**
+     * Recalcula todos os documentos a partir dos estabelecimentos e serviços.
+     */
+    void rebuildAll();
+}
@@ -0,0 +1,23 @@
+package com.stylo.api_agendamento.core.ports;
+
+import com.stylo.api_agendamento.core.usecases.dto.ProviderTypeaheadEntry;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Fonte do índice de autocomplete (estabelecimentos ativos e públicos).
+ */
+public interface IProviderTypeaheadRepository {
+
+    /**
+     * Percorre todos os estabelecimentos em streaming, um por vez.
+     */
+    void forEachProvider(Consumer<ProviderTypeaheadEntry> consumer);
+
+    /**
+     * Vazio se o estabelecimento não existe ou não aparece na busca (inativo/sem perfil público).
+     */
+    Optional<ProviderTypeaheadEntry> findByProviderId(UUID providerId);
+}
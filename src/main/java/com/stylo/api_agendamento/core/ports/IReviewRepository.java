@@ -1,5 +1,7 @@
 package com.stylo.api_agendamento.core.ports;
 
+import com.stylo.api_agendamento.core.common.CursorPage;
+import com.stylo.api_agendamento.core.common.PageCursor;
 import com.stylo.api_agendamento.core.common.PagedResult;
 import com.stylo.api_agendamento.core.domain.Review;
 
@@ -22,6 +24,13 @@ public interface IReviewRepository {
      */
     PagedResult<Review> findAllByProviderId(UUID providerId, int page, int size);
 
+    /**
+     * Versões por cursor (mais recentes primeiro), sem OFFSET. O COUNT só roda com includeTotal.
+     */
+    CursorPage<Review> findAllByProfessionalIdAfter(UUID professionalId, PageCursor after, int size, boolean includeTotal);
+
+    CursorPage<Review> findAllByProviderIdAfter(UUID providerId, PageCursor after, int size, boolean includeTotal);
+
     /**
      * Calcula a média de estrelas (1.0 a 5.0).
      */
@@ -5,8 +5,10 @@ import com.stylo.api_agendamento.core.domain.ServiceProvider;
 import com.stylo.api_agendamento.core.domain.vo.Document;
 import com.stylo.api_agendamento.core.domain.vo.Slug;
 import com.stylo.api_agendamento.core.usecases.dto.ProviderSearchCriteria;
+import com.stylo.api_agendamento.core.usecases.dto.ProviderSearchHit;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -17,6 +19,11 @@ public interface IServiceProviderRepository {
 
     Optional<ServiceProvider> findById(UUID id);
 
+    /**
+     * Busca em lote (uma consulta), para evitar N+1 em listagens.
+     */
+    List<ServiceProvider> findAllByIds(Collection<UUID> ids);
+
     /**
      * Busca estabelecimento pela URL amigável (ex: stylo.com/barbearia-top).
      */
@@ -49,7 +56,22 @@ public interface IServiceProviderRepository {
      */
     List<ServiceProvider> findUpcomingExpirations(LocalDateTime threshold);
 
+    /**
+     * IDs de todos os estabelecimentos (jobs de reconstrução de rollups).
+     */
+    List<UUID> findAllIds();
+
+    /**
+     * IDs na faixa [fromInclusive, toExclusive), na ordem de UUID do banco (limites nulos = faixa aberta).
+     * Base do particionamento em lotes do fechamento mensal.
+     */
+    List<UUID> findIdsInRange(UUID fromInclusive, UUID toExclusive);
+
     PagedResult<ServiceProvider> getFavoriteProvidersByClient(UUID clientId, int page, int size);
 
-    PagedResult<ServiceProvider> searchProviders(ProviderSearchCriteria criteria, int page, int size);
+    /**
+     * Busca pública ranqueada direto em service_providers (antes do read model ficar pronto).
+     * Com localização, filtra pelo raio e preenche a distância (km).
+     */
+    PagedResult<ProviderSearchHit> searchProviders(ProviderSearchCriteria criteria, int page, int size);
 }
\ No newline at end of file
@@ -0,0 +1,45 @@
+package com.stylo.api_agendamento.core.ports;
+
+import com.stylo.api_agendamento.core.domain.settlement.SettlementChunk;
+import com.stylo.api_agendamento.core.domain.settlement.SettlementChunkResult;
+import com.stylo.api_agendamento.core.domain.settlement.SettlementRun;
+import com.stylo.api_agendamento.core.domain.settlement.SettlementRunStatus;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Checkpoint do fechamento mensal (execuções e lotes).
+ */
+public interface ISettlementRunRepository {
+
+    Optional<SettlementRun> findByPeriod(YearMonth period);
+
+    /**
+     * Grava a execução e o plano de lotes na mesma transação.
+     * Retorna false se outra instância já criou a execução desta competência.
+     */
+    boolean create(SettlementRun run, List<SettlementChunk> chunks);
+
+    /**
+     * Execuções ainda não concluídas (RUNNING ou FAILED), para retomada.
+     */
+    List<SettlementRun> findUnfinished();
+
+    /**
+     * Lotes que ainda não terminaram com sucesso.
+     */
+    List<SettlementChunk> findPendingChunks(UUID runId);
+
+    /**
+     * Reserva o lote para esta instância. Só consegue se o lote estiver pendente, com falha
+     * ou abandonado (RUNNING sem atualização há mais de {@code leaseMinutes}).
+     */
+    boolean claimChunk(UUID runId, int chunkIndex, int leaseMinutes);
+
+    void saveChunkResult(UUID runId, SettlementChunkResult result);
+
+    void finish(UUID runId, SettlementRunStatus status);
+}
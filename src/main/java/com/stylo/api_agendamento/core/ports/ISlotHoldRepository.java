@@ -0,0 +1,28 @@
+package com.stylo.api_agendamento.core.ports;
+
+import com.stylo.api_agendamento.core.domain.schedule.SlotHold;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Reservas temporárias agrupadas por profissional/dia (uma estrutura por dia,
+ * lida de uma vez no cálculo de disponibilidade).
+ */
+public interface ISlotHoldRepository {
+
+    /**
+     * Grava a reserva se nenhuma outra reserva ativa de outro cliente se sobrepuser a ela.
+     * Operação atômica; uma reserva anterior do mesmo cliente no mesmo dia é substituída.
+     * @return false se o horário já estiver reservado por outro cliente
+     */
+    boolean tryHold(SlotHold hold);
+
+    /**
+     * Reservas ainda não expiradas do dia (pelo início da reserva).
+     */
+    List<SlotHold> findActive(UUID professionalId, LocalDate date);
+
+    void release(UUID professionalId, LocalDate date, UUID holdId);
+}
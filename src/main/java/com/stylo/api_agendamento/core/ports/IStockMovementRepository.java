@@ -1,5 +1,7 @@
 package com.stylo.api_agendamento.core.ports;
 
+import com.stylo.api_agendamento.core.common.CursorPage;
+import com.stylo.api_agendamento.core.common.PageCursor;
 import com.stylo.api_agendamento.core.common.PagedResult;
 import com.stylo.api_agendamento.core.domain.stock.StockMovement;
 
@@ -18,4 +20,11 @@ public interface IStockMovementRepository {
      * Auditoria geral do estabelecimento (quem mexeu no que).
      */
     PagedResult<StockMovement> findAllByProviderId(UUID providerId, int page, int size);
+
+    /**
+     * Versões por cursor (mais recentes primeiro), sem OFFSET. O COUNT só roda com includeTotal.
+     */
+    CursorPage<StockMovement> findAllByProductIdAfter(UUID productId, PageCursor after, int size, boolean includeTotal);
+
+    CursorPage<StockMovement> findAllByProviderIdAfter(UUID providerId, PageCursor after, int size, boolean includeTotal);
 }
\ No newline at end of file
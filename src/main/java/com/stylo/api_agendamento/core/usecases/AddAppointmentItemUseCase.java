@@ -4,6 +4,7 @@ import com.stylo.api_agendamento.core.common.UseCase;
 import com.stylo.api_agendamento.core.domain.Appointment;
 import com.stylo.api_agendamento.core.domain.AppointmentStatus;
 import com.stylo.api_agendamento.core.domain.Product;
+import com.stylo.api_agendamento.core.domain.events.ProfessionalAgendaChangedEvent;
 import com.stylo.api_agendamento.core.domain.events.ProductLowStockEvent;
 import com.stylo.api_agendamento.core.domain.stock.StockMovement;
 import com.stylo.api_agendamento.core.domain.stock.StockMovementType;
@@ -98,6 +99,8 @@ public class AddAppointmentItemUseCase {
         
         // Salva e retorna o agendamento atualizado (com novos totais calculados)
         Appointment updatedAppointment = appointmentRepository.save(appointment);
+        eventPublisher.publish(ProfessionalAgendaChangedEvent.of(
+                appointment.getProfessionalId(), appointment.getStartTime(), appointment.getEndTime()));
         
         log.info("Item adicionado ao agendamento {}: Produto={}, Qtd={}", 
                 appointment.getId(), product.getName(), input.quantity());
@@ -0,0 +1,35 @@
+package com.stylo.api_agendamento.core.usecases;
+
+import com.stylo.api_agendamento.core.common.UseCase;
+import com.stylo.api_agendamento.core.domain.search.TypeaheadIndex;
+import com.stylo.api_agendamento.core.domain.search.TypeaheadSuggestion;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Autocomplete da caixa de busca: nomes de estabelecimentos e de serviços que
+ * começam pelo texto digitado, direto da memória (sem ir ao banco).
+ */
+@UseCase
+@RequiredArgsConstructor
+public class AutocompleteProvidersUseCase {
+
+    // Com 1 letra o intervalo do índice é grande e a sugestão pouco útil
+    private static final int MIN_PREFIX_LENGTH = 2;
+    private static final int DEFAULT_LIMIT = 8;
+    private static final int MAX_LIMIT = 20;
+
+    private final MaintainProviderTypeaheadUseCase maintainProviderTypeaheadUseCase;
+
+    public List<TypeaheadSuggestion> execute(String query, Integer limit) {
+        if (TypeaheadIndex.normalize(query).length() < MIN_PREFIX_LENGTH) {
+            return List.of();
+        }
+
+        int k = limit == null ? DEFAULT_LIMIT : Math.max(1, Math.min(limit, MAX_LIMIT));
+
+        // Antes da carga inicial o índice está vazio: a busca completa continua disponível
+        return maintainProviderTypeaheadUseCase.currentIndex().complete(query, k);
+    }
+}
@@ -5,6 +5,8 @@ import com.stylo.api_agendamento.core.domain.Appointment;
 import com.stylo.api_agendamento.core.domain.Professional;
 import com.stylo.api_agendamento.core.domain.ServiceProvider;
 import com.stylo.api_agendamento.core.domain.events.AppointmentCreatedEvent;
+import com.stylo.api_agendamento.core.domain.events.ProfessionalAgendaChangedEvent;
+import com.stylo.api_agendamento.core.domain.schedule.IntervalIndex;
 import com.stylo.api_agendamento.core.exceptions.BusinessException;
 import com.stylo.api_agendamento.core.exceptions.EntityNotFoundException;
 import com.stylo.api_agendamento.core.ports.IAppointmentRepository;
@@ -16,7 +18,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.List;
 import java.util.UUID;
 
 @Slf4j
@@ -43,16 +44,17 @@ public class BlockProfessionalTimeUseCase {
             throw new BusinessException("O estabelecimento não pode realizar operações pois a assinatura está inativa.");
         }
 
-        // 3. Busca ocupações existentes para o dia solicitado
+        // 3. Busca ocupações existentes no intervalo solicitado (inclusive bloqueios de vários dias)
         // Importante para a regra de negócio de não permitir bloqueio sobre agendamentos de clientes
-        List<Appointment> existingAppointments = appointmentRepository.findAllByProfessionalIdAndDate(
-                professional.getId(), 
-                input.start().toLocalDate()
-        );
+        IntervalIndex occupied = IntervalIndex.ofIntervals(appointmentRepository.findOccupiedIntervals(
+                professional.getId(),
+                input.start(),
+                input.end()
+        ));
 
         // 4. Validação de Domínio (Encapsulada na Entidade Professional)
         // Garante que o profissional não bloqueie um horário que JÁ possua agendamentos SCHEDULED ou PENDING
-        professional.validateCanBlockTime(input.start(), input.end(), existingAppointments);
+        professional.validateCanBlockTime(input.start(), input.end(), occupied);
 
         // 5. Criação do Bloqueio Pessoal usando o Factory Method do Domínio
         // O agendamento nasce com status BLOCKED e isPersonalBlock = true
@@ -67,7 +69,7 @@ public class BlockProfessionalTimeUseCase {
         );
 
         // 6. Persistência no Repositório de Agendamentos
-        Appointment savedBlock = appointmentRepository.save(block);
+        Appointment savedBlock = appointmentRepository.saveBooking(block);
         log.info("Bloqueio de agenda criado com sucesso. ID: {} | Profissional: {}", 
                 savedBlock.getId(), professional.getName());
 
@@ -79,6 +81,8 @@ public class BlockProfessionalTimeUseCase {
                 "BLOQUEIO: " + input.reason(),
                 savedBlock.getStartTime()
         ));
+        eventPublisher.publish(ProfessionalAgendaChangedEvent.of(
+                professional.getId(), savedBlock.getStartTime(), savedBlock.getEndTime()));
     }
 
     /**
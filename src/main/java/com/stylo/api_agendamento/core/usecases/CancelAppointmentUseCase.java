@@ -5,6 +5,7 @@ import com.stylo.api_agendamento.core.domain.Appointment;
 import com.stylo.api_agendamento.core.domain.AppointmentStatus;
 import com.stylo.api_agendamento.core.domain.ServiceProvider;
 import com.stylo.api_agendamento.core.domain.events.AppointmentCancelledEvent;
+import com.stylo.api_agendamento.core.domain.events.ProfessionalAgendaChangedEvent;
 import com.stylo.api_agendamento.core.domain.stock.StockMovement;
 import com.stylo.api_agendamento.core.domain.stock.StockMovementType;
 import com.stylo.api_agendamento.core.exceptions.BusinessException;
@@ -83,6 +84,8 @@ public class CancelAppointmentUseCase {
                 appointment.getEndTime(),
                 input.reason()
         ));
+        eventPublisher.publish(ProfessionalAgendaChangedEvent.of(
+                appointment.getProfessionalId(), appointment.getStartTime(), appointment.getEndTime()));
         
         log.info("Agendamento {} cancelado com sucesso. Operador: {}", appointment.getId(), input.userId());
     }
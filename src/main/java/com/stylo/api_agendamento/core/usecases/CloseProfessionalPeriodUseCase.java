@@ -1,16 +1,17 @@
 package com.stylo.api_agendamento.core.usecases;
 
 import com.stylo.api_agendamento.core.common.UseCase;
-import com.stylo.api_agendamento.core.domain.Appointment;
-import com.stylo.api_agendamento.core.domain.Payout;
+import com.stylo.api_agendamento.core.domain.Professional;
 import com.stylo.api_agendamento.core.exceptions.BusinessException;
-import com.stylo.api_agendamento.core.ports.IAppointmentRepository;
+import com.stylo.api_agendamento.core.exceptions.EntityNotFoundException;
 import com.stylo.api_agendamento.core.ports.IFinancialRepository;
+import com.stylo.api_agendamento.core.ports.IProfessionalRepository;
+import com.stylo.api_agendamento.core.usecases.dto.SettledPayout;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -19,57 +20,32 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class CloseProfessionalPeriodUseCase {
 
-    private final IAppointmentRepository appointmentRepository;
+    private final IProfessionalRepository professionalRepository;
     private final IFinancialRepository financialRepository;
 
     /**
      * Consolida as comissões pendentes de um profissional e gera o fechamento (Payout).
+     * ✨ Mesmo comando em lote do fechamento da folha, restrito a um profissional:
+     * a liquidação dos agendamentos e o repasse são gravados pelo banco em um único round-trip.
      */
     @Transactional
-    public Payout execute(UUID professionalId) {
-        // 1. Busca agendamentos concluídos e não liquidados (comissionSettled = false)
-        List<Appointment> pendingAppointments = appointmentRepository.findPendingSettlementByProfessional(professionalId);
+    public SettledPayout execute(UUID professionalId) {
+        Professional professional = professionalRepository.findById(professionalId)
+                .orElseThrow(() -> new EntityNotFoundException("Profissional não encontrado."));
 
-        if (pendingAppointments.isEmpty()) {
+        List<SettledPayout> payouts = financialRepository.settleCommissions(
+                professional.getServiceProviderId(), professionalId, null, LocalDateTime.now());
+
+        if (payouts.isEmpty()) {
             log.info("Nenhuma comissão pendente encontrada para o profissional {}", professionalId);
             throw new BusinessException("Não há comissões pendentes para realizar o fechamento deste profissional.");
         }
 
-        // 2. Consolida o valor total e IDs
-        BigDecimal totalToPay = pendingAppointments.stream()
-                .map(Appointment::getProfessionalCommission)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        List<UUID> appointmentIds = pendingAppointments.stream()
-                .map(Appointment::getId)
-                .toList();
-
-        UUID serviceProviderId = pendingAppointments.get(0).getServiceProviderId();
-
-        // 3. Cria a Entidade Payout usando o Factory de Domínio (Garante UUID e Status PENDING inicial)
-        Payout payout = Payout.create(
-                professionalId,
-                serviceProviderId,
-                totalToPay,
-                appointmentIds
-        );
-
-        // Como o fechamento manual geralmente ocorre após o pagamento ter sido feito (ou via transferência), 
-        // marcamos como pago imediatamente neste fluxo simples.
-        payout.markAsPaid("MANUAL-SETTLEMENT-" + UUID.randomUUID().toString().substring(0, 8));
-
-        // 4. Marca os agendamentos como liquidados (Proteção contra re-processamento)
-        pendingAppointments.forEach(appt -> {
-            appt.markCommissionAsSettled();
-            appointmentRepository.save(appt);
-        });
-
-        // 5. Persiste o Payout no histórico financeiro
-        Payout savedPayout = financialRepository.savePayout(payout);
+        SettledPayout payout = payouts.get(0);
 
-        log.info("💰 Fechamento concluído. Profissional: {} | Total: R$ {} | Agendamentos: {}", 
-                professionalId, totalToPay, appointmentIds.size());
+        log.info("💰 Fechamento concluído. Profissional: {} | Total: R$ {} | Agendamentos: {}",
+                professionalId, payout.totalAmount(), payout.appointmentCount());
 
-        return savedPayout;
+        return payout;
     }
-}
\ No newline at end of file
+}
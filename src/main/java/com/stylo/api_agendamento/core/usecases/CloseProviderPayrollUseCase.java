@@ -0,0 +1,48 @@
+package com.stylo.api_agendamento.core.usecases;
+
+import com.stylo.api_agendamento.core.common.UseCase;
+import com.stylo.api_agendamento.core.exceptions.BusinessException;
+import com.stylo.api_agendamento.core.ports.IFinancialRepository;
+import com.stylo.api_agendamento.core.usecases.dto.SettledPayout;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Slf4j
+@UseCase
+@RequiredArgsConstructor
+public class CloseProviderPayrollUseCase {
+
+    private final IFinancialRepository financialRepository;
+
+    /**
+     * Fechamento da folha de comissões de todos os profissionais do estabelecimento
+     * em um único round-trip (UPDATE ... RETURNING + INSERT dos repasses no banco).
+     */
+    @Transactional
+    public Response execute(UUID providerId) {
+        List<SettledPayout> payouts = financialRepository.settleCommissions(providerId, null, null, LocalDateTime.now());
+
+        if (payouts.isEmpty()) {
+            throw new BusinessException("Não há comissões pendentes para realizar o fechamento.");
+        }
+
+        BigDecimal total = payouts.stream()
+                .map(SettledPayout::totalAmount)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+
+        log.info("💰 Fechamento da folha concluído. Estabelecimento: {} | Profissionais: {} | Total: R$ {}",
+                providerId, payouts.size(), total);
+
+        return new Response(payouts, total);
+    }
+
+    public record Response(
+            List<SettledPayout> payouts,
+            BigDecimal totalAmount) {}
+}
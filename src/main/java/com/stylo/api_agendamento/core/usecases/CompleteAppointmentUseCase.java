@@ -2,6 +2,7 @@ package com.stylo.api_agendamento.core.usecases;
 
 import com.stylo.api_agendamento.core.common.UseCase;
 import com.stylo.api_agendamento.core.domain.*;
+import com.stylo.api_agendamento.core.domain.events.ProfessionalAgendaChangedEvent;
 import com.stylo.api_agendamento.core.domain.stock.StockMovement;
 import com.stylo.api_agendamento.core.domain.stock.StockMovementType;
 import com.stylo.api_agendamento.core.domain.vo.PaymentMethod;
@@ -32,6 +33,9 @@ public class CompleteAppointmentUseCase {
     private final INotificationProvider notificationProvider;
     private final IClientRepository clientRepository;
     private final IUserContext userContext;
+    private final IEventPublisher eventPublisher;
+    private final ICashflowRollupRepository cashflowRollupRepository;
+    private final IClientStatsRepository clientStatsRepository;
 
     @Transactional
     public Appointment execute(Input input) {
@@ -95,6 +99,21 @@ public class CompleteAppointmentUseCase {
 
         // 8. Persistência
         Appointment saved = appointmentRepository.save(appointment);
+
+        // Rollup do dashboard financeiro, na mesma transação (receita pelo dia do atendimento)
+        cashflowRollupRepository.addRevenue(
+                saved.getServiceProviderId(), saved.getStartTime().toLocalDate(), saved.getFinalPrice());
+
+        // Indicadores vitalícios do cliente (read model do histórico), também na mesma transação
+        clientStatsRepository.recordVisit(
+                saved.getClientId(),
+                saved.getFinalPrice(),
+                saved.getServices().stream().map(Service::getName).toList(),
+                saved.getProfessionalName());
+
+        // COMPLETED deixa de ocupar a agenda: libera o restante do horário
+        eventPublisher.publish(ProfessionalAgendaChangedEvent.of(
+                saved.getProfessionalId(), saved.getStartTime(), saved.getEndTime()));
         
         // 9. Pós-Processamento: Solicitar Avaliação (Push)
         requestClientReview(saved);
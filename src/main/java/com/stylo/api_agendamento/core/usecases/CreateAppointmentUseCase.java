@@ -4,7 +4,12 @@ import com.stylo.api_agendamento.core.common.UseCase;
 import com.stylo.api_agendamento.core.domain.*;
 import com.stylo.api_agendamento.core.domain.coupon.Coupon;
 import com.stylo.api_agendamento.core.domain.events.AppointmentCreatedEvent;
+import com.stylo.api_agendamento.core.domain.events.ProfessionalAgendaChangedEvent;
+import com.stylo.api_agendamento.core.domain.schedule.BookingAdmission;
+import com.stylo.api_agendamento.core.domain.schedule.BookingMode;
+import com.stylo.api_agendamento.core.domain.schedule.SlotHold;
 import com.stylo.api_agendamento.core.domain.vo.ClientPhone;
+import com.stylo.api_agendamento.core.exceptions.BookingQueuedException;
 import com.stylo.api_agendamento.core.exceptions.BusinessException;
 import com.stylo.api_agendamento.core.exceptions.EntityNotFoundException;
 import com.stylo.api_agendamento.core.exceptions.ScheduleConflictException;
@@ -17,10 +22,15 @@ import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 @Slf4j
 @UseCase
@@ -34,17 +44,129 @@ public class CreateAppointmentUseCase {
     private final IServiceProviderRepository serviceProviderRepository;
     private final ICouponRepository couponRepository;
     private final IEventPublisher eventPublisher;
+    private final ISlotHoldRepository slotHoldRepository;
+    private final IBookingSequencer bookingSequencer;
+    private final IBookingAdmission bookingAdmission;
 
     // Componentes para Concorrência Distribuída e Transação Programática
     private final RedissonClient redissonClient;
     private final PlatformTransactionManager transactionManager;
 
+    // LOCK (padrão), OPTIMISTIC (constraint de exclusão no banco) ou SEQUENCER - stylo.booking.mode
+    private final BookingMode bookingMode;
+
     public Appointment execute(Input input) {
+        return execute(input, null);
+    }
+
+    /**
+     * Agendamento com sala de espera: só segue para o lock/transação quem foi admitido
+     * na fila do profissional. Os demais recebem a senha, a posição e a espera estimada
+     * e devem tentar de novo (sem segurar thread nem conexão enquanto esperam).
+     *
+     * @param admissionTicket senha recebida na tentativa anterior (null na primeira)
+     */
+    public Appointment execute(Input input, UUID admissionTicket) {
+        BookingAdmission admission = admit(input.professionalId(), admissionTicket);
+
+        long startedAt = System.nanoTime();
+        try {
+            Appointment saved = runGuarded(input.professionalId(), () -> executeInTransaction(input));
+
+            // Consome a reserva temporária do checkout (após o commit)
+            releaseHolds(saved, input.clientId());
+            return saved;
+        } finally {
+            bookingAdmission.release(input.professionalId(), admission.ticket(),
+                    Duration.ofNanos(System.nanoTime() - startedAt));
+        }
+    }
+
+    /**
+     * Versão assíncrona, para chamadores que não precisam da resposta na thread da requisição
+     * (o POST /v1/appointments segue síncrono por causa do @Idempotent, que só guarda
+     * ResponseEntity). Passa pela mesma sala de espera. No modo SEQUENCER o futuro completa
+     * quando a fila do profissional aplicar o comando, limitado por stylo.booking.sequencer.max-wait-ms;
+     * nos outros modos o agendamento roda na thread do chamador.
+     */
+    public CompletableFuture<Appointment> executeAsync(Input input, UUID admissionTicket) {
+        if (bookingMode != BookingMode.SEQUENCER) {
+            try {
+                return CompletableFuture.completedFuture(execute(input, admissionTicket));
+            } catch (RuntimeException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+
+        BookingAdmission admission;
+        try {
+            admission = admit(input.professionalId(), admissionTicket);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        long startedAt = System.nanoTime();
+        return bookingSequencer
+                .submit(input.professionalId(), () -> lockedTransaction(input.professionalId(),
+                        () -> executeInTransaction(input)))
+                .whenComplete((saved, error) -> bookingAdmission.release(input.professionalId(), admission.ticket(),
+                        Duration.ofNanos(System.nanoTime() - startedAt)))
+                .thenApply(saved -> {
+                    // Consome a reserva temporária do checkout (após o commit)
+                    releaseHolds(saved, input.clientId());
+                    return saved;
+                });
+    }
+
+    private BookingAdmission admit(UUID professionalId, UUID admissionTicket) {
+        BookingAdmission admission = bookingAdmission.tryAdmit(professionalId, admissionTicket);
+
+        if (!admission.isAdmitted()) {
+            throw new BookingQueuedException(
+                    admission.status() == BookingAdmission.Status.REJECTED
+                            ? "A agenda deste profissional está com muita procura no momento. Tente novamente em instantes."
+                            : "Você está na fila para agendar com este profissional. Tente novamente em instantes.",
+                    admission);
+        }
+        return admission;
+    }
+
+    /**
+     * Executa uma escrita na agenda do profissional com a proteção do modo configurado.
+     * Reutilizado pelo agendamento recorrente (um único lock/transação para a série).
+     */
+    <T> T runGuarded(UUID professionalId, Supplier<T> work) {
+
+        if (bookingMode == BookingMode.OPTIMISTIC) {
+            // Sem lock distribuído nem lock de linha: requisições concorrentes seguem em
+            // paralelo e o banco rejeita a sobreposição no INSERT (ScheduleConflictException)
+            TransactionTemplate template = new TransactionTemplate(transactionManager);
+            return template.execute(status -> work.get());
+        }
+
+        if (bookingMode == BookingMode.SEQUENCER) {
+            // Comandos do mesmo profissional aplicados em ordem por uma única thread do nó.
+            // A thread da requisição espera o futuro, que o sequenciador encerra em max-wait-ms
+            // mesmo com o comando travado: a resposta continua síncrona para o @Idempotent
+            try {
+                return bookingSequencer.submit(professionalId, () -> lockedTransaction(professionalId, work)).join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+
+        return lockedTransaction(professionalId, work);
+    }
+
+    private <T> T lockedTransaction(UUID professionalId, Supplier<T> work) {
 
         // 1. Lock Distribuído (Escopo: Profissional)
         // Garante que apenas uma requisição por vez tente agendar para este
         // profissional.
-        String lockKey = "lock:appointment:professional:" + input.professionalId();
+        String lockKey = "lock:appointment:professional:" + professionalId;
         RLock lock = redissonClient.getLock(lockKey);
 
         try {
@@ -52,7 +174,7 @@ public class CreateAppointmentUseCase {
             boolean isLocked = lock.tryLock(2, 5, TimeUnit.SECONDS);
 
             if (!isLocked) {
-                log.warn("Concorrência detectada para o profissional {}", input.professionalId());
+                log.warn("Concorrência detectada para o profissional {}", professionalId);
                 throw new BusinessException(
                         "A agenda deste profissional está sendo atualizada por outro usuário. Tente novamente.");
             }
@@ -62,7 +184,7 @@ public class CreateAppointmentUseCase {
                 // Garante que a transação de banco de dados ocorra estritamente DENTRO do tempo
                 // do Lock Distribuído.
                 TransactionTemplate template = new TransactionTemplate(transactionManager);
-                return template.execute(status -> executeInTransaction(input));
+                return template.execute(status -> work.get());
 
             } finally {
                 if (lock.isHeldByCurrentThread()) {
@@ -79,55 +201,18 @@ public class CreateAppointmentUseCase {
     // Lógica de negócio protegida por transação e lock
     protected Appointment executeInTransaction(Input input) {
 
-        // 1. Busca Profissional (Lock Pessimista no Banco para garantir leitura
-        // consistente)
-        Professional professional = professionalRepository.findByIdWithLock(input.professionalId())
-                .orElseThrow(() -> new EntityNotFoundException("Profissional não encontrado."));
+        boolean optimistic = bookingMode == BookingMode.OPTIMISTIC;
 
-        // 2. Validações de Entidades Relacionadas
-        User clientUser = userRepository.findById(input.clientId())
-                .orElseThrow(() -> new EntityNotFoundException("Cliente não encontrado."));
-
-        if (clientUser.getClientId() == null) {
-            throw new BusinessException("Este usuário não possui um perfil de cliente ativo associado.");
-        }
-
-        ServiceProvider provider = serviceProviderRepository.findById(professional.getServiceProviderId())
-                .orElseThrow(() -> new EntityNotFoundException("Estabelecimento não encontrado."));
-
-        if (!provider.isSubscriptionActive()) {
-            throw new BusinessException("O estabelecimento não possui uma assinatura ativa para receber agendamentos.");
-        }
-
-        // 3. Validação e Busca de Serviços
-        List<Service> requestedServices = serviceRepository.findAllByIds(input.serviceIds());
-
-        if (requestedServices.isEmpty()) {
-            throw new BusinessException("Selecione ao menos um serviço.");
-        }
-
-        if (requestedServices.size() != input.serviceIds().size()) {
-            throw new BusinessException("Um ou mais serviços selecionados não foram encontrados ou estão inativos.");
-        }
-
-        // ✨ Segurança: Tenant Isolation
-        // Garante que os serviços pertençam ao mesmo estabelecimento do profissional
-        boolean servicesBelongToProvider = requestedServices.stream()
-                .allMatch(s -> s.getServiceProviderId().equals(provider.getId()));
-
-        if (!servicesBelongToProvider) {
-            throw new BusinessException(
-                    "Erro de consistência: Serviços não pertencem ao estabelecimento do profissional.");
-        }
-
-        // 4. Validação de Competência e Disponibilidade
-        professional.validateCanPerform(requestedServices);
+        // 1 a 4. Entidades, serviços e competência (validados uma vez)
+        BookingContext context = loadContext(input.clientId(), input.professionalId(), input.serviceIds());
+        Professional professional = context.professional();
+        ServiceProvider provider = context.provider();
 
         // ✨ NOVA VALIDAÇÃO: Impede horários quebrados (ex: 14:15 quando o intervalo é
         // 30min)
         professional.validateSlotAlignment(input.startTime());
 
-        int totalDuration = requestedServices.stream().mapToInt(Service::getDuration).sum();
+        int totalDuration = context.totalDuration();
 
         // Verifica se o profissional trabalha nesse horário e se cabe na grade
         if (!professional.isAvailable(input.startTime(), totalDuration)) {
@@ -135,9 +220,7 @@ public class CreateAppointmentUseCase {
         }
 
         // 5. Cálculo Financeiro e Cupons
-        BigDecimal basePrice = requestedServices.stream()
-                .map(Service::getPrice)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        BigDecimal basePrice = context.basePrice();
 
         Coupon coupon = null;
         BigDecimal discountAmount = BigDecimal.ZERO;
@@ -154,8 +237,9 @@ public class CreateAppointmentUseCase {
         BigDecimal finalPrice = basePrice.subtract(discountAmount).max(BigDecimal.ZERO);
 
         // 6. Check Final de Conflito (Double Booking)
-        // Verifica se já existe agendamento overlapping no banco
-        boolean hasConflict = appointmentRepository.hasConflictingAppointment(
+        // Verifica se já existe agendamento overlapping no banco.
+        // No modo otimista a própria constraint de exclusão faz essa checagem no INSERT
+        boolean hasConflict = !optimistic && appointmentRepository.hasConflictingAppointment(
                 input.professionalId(),
                 input.startTime(),
                 input.startTime().plusMinutes(totalDuration));
@@ -164,21 +248,19 @@ public class CreateAppointmentUseCase {
             throw new ScheduleConflictException("Desculpe, este horário acabou de ser ocupado por outro cliente.");
         }
 
+        // 6.1 Reserva temporária de outro cliente (checkout em andamento) também bloqueia o horário
+        LocalDateTime endTime = input.startTime().plusMinutes(totalDuration);
+        boolean heldByOther = slotHoldRepository.findActive(input.professionalId(), input.startTime().toLocalDate())
+                .stream()
+                .anyMatch(hold -> !hold.isHeldBy(input.clientId()) && hold.overlaps(input.startTime(), endTime));
+
+        if (heldByOther) {
+            throw new ScheduleConflictException(
+                    "Este horário está reservado temporariamente por outro cliente. Escolha outro horário ou tente em instantes.");
+        }
+
         // 7. Construção da Entidade Appointment (Usando Factory do Domínio)
-        Appointment appointment = Appointment.create(
-                clientUser.getClientId(),
-                clientUser.getName(),
-                clientUser.getEmail(),
-                provider.getBusinessName(),
-                new ClientPhone(clientUser.getPhoneNumber()),
-                provider.getId(),
-                professional.getId(),
-                professional.getName(),
-                requestedServices,
-                input.startTime(),
-                input.reminderMinutes(),
-                provider.getTimeZone() // Usa o fuso horário configurado no estabelecimento
-        );
+        Appointment appointment = newAppointment(context, input.startTime(), input.reminderMinutes());
 
         // Enriquecimento com dados financeiros, opcionais E STATUS INICIAL
         appointment = appointment.toBuilder()
@@ -197,7 +279,7 @@ public class CreateAppointmentUseCase {
             couponRepository.save(coupon);
         }
 
-        Appointment savedAppointment = appointmentRepository.save(appointment);
+        Appointment savedAppointment = appointmentRepository.saveBooking(appointment);
         log.info("Agendamento criado com sucesso. ID: {}", savedAppointment.getId());
 
         // 9. Publicação de Evento (Assíncrono)
@@ -205,12 +287,122 @@ public class CreateAppointmentUseCase {
         eventPublisher.publish(new AppointmentCreatedEvent(
                 savedAppointment.getId(),
                 professional.getId(),
-                clientUser.getName(),
+                context.clientUser().getName(),
                 savedAppointment.getStartTime()));
+        eventPublisher.publish(ProfessionalAgendaChangedEvent.of(
+                professional.getId(), savedAppointment.getStartTime(), savedAppointment.getEndTime()));
 
         return savedAppointment;
     }
 
+    private void releaseHolds(Appointment appointment, UUID userId) {
+        try {
+            LocalDate date = appointment.getStartTime().toLocalDate();
+            for (SlotHold hold : slotHoldRepository.findActive(appointment.getProfessionalId(), date)) {
+                if (hold.isHeldBy(userId) && hold.overlaps(appointment.getStartTime(), appointment.getEndTime())) {
+                    slotHoldRepository.release(appointment.getProfessionalId(), date, hold.id());
+                }
+            }
+        } catch (Exception e) {
+            // Não bloqueante: a reserva expira sozinha pelo TTL
+            log.warn("Falha ao liberar reserva temporária do agendamento {}: {}", appointment.getId(), e.getMessage());
+        }
+    }
+
+    /**
+     * Busca e valida profissional, cliente, estabelecimento e serviços.
+     * Deve rodar dentro de {@link #runGuarded}: no modo LOCK o profissional é lido com lock pessimista.
+     */
+    BookingContext loadContext(UUID clientId, UUID professionalId, List<UUID> serviceIds) {
+
+        boolean optimistic = bookingMode == BookingMode.OPTIMISTIC;
+
+        // 1. Busca Profissional (Lock Pessimista no Banco para garantir leitura
+        // consistente; dispensado no modo otimista)
+        Professional professional = (optimistic
+                ? professionalRepository.findById(professionalId)
+                : professionalRepository.findByIdWithLock(professionalId))
+                .orElseThrow(() -> new EntityNotFoundException("Profissional não encontrado."));
+
+        // 2. Validações de Entidades Relacionadas
+        User clientUser = userRepository.findById(clientId)
+                .orElseThrow(() -> new EntityNotFoundException("Cliente não encontrado."));
+
+        if (clientUser.getClientId() == null) {
+            throw new BusinessException("Este usuário não possui um perfil de cliente ativo associado.");
+        }
+
+        ServiceProvider provider = serviceProviderRepository.findById(professional.getServiceProviderId())
+                .orElseThrow(() -> new EntityNotFoundException("Estabelecimento não encontrado."));
+
+        if (!provider.isSubscriptionActive()) {
+            throw new BusinessException("O estabelecimento não possui uma assinatura ativa para receber agendamentos.");
+        }
+
+        // 3. Validação e Busca de Serviços
+        List<Service> requestedServices = serviceRepository.findAllByIds(serviceIds);
+
+        if (requestedServices.isEmpty()) {
+            throw new BusinessException("Selecione ao menos um serviço.");
+        }
+
+        if (requestedServices.size() != serviceIds.size()) {
+            throw new BusinessException("Um ou mais serviços selecionados não foram encontrados ou estão inativos.");
+        }
+
+        // ✨ Segurança: Tenant Isolation
+        // Garante que os serviços pertençam ao mesmo estabelecimento do profissional
+        boolean servicesBelongToProvider = requestedServices.stream()
+                .allMatch(s -> s.getServiceProviderId().equals(provider.getId()));
+
+        if (!servicesBelongToProvider) {
+            throw new BusinessException(
+                    "Erro de consistência: Serviços não pertencem ao estabelecimento do profissional.");
+        }
+
+        // 4. Validação de Competência
+        professional.validateCanPerform(requestedServices);
+
+        int totalDuration = requestedServices.stream().mapToInt(Service::getDuration).sum();
+        BigDecimal basePrice = requestedServices.stream()
+                .map(Service::getPrice)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+
+        return new BookingContext(professional, clientUser, provider, requestedServices, totalDuration, basePrice);
+    }
+
+    Appointment newAppointment(BookingContext context, LocalDateTime startTime, Integer reminderMinutes) {
+        ServiceProvider provider = context.provider();
+        Professional professional = context.professional();
+        User clientUser = context.clientUser();
+
+        return Appointment.create(
+                clientUser.getClientId(),
+                clientUser.getName(),
+                clientUser.getEmail(),
+                provider.getBusinessName(),
+                new ClientPhone(clientUser.getPhoneNumber()),
+                provider.getId(),
+                professional.getId(),
+                professional.getName(),
+                context.services(),
+                startTime,
+                reminderMinutes,
+                provider.getTimeZone() // Usa o fuso horário configurado no estabelecimento
+        );
+    }
+
+    // Contexto validado de um agendamento (reaproveitado por todas as ocorrências de uma série)
+    record BookingContext(
+            Professional professional,
+            User clientUser,
+            ServiceProvider provider,
+            List<Service> services,
+            int totalDuration,
+            BigDecimal basePrice
+    ) {
+    }
+
     // Input Record atualizado com UUIDs
     public record Input(
             UUID clientId,
@@ -222,4 +414,4 @@ public class CreateAppointmentUseCase {
             String notes // Campo útil para observações do cliente
     ) {
     }
-}
\ No newline at end of file
+}
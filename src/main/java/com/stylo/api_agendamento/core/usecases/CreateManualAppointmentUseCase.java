@@ -3,6 +3,7 @@ package com.stylo.api_agendamento.core.usecases;
 import com.stylo.api_agendamento.core.common.UseCase;
 import com.stylo.api_agendamento.core.domain.*;
 import com.stylo.api_agendamento.core.domain.events.AppointmentCreatedEvent;
+import com.stylo.api_agendamento.core.domain.events.ProfessionalAgendaChangedEvent;
 import com.stylo.api_agendamento.core.domain.vo.ClientPhone;
 import com.stylo.api_agendamento.core.exceptions.BusinessException;
 import com.stylo.api_agendamento.core.exceptions.EntityNotFoundException;
@@ -77,7 +78,7 @@ public class CreateManualAppointmentUseCase {
         }
 
         // 6. Persistência
-        Appointment savedAppointment = appointmentRepository.save(appointment);
+        Appointment savedAppointment = appointmentRepository.saveBooking(appointment);
         log.info("Agendamento manual (Walk-in) criado com sucesso: ID {}", savedAppointment.getId());
 
         // 7. Sincronização Externa (Gatilho para Google Calendar)
@@ -87,6 +88,8 @@ public class CreateManualAppointmentUseCase {
                 input.clientName(), 
                 savedAppointment.getStartTime()
         ));
+        eventPublisher.publish(ProfessionalAgendaChangedEvent.of(
+                professional.getId(), savedAppointment.getStartTime(), savedAppointment.getEndTime()));
 
         return savedAppointment;
     }
@@ -2,7 +2,16 @@ package com.stylo.api_agendamento.core.usecases;
 
 import com.stylo.api_agendamento.core.common.UseCase;
 import com.stylo.api_agendamento.core.domain.Appointment;
+import com.stylo.api_agendamento.core.domain.AppointmentStatus;
+import com.stylo.api_agendamento.core.domain.Professional;
+import com.stylo.api_agendamento.core.domain.events.AppointmentCreatedEvent;
+import com.stylo.api_agendamento.core.domain.events.ProfessionalAgendaChangedEvent;
+import com.stylo.api_agendamento.core.domain.schedule.IntervalIndex;
 import com.stylo.api_agendamento.core.domain.vo.RecurrenceType;
+import com.stylo.api_agendamento.core.exceptions.BusinessException;
+import com.stylo.api_agendamento.core.exceptions.ScheduleConflictException;
+import com.stylo.api_agendamento.core.ports.IAppointmentRepository;
+import com.stylo.api_agendamento.core.ports.IEventPublisher;
 import lombok.Builder;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -17,53 +26,133 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class CreateRecurringAppointmentUseCase {
 
+    // Limite de segurança para uma única série (2 anos semanais)
+    public static final int MAX_OCCURRENCES = 104;
+
     private final CreateAppointmentUseCase createAppointmentUseCase;
+    private final IAppointmentRepository appointmentRepository;
+    private final IEventPublisher eventPublisher;
 
     public Response execute(Input input) {
-        List<Appointment> successes = new ArrayList<>();
+        List<LocalDateTime> occurrences = expandOccurrences(input);
+        if (occurrences.isEmpty()) {
+            return new Response(List.of(), List.of());
+        }
+
+        log.info("Iniciando criação de agendamento recorrente ({}) para o cliente {}", 
+                input.recurrenceType(), input.clientId());
+
+        // Um único lock e uma única transação para a série inteira
+        try {
+            return createAppointmentUseCase.runGuarded(input.professionalId(), () -> createSeries(input, occurrences));
+        } catch (ScheduleConflictException e) {
+            // Outro agendamento ocupou uma das datas entre a leitura da agenda e o INSERT em lote
+            // (modo OPTIMISTIC ou escrita concorrente fora do lock) e a transação foi desfeita.
+            // Uma nova tentativa relê a agenda: as datas tomadas voltam em failedOccurrences, com o
+            // motivo, e as demais são criadas.
+            log.warn("Conflito no INSERT da série do cliente {}; relendo a agenda", input.clientId());
+        }
+
+        try {
+            return createAppointmentUseCase.runGuarded(input.professionalId(), () -> createSeries(input, occurrences));
+        } catch (ScheduleConflictException e) {
+            throw new ScheduleConflictException(
+                    "A agenda do profissional mudou durante a criação da série e nenhuma ocorrência foi criada. Tente novamente.");
+        }
+    }
+
+    private Response createSeries(Input input, List<LocalDateTime> occurrences) {
+        // 1. Validação de profissional, cliente, estabelecimento e serviços (uma vez)
+        CreateAppointmentUseCase.BookingContext context = createAppointmentUseCase.loadContext(
+                input.clientId(), input.professionalId(), input.serviceIds());
+        Professional professional = context.professional();
+        int totalDuration = context.totalDuration();
+
+        // 2. Uma única consulta de intervalo cobrindo todas as ocorrências
+        LocalDateTime first = occurrences.get(0);
+        LocalDateTime last = occurrences.get(occurrences.size() - 1);
+        IntervalIndex occupied = IntervalIndex.ofIntervals(appointmentRepository.findOccupiedIntervals(
+                professional.getId(), first, last.plusMinutes(totalDuration)));
+
+        // 3. Decisão em memória por ocorrência
+        List<Appointment> accepted = new ArrayList<>();
         List<FailedOccurrence> failures = new ArrayList<>();
+        LocalDateTime lastAcceptedEnd = null;
 
-        LocalDateTime currentSlot = input.firstStartTime();
-        int count = 0;
-        
+        for (int i = 0; i < occurrences.size(); i++) {
+            LocalDateTime start = occurrences.get(i);
+            LocalDateTime end = start.plusMinutes(totalDuration);
+
+            try {
+                professional.validateSlotAlignment(start);
+
+                if (!professional.isAvailable(start, totalDuration)) {
+                    throw new BusinessException("Profissional indisponível neste horário (fora do expediente ou pausa).");
+                }
+
+                // Conflito com a agenda existente ou com a ocorrência anterior da própria série
+                boolean overlapsSeries = lastAcceptedEnd != null && start.isBefore(lastAcceptedEnd);
+                if (overlapsSeries || occupied.overlaps(start, end)) {
+                    throw new ScheduleConflictException("Desculpe, este horário acabou de ser ocupado por outro cliente.");
+                }
+
+                // Cupom não aplicado em recorrência para evitar exaustão de limites
+                accepted.add(createAppointmentUseCase.newAppointment(context, start, input.reminderMinutes())
+                        .toBuilder()
+                        .notes("Recorrência: " + (i + 1)) // Notas automáticas
+                        .status(AppointmentStatus.PENDING)
+                        .build());
+                lastAcceptedEnd = end;
+
+            } catch (BusinessException e) {
+                log.warn("Falha na ocorrência {} em {}: {}", i + 1, start, e.getMessage());
+                failures.add(new FailedOccurrence(start, e.getMessage()));
+            }
+        }
+
+        // 4. INSERT em lote das ocorrências aceitas
+        List<Appointment> created = appointmentRepository.insertAll(accepted);
+
+        // 5. Eventos em lote (notificações + invalidação única do período no cache)
+        if (!created.isEmpty()) {
+            eventPublisher.publishAll(created.stream()
+                    .map(appt -> new AppointmentCreatedEvent(
+                            appt.getId(),
+                            professional.getId(),
+                            context.clientUser().getName(),
+                            appt.getStartTime()))
+                    .toList());
+            eventPublisher.publish(ProfessionalAgendaChangedEvent.of(
+                    professional.getId(),
+                    created.get(0).getStartTime(),
+                    created.get(created.size() - 1).getEndTime()));
+        }
+
+        return new Response(created, failures);
+    }
+
+    private List<LocalDateTime> expandOccurrences(Input input) {
         // Limite de segurança: se não houver occurrences ou endDate, limita a 1 ano (52 semanas)
         int maxOccurrences = input.occurrences() != null ? input.occurrences() : 52;
+        if (maxOccurrences > MAX_OCCURRENCES) {
+            throw new BusinessException(String.format(
+                    "Uma série recorrente pode ter no máximo %d ocorrências.", MAX_OCCURRENCES));
+        }
 
-        log.info("Iniciando criação de agendamento recorrente ({}) para o cliente {}", 
-                input.recurrenceType(), input.clientId());
+        List<LocalDateTime> occurrences = new ArrayList<>();
+        LocalDateTime currentSlot = input.firstStartTime();
 
-        while (count < maxOccurrences) {
+        while (occurrences.size() < maxOccurrences) {
             // Verifica se ultrapassou a data limite definida pelo usuário
             if (input.endDate() != null && currentSlot.isAfter(input.endDate())) {
                 break;
             }
-
-            try {
-                // Reutilizamos o caso de uso de agendamento individual para herdar Lock e Validações
-                var singleInput = new CreateAppointmentUseCase.Input(
-                        input.clientId(),
-                        input.professionalId(),
-                        input.serviceIds(),
-                        currentSlot,
-                        input.reminderMinutes(),
-                        null, // Cupom não aplicado em recorrência para evitar exaustão de limites
-                        "Recorrência: " + (count + 1) // Notas automáticas
-                );
-
-                Appointment appt = createAppointmentUseCase.execute(singleInput);
-                successes.add(appt);
-
-            } catch (Exception e) {
-                log.warn("Falha na ocorrência {} em {}: {}", count + 1, currentSlot, e.getMessage());
-                failures.add(new FailedOccurrence(currentSlot, e.getMessage()));
-            }
+            occurrences.add(currentSlot);
 
             // Calcula o próximo passo na linha do tempo
             currentSlot = calculateNextSlot(currentSlot, input.recurrenceType());
-            count++;
         }
-
-        return new Response(successes, failures);
+        return occurrences;
     }
 
     private LocalDateTime calculateNextSlot(LocalDateTime current, RecurrenceType type) {
@@ -105,4 +194,4 @@ public class CreateRecurringAppointmentUseCase {
     }
 
     public record FailedOccurrence(LocalDateTime date, String reason) {}
-}
\ No newline at end of file
+}
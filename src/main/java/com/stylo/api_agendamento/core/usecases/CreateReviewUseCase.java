@@ -6,9 +6,12 @@ import com.stylo.api_agendamento.core.domain.AppointmentStatus;
 import com.stylo.api_agendamento.core.domain.Review;
 import com.stylo.api_agendamento.core.domain.ServiceProvider;
 import com.stylo.api_agendamento.core.domain.User; // ✨ IMPORTAÇÃO DO USER
+import com.stylo.api_agendamento.core.domain.events.ProviderSearchChangedEvent;
 import com.stylo.api_agendamento.core.exceptions.BusinessException;
 import com.stylo.api_agendamento.core.exceptions.EntityNotFoundException;
 import com.stylo.api_agendamento.core.ports.IAppointmentRepository;
+import com.stylo.api_agendamento.core.ports.IEventPublisher;
+import com.stylo.api_agendamento.core.ports.IProviderSearchDocRepository;
 import com.stylo.api_agendamento.core.ports.IReviewRepository;
 import com.stylo.api_agendamento.core.ports.IServiceProviderRepository;
 import com.stylo.api_agendamento.core.ports.IUserContext;
@@ -26,6 +29,8 @@ public class CreateReviewUseCase {
     private final IReviewRepository reviewRepository;
     private final IAppointmentRepository appointmentRepository;
     private final IServiceProviderRepository providerRepository;
+    private final IProviderSearchDocRepository searchDocRepository;
+    private final IEventPublisher eventPublisher;
     private final IUserContext userContext;
 
     @Transactional
@@ -71,6 +76,8 @@ public class CreateReviewUseCase {
 
         // Salva o Provider atualizado com a nova nota
         providerRepository.save(provider);
+        searchDocRepository.refresh(provider.getId());
+        eventPublisher.publish(new ProviderSearchChangedEvent(provider.getId()));
 
         log.info("Nova avaliação recebida no estabelecimento {}. Nota recebida: {}. Nova média geral: {}",
                 provider.getId(), input.rating(), provider.getAverageRating());
@@ -2,6 +2,9 @@ package com.stylo.api_agendamento.core.usecases;
 
 import com.stylo.api_agendamento.core.common.UseCase;
 import com.stylo.api_agendamento.core.domain.Service;
+import com.stylo.api_agendamento.core.domain.events.ProviderSearchChangedEvent;
+import com.stylo.api_agendamento.core.ports.IEventPublisher;
+import com.stylo.api_agendamento.core.ports.IProviderSearchDocRepository;
 import com.stylo.api_agendamento.core.ports.IServiceRepository;
 import com.stylo.api_agendamento.core.ports.IUserContext;
 import lombok.RequiredArgsConstructor;
@@ -17,6 +20,8 @@ import java.util.UUID;
 public class CreateServiceUseCase {
 
     private final IServiceRepository serviceRepository;
+    private final IProviderSearchDocRepository searchDocRepository;
+    private final IEventPublisher eventPublisher;
     private final IUserContext userContext;
 
     @Transactional
@@ -44,6 +49,8 @@ public class CreateServiceUseCase {
         }
 
         Service savedService = serviceRepository.save(service);
+        searchDocRepository.refresh(providerId);
+        eventPublisher.publish(new ProviderSearchChangedEvent(providerId));
         
         log.info("Serviço '{}' criado com sucesso para o estabelecimento {}.", 
                 savedService.getName(), providerId);
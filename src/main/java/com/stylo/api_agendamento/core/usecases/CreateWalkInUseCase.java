@@ -2,8 +2,10 @@ package com.stylo.api_agendamento.core.usecases;
 
 import com.stylo.api_agendamento.core.common.UseCase;
 import com.stylo.api_agendamento.core.domain.*;
+import com.stylo.api_agendamento.core.domain.events.ProfessionalAgendaChangedEvent;
 import com.stylo.api_agendamento.core.domain.vo.ClientPhone;
 import com.stylo.api_agendamento.core.exceptions.EntityNotFoundException;
+import com.stylo.api_agendamento.core.exceptions.ScheduleConflictException;
 import com.stylo.api_agendamento.core.ports.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -23,6 +25,7 @@ public class CreateWalkInUseCase {
     private final IServiceRepository serviceRepository;
     private final IServiceProviderRepository serviceProviderRepository;
     private final IClientRepository clientRepository;
+    private final IEventPublisher eventPublisher;
 
     @Transactional
     public Appointment execute(Input input) {
@@ -77,8 +80,21 @@ public class CreateWalkInUseCase {
         // Confirma automaticamente pois o cliente já está na cadeira
         appointment.confirm();
 
+        // Walk-in ocupa a agenda como qualquer reserva (a constraint de sobreposição vale em
+        // todos os modos): se o profissional já tem alguém marcado agora, a recepção precisa
+        // encaixar com outro profissional ou reagendar o cliente marcado
+        if (appointmentRepository.hasConflictingAppointment(
+                appointment.getProfessionalId(), appointment.getStartTime(), appointment.getEndTime())) {
+            throw new ScheduleConflictException(
+                    "O profissional já tem um agendamento neste horário. Escolha outro profissional ou reagende o horário marcado.");
+        }
+
         log.info("Walk-in registrado: {} para o cliente {}", appointment.getId(), clientName);
-        return appointmentRepository.save(appointment);
+        Appointment saved = appointmentRepository.saveBooking(appointment);
+
+        eventPublisher.publish(ProfessionalAgendaChangedEvent.of(
+                saved.getProfessionalId(), saved.getStartTime(), saved.getEndTime()));
+        return saved;
     }
 
     public record Input(
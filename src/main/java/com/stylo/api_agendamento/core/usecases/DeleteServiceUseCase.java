@@ -2,8 +2,11 @@ package com.stylo.api_agendamento.core.usecases;
 
 import com.stylo.api_agendamento.core.common.UseCase;
 import com.stylo.api_agendamento.core.domain.Service;
+import com.stylo.api_agendamento.core.domain.events.ProviderSearchChangedEvent;
 import com.stylo.api_agendamento.core.exceptions.BusinessException;
 import com.stylo.api_agendamento.core.exceptions.EntityNotFoundException;
+import com.stylo.api_agendamento.core.ports.IEventPublisher;
+import com.stylo.api_agendamento.core.ports.IProviderSearchDocRepository;
 import com.stylo.api_agendamento.core.ports.IServiceRepository;
 import com.stylo.api_agendamento.core.ports.IUserContext;
 import lombok.RequiredArgsConstructor;
@@ -18,6 +21,8 @@ import java.util.UUID;
 public class DeleteServiceUseCase {
 
     private final IServiceRepository serviceRepository;
+    private final IProviderSearchDocRepository searchDocRepository;
+    private final IEventPublisher eventPublisher;
     private final IUserContext userContext;
 
     @Transactional
@@ -38,6 +43,8 @@ public class DeleteServiceUseCase {
 
         // 4. Executa a exclusão (Verifique se no seu IServiceRepository o método é delete(UUID) ou delete(Service))
         serviceRepository.delete(serviceId);
+        searchDocRepository.refresh(loggedProviderId);
+        eventPublisher.publish(new ProviderSearchChangedEvent(loggedProviderId));
         
         // 5. Log de auditoria
         log.info("Serviço '{}' (ID: {}) excluído com sucesso pelo estabelecimento {}.", 
@@ -0,0 +1,41 @@
+package com.stylo.api_agendamento.core.usecases;
+
+import com.stylo.api_agendamento.core.common.UseCase;
+import com.stylo.api_agendamento.core.exceptions.BusinessException;
+import com.stylo.api_agendamento.core.ports.IFinancialExportRepository;
+import com.stylo.api_agendamento.core.usecases.dto.FinancialExportType;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+@UseCase
+@RequiredArgsConstructor
+public class ExportFinancialDataUseCase {
+
+    // Exportação anual para a contabilidade (ano bissexto incluso)
+    private static final int MAX_PERIOD_DAYS = 366;
+
+    private final IFinancialExportRepository financialExportRepository;
+
+    /**
+     * Valida o período antes de abrir a resposta (erros ainda podem virar 4xx).
+     */
+    public void validate(LocalDate startDate, LocalDate endDate) {
+        if (startDate.isAfter(endDate)) {
+            throw new BusinessException("A data inicial não pode ser superior à data final.");
+        }
+        if (ChronoUnit.DAYS.between(startDate, endDate) >= MAX_PERIOD_DAYS) {
+            throw new BusinessException("O período de exportação não pode ser superior a " + MAX_PERIOD_DAYS + " dias.");
+        }
+    }
+
+    public void execute(UUID providerId, FinancialExportType type, LocalDate startDate, LocalDate endDate,
+            Consumer<Object[]> rowConsumer) {
+        validate(startDate, endDate);
+        financialExportRepository.stream(type, providerId,
+                startDate.atStartOfDay(), endDate.plusDays(1).atStartOfDay(), rowConsumer);
+    }
+}
@@ -0,0 +1,237 @@
+package com.stylo.api_agendamento.core.usecases;
+
+import com.stylo.api_agendamento.core.common.UseCase;
+import com.stylo.api_agendamento.core.domain.Professional;
+import com.stylo.api_agendamento.core.domain.Service;
+import com.stylo.api_agendamento.core.domain.ServiceProvider;
+import com.stylo.api_agendamento.core.domain.schedule.OccupancyBitmap;
+import com.stylo.api_agendamento.core.domain.schedule.OccupiedInterval;
+import com.stylo.api_agendamento.core.domain.schedule.SlotEngine;
+import com.stylo.api_agendamento.core.domain.vo.DailyAvailability;
+import com.stylo.api_agendamento.core.exceptions.BusinessException;
+import com.stylo.api_agendamento.core.exceptions.EntityNotFoundException;
+import com.stylo.api_agendamento.core.ports.IAppointmentRepository;
+import com.stylo.api_agendamento.core.ports.IProfessionalRepository;
+import com.stylo.api_agendamento.core.ports.IServiceProviderRepository;
+import com.stylo.api_agendamento.core.ports.IServiceRepository;
+import com.stylo.api_agendamento.core.usecases.dto.TeamSlot;
+import lombok.RequiredArgsConstructor;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Busca "qualquer profissional": os N primeiros horários livres de toda a equipe
+ * de um estabelecimento para um conjunto de serviços.
+ *
+ * Carrega as ocupações de todos os profissionais aptos em uma única consulta e
+ * intercala os horários livres de cada um com uma fila de prioridade (k-way merge).
+ * Cada profissional só calcula o próximo dia quando o anterior se esgota, então a
+ * busca para assim que os N resultados são encontrados.
+ */
+@UseCase
+@RequiredArgsConstructor
+public class FindEarliestTeamSlotsUseCase {
+
+    public static final int MAX_WINDOW_DAYS = 31;
+    public static final int DEFAULT_LIMIT = 10;
+    public static final int MAX_LIMIT = 50;
+
+    private final IProfessionalRepository professionalRepository;
+    private final IAppointmentRepository appointmentRepository;
+    private final IServiceRepository serviceRepository;
+    private final IServiceProviderRepository providerRepository;
+
+    public List<TeamSlot> execute(Input input) {
+        // 1. Validações de Contexto
+        ServiceProvider provider = providerRepository.findById(input.providerId())
+                .orElseThrow(() -> new EntityNotFoundException("Estabelecimento não encontrado."));
+
+        if (input.serviceIds() == null || input.serviceIds().isEmpty()) {
+            throw new BusinessException("Selecione ao menos um serviço.");
+        }
+
+        List<Service> services = serviceRepository.findAllByIds(input.serviceIds());
+        if (services.size() != new HashSet<>(input.serviceIds()).size()) {
+            throw new BusinessException("Um ou mais serviços selecionados não foram encontrados ou estão inativos.");
+        }
+
+        // ✨ Segurança: Tenant Isolation
+        boolean servicesBelongToProvider = services.stream()
+                .allMatch(s -> s.getServiceProviderId().equals(provider.getId()));
+        if (!servicesBelongToProvider) {
+            throw new BusinessException("Os serviços selecionados não pertencem a este estabelecimento.");
+        }
+
+        int totalDuration = services.stream().mapToInt(Service::getDuration).sum();
+        int limit = input.limit() == null ? DEFAULT_LIMIT : Math.max(1, Math.min(input.limit(), MAX_LIMIT));
+
+        // 2. Janela de busca (nunca no passado, no fuso do estabelecimento)
+        ZoneId zoneId = ZoneId.of(provider.getTimeZone());
+        LocalDateTime now = LocalDateTime.now(zoneId);
+
+        LocalDateTime windowStart = input.windowStart() == null || input.windowStart().isBefore(now)
+                ? now
+                : input.windowStart();
+        LocalDateTime windowEnd = input.windowEnd() != null
+                ? input.windowEnd()
+                : windowStart.toLocalDate().plusDays(7).atStartOfDay();
+
+        if (!windowEnd.isAfter(windowStart)) {
+            return List.of();
+        }
+
+        LocalDate firstDay = windowStart.toLocalDate();
+        int days = (int) ChronoUnit.DAYS.between(firstDay, windowEnd.toLocalDate()) + 1;
+        if (days > MAX_WINDOW_DAYS) {
+            throw new BusinessException(String.format(
+                    "A janela de busca não pode exceder %d dias.", MAX_WINDOW_DAYS));
+        }
+
+        // 3. Apenas profissionais ativos que realizam TODOS os serviços pedidos
+        Set<UUID> requestedIds = services.stream().map(Service::getId).collect(Collectors.toSet());
+        List<Professional> candidates = professionalRepository.findAllByProviderId(provider.getId()).stream()
+                .filter(Professional::isActive)
+                .filter(p -> performsAll(p, requestedIds))
+                .toList();
+
+        if (candidates.isEmpty()) {
+            return List.of();
+        }
+
+        // 4. Uma única consulta de ocupações para a equipe inteira, agrupada em memória
+        Map<UUID, List<OccupiedInterval>> occupationsByProfessional = appointmentRepository
+                .findOccupiedIntervalsByProfessionals(
+                        candidates.stream().map(Professional::getId).toList(),
+                        firstDay.atStartOfDay(),
+                        firstDay.plusDays(days).atStartOfDay())
+                .stream()
+                .collect(Collectors.groupingBy(OccupiedInterval::professionalId));
+
+        // 5. K-way merge: cada cursor emite os horários livres de um profissional em ordem
+        PriorityQueue<SlotCursor> queue = new PriorityQueue<>(
+                Comparator.comparing(SlotCursor::current)
+                        .thenComparing(c -> c.professional.getId()));
+
+        for (Professional professional : candidates) {
+            SlotCursor cursor = new SlotCursor(
+                    professional,
+                    SlotEngine.occupancyByDay(firstDay, days,
+                            occupationsByProfessional.getOrDefault(professional.getId(), List.of())),
+                    firstDay,
+                    totalDuration,
+                    windowStart,
+                    windowEnd);
+            if (cursor.advance()) {
+                queue.add(cursor);
+            }
+        }
+
+        List<TeamSlot> result = new ArrayList<>(limit);
+        while (!queue.isEmpty() && result.size() < limit) {
+            SlotCursor cursor = queue.poll();
+            LocalDateTime start = cursor.current();
+
+            result.add(new TeamSlot(
+                    cursor.professional.getId(),
+                    cursor.professional.getName(),
+                    cursor.professional.getAvatarUrl(),
+                    start,
+                    start.plusMinutes(totalDuration)));
+
+            if (cursor.advance()) {
+                queue.add(cursor);
+            }
+        }
+
+        return result;
+    }
+
+    private static boolean performsAll(Professional professional, Set<UUID> serviceIds) {
+        Set<UUID> performed = professional.getServices().stream()
+                .map(Service::getId)
+                .collect(Collectors.toSet());
+        return performed.containsAll(serviceIds);
+    }
+
+    /**
+     * Iterador preguiçoso sobre os horários livres de um profissional na janela.
+     */
+    private static final class SlotCursor {
+
+        private final Professional professional;
+        private final Map<DayOfWeek, DailyAvailability> shifts;
+        private final OccupancyBitmap[] occupancy;
+        private final LocalDate firstDay;
+        private final int totalDuration;
+        private final int slotInterval;
+        private final LocalDateTime windowStart;
+        private final LocalDateTime windowEnd;
+
+        private int dayIndex = -1;
+        private int[] starts = new int[0];
+        private int position;
+        private LocalDateTime current;
+
+        private SlotCursor(Professional professional, OccupancyBitmap[] occupancy, LocalDate firstDay,
+                int totalDuration, LocalDateTime windowStart, LocalDateTime windowEnd) {
+            this.professional = professional;
+            this.shifts = SlotEngine.weeklyShifts(professional.getAvailability());
+            this.occupancy = occupancy;
+            this.firstDay = firstDay;
+            this.totalDuration = totalDuration;
+            this.slotInterval = professional.getSlotInterval() != null ? professional.getSlotInterval() : 30;
+            this.windowStart = windowStart;
+            this.windowEnd = windowEnd;
+        }
+
+        LocalDateTime current() {
+            return current;
+        }
+
+        /**
+         * Avança para o próximo horário livre. Retorna false quando a janela se esgota.
+         */
+        boolean advance() {
+            while (position >= starts.length) {
+                if (++dayIndex >= occupancy.length) {
+                    return false;
+                }
+                starts = startsForDay(dayIndex);
+                position = 0;
+            }
+            current = firstDay.plusDays(dayIndex).atTime(SlotEngine.toTime(starts[position++]));
+            return true;
+        }
+
+        private int[] startsForDay(int index) {
+            LocalDate date = firstDay.plusDays(index);
+            DailyAvailability shift = shifts.get(date.getDayOfWeek());
+            if (shift == null) {
+                return new int[0];
+            }
+
+            int notBefore = date.isEqual(windowStart.toLocalDate())
+                    ? SlotEngine.ceilMinute(windowStart.toLocalTime())
+                    : 0;
+            int endLimit = date.isEqual(windowEnd.toLocalDate())
+                    ? SlotEngine.minuteOf(windowEnd.toLocalTime())
+                    : OccupancyBitmap.MINUTES_PER_DAY;
+
+            return SlotEngine.freeStartsWithin(shift, totalDuration, slotInterval, occupancy[index], notBefore, endLimit);
+        }
+    }
+
+    public record Input(
+            UUID providerId,
+            List<UUID> serviceIds,
+            LocalDateTime windowStart, // Opcional: padrão "agora"
+            LocalDateTime windowEnd,   // Opcional: padrão 7 dias
+            Integer limit              // Opcional: padrão 10, máximo 50
+    ) {}
+}
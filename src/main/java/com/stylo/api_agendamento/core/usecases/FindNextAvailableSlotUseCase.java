@@ -0,0 +1,165 @@
+package com.stylo.api_agendamento.core.usecases;
+
+import com.stylo.api_agendamento.core.common.UseCase;
+import com.stylo.api_agendamento.core.domain.Professional;
+import com.stylo.api_agendamento.core.domain.Service;
+import com.stylo.api_agendamento.core.domain.ServiceProvider;
+import com.stylo.api_agendamento.core.domain.schedule.OccupancyBitmap;
+import com.stylo.api_agendamento.core.domain.schedule.OccupiedInterval;
+import com.stylo.api_agendamento.core.domain.schedule.SlotEngine;
+import com.stylo.api_agendamento.core.domain.vo.DailyAvailability;
+import com.stylo.api_agendamento.core.exceptions.BusinessException;
+import com.stylo.api_agendamento.core.exceptions.EntityNotFoundException;
+import com.stylo.api_agendamento.core.ports.IAppointmentRepository;
+import com.stylo.api_agendamento.core.ports.IProfessionalRepository;
+import com.stylo.api_agendamento.core.ports.IServiceProviderRepository;
+import com.stylo.api_agendamento.core.ports.IServiceRepository;
+import com.stylo.api_agendamento.core.usecases.dto.NextAvailability;
+import lombok.RequiredArgsConstructor;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * "Quando este profissional tem o próximo horário livre para estes serviços?"
+ *
+ * Varre os dias para frente sobre a grade semanal: dias fechados (ou com expediente
+ * menor que a duração) são pulados sem ir ao banco, as ocupações são buscadas em
+ * blocos de dias e a busca para no primeiro dia que comporta o atendimento.
+ * Com blocos de 3 semanas, uma vaga a duas semanas de distância custa uma consulta.
+ */
+@UseCase
+@RequiredArgsConstructor
+public class FindNextAvailableSlotUseCase {
+
+    public static final int DEFAULT_MAX_DAYS = 60;
+    public static final int MAX_DAYS = 180;
+
+    private static final int CHUNK_DAYS = 21;
+
+    private final IProfessionalRepository professionalRepository;
+    private final IAppointmentRepository appointmentRepository;
+    private final IServiceRepository serviceRepository;
+    private final IServiceProviderRepository providerRepository;
+
+    public NextAvailability execute(UUID professionalId, List<UUID> serviceIds, LocalDate from, Integer maxDays) {
+        int horizon = maxDays != null ? maxDays : DEFAULT_MAX_DAYS;
+        if (horizon < 1 || horizon > MAX_DAYS) {
+            throw new BusinessException(String.format(
+                    "O horizonte de busca deve estar entre 1 e %d dias.", MAX_DAYS));
+        }
+
+        // 1. Buscas de Contexto (uma vez para toda a busca)
+        Professional prof = professionalRepository.findById(professionalId)
+                .orElseThrow(() -> new EntityNotFoundException("Profissional não encontrado."));
+
+        ServiceProvider provider = providerRepository.findById(prof.getServiceProviderId())
+                .orElseThrow(() -> new EntityNotFoundException("Estabelecimento não encontrado."));
+
+        List<Service> services = serviceIds == null ? List.of() : serviceRepository.findAllByIds(serviceIds);
+        if (services.isEmpty()) {
+            throw new BusinessException("Selecione ao menos um serviço.");
+        }
+
+        int totalDuration = services.stream().mapToInt(Service::getDuration).sum();
+        int slotInterval = prof.getSlotInterval() != null ? prof.getSlotInterval() : 30;
+
+        LocalDateTime now = LocalDateTime.now(ZoneId.of(provider.getTimeZone()));
+        LocalDate start = (from == null || from.isBefore(now.toLocalDate())) ? now.toLocalDate() : from;
+        LocalDate last = start.plusDays(horizon - 1L);
+
+        // 2. Apenas dias da semana em que o atendimento cabe no expediente
+        Map<DayOfWeek, DailyAvailability> shifts = fittingShifts(prof, totalDuration);
+        if (shifts.isEmpty()) {
+            return notFound(professionalId, totalDuration, last);
+        }
+
+        // 3. Varredura em blocos: uma consulta por bloco, recortada ao 1º e último dia aberto
+        LocalDate chunkStart = start;
+        while (!chunkStart.isAfter(last)) {
+            LocalDate chunkEnd = min(chunkStart.plusDays(CHUNK_DAYS - 1L), last);
+
+            LocalDate firstOpen = firstOpenDay(shifts, chunkStart, chunkEnd);
+            if (firstOpen != null) {
+                LocalDate lastOpen = lastOpenDay(shifts, firstOpen, chunkEnd);
+                int days = (int) ChronoUnit.DAYS.between(firstOpen, lastOpen) + 1;
+
+                List<OccupiedInterval> occupations = appointmentRepository.findOccupiedIntervals(
+                        professionalId, firstOpen.atStartOfDay(), lastOpen.plusDays(1).atStartOfDay());
+                OccupancyBitmap[] occupancy = SlotEngine.occupancyByDay(firstOpen, days, occupations);
+
+                for (int i = 0; i < days; i++) {
+                    LocalDate date = firstOpen.plusDays(i);
+                    DailyAvailability shift = shifts.get(date.getDayOfWeek());
+                    if (shift == null) {
+                        continue;
+                    }
+
+                    int[] starts = SlotEngine.freeStarts(shift, date, totalDuration, slotInterval, occupancy[i], now);
+                    if (starts.length > 0) {
+                        // Parada antecipada: primeiro dia com vaga
+                        return new NextAvailability(professionalId, totalDuration, last, date, toTimes(starts));
+                    }
+                }
+            }
+
+            chunkStart = chunkEnd.plusDays(1);
+        }
+
+        return notFound(professionalId, totalDuration, last);
+    }
+
+    private Map<DayOfWeek, DailyAvailability> fittingShifts(Professional prof, int totalDuration) {
+        Map<DayOfWeek, DailyAvailability> fitting = new EnumMap<>(DayOfWeek.class);
+        SlotEngine.weeklyShifts(prof.getAvailability()).forEach((day, shift) -> {
+            long shiftMinutes = Duration.between(shift.startTime(), shift.endTime()).toMinutes();
+            if (totalDuration <= shiftMinutes) {
+                fitting.put(day, shift);
+            }
+        });
+        return fitting;
+    }
+
+    private static LocalDate firstOpenDay(Map<DayOfWeek, DailyAvailability> shifts, LocalDate from, LocalDate to) {
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            if (shifts.containsKey(day.getDayOfWeek())) {
+                return day;
+            }
+        }
+        return null;
+    }
+
+    private static LocalDate lastOpenDay(Map<DayOfWeek, DailyAvailability> shifts, LocalDate from, LocalDate to) {
+        LocalDate day = to;
+        while (day.isAfter(from) && !shifts.containsKey(day.getDayOfWeek())) {
+            day = day.minusDays(1);
+        }
+        return day;
+    }
+
+    private static LocalDate min(LocalDate a, LocalDate b) {
+        return a.isBefore(b) ? a : b;
+    }
+
+    private static List<LocalTime> toTimes(int[] starts) {
+        List<LocalTime> slots = new ArrayList<>(starts.length);
+        for (int start : starts) {
+            slots.add(SlotEngine.toTime(start));
+        }
+        return slots;
+    }
+
+    private static NextAvailability notFound(UUID professionalId, int totalDuration, LocalDate searchedUntil) {
+        return new NextAvailability(professionalId, totalDuration, searchedUntil, null, List.of());
+    }
+}
@@ -0,0 +1,102 @@
+package com.stylo.api_agendamento.core.usecases;
+
+import com.stylo.api_agendamento.core.common.UseCase;
+import com.stylo.api_agendamento.core.domain.Professional;
+import com.stylo.api_agendamento.core.domain.Service;
+import com.stylo.api_agendamento.core.domain.ServiceProvider;
+import com.stylo.api_agendamento.core.domain.schedule.OccupancyBitmap;
+import com.stylo.api_agendamento.core.domain.schedule.OccupiedInterval;
+import com.stylo.api_agendamento.core.domain.schedule.SlotEngine;
+import com.stylo.api_agendamento.core.domain.vo.DailyAvailability;
+import com.stylo.api_agendamento.core.exceptions.BusinessException;
+import com.stylo.api_agendamento.core.exceptions.EntityNotFoundException;
+import com.stylo.api_agendamento.core.ports.IAppointmentRepository;
+import com.stylo.api_agendamento.core.ports.IProfessionalRepository;
+import com.stylo.api_agendamento.core.ports.IServiceProviderRepository;
+import com.stylo.api_agendamento.core.ports.IServiceRepository;
+import com.stylo.api_agendamento.core.usecases.dto.AvailabilityCalendar;
+import lombok.RequiredArgsConstructor;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Disponibilidade de vários dias em uma única chamada (calendário mensal do agendamento).
+ * Carrega profissional, estabelecimento e serviços uma vez e faz uma única
+ * consulta de ocupações para todo o período.
+ */
+@UseCase
+@RequiredArgsConstructor
+public class GetAvailabilityCalendarUseCase {
+
+    public static final int MAX_RANGE_DAYS = 60;
+
+    private final IProfessionalRepository professionalRepository;
+    private final IAppointmentRepository appointmentRepository;
+    private final IServiceRepository serviceRepository;
+    private final IServiceProviderRepository providerRepository;
+
+    public AvailabilityCalendar execute(UUID professionalId, List<UUID> serviceIds, LocalDate from, LocalDate to) {
+        // 1. Validação do período
+        if (from == null || to == null || to.isBefore(from)) {
+            throw new BusinessException("Período inválido: a data final deve ser igual ou posterior à inicial.");
+        }
+
+        int days = (int) ChronoUnit.DAYS.between(from, to) + 1;
+        if (days > MAX_RANGE_DAYS) {
+            throw new BusinessException(String.format(
+                    "O período máximo para consulta de disponibilidade é de %d dias.", MAX_RANGE_DAYS));
+        }
+
+        // 2. Buscas de Contexto (uma vez para todo o período)
+        Professional prof = professionalRepository.findById(professionalId)
+                .orElseThrow(() -> new EntityNotFoundException("Profissional não encontrado."));
+
+        ServiceProvider provider = providerRepository.findById(prof.getServiceProviderId())
+                .orElseThrow(() -> new EntityNotFoundException("Estabelecimento não encontrado."));
+
+        List<Service> services = serviceIds == null ? List.of() : serviceRepository.findAllByIds(serviceIds);
+        if (services.isEmpty()) {
+            throw new BusinessException("Selecione ao menos um serviço.");
+        }
+
+        int totalDuration = services.stream().mapToInt(Service::getDuration).sum();
+        int slotInterval = prof.getSlotInterval() != null ? prof.getSlotInterval() : 30;
+
+        // Grade semanal indexada por dia da semana
+        Map<DayOfWeek, DailyAvailability> weeklyShifts = SlotEngine.weeklyShifts(prof.getAvailability());
+
+        // 3. Uma única consulta de ocupações para o período inteiro
+        List<OccupiedInterval> occupations = appointmentRepository.findOccupiedIntervals(
+                professionalId, from.atStartOfDay(), to.plusDays(1).atStartOfDay());
+
+        OccupancyBitmap[] occupancy = SlotEngine.occupancyByDay(from, days, occupations);
+
+        ZoneId zoneId = ZoneId.of(provider.getTimeZone());
+        LocalDateTime now = LocalDateTime.now(zoneId);
+        LocalDate today = now.toLocalDate();
+
+        // 4. Cálculo de todos os dias em uma passada
+        List<AvailabilityCalendar.Day> result = new ArrayList<>(days);
+        for (int i = 0; i < days; i++) {
+            LocalDate date = from.plusDays(i);
+            DailyAvailability shift = weeklyShifts.get(date.getDayOfWeek());
+
+            List<LocalTime> slots = (shift == null || date.isBefore(today))
+                    ? List.of()
+                    : SlotEngine.availableSlots(shift, date, totalDuration, slotInterval, occupancy[i], now);
+
+            result.add(new AvailabilityCalendar.Day(date, !slots.isEmpty(), slots));
+        }
+
+        return new AvailabilityCalendar(professionalId, totalDuration, result);
+    }
+}
@@ -0,0 +1,59 @@
+package com.stylo.api_agendamento.core.usecases;
+
+import com.stylo.api_agendamento.core.common.UseCase;
+import com.stylo.api_agendamento.core.exceptions.BusinessException;
+import com.stylo.api_agendamento.core.ports.ICashReconciliationRepository;
+import com.stylo.api_agendamento.core.usecases.dto.CashReconciliationSummary;
+import com.stylo.api_agendamento.core.usecases.dto.CashRegisterReconciliation;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Relatório Z e conciliação de caixa por período (fechamento do dia ou do mês).
+ */
+@UseCase
+@RequiredArgsConstructor
+public class GetCashReconciliationUseCase {
+
+    private static final int MAX_PERIOD_DAYS = 366;
+    private static final int MAX_PAGE_SIZE = 500;
+
+    private final ICashReconciliationRepository cashReconciliationRepository;
+
+    /**
+     * Valida antes de abrir a resposta em streaming (erros ainda podem virar 4xx).
+     */
+    public void validate(LocalDate startDate, LocalDate endDate, int page, int size) {
+        if (startDate.isAfter(endDate)) {
+            throw new BusinessException("A data inicial não pode ser superior à data final.");
+        }
+        if (ChronoUnit.DAYS.between(startDate, endDate) >= MAX_PERIOD_DAYS) {
+            throw new BusinessException("O período da conciliação não pode ser superior a " + MAX_PERIOD_DAYS + " dias.");
+        }
+        if (page < 0 || size <= 0 || size > MAX_PAGE_SIZE) {
+            throw new BusinessException("Paginação inválida: página >= 0 e tamanho entre 1 e " + MAX_PAGE_SIZE + ".");
+        }
+    }
+
+    public long countRegisters(UUID providerId, LocalDate startDate, LocalDate endDate) {
+        return cashReconciliationRepository.countRegisters(providerId,
+                startDate.atStartOfDay(), endDate.plusDays(1).atStartOfDay());
+    }
+
+    public void streamRegisters(UUID providerId, LocalDate startDate, LocalDate endDate, int page, int size,
+            Consumer<CashRegisterReconciliation> consumer) {
+        validate(startDate, endDate, page, size);
+        cashReconciliationRepository.streamRegisters(providerId,
+                startDate.atStartOfDay(), endDate.plusDays(1).atStartOfDay(), page, size, consumer);
+    }
+
+    public CashReconciliationSummary summarize(UUID providerId, LocalDate startDate, LocalDate endDate) {
+        validate(startDate, endDate, 0, 1);
+        return cashReconciliationRepository.summarize(providerId,
+                startDate.atStartOfDay(), endDate.plusDays(1).atStartOfDay());
+    }
+}
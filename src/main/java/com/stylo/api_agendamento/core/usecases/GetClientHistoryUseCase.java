@@ -3,117 +3,174 @@ package com.stylo.api_agendamento.core.usecases;
 import com.stylo.api_agendamento.adapters.inbound.rest.dto.appointment.AppointmentResponse;
 import com.stylo.api_agendamento.adapters.inbound.rest.dto.serviceProvider.AddressRequest;
 import com.stylo.api_agendamento.adapters.inbound.rest.dto.serviceProvider.ServiceProviderRequest;
+import com.stylo.api_agendamento.core.common.CursorPage;
+import com.stylo.api_agendamento.core.common.PageCursor;
 import com.stylo.api_agendamento.core.common.PagedResult;
 import com.stylo.api_agendamento.core.common.UseCase;
 import com.stylo.api_agendamento.core.domain.Appointment;
-import com.stylo.api_agendamento.core.domain.AppointmentStatus;
 import com.stylo.api_agendamento.core.domain.Service;
+import com.stylo.api_agendamento.core.domain.ServiceProvider;
 import com.stylo.api_agendamento.core.ports.IAppointmentRepository;
+import com.stylo.api_agendamento.core.ports.IClientStatsRepository;
 import com.stylo.api_agendamento.core.ports.IServiceProviderRepository;
+import com.stylo.api_agendamento.core.usecases.dto.AmountTotal;
+import com.stylo.api_agendamento.core.usecases.dto.ClientStats;
 import lombok.RequiredArgsConstructor;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
-import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @UseCase
 @RequiredArgsConstructor
 public class GetClientHistoryUseCase {
 
+    private static final int TOP_SERVICES = 5;
+    private static final int TOP_PROFESSIONALS = 3;
+
     private final IAppointmentRepository appointmentRepository;
     private final IServiceProviderRepository serviceProviderRepository;
+    private final IClientStatsRepository clientStatsRepository;
+    private final MaintainClientStatsUseCase maintainClientStatsUseCase;
 
+    /**
+     * Custo por página: conteúdo + COUNT da paginação, estabelecimentos da página e
+     * indicadores do read model (4 consultas).
+     */
     public Response execute(UUID clientId, int page, int size) {
         PagedResult<Appointment> pagedHistory = appointmentRepository.findAllByClientId(clientId, page, size);
-        List<Appointment> items = pagedHistory.items();
 
-        List<Appointment> completed = items.stream()
-                .filter(a -> a.getStatus() == AppointmentStatus.COMPLETED)
-                .toList();
+        PagedResult<AppointmentResponse> pagedDtoHistory = new PagedResult<>(
+                toResponses(pagedHistory.items()),
+                pagedHistory.page(),
+                pagedHistory.size(),
+                pagedHistory.totalElements(),
+                pagedHistory.totalPages()
+        );
+
+        Summary summary = summarize(clientId);
+        return new Response(pagedDtoHistory, summary.averageTicket(), summary.topServices(), summary.favoriteProfessionals());
+    }
+
+    /**
+     * Histórico por cursor (keyset): sem OFFSET e sem COUNT, a menos que includeTotal seja pedido.
+     * Os indicadores vitalícios só vêm na primeira página (cursor vazio); nas seguintes ficam nulos.
+     * Custo: 3 consultas na primeira página, 2 nas demais (+1 com includeTotal).
+     */
+    public ScrollResponse executeScroll(UUID clientId, String cursor, int size, boolean includeTotal) {
+        PageCursor after = PageCursor.decode(cursor);
+        CursorPage<Appointment> history = appointmentRepository.findAllByClientIdAfter(
+                clientId, after, size, includeTotal);
+
+        CursorPage<AppointmentResponse> dtoHistory = new CursorPage<>(
+                toResponses(history.items()),
+                history.nextCursor(),
+                history.hasNext(),
+                history.totalElements());
+
+        if (after != null) {
+            return new ScrollResponse(dtoHistory, null, null, null);
+        }
+
+        Summary summary = summarize(clientId);
+        return new ScrollResponse(dtoHistory, summary.averageTicket(), summary.topServices(), summary.favoriteProfessionals());
+    }
 
-        BigDecimal totalSpent = completed.stream()
-                .map(Appointment::getFinalPrice)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    /**
+     * Indicadores vitalícios do cliente (todo o histórico concluído, não só a página atual).
+     */
+    private Summary summarize(UUID clientId) {
+        ClientStats stats = loadStats(clientId);
 
-        BigDecimal averageTicket = completed.isEmpty() ? BigDecimal.ZERO :
-                totalSpent.divide(BigDecimal.valueOf(completed.size()), 2, RoundingMode.HALF_UP);
+        BigDecimal averageTicket = stats.visitCount() == 0 ? BigDecimal.ZERO :
+                stats.totalSpent().divide(BigDecimal.valueOf(stats.visitCount()), 2, RoundingMode.HALF_UP);
 
-        List<ItemCount> topServices = completed.stream()
-                .flatMap(a -> a.getServices().stream())
-                .collect(Collectors.groupingBy(Service::getName, Collectors.counting()))
-                .entrySet().stream()
-                .map(e -> new ItemCount(e.getKey(), e.getValue().intValue()))
-                .sorted(Comparator.comparing(ItemCount::count).reversed())
-                .limit(5)
+        List<ItemCount> topServices = stats.topServices().stream()
+                .map(c -> new ItemCount(c.name(), (int) c.count()))
                 .toList();
 
-        List<ItemCount> favoriteProfessionals = completed.stream()
-                .collect(Collectors.groupingBy(Appointment::getProfessionalName, Collectors.counting()))
-                .entrySet().stream()
-                .map(e -> new ItemCount(e.getKey(), e.getValue().intValue()))
-                .sorted(Comparator.comparing(ItemCount::count).reversed())
-                .limit(3)
+        List<ItemCount> favoriteProfessionals = stats.favoriteProfessionals().stream()
+                .map(c -> new ItemCount(c.name(), (int) c.count()))
                 .toList();
 
-        List<AppointmentResponse> dtoItems = items.stream()
-                .map(this::mapToResponseDTO)
+        return new Summary(averageTicket, topServices, favoriteProfessionals);
+    }
+
+    private List<AppointmentResponse> toResponses(List<Appointment> items) {
+        // ✨ Estabelecimentos da página em uma única consulta (antes: um findById por item)
+        Set<UUID> providerIds = items.stream()
+                .map(Appointment::getServiceProviderId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+
+        Map<UUID, ServiceProvider> providers = serviceProviderRepository.findAllByIds(providerIds)
+                .stream()
+                .collect(Collectors.toMap(ServiceProvider::getId, Function.identity()));
+
+        return items.stream()
+                .map(a -> mapToResponseDTO(a, providers.get(a.getServiceProviderId())))
                 .toList();
+    }
 
-        PagedResult<AppointmentResponse> pagedDtoHistory = new PagedResult<>(
-                dtoItems,
-                pagedHistory.page(),
-                pagedHistory.size(),
-                pagedHistory.totalElements(),
-                pagedHistory.totalPages()
-        );
+    /**
+     * Lê do read model client_stats (uma consulta). Enquanto o backfill inicial não termina,
+     * agrega direto nos agendamentos.
+     */
+    private ClientStats loadStats(UUID clientId) {
+        if (maintainClientStatsUseCase.isStatsReady()) {
+            return clientStatsRepository.findByClient(clientId, TOP_SERVICES, TOP_PROFESSIONALS)
+                    .orElseGet(ClientStats::empty);
+        }
 
-        return new Response(pagedDtoHistory, averageTicket, topServices, favoriteProfessionals);
+        AmountTotal completed = appointmentRepository.sumCompletedByClient(clientId);
+        return new ClientStats(
+                completed.total(),
+                completed.count(),
+                appointmentRepository.countCompletedServicesForClient(clientId, TOP_SERVICES),
+                appointmentRepository.countCompletedByProfessionalForClient(clientId, TOP_PROFESSIONALS));
     }
 
-    private AppointmentResponse mapToResponseDTO(Appointment a) {
+    private AppointmentResponse mapToResponseDTO(Appointment a, ServiceProvider p) {
         List<String> serviceNames = a.getServices().stream()
                 .map(Service::getName)
                 .toList();
 
         ServiceProviderRequest providerRequest = null;
 
-        if (a.getServiceProviderId() != null) {
-            var providerOpt = serviceProviderRepository.findById(a.getServiceProviderId());
-
-            if (providerOpt.isPresent()) {
-                var p = providerOpt.get();
-
-                AddressRequest addressRequest = null;
-                // Address é um Record, então usamos nomeDoCampo() em vez de getNomeDoCampo()
-                if (p.getBusinessAddress() != null) {
-                    addressRequest = new AddressRequest(
-                            p.getBusinessAddress().street(),
-                            p.getBusinessAddress().number(),
-                            p.getBusinessAddress().neighborhood(),
-                            p.getBusinessAddress().city(),
-                            p.getBusinessAddress().state(),
-                            p.getBusinessAddress().zipCode(),
-                            p.getBusinessAddress().lat(), // Passando Latitude
-                            p.getBusinessAddress().lng()  // Passando Longitude
-                    );
-                }
-
-                // Convertendo Document VO para String usando toString() (ou value() se existir)
-                String docString = p.getDocument() != null ? p.getDocument().toString() : "";
-
-                providerRequest = new ServiceProviderRequest(
-                        p.getBusinessName(),
-                        "app@stylo.com", // Enviando um email fixo para validar o DTO sem vazar o real
-                        "",
-                        p.getBusinessName(),
-                        docString,           // <-- Aqui está o Document como String
-                        addressRequest,
-                        p.getBusinessPhone() != null ? p.getBusinessPhone() : ""
+        if (p != null) {
+            AddressRequest addressRequest = null;
+            // Address é um Record, então usamos nomeDoCampo() em vez de getNomeDoCampo()
+            if (p.getBusinessAddress() != null) {
+                addressRequest = new AddressRequest(
+                        p.getBusinessAddress().street(),
+                        p.getBusinessAddress().number(),
+                        p.getBusinessAddress().neighborhood(),
+                        p.getBusinessAddress().city(),
+                        p.getBusinessAddress().state(),
+                        p.getBusinessAddress().zipCode(),
+                        p.getBusinessAddress().lat(), // Passando Latitude
+                        p.getBusinessAddress().lng()  // Passando Longitude
                 );
             }
+
+            // Convertendo Document VO para String usando toString() (ou value() se existir)
+            String docString = p.getDocument() != null ? p.getDocument().toString() : "";
+
+            providerRequest = new ServiceProviderRequest(
+                    p.getBusinessName(),
+                    "app@stylo.com", // Enviando um email fixo para validar o DTO sem vazar o real
+                    "",
+                    p.getBusinessName(),
+                    docString,           // <-- Aqui está o Document como String
+                    addressRequest,
+                    p.getBusinessPhone() != null ? p.getBusinessPhone() : ""
+            );
         }
 
         // ✨ CORREÇÃO: Adicionados os campos novos exigidos pelo AppointmentResponse
@@ -145,5 +202,16 @@ public class GetClientHistoryUseCase {
             List<ItemCount> topServices,
             List<ItemCount> favoriteProfessionals) {}
 
+    public record ScrollResponse(
+            CursorPage<AppointmentResponse> history,
+            BigDecimal averageTicket,
+            List<ItemCount> topServices,
+            List<ItemCount> favoriteProfessionals) {}
+
     public record ItemCount(String name, int count) {}
+
+    private record Summary(
+            BigDecimal averageTicket,
+            List<ItemCount> topServices,
+            List<ItemCount> favoriteProfessionals) {}
 }
\ No newline at end of file
@@ -1,26 +1,35 @@
 package com.stylo.api_agendamento.core.usecases;
 
 import com.stylo.api_agendamento.core.common.UseCase;
-import com.stylo.api_agendamento.core.domain.Appointment;
-import com.stylo.api_agendamento.core.domain.Expense;
 import com.stylo.api_agendamento.core.ports.IAppointmentRepository;
+import com.stylo.api_agendamento.core.ports.ICashflowRollupRepository;
 import com.stylo.api_agendamento.core.ports.IFinancialRepository;
 import com.stylo.api_agendamento.core.usecases.dto.FinancialDashboard;
 import com.stylo.api_agendamento.core.usecases.dto.DailyCashFlow;
+import com.stylo.api_agendamento.core.usecases.dto.DailyTotal;
 import com.stylo.api_agendamento.core.exceptions.BusinessException;
 import lombok.RequiredArgsConstructor;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @UseCase
 @RequiredArgsConstructor
 public class GetFinancialDashboardUseCase {
 
+    // Uma linha de rollup por dia: o período máximo limita a leitura a 366 linhas
+    private static final int MAX_PERIOD_DAYS = 366;
+
+    private final ICashflowRollupRepository cashflowRollupRepository;
+    private final MaintainCashflowRollupUseCase maintainCashflowRollupUseCase;
     private final IAppointmentRepository appointmentRepository;
     private final IFinancialRepository financialRepository;
 
@@ -28,35 +37,24 @@ public class GetFinancialDashboardUseCase {
         if (startDate.isAfter(endDate)) {
             throw new BusinessException("A data inicial não pode ser superior à data final.");
         }
+        if (ChronoUnit.DAYS.between(startDate, endDate) >= MAX_PERIOD_DAYS) {
+            throw new BusinessException("O período do dashboard não pode ser superior a " + MAX_PERIOD_DAYS + " dias.");
+        }
 
-        // 1. Busca Receitas (Agendamentos Concluídos)
-        List<Appointment> revenues = appointmentRepository.findRevenueInPeriod(
-                providerId, startDate.atStartOfDay(), endDate.atTime(23, 59, 59));
-
-        // 2. Busca Despesas (Lançamentos manuais)
-        List<Expense> expenses = financialRepository.findExpensesByProviderAndPeriod(
-                providerId, startDate.atStartOfDay(), endDate.atTime(23, 59, 59));
-
-        // 3. Agrupamento por Dia (Mapas de Soma)
-        Map<LocalDate, BigDecimal> dailyRevMap = revenues.stream()
-                .collect(Collectors.groupingBy(
-                        a -> a.getStartTime().toLocalDate(),
-                        Collectors.reducing(BigDecimal.ZERO, Appointment::getFinalPrice, BigDecimal::add)));
-
-        Map<LocalDate, BigDecimal> dailyExpMap = expenses.stream()
-                .collect(Collectors.groupingBy(
-                        e -> e.getCreatedAt().toLocalDate(),
-                        Collectors.reducing(BigDecimal.ZERO, Expense::getAmount, BigDecimal::add)));
+        // 1. Receitas e Despesas já consolidadas por dia (provider_daily_cashflow).
+        // Enquanto o backfill inicial do rollup não termina, agrega direto no banco.
+        Map<LocalDate, DailyCashFlow> flowByDay = maintainCashflowRollupUseCase.isRollupReady()
+                ? cashflowRollupRepository.findByProviderAndPeriod(providerId, startDate, endDate)
+                        .stream()
+                        .collect(Collectors.toMap(DailyCashFlow::date, Function.identity()))
+                : aggregateLive(providerId, startDate, endDate);
 
-        // 4. Consolidação do Fluxo de Caixa (Preenchendo dias vazios para o gráfico)
+        // 2. Consolidação do Fluxo de Caixa (Preenchendo dias vazios para o gráfico)
         List<DailyCashFlow> dailyFlow = startDate.datesUntil(endDate.plusDays(1))
-                .map(date -> new DailyCashFlow(
-                        date,
-                        dailyRevMap.getOrDefault(date, BigDecimal.ZERO),
-                        dailyExpMap.getOrDefault(date, BigDecimal.ZERO)))
+                .map(date -> flowByDay.getOrDefault(date, new DailyCashFlow(date, BigDecimal.ZERO, BigDecimal.ZERO)))
                 .collect(Collectors.toList());
 
-        // 5. Totais Consolidados
+        // 3. Totais Consolidados
         BigDecimal totalRevenue = dailyFlow.stream()
                 .map(DailyCashFlow::revenue)
                 .reduce(BigDecimal.ZERO, BigDecimal::add);
@@ -72,4 +70,23 @@ public class GetFinancialDashboardUseCase {
                 dailyFlow
         );
     }
-}
\ No newline at end of file
+
+    /**
+     * GROUP BY por dia no banco: no máximo uma linha por dia de cada lado, sem entidades.
+     */
+    private Map<LocalDate, DailyCashFlow> aggregateLive(UUID providerId, LocalDate startDate, LocalDate endDate) {
+        LocalDateTime start = startDate.atStartOfDay();
+        LocalDateTime end = endDate.plusDays(1).atStartOfDay();
+
+        Map<LocalDate, DailyCashFlow> flowByDay = new HashMap<>();
+        for (DailyTotal revenue : appointmentRepository.sumCompletedRevenueByDay(providerId, start, end)) {
+            flowByDay.put(revenue.date(), new DailyCashFlow(revenue.date(), revenue.total(), BigDecimal.ZERO));
+        }
+        for (DailyTotal expense : financialRepository.sumExpensesByDay(providerId, start, end)) {
+            DailyCashFlow day = flowByDay.get(expense.date());
+            flowByDay.put(expense.date(), new DailyCashFlow(
+                    expense.date(), day != null ? day.revenue() : BigDecimal.ZERO, expense.total()));
+        }
+        return flowByDay;
+    }
+}
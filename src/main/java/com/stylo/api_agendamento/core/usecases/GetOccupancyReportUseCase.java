@@ -2,7 +2,11 @@ package com.stylo.api_agendamento.core.usecases;
 
 import com.stylo.api_agendamento.core.common.UseCase;
 import com.stylo.api_agendamento.core.domain.*;
+import com.stylo.api_agendamento.core.domain.schedule.IntervalIndex;
+import com.stylo.api_agendamento.core.domain.schedule.SlotEngine;
+import com.stylo.api_agendamento.core.domain.vo.DailyAvailability;
 import com.stylo.api_agendamento.core.ports.IAppointmentRepository;
+import com.stylo.api_agendamento.core.ports.IOccupancyRollupRepository;
 import com.stylo.api_agendamento.core.ports.IProfessionalRepository;
 import com.stylo.api_agendamento.core.usecases.dto.OccupancyReport;
 import lombok.RequiredArgsConstructor;
@@ -10,11 +14,13 @@ import lombok.extern.slf4j.Slf4j;
 
 import java.time.Duration;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Slf4j
 @UseCase
@@ -22,18 +28,18 @@ import java.util.stream.Collectors;
 public class GetOccupancyReportUseCase {
 
     private final IProfessionalRepository professionalRepository;
+    private final IOccupancyRollupRepository occupancyRollupRepository;
+    private final RefreshOccupancyRollupUseCase refreshOccupancyRollupUseCase;
     private final IAppointmentRepository appointmentRepository;
 
     public OccupancyReport execute(UUID providerId, LocalDate startDate, LocalDate endDate) {
-        // 1. Busca todos os profissionais e agendamentos do período (Escopo do Estabelecimento)
+        // 1. Profissionais do estabelecimento e minutos ocupados já consolidados por dia
+        // (uma única agregação indexada no rollup, independente do volume de agendamentos).
+        // Enquanto o backfill inicial do rollup não termina, calcula a partir dos agendamentos.
         List<Professional> professionals = professionalRepository.findAllByProviderId(providerId);
-        List<Appointment> allAppointments = appointmentRepository.findAllByProviderIdAndPeriod(
-                providerId, startDate.atStartOfDay(), endDate.atTime(23, 59, 59));
-
-        // 2. Agrupa por profissional para performance O(N)
-        Map<UUID, List<Appointment>> appointmentsByProf = allAppointments.stream()
-                .filter(a -> a.getStatus() != AppointmentStatus.CANCELLED)
-                .collect(Collectors.groupingBy(Appointment::getProfessionalId));
+        Map<UUID, Long> occupiedByProf = refreshOccupancyRollupUseCase.isRollupReady()
+                ? occupancyRollupRepository.sumOccupiedMinutesByProfessional(providerId, startDate, endDate)
+                : occupiedMinutesLive(professionals, startDate, endDate);
 
         List<OccupancyReport.ProfessionalOccupancy> rankings = new ArrayList<>();
 
@@ -41,11 +47,8 @@ public class GetOccupancyReportUseCase {
             // Calcula minutos disponíveis baseado na grade de horários do profissional
             long availableMinutes = calculateTotalAvailableMinutes(prof, startDate, endDate);
             
-            // Calcula minutos efetivamente ocupados (Agendamentos e Bloqueios)
-            List<Appointment> profApps = appointmentsByProf.getOrDefault(prof.getId(), List.of());
-            long occupiedMinutes = profApps.stream()
-                    .mapToLong(a -> Duration.between(a.getStartTime(), a.getEndTime()).toMinutes())
-                    .sum();
+            // Minutos efetivamente ocupados (Agendamentos e Bloqueios, sobreposições já unidas)
+            long occupiedMinutes = occupiedByProf.getOrDefault(prof.getId(), 0L);
 
             double percentage = availableMinutes > 0 
                     ? (double) occupiedMinutes / availableMinutes * 100 
@@ -68,19 +71,39 @@ public class GetOccupancyReportUseCase {
         return new OccupancyReport(rankings, Math.round(averageOccupancy * 100.0) / 100.0);
     }
 
+    /**
+     * Minutos ocupados direto dos agendamentos: uma projeção leve por profissional,
+     * sobreposições unidas pelo índice de intervalos (mesmo cálculo do rollup).
+     */
+    private Map<UUID, Long> occupiedMinutesLive(List<Professional> professionals, LocalDate start, LocalDate end) {
+        LocalDateTime from = start.atStartOfDay();
+        LocalDateTime to = end.plusDays(1).atStartOfDay();
+
+        Map<UUID, Long> occupied = new HashMap<>();
+        for (Professional prof : professionals) {
+            IntervalIndex booked = IntervalIndex.ofIntervals(appointmentRepository.findBookedIntervals(prof.getId(), from, to));
+            occupied.put(prof.getId(), booked.coveredMinutes(from, to));
+        }
+        return occupied;
+    }
+
+    /**
+     * Minutos de expediente no período: conta quantas vezes cada dia da semana aparece
+     * (semanas completas + sobra), em vez de percorrer o período dia a dia.
+     */
     private long calculateTotalAvailableMinutes(Professional prof, LocalDate start, LocalDate end) {
+        long days = ChronoUnit.DAYS.between(start, end) + 1;
+        if (days <= 0) {
+            return 0;
+        }
+
         long total = 0;
-        LocalDate current = start;
-        
-        while (!current.isAfter(end)) {
-            final LocalDate date = current;
-            total += prof.getAvailability().stream()
-                    .filter(a -> a.dayOfWeek() == date.getDayOfWeek() && a.isOpen())
-                    .mapToLong(a -> Duration.between(a.startTime(), a.endTime()).toMinutes())
-                    .findFirst()
-                    .orElse(0L);
-            current = current.plusDays(1);
+        for (DailyAvailability shift : SlotEngine.weeklyShifts(prof.getAvailability()).values()) {
+            // Dias da semana a partir do início do período até a primeira ocorrência do turno
+            int offset = Math.floorMod(shift.dayOfWeek().getValue() - start.getDayOfWeek().getValue(), 7);
+            long occurrences = days > offset ? (days - offset + 6) / 7 : 0;
+            total += occurrences * Duration.between(shift.startTime(), shift.endTime()).toMinutes();
         }
         return total;
     }
-}
\ No newline at end of file
+}
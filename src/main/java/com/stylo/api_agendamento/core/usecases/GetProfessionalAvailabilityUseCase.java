@@ -2,20 +2,25 @@ package com.stylo.api_agendamento.core.usecases;
 
 import com.stylo.api_agendamento.core.common.UseCase;
 import com.stylo.api_agendamento.core.domain.*;
+import com.stylo.api_agendamento.core.domain.schedule.OccupancyBitmap;
+import com.stylo.api_agendamento.core.domain.schedule.SlotEngine;
+import com.stylo.api_agendamento.core.domain.schedule.SlotHold;
 import com.stylo.api_agendamento.core.domain.vo.DailyAvailability;
 import com.stylo.api_agendamento.core.exceptions.BusinessException;
 import com.stylo.api_agendamento.core.exceptions.EntityNotFoundException;
 import com.stylo.api_agendamento.core.ports.IAppointmentRepository;
+import com.stylo.api_agendamento.core.ports.IAvailabilityCache;
 import com.stylo.api_agendamento.core.ports.IProfessionalRepository;
 import com.stylo.api_agendamento.core.ports.IServiceProviderRepository;
 import com.stylo.api_agendamento.core.ports.IServiceRepository;
+import com.stylo.api_agendamento.core.ports.ISlotHoldRepository;
 import lombok.RequiredArgsConstructor;
 
 import java.time.Duration;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.ZoneId;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
@@ -27,8 +32,18 @@ public class GetProfessionalAvailabilityUseCase {
     private final IAppointmentRepository appointmentRepository;
     private final IServiceRepository serviceRepository;
     private final IServiceProviderRepository providerRepository;
+    private final IAvailabilityCache availabilityCache;
+    private final ISlotHoldRepository slotHoldRepository;
 
     public List<LocalTime> execute(UUID professionalId, LocalDate date, List<UUID> serviceIds) {
+        return execute(professionalId, date, serviceIds, null);
+    }
+
+    /**
+     * @param viewerUserId usuário que consulta (null = anônimo). As reservas temporárias
+     *                     dele não escondem o horário: ele precisa conseguir reselecioná-lo
+     */
+    public List<LocalTime> execute(UUID professionalId, LocalDate date, List<UUID> serviceIds, UUID viewerUserId) {
         // 1. Buscas e Validações de Contexto
         Professional prof = professionalRepository.findById(professionalId)
                 .orElseThrow(() -> new EntityNotFoundException("Profissional não encontrado."));
@@ -58,48 +73,64 @@ public class GetProfessionalAvailabilityUseCase {
             ));
         }
 
-        // ✨ CORREÇÃO 2: Busca ocupações explícitas (Agendamentos e Bloqueios Manuais)
-        List<Appointment> occupations = appointmentRepository.findAllByProfessionalIdAndDate(professionalId, date)
-                .stream()
-                .filter(a -> a.getStatus() == AppointmentStatus.PENDING || 
-                             a.getStatus() == AppointmentStatus.SCHEDULED || 
-                             a.getStatus() == AppointmentStatus.BLOCKED) // Explicita que Bloqueios importam
+        // 3. Cache por profissional/dia/duração (invalidado por evento a cada mudança na agenda)
+        // As versões são lidas antes do banco: uma reserva que commitar durante o cálculo
+        // avança a versão e o resultado (possivelmente antigo) fica sob a chave velha
+        IAvailabilityCache.Lookup cached = availabilityCache.get(professionalId, date, totalDuration);
+        List<LocalTime> daySlots = cached.slots()
+                .orElseGet(() -> {
+                    List<LocalTime> computed = computeDaySlots(prof, availability, date, totalDuration);
+                    availabilityCache.put(cached, computed);
+                    return computed;
+                });
+
+        // 3.1 Reservas temporárias de checkout (um HGETALL por dia) contam como ocupadas.
+        // Aplicadas depois do cache: expiram em minutos e não invalidam o dia
+        List<SlotHold> holds = slotHoldRepository.findActive(professionalId, date).stream()
+                .filter(hold -> viewerUserId == null || !hold.isHeldBy(viewerUserId))
                 .toList();
+        if (!holds.isEmpty()) {
+            OccupancyBitmap held = new OccupancyBitmap();
+            for (SlotHold hold : holds) {
+                SlotEngine.occupy(held, date, hold.startTime(), hold.endTime());
+            }
+            daySlots = daySlots.stream()
+                    .filter(slot -> held.isFree(SlotEngine.minuteOf(slot), totalDuration))
+                    .toList();
+        }
 
         // 4. Configuração de Horário Local
         ZoneId zoneId = ZoneId.of(provider.getTimeZone());
-        LocalTime nowInProviderZone = LocalTime.now(zoneId);
-        LocalDate todayInProviderZone = LocalDate.now(zoneId);
+        LocalDateTime now = LocalDateTime.now(zoneId);
 
-        List<LocalTime> availableSlots = new ArrayList<>();
-        LocalTime currentSlot = availability.startTime();
-        
-        // O limite para o início do serviço é o horário de fechar menos a duração total
-        LocalTime lastStartTime = availability.endTime().minusMinutes(totalDuration);
-
-        while (!currentSlot.isAfter(lastStartTime)) {
-            LocalTime slotEnd = currentSlot.plusMinutes(totalDuration);
-            
-            // Validação de Tempo Passado (Se for para hoje)
-            boolean isPast = date.isEqual(todayInProviderZone) && currentSlot.isBefore(nowInProviderZone);
-            
-            // Validação de Conflito de Agenda com Ocupações e Bloqueios
-            final LocalTime finalCurrent = currentSlot;
-            boolean hasConflict = occupations.stream().anyMatch(occ -> {
-                LocalTime start = occ.getStartTime().toLocalTime();
-                LocalTime end = occ.getEndTime().toLocalTime();
-                // Overlap: (SlotStart < OccEnd) AND (SlotEnd > OccStart)
-                return finalCurrent.isBefore(end) && slotEnd.isAfter(start);
-            });
-
-            if (!isPast && !hasConflict) {
-                availableSlots.add(currentSlot);
-            }
-
-            // Pula para o próximo slot baseado no intervalo configurado no profissional (ex: a cada 30 min)
-            currentSlot = currentSlot.plusMinutes(prof.getSlotInterval() != null ? prof.getSlotInterval() : 30);
+        // Regra: não permitir horários que já passaram hoje (aplicada após o cache,
+        // que guarda o dia inteiro e por isso não envelhece com o relógio)
+        if (!date.isEqual(now.toLocalDate())) {
+            return daySlots;
         }
+        int notBefore = SlotEngine.ceilMinute(now.toLocalTime());
+        return daySlots.stream()
+                .filter(slot -> SlotEngine.minuteOf(slot) >= notBefore)
+                .toList();
+    }
+
+    private List<LocalTime> computeDaySlots(Professional prof, DailyAvailability availability,
+            LocalDate date, int totalDuration) {
+        // ✨ CORREÇÃO 2: Busca ocupações explícitas (Agendamentos e Bloqueios Manuais)
+        List<Appointment> occupations = appointmentRepository.findAllByProfessionalIdAndDate(prof.getId(), date)
+                .stream()
+                .filter(SlotEngine::occupiesAgenda) // PENDING, SCHEDULED e BLOCKED ocupam a agenda
+                .toList();
 
-        return availableSlots;
+        // 5. Cálculo via mapa de ocupação por minuto (varredura de bits em vez de slots × ocupações)
+        // O intervalo entre slots segue o configurado no profissional (ex: a cada 30 min).
+        // "Agora" = início do próprio dia: calcula o dia inteiro, sem descartar horários passados
+        return SlotEngine.availableSlots(
+                availability,
+                date,
+                totalDuration,
+                prof.getSlotInterval() != null ? prof.getSlotInterval() : 30,
+                occupations,
+                date.atStartOfDay());
     }
 }
\ No newline at end of file
@@ -0,0 +1,113 @@
+package com.stylo.api_agendamento.core.usecases;
+
+import com.stylo.api_agendamento.core.common.UseCase;
+import com.stylo.api_agendamento.core.ports.IBackfillMarkerRepository;
+import com.stylo.api_agendamento.core.ports.ICashflowRollupRepository;
+import com.stylo.api_agendamento.core.ports.IServiceProviderRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Backfill, reconstrução e verificação de consistência do rollup provider_daily_cashflow.
+ * O rollup é mantido incrementalmente pelas escritas; aqui ficam as rotinas que
+ * recalculam a partir das tabelas de origem (agendamentos e despesas).
+ */
+@Slf4j
+@UseCase
+@RequiredArgsConstructor
+public class MaintainCashflowRollupUseCase {
+
+    private static final String BACKFILL = "provider_daily_cashflow";
+
+    private final ICashflowRollupRepository cashflowRollupRepository;
+    private final IServiceProviderRepository serviceProviderRepository;
+    private final IBackfillMarkerRepository backfillMarkerRepository;
+
+    // Só depois do backfill completo o dashboard passa a ler do rollup
+    private volatile boolean rollupReady;
+
+    public void rebuild(UUID providerId, LocalDate from, LocalDate to) {
+        cashflowRollupRepository.rebuild(providerId, from, to);
+    }
+
+    /**
+     * Reconstrói todo o histórico de cada estabelecimento, sem janela: depois do backfill
+     * o dashboard lê qualquer período do rollup, e os incrementos valem para qualquer data.
+     *
+     * @return false se algum estabelecimento falhou
+     */
+    public boolean rebuildAll() {
+        int failures = 0;
+        for (UUID providerId : serviceProviderRepository.findAllIds()) {
+            try {
+                cashflowRollupRepository.rebuildAll(providerId);
+            } catch (Exception e) {
+                failures++;
+                log.error("Falha ao reconstruir fluxo de caixa do estabelecimento {}: {}", providerId, e.getMessage());
+            }
+        }
+        return failures == 0;
+    }
+
+    /**
+     * Compara o rollup com a agregação direta e reconstrói apenas os dias divergentes.
+     *
+     * @return quantidade de dias corrigidos
+     */
+    public int checkAndRepair(LocalDate from, LocalDate to) {
+        int repaired = 0;
+        for (UUID providerId : serviceProviderRepository.findAllIds()) {
+            try {
+                List<LocalDate> inconsistent = cashflowRollupRepository.findInconsistentDays(providerId, from, to);
+                if (inconsistent.isEmpty()) {
+                    continue;
+                }
+                log.warn("Fluxo de caixa divergente no estabelecimento {}: {} dia(s) {}",
+                        providerId, inconsistent.size(), inconsistent);
+                for (LocalDate day : inconsistent) {
+                    cashflowRollupRepository.rebuild(providerId, day, day);
+                }
+                repaired += inconsistent.size();
+            } catch (Exception e) {
+                log.error("Falha ao verificar fluxo de caixa do estabelecimento {}: {}", providerId, e.getMessage());
+            }
+        }
+        return repaired;
+    }
+
+    public boolean needsBackfill() {
+        return !backfillMarkerRepository.isCompleted(BACKFILL);
+    }
+
+    /**
+     * Backfill do histórico enquanto não houver registro de conclusão. A tabela vazia
+     * não serve de critério: o primeiro atendimento concluído já a preenche.
+     * Com falha em algum estabelecimento, a leitura continua ao vivo e o backfill é
+     * refeito no próximo disparo.
+     */
+    public void backfillIfNeeded() {
+        if (needsBackfill()) {
+            if (!rebuildAll()) {
+                log.warn("Backfill do fluxo de caixa terminou com falhas; será refeito na próxima execução.");
+                return;
+            }
+            backfillMarkerRepository.markCompleted(BACKFILL);
+        }
+        rollupReady = true;
+    }
+
+    /**
+     * A marca é consultada até aparecer: instâncias que não rodaram o backfill
+     * passam a ler do rollup assim que outra o concluir.
+     */
+    public boolean isRollupReady() {
+        if (!rollupReady && !needsBackfill()) {
+            rollupReady = true;
+        }
+        return rollupReady;
+    }
+}
@@ -0,0 +1,60 @@
+package com.stylo.api_agendamento.core.usecases;
+
+import com.stylo.api_agendamento.core.common.UseCase;
+import com.stylo.api_agendamento.core.ports.IBackfillMarkerRepository;
+import com.stylo.api_agendamento.core.ports.IClientStatsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Backfill e reconstrução do read model client_stats.
+ * O read model é mantido incrementalmente na finalização dos atendimentos; aqui fica
+ * apenas o recálculo completo a partir dos agendamentos concluídos.
+ */
+@Slf4j
+@UseCase
+@RequiredArgsConstructor
+public class MaintainClientStatsUseCase {
+
+    private static final String BACKFILL = "client_stats";
+
+    private final IClientStatsRepository clientStatsRepository;
+    private final IBackfillMarkerRepository backfillMarkerRepository;
+
+    // Só depois do backfill o histórico do cliente passa a ler do read model
+    private volatile boolean statsReady;
+
+    /**
+     * Reconstrução completa; também conclui um backfill que tenha ficado pela metade.
+     */
+    public void rebuildAll() {
+        clientStatsRepository.rebuildAll();
+        backfillMarkerRepository.markCompleted(BACKFILL);
+    }
+
+    public boolean needsBackfill() {
+        return !backfillMarkerRepository.isCompleted(BACKFILL);
+    }
+
+    /**
+     * Backfill do histórico enquanto não houver registro de conclusão. A tabela vazia
+     * não serve de critério: a primeira visita registrada já a preenche.
+     */
+    public void backfillIfNeeded() {
+        if (needsBackfill()) {
+            rebuildAll();
+        }
+        statsReady = true;
+    }
+
+    /**
+     * A marca é consultada até aparecer: instâncias que não rodaram o backfill
+     * passam a ler do read model assim que outra o concluir.
+     */
+    public boolean isStatsReady() {
+        if (!statsReady && !needsBackfill()) {
+            statsReady = true;
+        }
+        return statsReady;
+    }
+}
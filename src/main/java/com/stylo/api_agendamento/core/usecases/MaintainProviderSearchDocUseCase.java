@@ -0,0 +1,60 @@
+package com.stylo.api_agendamento.core.usecases;
+
+import com.stylo.api_agendamento.core.common.UseCase;
+import com.stylo.api_agendamento.core.ports.IBackfillMarkerRepository;
+import com.stylo.api_agendamento.core.ports.IProviderSearchDocRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Backfill e reconstrução do read model provider_search_doc.
+ * O documento é atualizado pelos casos de uso de serviços, avaliações e perfil;
+ * aqui fica apenas o recálculo completo.
+ */
+@Slf4j
+@UseCase
+@RequiredArgsConstructor
+public class MaintainProviderSearchDocUseCase {
+
+    private static final String BACKFILL = "provider_search_doc";
+
+    private final IProviderSearchDocRepository searchDocRepository;
+    private final IBackfillMarkerRepository backfillMarkerRepository;
+
+    // Só depois do backfill a busca passa a ler do read model
+    private volatile boolean searchDocReady;
+
+    /**
+     * Reconstrução completa; também conclui um backfill que tenha ficado pela metade.
+     */
+    public void rebuildAll() {
+        searchDocRepository.rebuildAll();
+        backfillMarkerRepository.markCompleted(BACKFILL);
+    }
+
+    public boolean needsBackfill() {
+        return !backfillMarkerRepository.isCompleted(BACKFILL);
+    }
+
+    /**
+     * Backfill enquanto não houver registro de conclusão. A tabela vazia não serve de
+     * critério: o primeiro estabelecimento alterado já a preenche.
+     */
+    public void backfillIfNeeded() {
+        if (needsBackfill()) {
+            rebuildAll();
+        }
+        searchDocReady = true;
+    }
+
+    /**
+     * A marca é consultada até aparecer: instâncias que não rodaram o backfill
+     * passam a ler do read model assim que outra o concluir.
+     */
+    public boolean isSearchDocReady() {
+        if (!searchDocReady && !needsBackfill()) {
+            searchDocReady = true;
+        }
+        return searchDocReady;
+    }
+}
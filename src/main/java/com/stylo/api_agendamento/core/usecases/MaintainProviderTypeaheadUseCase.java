@@ -0,0 +1,208 @@
+package com.stylo.api_agendamento.core.usecases;
+
+import com.stylo.api_agendamento.core.common.UseCase;
+import com.stylo.api_agendamento.core.domain.search.TypeaheadIndex;
+import com.stylo.api_agendamento.core.ports.IProviderTypeaheadRepository;
+import com.stylo.api_agendamento.core.usecases.dto.ProviderTypeaheadEntry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Índice de autocomplete em memória, um por instância da API.
+ *
+ * O estado mestre (estabelecimentos e termos de serviço) é alterado a cada evento;
+ * o {@link TypeaheadIndex} lido pelo autocomplete é um snapshot imutável,
+ * recompactado pelo job quando há alterações. Leitura sem lock.
+ */
+@Slf4j
+@UseCase
+@RequiredArgsConstructor
+public class MaintainProviderTypeaheadUseCase {
+
+    private final IProviderTypeaheadRepository typeaheadRepository;
+
+    // Estado mestre: protegido pelo monitor desta instância
+    private Map<UUID, ProviderTerms> providers = new HashMap<>();
+    private Map<String, ServiceTerm> serviceTerms = new HashMap<>();
+    private boolean dirty;
+    private boolean rebuilding;
+    private long generation; // avança a cada carga completa trocada
+    private final Set<UUID> changedDuringRebuild = new HashSet<>();
+
+    // Serializa as compactações: um snapshot antigo nunca sobrescreve um mais novo
+    private final Object compactLock = new Object();
+
+    // Uma atualização por estabelecimento de cada vez (leitura + aplicação), em stripes
+    private static final int PROVIDER_LOCK_STRIPES = 64;
+    private final Object[] providerLocks = newLocks(PROVIDER_LOCK_STRIPES);
+
+    private volatile TypeaheadIndex index = TypeaheadIndex.EMPTY;
+
+    public TypeaheadIndex currentIndex() {
+        return index;
+    }
+
+    /**
+     * Recarrega tudo do banco (startup e reconciliação diária).
+     * Alterações que chegam durante a carga são reaplicadas em seguida.
+     */
+    public void rebuildAll() {
+        synchronized (this) {
+            rebuilding = true;
+            changedDuringRebuild.clear();
+        }
+
+        Map<UUID, ProviderTerms> loadedProviders = new HashMap<>();
+        Map<String, ServiceTerm> loadedTerms = new HashMap<>();
+        try {
+            typeaheadRepository.forEachProvider(entry -> put(loadedProviders, loadedTerms, entry));
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                rebuilding = false;
+                changedDuringRebuild.clear();
+            }
+            throw e;
+        }
+
+        Set<UUID> replay;
+        synchronized (this) {
+            providers = loadedProviders;
+            serviceTerms = loadedTerms;
+            generation++;
+            dirty = true;
+            rebuilding = false;
+            replay = new HashSet<>(changedDuringRebuild);
+            changedDuringRebuild.clear();
+        }
+
+        replay.forEach(this::applyProviderChange);
+        compactIfDirty();
+        log.info("Autocomplete carregado: {} estabelecimentos, {} termos de serviço.",
+                loadedProviders.size(), loadedTerms.size());
+    }
+
+    /**
+     * Atualização incremental de um estabelecimento (evento local ou de outra instância).
+     * Fica visível no autocomplete na próxima compactação.
+     *
+     * Leitura e aplicação sob o lock do estabelecimento: os eventos do pub/sub chegam
+     * em threads diferentes, e sem o lock uma leitura antiga poderia ser aplicada
+     * depois de uma mais nova. A última aplicada é sempre a última lida.
+     */
+    public void applyProviderChange(UUID providerId) {
+        if (providerId == null) {
+            return;
+        }
+
+        synchronized (providerLocks[Math.floorMod(providerId.hashCode(), PROVIDER_LOCK_STRIPES)]) {
+            while (true) {
+                long readGeneration;
+                synchronized (this) {
+                    readGeneration = generation;
+                }
+
+                Optional<ProviderTypeaheadEntry> entry = typeaheadRepository.findByProviderId(providerId);
+
+                synchronized (this) {
+                    // Uma carga completa trocou o estado durante a leitura e pode ser mais nova: relê
+                    if (generation != readGeneration) {
+                        continue;
+                    }
+                    if (rebuilding) {
+                        changedDuringRebuild.add(providerId);
+                    }
+                    remove(providers, serviceTerms, providerId);
+                    entry.ifPresent(e -> put(providers, serviceTerms, e));
+                    dirty = true;
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Gera um novo snapshot se houve alterações desde o último.
+     */
+    public void compactIfDirty() {
+        synchronized (compactLock) {
+            TypeaheadIndex.Builder builder = new TypeaheadIndex.Builder();
+            synchronized (this) {
+                if (!dirty) {
+                    return;
+                }
+                dirty = false;
+                providers.forEach((id, p) -> builder.add(p.businessName(), id, p.totalReviews()));
+                serviceTerms.values().forEach(t -> builder.add(t.label, null, t.providerCount));
+            }
+            index = builder.build();
+        }
+    }
+
+    // --- ESTADO MESTRE ---
+
+    private static void put(Map<UUID, ProviderTerms> providers, Map<String, ServiceTerm> terms,
+            ProviderTypeaheadEntry entry) {
+        // Chaves dos serviços distintos, compartilhadas com o mapa de termos (sem cópia por estabelecimento)
+        List<String> keys = new ArrayList<>();
+        for (String name : entry.serviceNames()) {
+            String key = TypeaheadIndex.normalize(name);
+            if (key.isEmpty()) {
+                continue;
+            }
+            ServiceTerm term = terms.computeIfAbsent(key, k -> new ServiceTerm(k, name));
+            if (!keys.contains(term.key)) {
+                term.providerCount++;
+                keys.add(term.key);
+            }
+        }
+        providers.put(entry.providerId(),
+                new ProviderTerms(entry.businessName(), entry.totalReviews(), keys.toArray(String[]::new)));
+    }
+
+    private static void remove(Map<UUID, ProviderTerms> providers, Map<String, ServiceTerm> terms, UUID providerId) {
+        ProviderTerms previous = providers.remove(providerId);
+        if (previous == null) {
+            return;
+        }
+        for (String key : previous.serviceKeys()) {
+            ServiceTerm term = terms.get(key);
+            if (term != null && --term.providerCount <= 0) {
+                terms.remove(key);
+            }
+        }
+    }
+
+    private static Object[] newLocks(int count) {
+        Object[] locks = new Object[count];
+        for (int i = 0; i < count; i++) {
+            locks[i] = new Object();
+        }
+        return locks;
+    }
+
+    private record ProviderTerms(String businessName, int totalReviews, String[] serviceKeys) {
+    }
+
+    /**
+     * Nome de serviço com o rótulo da primeira grafia vista; peso = estabelecimentos que o oferecem.
+     */
+    private static final class ServiceTerm {
+        private final String key;
+        private final String label;
+        private int providerCount;
+
+        private ServiceTerm(String key, String label) {
+            this.key = key;
+            this.label = label;
+        }
+    }
+}
@@ -1,10 +1,13 @@
 package com.stylo.api_agendamento.core.usecases;
 
+import com.stylo.api_agendamento.core.common.PagedResult;
 import com.stylo.api_agendamento.core.common.UseCase;
 import com.stylo.api_agendamento.core.domain.User;
 import com.stylo.api_agendamento.core.domain.financial.CashRegister;
+import com.stylo.api_agendamento.core.domain.financial.CashTransaction;
 import com.stylo.api_agendamento.core.domain.financial.CashTransactionType;
 import com.stylo.api_agendamento.core.exceptions.BusinessException;
+import com.stylo.api_agendamento.core.exceptions.EntityNotFoundException;
 import com.stylo.api_agendamento.core.ports.ICashRegisterRepository;
 import com.stylo.api_agendamento.core.ports.IUserContext;
 import lombok.RequiredArgsConstructor;
@@ -47,6 +50,8 @@ public class ManageCashRegisterUseCase {
 
     /**
      * Realiza uma operação (Sangria ou Suprimento) no caixa aberto.
+     * ✨ Append-only: insere a transação e soma o valor ao saldo com um UPDATE condicional.
+     * O histórico do caixa não é carregado, então o custo não cresce ao longo do turno.
      */
     @Transactional
     public CashRegister addOperation(CashTransactionType type, BigDecimal amount, String description) {
@@ -55,10 +60,15 @@ public class ManageCashRegisterUseCase {
         CashRegister register = repository.findOpenByProviderId(user.getProviderId())
                 .orElseThrow(() -> new BusinessException("Nenhum caixa aberto encontrado para realizar a operação."));
 
-        // O domínio valida se há saldo suficiente para sangria (BLEED)
-        register.addTransaction(type, amount, description, user.getId());
-        
-        return repository.save(register);
+        // O domínio valida o valor e faz a checagem antecipada de saldo para sangria (BLEED)
+        CashTransaction transaction = register.newTransaction(type, amount, description, user.getId());
+
+        // O UPDATE condicional é a garantia final (vendas/sangrias concorrentes ou caixa fechado no meio)
+        BigDecimal balance = repository.appendTransaction(transaction)
+                .orElseThrow(() -> new BusinessException(
+                        "Saldo insuficiente em caixa ou caixa fechado durante a operação. Atualize o caixa e tente novamente."));
+
+        return register.withCalculatedBalance(balance);
     }
 
     /**
@@ -68,21 +78,39 @@ public class ManageCashRegisterUseCase {
     public CashRegister closeRegister(BigDecimal finalCountedBalance) {
         User user = userContext.getCurrentUser();
 
-        CashRegister register = repository.findOpenByProviderId(user.getProviderId())
+        // Trava a linha do caixa: o saldo usado na quebra não muda até o fechamento ser gravado
+        CashRegister register = repository.findOpenByProviderIdForUpdate(user.getProviderId())
                 .orElseThrow(() -> new BusinessException("Não há caixa aberto para realizar o fechamento."));
 
         // Domínio calcula a diferença entre calculatedBalance e finalCountedBalance
-        register.close(user.getId(), finalCountedBalance);
+        CashTransaction closing = register.close(user.getId(), finalCountedBalance);
+        repository.close(register, closing);
         
         log.info("Caixa fechado por {}. Diferença apurada: R$ {}", user.getName(), register.getClosingDifference());
         
-        return repository.save(register);
+        return register;
     }
 
     /**
-     * Consulta rápida do estado atual do caixa para o dashboard.
+     * Estado atual do caixa para o dashboard, com a lista de movimentações do turno.
+     * As operações (sangria, suprimento, fechamento) devolvem só o cabeçalho.
      */
+    @Transactional(readOnly = true)
     public Optional<CashRegister> getCurrentStatus(UUID providerId) {
-        return repository.findOpenByProviderId(providerId);
+        return repository.findOpenByProviderId(providerId)
+                .flatMap(open -> repository.findById(open.getId()));
+    }
+
+    /**
+     * Movimentações de um caixa (aberto ou fechado) do estabelecimento do usuário, paginadas.
+     */
+    public PagedResult<CashTransaction> getTransactions(UUID cashRegisterId, int page, int size) {
+        UUID providerId = userContext.getCurrentUser().getProviderId();
+
+        repository.findSummaryById(cashRegisterId)
+                .filter(register -> register.getProviderId().equals(providerId))
+                .orElseThrow(() -> new EntityNotFoundException("Caixa não encontrado."));
+
+        return repository.findTransactions(cashRegisterId, page, size);
     }
 }
\ No newline at end of file
@@ -0,0 +1,116 @@
+package com.stylo.api_agendamento.core.usecases;
+
+import com.stylo.api_agendamento.core.common.UseCase;
+import com.stylo.api_agendamento.core.domain.Professional;
+import com.stylo.api_agendamento.core.domain.Service;
+import com.stylo.api_agendamento.core.domain.ServiceProvider;
+import com.stylo.api_agendamento.core.domain.schedule.SlotHold;
+import com.stylo.api_agendamento.core.exceptions.BusinessException;
+import com.stylo.api_agendamento.core.exceptions.EntityNotFoundException;
+import com.stylo.api_agendamento.core.exceptions.ScheduleConflictException;
+import com.stylo.api_agendamento.core.ports.IAppointmentRepository;
+import com.stylo.api_agendamento.core.ports.IProfessionalRepository;
+import com.stylo.api_agendamento.core.ports.IServiceProviderRepository;
+import com.stylo.api_agendamento.core.ports.IServiceRepository;
+import com.stylo.api_agendamento.core.ports.ISlotHoldRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Reserva temporária de horário durante o checkout.
+ * Evita que outro cliente ocupe o horário entre a escolha e a confirmação
+ * (cupom, link de pagamento), o que gerava conflitos tardios e sessões de pagamento perdidas.
+ */
+@Slf4j
+@UseCase
+@RequiredArgsConstructor
+public class ManageSlotHoldUseCase {
+
+    public static final Duration HOLD_TTL = Duration.ofMinutes(10);
+
+    private final IProfessionalRepository professionalRepository;
+    private final IServiceProviderRepository providerRepository;
+    private final IServiceRepository serviceRepository;
+    private final IAppointmentRepository appointmentRepository;
+    private final ISlotHoldRepository slotHoldRepository;
+
+    public SlotHold hold(HoldInput input) {
+        // 1. Contexto (mesmas validações do agendamento, sem lock)
+        Professional professional = professionalRepository.findById(input.professionalId())
+                .orElseThrow(() -> new EntityNotFoundException("Profissional não encontrado."));
+
+        ServiceProvider provider = providerRepository.findById(professional.getServiceProviderId())
+                .orElseThrow(() -> new EntityNotFoundException("Estabelecimento não encontrado."));
+
+        if (!provider.isSubscriptionActive()) {
+            throw new BusinessException("O estabelecimento não possui uma assinatura ativa para receber agendamentos.");
+        }
+
+        List<Service> services = serviceRepository.findAllByIds(input.serviceIds());
+        if (services.isEmpty() || services.size() != input.serviceIds().size()) {
+            throw new BusinessException("Um ou mais serviços selecionados não foram encontrados ou estão inativos.");
+        }
+        if (!services.stream().allMatch(s -> s.getServiceProviderId().equals(provider.getId()))) {
+            throw new BusinessException("Erro de consistência: Serviços não pertencem ao estabelecimento do profissional.");
+        }
+
+        professional.validateCanPerform(services);
+        professional.validateSlotAlignment(input.startTime());
+
+        int totalDuration = services.stream().mapToInt(Service::getDuration).sum();
+        if (!professional.isAvailable(input.startTime(), totalDuration)) {
+            throw new BusinessException("Profissional indisponível neste horário (fora do expediente ou pausa).");
+        }
+
+        if (input.startTime().isBefore(LocalDateTime.now(ZoneId.of(provider.getTimeZone())))) {
+            throw new BusinessException("Não é possível reservar um horário que já passou.");
+        }
+
+        // 2. O horário precisa estar livre na agenda real
+        LocalDateTime endTime = input.startTime().plusMinutes(totalDuration);
+        if (appointmentRepository.hasConflictingAppointment(professional.getId(), input.startTime(), endTime)) {
+            throw new ScheduleConflictException("Desculpe, este horário acabou de ser ocupado por outro cliente.");
+        }
+
+        // 3. Reserva atômica contra as reservas de outros clientes
+        SlotHold hold = new SlotHold(
+                UUID.randomUUID(),
+                professional.getId(),
+                input.userId(),
+                input.startTime(),
+                endTime,
+                Instant.now().plus(HOLD_TTL));
+
+        if (!slotHoldRepository.tryHold(hold)) {
+            throw new ScheduleConflictException(
+                    "Este horário está reservado temporariamente por outro cliente. Escolha outro horário ou tente em instantes.");
+        }
+
+        log.info("Horário {} reservado para o usuário {} até {}", input.startTime(), input.userId(), hold.expiresAt());
+        return hold;
+    }
+
+    public void release(UUID userId, UUID professionalId, LocalDate date, UUID holdId) {
+        SlotHold hold = slotHoldRepository.findActive(professionalId, date).stream()
+                .filter(h -> h.id().equals(holdId))
+                .findFirst()
+                .orElseThrow(() -> new EntityNotFoundException("Reserva não encontrada ou já expirada."));
+
+        if (!hold.isHeldBy(userId)) {
+            throw new BusinessException("Acesso negado. Esta reserva pertence a outro usuário.");
+        }
+
+        slotHoldRepository.release(professionalId, date, holdId);
+    }
+
+    public record HoldInput(UUID userId, UUID professionalId, List<UUID> serviceIds, LocalDateTime startTime) {
+    }
+}
@@ -2,10 +2,12 @@ package com.stylo.api_agendamento.core.usecases;
 
 import com.stylo.api_agendamento.core.common.UseCase;
 import com.stylo.api_agendamento.core.domain.Appointment;
+import com.stylo.api_agendamento.core.domain.events.ProfessionalAgendaChangedEvent;
 import com.stylo.api_agendamento.core.exceptions.BusinessException;
 import com.stylo.api_agendamento.core.exceptions.EntityNotFoundException;
 import com.stylo.api_agendamento.core.ports.IAppointmentRepository;
 import com.stylo.api_agendamento.core.ports.IClientRepository;
+import com.stylo.api_agendamento.core.ports.IEventPublisher;
 import com.stylo.api_agendamento.core.ports.IServiceProviderRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -21,6 +23,7 @@ public class MarkNoShowUseCase {
     private final IAppointmentRepository appointmentRepository;
     private final IClientRepository clientRepository;
     private final IServiceProviderRepository providerRepository;
+    private final IEventPublisher eventPublisher;
 
     @Transactional
     public void execute(UUID appointmentId) {
@@ -35,6 +38,8 @@ public class MarkNoShowUseCase {
         // 2. Atualiza o Agendamento no Domínio
         appointment.markAsNoShow();
         appointmentRepository.save(appointment);
+        eventPublisher.publish(ProfessionalAgendaChangedEvent.of(
+                appointment.getProfessionalId(), appointment.getStartTime(), appointment.getEndTime()));
 
         // 3. Atualiza a Reputação do Cliente (Incremental)
         clientRepository.findById(appointment.getClientId()).ifPresent(client -> {
@@ -3,6 +3,7 @@ package com.stylo.api_agendamento.core.usecases;
 import com.stylo.api_agendamento.core.common.UseCase;
 import com.stylo.api_agendamento.core.domain.Appointment;
 import com.stylo.api_agendamento.core.domain.Professional;
+import com.stylo.api_agendamento.core.exceptions.BusinessException;
 import com.stylo.api_agendamento.core.ports.IAppointmentRepository;
 import com.stylo.api_agendamento.core.ports.IProfessionalRepository;
 import com.stylo.api_agendamento.core.ports.IPaymentProvider;
@@ -21,8 +22,13 @@ public class ProcessAutomaticSplitUseCase {
     private final IAppointmentRepository appointmentRepository;
     private final IPaymentProvider paymentProvider;
 
+    /**
+     * @return true se a transferência foi executada e a comissão liquidada;
+     *         false se o agendamento não é elegível (fica para o fechamento manual)
+     * @throws BusinessException se a transferência falhar
+     */
     @Transactional
-    public void execute(UUID appointmentId) {
+    public boolean execute(UUID appointmentId) {
         // 1. Busca o agendamento
         Appointment appt = appointmentRepository.findById(appointmentId)
                 .orElseThrow(() -> new RuntimeException("Agendamento não encontrado: " + appointmentId));
@@ -30,12 +36,18 @@ public class ProcessAutomaticSplitUseCase {
         // 2. Validações de Elegibilidade para Split
         if (!appt.isPaid()) {
             log.info("Agendamento {} não foi pago online. Ignorando Split.", appointmentId);
-            return;
+            return false;
+        }
+
+        // Checkout no balcão (PDV): o dinheiro não passou pelo gateway, não há o que dividir
+        if (appt.getExternalPaymentId().startsWith("POS-OFFLINE-")) {
+            log.info("Agendamento {} pago no PDV. Comissão fica para o fechamento manual.", appointmentId);
+            return false;
         }
 
         if (appt.isCommissionSettled()) {
             log.info("Comissão do agendamento {} já foi liquidada anteriormente.", appointmentId);
-            return;
+            return false;
         }
 
         // 3. Busca o profissional para obter a conta destino (Stripe Connect)
@@ -48,26 +60,33 @@ public class ProcessAutomaticSplitUseCase {
                 log.info("Iniciando Split automático para {} | Comissão: R$ {}", 
                         prof.getName(), appt.getProfessionalCommission());
 
-                // O Provider de pagamento executa a transferência entre subcontas
-                paymentProvider.executeTransfer(
+                // O Provider de pagamento executa a transferência entre subcontas.
+                // Chave fixa por agendamento: se a transferência saiu mas a transação abaixo
+                // não commitou, a nova tentativa reaproveita a transferência em vez de pagar de novo
+                String transferId = paymentProvider.executeTransfer(
                         appt.getExternalPaymentId(),
                         prof.getGatewayAccountId(),
-                        appt.getProfessionalCommission()
+                        appt.getProfessionalCommission(),
+                        "split-" + appt.getId()
                 );
 
                 // 5. Marca como liquidado no domínio para auditoria
                 appt.markCommissionAsSettled();
                 appointmentRepository.save(appt);
                 
-                log.info("✅ Split concluído com sucesso: Agendamento {}", appointmentId);
-                
+                log.info("✅ Split concluído com sucesso: Agendamento {} | Transferência {}", appointmentId, transferId);
+                return true;
+
             } catch (Exception e) {
                 log.error("❌ Falha crítica no split do agendamento {}: {}", appointmentId, e.getMessage());
                 // Em produção, aqui dispararíamos um alerta para o Sentry ou Slack do Admin
+                // ✨ Propaga: a comissão continua pendente de split e não deve cair no fechamento manual
+                throw new BusinessException("Falha no split do agendamento " + appointmentId + ": " + e.getMessage());
             }
         } else {
             log.warn("⚠️ Profissional {} (ID: {}) sem conta Stripe. Comissão pendente para saque manual.", 
                     prof.getName(), prof.getId());
+            return false;
         }
     }
 }
\ No newline at end of file
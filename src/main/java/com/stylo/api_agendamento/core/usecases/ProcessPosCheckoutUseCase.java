@@ -3,6 +3,7 @@ package com.stylo.api_agendamento.core.usecases;
 import com.stylo.api_agendamento.core.common.UseCase;
 import com.stylo.api_agendamento.core.domain.*;
 import com.stylo.api_agendamento.core.domain.coupon.Coupon;
+import com.stylo.api_agendamento.core.domain.events.ProfessionalAgendaChangedEvent;
 import com.stylo.api_agendamento.core.domain.financial.CashTransactionType;
 import com.stylo.api_agendamento.core.domain.vo.PaymentMethod;
 import com.stylo.api_agendamento.core.exceptions.BusinessException;
@@ -25,6 +26,9 @@ public class ProcessPosCheckoutUseCase {
     private final ManageCashRegisterUseCase manageCashRegisterUseCase;
     private final ApplyCouponUseCase applyCouponUseCase;
     private final ICouponRepository couponRepository;
+    private final ICashflowRollupRepository cashflowRollupRepository;
+    private final IClientStatsRepository clientStatsRepository;
+    private final IEventPublisher eventPublisher;
 
     @Transactional
     public Response execute(Input input) {
@@ -104,6 +108,22 @@ public class ProcessPosCheckoutUseCase {
         }
 
         appointmentRepository.save(appointment);
+
+        // Concluído deixa de ocupar a agenda: libera o horário no cache de disponibilidade
+        eventPublisher.publish(ProfessionalAgendaChangedEvent.of(
+                appointment.getProfessionalId(), appointment.getStartTime(), appointment.getEndTime()));
+
+        // Rollup do dashboard financeiro, na mesma transação (receita pelo dia do atendimento)
+        cashflowRollupRepository.addRevenue(
+                appointment.getServiceProviderId(), appointment.getStartTime().toLocalDate(), appointment.getFinalPrice());
+
+        // Indicadores vitalícios do cliente (read model do histórico)
+        clientStatsRepository.recordVisit(
+                appointment.getClientId(),
+                appointment.getFinalPrice(),
+                appointment.getServices().stream().map(Service::getName).toList(),
+                appointment.getProfessionalName());
+
         log.info("Checkout PDV concluído para agendamento {}. Total: R$ {}", appointment.getId(), finalPrice);
 
         return new Response(appointment, change);
@@ -0,0 +1,155 @@
+package com.stylo.api_agendamento.core.usecases;
+
+import com.stylo.api_agendamento.core.common.UseCase;
+import com.stylo.api_agendamento.core.domain.schedule.IntervalIndex;
+import com.stylo.api_agendamento.core.domain.schedule.OccupiedInterval;
+import com.stylo.api_agendamento.core.ports.IAppointmentRepository;
+import com.stylo.api_agendamento.core.ports.IBackfillMarkerRepository;
+import com.stylo.api_agendamento.core.ports.IOccupancyRollupRepository;
+import com.stylo.api_agendamento.core.ports.IProfessionalRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Recalcula o rollup professional_daily_occupancy.
+ * Cada dia é sempre recalculado por inteiro a partir dos agendamentos (e não por
+ * incrementos), então reprocessar um dia é idempotente e sobreposições entre
+ * bloqueios e agendamentos não são contadas duas vezes.
+ *
+ * Leitura e gravação de cada trecho acontecem na mesma transação, sob um lock do
+ * profissional: dois recálculos concorrentes (eventos assíncronos) são serializados
+ * e o último a gravar é sempre o que leu por último, nunca um estado mais antigo.
+ */
+@Slf4j
+@UseCase
+@RequiredArgsConstructor
+public class RefreshOccupancyRollupUseCase {
+
+    // Limita o volume de cada consulta/transação em reconstruções longas
+    private static final int CHUNK_DAYS = 31;
+
+    private static final String BACKFILL = "professional_daily_occupancy";
+
+    private final IAppointmentRepository appointmentRepository;
+    private final IOccupancyRollupRepository occupancyRollupRepository;
+    private final IProfessionalRepository professionalRepository;
+    private final IBackfillMarkerRepository backfillMarkerRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    // Só depois do backfill completo o relatório passa a ler do rollup
+    private volatile boolean rollupReady;
+
+    /**
+     * Recalcula os dias [from, to] de um profissional (disparado pelos eventos de agenda).
+     */
+    public void refresh(UUID professionalId, LocalDate from, LocalDate to) {
+        LocalDate chunkStart = from;
+        while (!chunkStart.isAfter(to)) {
+            LocalDate chunkEnd = chunkStart.plusDays(CHUNK_DAYS - 1);
+            if (chunkEnd.isAfter(to)) {
+                chunkEnd = to;
+            }
+            refreshChunk(professionalId, chunkStart, chunkEnd);
+            chunkStart = chunkEnd.plusDays(1);
+        }
+    }
+
+    /**
+     * Reconstrução completa de uma janela para todos os profissionais
+     * (corrige eventos perdidos).
+     *
+     * @return false se algum profissional falhou
+     */
+    public boolean rebuild(LocalDate from, LocalDate to) {
+        List<UUID> professionalIds = professionalRepository.findAllIds();
+        log.info("Reconstruindo ocupação de {} profissionais entre {} e {}", professionalIds.size(), from, to);
+
+        int failures = 0;
+        for (UUID professionalId : professionalIds) {
+            try {
+                refresh(professionalId, from, to);
+            } catch (Exception e) {
+                // Um profissional com falha não interrompe os demais; a próxima execução corrige
+                failures++;
+                log.error("Falha ao reconstruir ocupação do profissional {}: {}", professionalId, e.getMessage());
+            }
+        }
+        return failures == 0;
+    }
+
+    /**
+     * Backfill de todo o histórico, sem janela: cada profissional do primeiro ao último
+     * dia com agendamento (inclusive futuros). Depois dele os eventos de agenda mantêm
+     * qualquer data, então o relatório lê qualquer período do rollup.
+     * Só fica registrado como concluído se nenhum profissional falhou; caso contrário
+     * é refeito no próximo disparo.
+     */
+    public void backfill() {
+        List<UUID> professionalIds = professionalRepository.findAllIds();
+        log.info("Backfill de ocupação de {} profissionais", professionalIds.size());
+
+        int failures = 0;
+        for (UUID professionalId : professionalIds) {
+            try {
+                Optional<OccupiedInterval> span = appointmentRepository.findBookedSpan(professionalId);
+                if (span.isPresent()) {
+                    refresh(professionalId, span.get().startTime().toLocalDate(), span.get().endTime().toLocalDate());
+                }
+            } catch (Exception e) {
+                failures++;
+                log.error("Falha no backfill de ocupação do profissional {}: {}", professionalId, e.getMessage());
+            }
+        }
+
+        if (failures == 0) {
+            backfillMarkerRepository.markCompleted(BACKFILL);
+            rollupReady = true;
+        } else {
+            log.warn("Backfill de ocupação terminou com falhas; será refeito na próxima execução.");
+        }
+    }
+
+    public boolean needsBackfill() {
+        return !backfillMarkerRepository.isCompleted(BACKFILL);
+    }
+
+    /**
+     * A marca é consultada até aparecer: instâncias que não rodaram o backfill
+     * passam a ler do rollup assim que outra o concluir.
+     */
+    public boolean isRollupReady() {
+        if (!rollupReady && !needsBackfill()) {
+            rollupReady = true;
+        }
+        return rollupReady;
+    }
+
+    private void refreshChunk(UUID professionalId, LocalDate from, LocalDate to) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.executeWithoutResult(status -> {
+            // O lock vem antes da leitura: quem chegar depois enxerga o que o anterior já viu
+            occupancyRollupRepository.lockProfessional(professionalId);
+
+            // Uma consulta leve (projeção) para todo o trecho; o índice recorta cada dia
+            IntervalIndex booked = IntervalIndex.ofIntervals(appointmentRepository.findBookedIntervals(
+                    professionalId, from.atStartOfDay(), to.plusDays(1).atStartOfDay()));
+
+            Map<LocalDate, Integer> minutesByDay = new LinkedHashMap<>();
+            for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+                minutesByDay.put(day,
+                        (int) booked.coveredMinutes(day.atStartOfDay(), day.plusDays(1).atStartOfDay()));
+            }
+
+            occupancyRollupRepository.saveDays(professionalId, minutesByDay);
+        });
+    }
+}
@@ -5,12 +5,15 @@ import com.stylo.api_agendamento.core.domain.Professional;
 import com.stylo.api_agendamento.core.domain.ServiceProvider;
 import com.stylo.api_agendamento.core.domain.User;
 import com.stylo.api_agendamento.core.domain.UserRole;
+import com.stylo.api_agendamento.core.domain.events.ProviderSearchChangedEvent;
 import com.stylo.api_agendamento.core.domain.vo.Document;
 import com.stylo.api_agendamento.core.domain.vo.Slug;
 import com.stylo.api_agendamento.core.domain.vo.Address;
 import com.stylo.api_agendamento.core.exceptions.BusinessException;
+import com.stylo.api_agendamento.core.ports.IEventPublisher;
 import com.stylo.api_agendamento.core.ports.INotificationProvider;
 import com.stylo.api_agendamento.core.ports.IProfessionalRepository;
+import com.stylo.api_agendamento.core.ports.IProviderSearchDocRepository;
 import com.stylo.api_agendamento.core.ports.IServiceProviderRepository;
 import com.stylo.api_agendamento.core.ports.IUserRepository;
 import lombok.RequiredArgsConstructor;
@@ -26,6 +29,8 @@ import java.util.ArrayList;
 public class RegisterServiceProviderUseCase {
 
     private final IServiceProviderRepository providerRepository;
+    private final IProviderSearchDocRepository searchDocRepository;
+    private final IEventPublisher eventPublisher;
     private final IProfessionalRepository professionalRepository;
     private final IUserRepository userRepository;
     private final INotificationProvider notificationProvider;
@@ -52,6 +57,8 @@ public class RegisterServiceProviderUseCase {
                 input.phone());
 
         ServiceProvider savedProvider = providerRepository.save(provider);
+        searchDocRepository.refresh(savedProvider.getId());
+        eventPublisher.publish(new ProviderSearchChangedEvent(savedProvider.getId()));
 
         User user = User.create(input.ownerName(), input.email(), input.phone(), UserRole.SERVICE_PROVIDER);
         user.changePassword(passwordEncoder.encode(input.password()));
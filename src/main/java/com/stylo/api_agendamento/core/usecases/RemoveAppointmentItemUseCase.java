@@ -2,11 +2,13 @@ package com.stylo.api_agendamento.core.usecases;
 
 import com.stylo.api_agendamento.core.common.UseCase;
 import com.stylo.api_agendamento.core.domain.Appointment;
+import com.stylo.api_agendamento.core.domain.events.ProfessionalAgendaChangedEvent;
 import com.stylo.api_agendamento.core.domain.stock.StockMovement;
 import com.stylo.api_agendamento.core.domain.stock.StockMovementType;
 import com.stylo.api_agendamento.core.exceptions.BusinessException;
 import com.stylo.api_agendamento.core.exceptions.EntityNotFoundException;
 import com.stylo.api_agendamento.core.ports.IAppointmentRepository;
+import com.stylo.api_agendamento.core.ports.IEventPublisher;
 import com.stylo.api_agendamento.core.ports.IProductRepository;
 import com.stylo.api_agendamento.core.ports.IStockMovementRepository;
 import com.stylo.api_agendamento.core.ports.IUserContext;
@@ -22,6 +24,7 @@ public class RemoveAppointmentItemUseCase {
     private final IAppointmentRepository appointmentRepository;
     private final IProductRepository productRepository;
     private final IStockMovementRepository stockMovementRepository;
+    private final IEventPublisher eventPublisher;
     private final IUserContext userContext;
 
     @Transactional
@@ -61,7 +64,10 @@ public class RemoveAppointmentItemUseCase {
 
             // 4. Remove do Agendamento (Domínio recalcula totais automaticamente)
             appointment.removeProduct(productId);
-            return appointmentRepository.save(appointment);
+            Appointment saved = appointmentRepository.save(appointment);
+            eventPublisher.publish(ProfessionalAgendaChangedEvent.of(
+                    saved.getProfessionalId(), saved.getStartTime(), saved.getEndTime()));
+            return saved;
         }
 
         return appointment; 
@@ -2,6 +2,7 @@ package com.stylo.api_agendamento.core.usecases;
 
 import com.stylo.api_agendamento.core.common.UseCase;
 import com.stylo.api_agendamento.core.domain.*;
+import com.stylo.api_agendamento.core.domain.events.ProfessionalAgendaChangedEvent;
 import com.stylo.api_agendamento.core.exceptions.BusinessException;
 import com.stylo.api_agendamento.core.exceptions.EntityNotFoundException;
 import com.stylo.api_agendamento.core.ports.*;
@@ -22,6 +23,7 @@ public class RescheduleAppointmentUseCase {
     private final IProfessionalRepository professionalRepository;
     private final IServiceProviderRepository serviceProviderRepository;
     private final INotificationProvider notificationProvider;
+    private final IEventPublisher eventPublisher;
 
     @Transactional
     public Appointment execute(Input input) {
@@ -45,6 +47,8 @@ public class RescheduleAppointmentUseCase {
                 .orElseThrow(() -> new EntityNotFoundException("Profissional não encontrado."));
 
         int totalDuration = appointment.calculateTotalDuration();
+        LocalDateTime previousStart = appointment.getStartTime();
+        LocalDateTime previousEnd = appointment.getEndTime();
         
         if (!professional.isAvailable(input.newStartTime(), totalDuration)) {
             throw new BusinessException("O profissional não possui disponibilidade nesta nova data/horário.");
@@ -66,7 +70,13 @@ public class RescheduleAppointmentUseCase {
         }
 
         // 6. Persistência
-        Appointment updatedAppointment = appointmentRepository.save(appointment);
+        Appointment updatedAppointment = appointmentRepository.saveBooking(appointment);
+
+        // Libera o dia antigo e ocupa o novo no cache de disponibilidade
+        eventPublisher.publish(ProfessionalAgendaChangedEvent.of(
+                appointment.getProfessionalId(), previousStart, previousEnd));
+        eventPublisher.publish(ProfessionalAgendaChangedEvent.of(
+                appointment.getProfessionalId(), updatedAppointment.getStartTime(), updatedAppointment.getEndTime()));
         
         // 7. Notificações contextuais
         notifyReschedule(updatedAppointment);
@@ -0,0 +1,262 @@
+package com.stylo.api_agendamento.core.usecases;
+
+import com.stylo.api_agendamento.core.common.UseCase;
+import com.stylo.api_agendamento.core.domain.settlement.SettlementBatchSettings;
+import com.stylo.api_agendamento.core.domain.settlement.SettlementChunk;
+import com.stylo.api_agendamento.core.domain.settlement.SettlementChunkResult;
+import com.stylo.api_agendamento.core.domain.settlement.SettlementRun;
+import com.stylo.api_agendamento.core.domain.settlement.SettlementRunStatus;
+import com.stylo.api_agendamento.core.ports.IAppointmentRepository;
+import com.stylo.api_agendamento.core.ports.IFinancialRepository;
+import com.stylo.api_agendamento.core.ports.IServiceProviderRepository;
+import com.stylo.api_agendamento.core.ports.ISettlementRunRepository;
+import com.stylo.api_agendamento.core.usecases.dto.SettlementRunReport;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Fechamento mensal de comissões de toda a plataforma.
+ *
+ * Não roda em uma transação gigante: os estabelecimentos são particionados em lotes
+ * (faixas de ID) e cada estabelecimento é liquidado em transações próprias
+ * (split automático por agendamento + fechamento em lote do que sobrou).
+ * Os lotes rodam em paralelo em virtual threads, limitados por um semáforo ao
+ * paralelismo configurado (nunca acima do pool de conexões), e cada lote concluído
+ * é gravado como checkpoint: após uma queda, só os lotes pendentes são refeitos.
+ */
+@Slf4j
+@UseCase
+@RequiredArgsConstructor
+public class RunMonthEndSettlementUseCase {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final ISettlementRunRepository settlementRunRepository;
+    private final IServiceProviderRepository serviceProviderRepository;
+    private final IAppointmentRepository appointmentRepository;
+    private final IFinancialRepository financialRepository;
+    private final ProcessAutomaticSplitUseCase processAutomaticSplitUseCase;
+    private final SettlementBatchSettings settings;
+
+    /**
+     * Executa (ou retoma) o fechamento da competência. Competência já concluída não é refeita.
+     */
+    public SettlementRunReport execute(YearMonth period) {
+        SettlementRun run = settlementRunRepository.findByPeriod(period)
+                .orElseGet(() -> plan(period));
+
+        if (run.isCompleted()) {
+            log.info("Fechamento da competência {} já concluído. Nada a fazer.", period);
+            return new SettlementRunReport(run.id(), period, 0, 0, 0, 0, 0, 0, 0);
+        }
+        return process(run);
+    }
+
+    /**
+     * Retoma as execuções interrompidas (queda da aplicação ou lotes com falha).
+     */
+    public List<SettlementRunReport> resumeUnfinished() {
+        return settlementRunRepository.findUnfinished()
+                .stream()
+                .map(this::process)
+                .toList();
+    }
+
+    // --- PLANEJAMENTO ---
+
+    private SettlementRun plan(YearMonth period) {
+        List<UUID> providerIds = serviceProviderRepository.findIdsInRange(null, null);
+        int chunkSize = settings.chunkSize();
+        int totalChunks = Math.max(1, (providerIds.size() + chunkSize - 1) / chunkSize);
+
+        UUID runId = UUID.randomUUID();
+        List<SettlementChunk> chunks = new ArrayList<>(totalChunks);
+        for (int i = 0; i < totalChunks; i++) {
+            int first = i * chunkSize;
+            int next = first + chunkSize;
+            // Faixas contíguas e abertas nas pontas: quem entrar depois do planejamento não fica de fora
+            UUID from = i == 0 ? null : providerIds.get(first);
+            UUID to = next < providerIds.size() ? providerIds.get(next) : null;
+            chunks.add(new SettlementChunk(runId, i, from, to, Math.max(0, Math.min(chunkSize, providerIds.size() - first))));
+        }
+
+        SettlementRun run = new SettlementRun(runId, period, SettlementRunStatus.RUNNING, totalChunks);
+        if (settlementRunRepository.create(run, chunks)) {
+            log.info("Fechamento {} planejado: {} estabelecimentos em {} lotes.", period, providerIds.size(), totalChunks);
+            return run;
+        }
+
+        // Outra instância planejou a competência ao mesmo tempo: segue com o plano dela
+        return settlementRunRepository.findByPeriod(period).orElseThrow();
+    }
+
+    // --- EXECUÇÃO ---
+
+    private SettlementRunReport process(SettlementRun run) {
+        List<SettlementChunk> pending = settlementRunRepository.findPendingChunks(run.id());
+        long startedAt = System.nanoTime();
+
+        log.info("Fechamento {}: processando {} lotes pendentes (paralelismo {}).",
+                run.period(), pending.size(), settings.parallelism());
+
+        Semaphore permits = new Semaphore(settings.parallelism());
+        List<Future<SettlementChunkResult>> futures = new ArrayList<>(pending.size());
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (SettlementChunk chunk : pending) {
+                futures.add(executor.submit(() -> {
+                    permits.acquire();
+                    try {
+                        return processChunk(run, chunk);
+                    } finally {
+                        permits.release();
+                    }
+                }));
+            }
+        } // close() aguarda todos os lotes
+
+        List<SettlementChunkResult> results = new ArrayList<>(futures.size());
+        int unclaimed = 0;
+        for (Future<SettlementChunkResult> future : futures) {
+            SettlementChunkResult result = resultOf(future);
+            if (result == null) {
+                unclaimed++;
+            } else {
+                results.add(result);
+            }
+        }
+
+        int failedChunks = (int) results.stream().filter(r -> !r.succeeded()).count();
+
+        // Lotes reservados por outra instância: ela fecha a execução quando terminar
+        if (unclaimed == 0) {
+            settlementRunRepository.finish(run.id(),
+                    failedChunks == 0 ? SettlementRunStatus.COMPLETED : SettlementRunStatus.FAILED);
+        }
+
+        SettlementRunReport report = new SettlementRunReport(
+                run.id(),
+                run.period(),
+                results.size(),
+                failedChunks,
+                results.stream().mapToInt(SettlementChunkResult::providers).sum(),
+                results.stream().mapToInt(SettlementChunkResult::splits).sum(),
+                results.stream().mapToInt(SettlementChunkResult::payouts).sum(),
+                results.stream().mapToInt(SettlementChunkResult::failures).sum(),
+                (System.nanoTime() - startedAt) / 1_000_000);
+
+        log.info("💰 Fechamento {} | Lotes: {} (falhas: {}, em outra instância: {}) | Estabelecimentos: {} ({} /s) | Splits: {} | Repasses: {} | Falhas: {}",
+                run.period(), report.chunksProcessed(), report.chunksFailed(), unclaimed, report.providers(),
+                String.format("%.1f", report.throughput()), report.splits(), report.payouts(), report.failures());
+
+        return report;
+    }
+
+    /**
+     * Processa um lote. Retorna null se o lote já estiver reservado por outra instância.
+     */
+    private SettlementChunkResult processChunk(SettlementRun run, SettlementChunk chunk) {
+        if (!settlementRunRepository.claimChunk(run.id(), chunk.index(), settings.leaseMinutes())) {
+            return null;
+        }
+
+        long startedAt = System.nanoTime();
+        int providers = 0;
+        int splits = 0;
+        int payouts = 0;
+        int failures = 0;
+        String lastError = null;
+
+        List<UUID> providerIds = serviceProviderRepository.findIdsInRange(chunk.fromProviderId(), chunk.toProviderId());
+        // Só atendimentos da competência (ou anteriores ainda pendentes); os do mês corrente ficam para o próximo
+        LocalDateTime periodEnd = run.period().plusMonths(1).atDay(1).atStartOfDay();
+
+        for (UUID providerId : providerIds) {
+            providers++;
+            try {
+                ProviderOutcome outcome = settleProvider(providerId, periodEnd);
+                splits += outcome.splits();
+                payouts += outcome.payouts();
+            } catch (Exception e) {
+                failures++;
+                lastError = truncate(providerId + ": " + e.getMessage());
+                log.error("❌ Fechamento {} | Falha no estabelecimento {}: {}", run.period(), providerId, e.getMessage());
+            }
+        }
+
+        SettlementChunkResult result = new SettlementChunkResult(
+                chunk.index(), providers, splits, payouts, failures,
+                (System.nanoTime() - startedAt) / 1_000_000, lastError);
+
+        settlementRunRepository.saveChunkResult(run.id(), result);
+
+        log.info("Fechamento {} | Lote {}: {} estabelecimentos em {} ms ({} /s) | Splits: {} | Repasses: {} | Falhas: {}",
+                run.period(), chunk.index(), providers, result.durationMs(),
+                String.format("%.1f", result.throughput()), splits, payouts, failures);
+
+        return result;
+    }
+
+    /**
+     * Split automático dos pagamentos online e, em seguida, o fechamento em lote das
+     * comissões restantes (saque manual). Reprocessar é seguro: ambos só tocam
+     * agendamentos ainda não liquidados, e o split usa uma chave de idempotência por
+     * agendamento (uma transferência já feita não é repetida).
+     */
+    private ProviderOutcome settleProvider(UUID providerId, LocalDateTime periodEnd) {
+        int splits = 0;
+        int failedSplits = 0;
+        String splitError = null;
+
+        for (UUID appointmentId : appointmentRepository.findPendingSplitIdsByProvider(providerId, periodEnd)) {
+            try {
+                if (processAutomaticSplitUseCase.execute(appointmentId)) {
+                    splits++;
+                }
+            } catch (Exception e) {
+                failedSplits++;
+                splitError = e.getMessage();
+            }
+        }
+
+        // Com split falho, o fechamento manual liquidaria o pagamento online: fica para a retomada
+        if (failedSplits > 0) {
+            throw new IllegalStateException(failedSplits + " split(s) com falha. Último erro: " + splitError);
+        }
+
+        int payouts = financialRepository.settleCommissions(providerId, null, periodEnd, LocalDateTime.now()).size();
+        return new ProviderOutcome(splits, payouts);
+    }
+
+    private SettlementChunkResult resultOf(Future<SettlementChunkResult> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Fechamento interrompido.", e);
+        } catch (ExecutionException e) {
+            // Falha fora do laço de estabelecimentos (ex: banco indisponível ao gravar o checkpoint).
+            // O lote segue RUNNING e será retomado quando o lease expirar.
+            log.error("❌ Lote do fechamento abortado: {}", Objects.toString(e.getCause().getMessage()));
+            return new SettlementChunkResult(-1, 0, 0, 0, 1, 0, e.getCause().getMessage());
+        }
+    }
+
+    private static String truncate(String message) {
+        return message.length() <= MAX_ERROR_LENGTH ? message : message.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    private record ProviderOutcome(int splits, int payouts) {}
+}
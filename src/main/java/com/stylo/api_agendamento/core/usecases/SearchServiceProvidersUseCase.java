@@ -1,21 +1,101 @@
 package com.stylo.api_agendamento.core.usecases;
 
+import com.stylo.api_agendamento.core.common.CursorPage;
+import com.stylo.api_agendamento.core.common.PageCursor;
 import com.stylo.api_agendamento.core.common.PagedResult;
 import com.stylo.api_agendamento.core.domain.ServiceProvider;
+import com.stylo.api_agendamento.core.exceptions.BusinessException;
+import com.stylo.api_agendamento.core.ports.IProviderSearchDocRepository;
 import com.stylo.api_agendamento.core.ports.IServiceProviderRepository;
 import com.stylo.api_agendamento.core.usecases.dto.ProviderSearchCriteria;
+import com.stylo.api_agendamento.core.usecases.dto.ProviderSearchHit;
+import com.stylo.api_agendamento.core.usecases.dto.ProviderSearchResult;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 @Service
 @RequiredArgsConstructor
 public class SearchServiceProvidersUseCase {
 
+    // Raio padrão do "perto de mim" e o teto (mantém a caixa do índice pequena)
+    private static final double DEFAULT_RADIUS_KM = 10.0;
+    private static final double MAX_RADIUS_KM = 100.0;
+
     private final IServiceProviderRepository providerRepository;
+    private final IProviderSearchDocRepository searchDocRepository;
+    private final MaintainProviderSearchDocUseCase maintainProviderSearchDocUseCase;
+
+    public PagedResult<ProviderSearchResult> execute(ProviderSearchCriteria criteria, int page, int size) {
+        ProviderSearchCriteria validated = validateLocation(criteria);
+
+        // Read model pronto: tabela única e estreita. Até o backfill, consulta direto service_providers.
+        PagedResult<ProviderSearchHit> hits = maintainProviderSearchDocUseCase.isSearchDocReady()
+                ? searchDocRepository.search(validated, page, size)
+                : providerRepository.searchProviders(validated, page, size);
+
+        List<ProviderSearchResult> results = withProfiles(hits.items());
+
+        return new PagedResult<>(results, hits.page(), hits.size(), hits.totalElements(), hits.totalPages());
+    }
+
+    /**
+     * Busca por cursor (keyset). Lê apenas do read model; durante o backfill inicial
+     * a paginação por página continua disponível.
+     */
+    public CursorPage<ProviderSearchResult> executeScroll(ProviderSearchCriteria criteria, String cursor, int size,
+            boolean includeTotal) {
+        if (!maintainProviderSearchDocUseCase.isSearchDocReady()) {
+            throw new BusinessException("A busca por cursor estará disponível em instantes. Use a paginação por página.");
+        }
+
+        CursorPage<ProviderSearchHit> hits = searchDocRepository.searchAfter(
+                validateLocation(criteria), PageCursor.decode(cursor), size, includeTotal);
+
+        return new CursorPage<>(withProfiles(hits.items()), hits.nextCursor(), hits.hasNext(), hits.totalElements());
+    }
+
+    /**
+     * A busca devolve só IDs na ordem do ranking; os perfis vêm em um único lote.
+     */
+    private List<ProviderSearchResult> withProfiles(List<ProviderSearchHit> hits) {
+        Map<UUID, ServiceProvider> providers = providerRepository.findAllByIds(
+                hits.stream().map(ProviderSearchHit::providerId).toList())
+                .stream()
+                .collect(Collectors.toMap(ServiceProvider::getId, Function.identity()));
+
+        return hits.stream()
+                .filter(hit -> providers.containsKey(hit.providerId()))
+                .map(hit -> new ProviderSearchResult(providers.get(hit.providerId()), hit.distanceKm()))
+                .toList();
+    }
+
+    private ProviderSearchCriteria validateLocation(ProviderSearchCriteria criteria) {
+        if ((criteria.latitude() == null) != (criteria.longitude() == null)) {
+            throw new BusinessException("Informe latitude e longitude juntas para buscar por proximidade.");
+        }
+        if (!criteria.hasLocation()) {
+            if (criteria.radiusKm() != null || criteria.sortByDistance()) {
+                throw new BusinessException("Raio e ordenação por distância exigem latitude e longitude.");
+            }
+            return criteria;
+        }
 
-    public PagedResult<ServiceProvider> execute(ProviderSearchCriteria criteria, int page, int size) {
-        // Aqui você pode adicionar regras de negócio se necessário 
-        // (Ex: se o minRating for passado negativo, corrigir para 0)
-        return providerRepository.searchProviders(criteria, page, size);
+        if (criteria.latitude() < -90 || criteria.latitude() > 90
+                || criteria.longitude() < -180 || criteria.longitude() > 180) {
+            throw new BusinessException("Coordenadas inválidas.");
+        }
+        if (criteria.radiusKm() == null) {
+            return criteria.withRadiusKm(DEFAULT_RADIUS_KM);
+        }
+        if (criteria.radiusKm() <= 0 || criteria.radiusKm() > MAX_RADIUS_KM) {
+            throw new BusinessException("O raio deve estar entre 0 e " + (int) MAX_RADIUS_KM + " km.");
+        }
+        return criteria;
     }
-}
\ No newline at end of file
+}
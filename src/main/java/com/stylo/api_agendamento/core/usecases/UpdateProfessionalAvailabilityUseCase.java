@@ -2,8 +2,10 @@ package com.stylo.api_agendamento.core.usecases;
 
 import com.stylo.api_agendamento.core.common.UseCase;
 import com.stylo.api_agendamento.core.domain.Professional;
+import com.stylo.api_agendamento.core.domain.events.ProfessionalAgendaChangedEvent;
 import com.stylo.api_agendamento.core.domain.vo.DailyAvailability;
 import com.stylo.api_agendamento.core.exceptions.EntityNotFoundException;
+import com.stylo.api_agendamento.core.ports.IEventPublisher;
 import com.stylo.api_agendamento.core.ports.IProfessionalRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.transaction.annotation.Transactional;
@@ -16,6 +18,7 @@ import java.util.UUID;
 public class UpdateProfessionalAvailabilityUseCase {
 
         private final IProfessionalRepository professionalRepository;
+        private final IEventPublisher eventPublisher;
 
         public record Input(UUID professionalId, List<DailyAvailability> availabilities, Integer slotInterval) {
         }
@@ -34,5 +37,8 @@ public class UpdateProfessionalAvailabilityUseCase {
                 }
 
                 professionalRepository.save(professional);
+
+                // Expediente e intervalo valem para todos os dias: invalida a agenda inteira
+                eventPublisher.publish(ProfessionalAgendaChangedEvent.wholeAgenda(professional.getId()));
         }
 }
\ No newline at end of file
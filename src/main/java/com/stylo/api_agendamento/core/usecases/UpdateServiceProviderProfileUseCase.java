@@ -2,11 +2,14 @@ package com.stylo.api_agendamento.core.usecases;
 
 import com.stylo.api_agendamento.core.common.UseCase;
 import com.stylo.api_agendamento.core.domain.ServiceProvider;
+import com.stylo.api_agendamento.core.domain.events.ProviderSearchChangedEvent;
 import com.stylo.api_agendamento.core.domain.vo.PaymentMethod; // ✨ IMPORT ADICIONADO
 import com.stylo.api_agendamento.core.domain.vo.Slug;
 import com.stylo.api_agendamento.core.domain.vo.SocialLinks;
 import com.stylo.api_agendamento.core.exceptions.BusinessException;
 import com.stylo.api_agendamento.core.exceptions.EntityNotFoundException;
+import com.stylo.api_agendamento.core.ports.IEventPublisher;
+import com.stylo.api_agendamento.core.ports.IProviderSearchDocRepository;
 import com.stylo.api_agendamento.core.ports.IServiceProviderRepository;
 import com.stylo.api_agendamento.core.ports.IUserContext;
 import lombok.RequiredArgsConstructor;
@@ -20,6 +23,8 @@ import java.util.UUID;
 public class UpdateServiceProviderProfileUseCase {
 
     private final IServiceProviderRepository repository;
+    private final IProviderSearchDocRepository searchDocRepository;
+    private final IEventPublisher eventPublisher;
     private final IUserContext userContext;
 
     @Transactional
@@ -81,7 +86,11 @@ public class UpdateServiceProviderProfileUseCase {
                 .cancellationMinHours(input.cancellationMinHours() != null ? input.cancellationMinHours() : provider.getCancellationMinHours())
                 .build();
 
-        return repository.save(updatedProvider);
+        ServiceProvider savedProvider = repository.save(updatedProvider);
+        searchDocRepository.refresh(savedProvider.getId());
+        eventPublisher.publish(new ProviderSearchChangedEvent(savedProvider.getId()));
+
+        return savedProvider;
     }
 
     // ✨ Input completo mapeando a requisição do Controller
@@ -2,8 +2,11 @@ package com.stylo.api_agendamento.core.usecases;
 
 import com.stylo.api_agendamento.core.common.UseCase;
 import com.stylo.api_agendamento.core.domain.Service;
+import com.stylo.api_agendamento.core.domain.events.ProviderSearchChangedEvent;
 import com.stylo.api_agendamento.core.exceptions.BusinessException; // ✨ CORREÇÃO 1: Import adicionado
 import com.stylo.api_agendamento.core.exceptions.EntityNotFoundException;
+import com.stylo.api_agendamento.core.ports.IEventPublisher;
+import com.stylo.api_agendamento.core.ports.IProviderSearchDocRepository;
 import com.stylo.api_agendamento.core.ports.IServiceRepository;
 import com.stylo.api_agendamento.core.ports.IUserContext;
 import lombok.RequiredArgsConstructor;
@@ -19,6 +22,8 @@ import java.util.UUID;
 public class UpdateServiceUseCase {
 
     private final IServiceRepository serviceRepository;
+    private final IProviderSearchDocRepository searchDocRepository;
+    private final IEventPublisher eventPublisher;
     private final IUserContext userContext;
 
     @Transactional
@@ -44,6 +49,8 @@ public class UpdateServiceUseCase {
         );
 
         Service savedService = serviceRepository.save(service);
+        searchDocRepository.refresh(providerId);
+        eventPublisher.publish(new ProviderSearchChangedEvent(providerId));
         
         log.info("Serviço '{}' atualizado com sucesso.", savedService.getName());
         
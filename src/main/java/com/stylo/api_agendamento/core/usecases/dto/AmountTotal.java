@@ -0,0 +1,11 @@
+package com.stylo.api_agendamento.core.usecases.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * Soma e quantidade calculadas no banco.
+ */
+public record AmountTotal(
+    BigDecimal total,
+    long count
+) {}
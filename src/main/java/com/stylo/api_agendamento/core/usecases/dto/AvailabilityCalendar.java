@@ -0,0 +1,21 @@
+package com.stylo.api_agendamento.core.usecases.dto;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Disponibilidade de um profissional em um intervalo de datas (calendário/heatmap).
+ */
+public record AvailabilityCalendar(
+    UUID professionalId,
+    int totalDurationMinutes,
+    List<Day> days
+) {
+    public record Day(
+        LocalDate date,
+        boolean hasAvailability,
+        List<LocalTime> slots
+    ) {}
+}
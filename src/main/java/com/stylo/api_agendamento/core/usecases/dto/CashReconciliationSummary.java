@@ -0,0 +1,24 @@
+package com.stylo.api_agendamento.core.usecases.dto;
+
+import com.stylo.api_agendamento.core.domain.financial.CashTransactionType;
+import com.stylo.api_agendamento.core.domain.vo.PaymentMethod;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+/**
+ * Conciliação do período: todas as sessões de caixa + recebimentos por forma de pagamento.
+ *
+ * @param totalsByType          soma das movimentações de caixa por tipo
+ * @param totalsByPaymentMethod atendimentos concluídos no período por forma de pagamento
+ * @param totalDifference       soma das quebras (positivo = sobra, negativo = falta)
+ */
+public record CashReconciliationSummary(
+    long registers,
+    long openRegisters,
+    Map<CashTransactionType, BigDecimal> totalsByType,
+    Map<PaymentMethod, AmountTotal> totalsByPaymentMethod,
+    BigDecimal totalDifference,
+    BigDecimal totalShortage,
+    BigDecimal totalOverage
+) {}
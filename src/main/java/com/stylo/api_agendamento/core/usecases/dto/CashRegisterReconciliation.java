@@ -0,0 +1,27 @@
+package com.stylo.api_agendamento.core.usecases.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Conciliação de uma sessão de caixa (Z): saldos, quebra, totais por tipo de
+ * movimentação e operadores envolvidos. Calculada por agregação no banco.
+ */
+public record CashRegisterReconciliation(
+    UUID registerId,
+    LocalDateTime openTime,
+    LocalDateTime closeTime,
+    boolean open,
+    BigDecimal initialBalance,
+    BigDecimal calculatedBalance,
+    BigDecimal finalBalance,
+    BigDecimal closingDifference, // Real - Teórico (nulo enquanto aberto)
+    BigDecimal totalSales,
+    BigDecimal totalBleeds,
+    BigDecimal totalReinforcements,
+    long transactionCount,
+    String openedBy,
+    String closedBy,
+    String operators
+) {}
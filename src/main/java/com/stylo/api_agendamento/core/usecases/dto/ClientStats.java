@@ -0,0 +1,18 @@
+package com.stylo.api_agendamento.core.usecases.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Indicadores vitalícios do cliente (atendimentos concluídos).
+ */
+public record ClientStats(
+    BigDecimal totalSpent,
+    long visitCount,
+    List<NamedCount> topServices,
+    List<NamedCount> favoriteProfessionals
+) {
+    public static ClientStats empty() {
+        return new ClientStats(BigDecimal.ZERO, 0, List.of(), List.of());
+    }
+}
@@ -0,0 +1,13 @@
+package com.stylo.api_agendamento.core.usecases.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Agregado diário calculado no banco (soma e quantidade de lançamentos do dia).
+ */
+public record DailyTotal(
+    LocalDate date,
+    BigDecimal total,
+    long count
+) {}
@@ -0,0 +1,39 @@
+package com.stylo.api_agendamento.core.usecases.dto;
+
+import java.util.List;
+
+/**
+ * Conjuntos de dados disponíveis para exportação contábil e suas colunas.
+ */
+public enum FinancialExportType {
+
+    APPOINTMENTS("agendamentos", List.of(
+            "Início", "Fim", "Status", "Cliente", "Profissional", "Serviços",
+            "Valor Bruto", "Desconto", "Valor Final", "Comissão", "Receita Estabelecimento",
+            "Forma de Pagamento", "ID")),
+
+    EXPENSES("despesas", List.of(
+            "Data", "Descrição", "Categoria", "Tipo", "Valor", "ID")),
+
+    CASH_TRANSACTIONS("movimentacoes-caixa", List.of(
+            "Data", "Tipo", "Descrição", "Valor", "Caixa", "Operador")),
+
+    PAYOUTS("repasses", List.of(
+            "Data", "Profissional", "Valor", "Status", "ID"));
+
+    private final String fileName;
+    private final List<String> columns;
+
+    FinancialExportType(String fileName, List<String> columns) {
+        this.fileName = fileName;
+        this.columns = columns;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public List<String> getColumns() {
+        return columns;
+    }
+}
@@ -0,0 +1,9 @@
+package com.stylo.api_agendamento.core.usecases.dto;
+
+/**
+ * Contagem agrupada por nome (ranking de serviços, profissionais...).
+ */
+public record NamedCount(
+    String name,
+    long count
+) {}
@@ -0,0 +1,22 @@
+package com.stylo.api_agendamento.core.usecases.dto;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Primeiro dia com horário livre a partir de uma data.
+ * {@code date} nulo = nada encontrado até {@code searchedUntil}.
+ */
+public record NextAvailability(
+    UUID professionalId,
+    int totalDurationMinutes,
+    LocalDate searchedUntil,
+    LocalDate date,
+    List<LocalTime> slots
+) {
+    public boolean found() {
+        return date != null;
+    }
+}
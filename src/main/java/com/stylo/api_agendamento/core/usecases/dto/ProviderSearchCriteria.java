@@ -6,6 +6,20 @@ public record ProviderSearchCriteria(
     String searchTerm, // Busca por nome do estabelecimento ou nome do serviço
     String city,       // Localização
     Double minRating,  // Avaliação mínima (estrelas)
-    BigDecimal minPrice, // Preço mínimo
-    BigDecimal maxPrice  // Preço máximo
-) {}
\ No newline at end of file
+    BigDecimal minPrice, // Faixa de preço desejada (sobreposição com a faixa do estabelecimento)
+    BigDecimal maxPrice, // Preço máximo
+    Double latitude,   // ✨ "Perto de mim": posição do cliente
+    Double longitude,
+    Double radiusKm,   // Raio da busca por proximidade
+    boolean sortByDistance // Ordena pelo mais próximo em vez da relevância
+) {
+
+    public boolean hasLocation() {
+        return latitude != null && longitude != null;
+    }
+
+    public ProviderSearchCriteria withRadiusKm(Double radiusKm) {
+        return new ProviderSearchCriteria(searchTerm, city, minRating, minPrice, maxPrice,
+                latitude, longitude, radiusKm, sortByDistance);
+    }
+}
@@ -0,0 +1,12 @@
+package com.stylo.api_agendamento.core.usecases.dto;
+
+import java.util.UUID;
+
+/**
+ * Resultado bruto da busca: estabelecimento na ordem do ranking + distância (km),
+ * nula quando a busca não é por proximidade.
+ */
+public record ProviderSearchHit(
+    UUID providerId,
+    Double distanceKm
+) {}
@@ -0,0 +1,13 @@
+package com.stylo.api_agendamento.core.usecases.dto;
+
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import com.stylo.api_agendamento.core.domain.ServiceProvider;
+
+/**
+ * Item da busca de estabelecimentos. Serializa os campos do estabelecimento no
+ * mesmo nível (resposta compatível) + a distância, quando a busca é por proximidade.
+ */
+public record ProviderSearchResult(
+    @JsonUnwrapped ServiceProvider provider,
+    Double distanceKm
+) {}
@@ -0,0 +1,15 @@
+package com.stylo.api_agendamento.core.usecases.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Dados de um estabelecimento ativo e público para o autocomplete.
+ */
+public record ProviderTypeaheadEntry(
+    UUID providerId,
+    String businessName,
+    int totalReviews,
+    List<String> serviceNames // serviços ativos
+) {
+}
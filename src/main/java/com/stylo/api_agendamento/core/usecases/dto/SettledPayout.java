@@ -0,0 +1,14 @@
+package com.stylo.api_agendamento.core.usecases.dto;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Repasse gerado no fechamento de comissões (um por profissional).
+ */
+public record SettledPayout(
+    UUID payoutId,
+    UUID professionalId,
+    BigDecimal totalAmount,
+    int appointmentCount
+) {}
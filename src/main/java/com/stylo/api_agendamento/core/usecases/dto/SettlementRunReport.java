@@ -0,0 +1,23 @@
+package com.stylo.api_agendamento.core.usecases.dto;
+
+import java.time.YearMonth;
+import java.util.UUID;
+
+/**
+ * Resumo de uma execução (ou retomada) do fechamento mensal.
+ */
+public record SettlementRunReport(
+    UUID runId,
+    YearMonth period,
+    int chunksProcessed,
+    int chunksFailed,
+    int providers,
+    int splits,
+    int payouts,
+    int failures,
+    long durationMs
+) {
+    public double throughput() {
+        return durationMs > 0 ? providers * 1000.0 / durationMs : providers;
+    }
+}
@@ -0,0 +1,15 @@
+package com.stylo.api_agendamento.core.usecases.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Horário livre de um profissional na busca "qualquer profissional".
+ */
+public record TeamSlot(
+    UUID professionalId,
+    String professionalName,
+    String professionalAvatarUrl,
+    LocalDateTime startTime,
+    LocalDateTime endTime
+) {}
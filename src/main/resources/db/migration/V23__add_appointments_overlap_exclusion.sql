@@ -0,0 +1,45 @@
+-- ✨ Proteção contra double-booking garantida pelo banco:
+-- dois agendamentos ativos do mesmo profissional não podem ter intervalos sobrepostos.
+-- Os status são os mesmos que ocupam a agenda na aplicação (PENDING, SCHEDULED, BLOCKED).
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+-- Validação antes da constraint: sobreposições já gravadas fariam o ADD CONSTRAINT falhar
+-- com um erro genérico. Aqui a migração para listando os pares em conflito, para que sejam
+-- resolvidos (cancelar ou remarcar um dos lados) antes de reaplicar. Nada é alterado sozinho:
+-- escolher qual agendamento sai é decisão do estabelecimento.
+DO $$
+DECLARE
+    conflict_count BIGINT;
+    conflict_sample TEXT;
+BEGIN
+    WITH conflicts AS (
+        SELECT a.professional_id, a.id AS first_id, b.id AS second_id, a.start_time
+        FROM appointments a
+        JOIN appointments b
+            ON b.professional_id = a.professional_id
+            AND b.id > a.id
+            AND tstzrange(a.start_time, a.end_time, '[)') && tstzrange(b.start_time, b.end_time, '[)')
+        WHERE a.professional_id IS NOT NULL
+            AND a.status IN ('PENDING', 'SCHEDULED', 'BLOCKED')
+            AND b.status IN ('PENDING', 'SCHEDULED', 'BLOCKED')
+    )
+    SELECT COUNT(*),
+           string_agg(format('profissional %s: %s x %s', professional_id, first_id, second_id), E'\n')
+               FILTER (WHERE rn <= 20)
+    INTO conflict_count, conflict_sample
+    FROM (SELECT c.*, ROW_NUMBER() OVER (ORDER BY c.start_time, c.first_id) AS rn FROM conflicts c) numbered;
+
+    IF conflict_count > 0 THEN
+        RAISE EXCEPTION 'Existem % pares de agendamentos ativos sobrepostos; resolva-os antes de aplicar a constraint de exclusão.', conflict_count
+            USING DETAIL = conflict_sample,
+                  HINT = 'Cancele ou remarque um agendamento de cada par (os 20 primeiros estão no DETAIL).';
+    END IF;
+END $$;
+
+ALTER TABLE appointments
+    ADD CONSTRAINT ex_appointments_professional_overlap
+    EXCLUDE USING gist (
+        professional_id WITH =,
+        tstzrange(start_time, end_time, '[)') WITH &&
+    )
+    WHERE (professional_id IS NOT NULL AND status IN ('PENDING', 'SCHEDULED', 'BLOCKED'));
@@ -0,0 +1,11 @@
+-- Rollup diário de ocupação por profissional (minutos ocupados, sobreposições já unidas).
+-- Mantido pelos eventos de agenda e reconstruído periodicamente pelo OccupancyRollupJob.
+CREATE TABLE professional_daily_occupancy (
+    professional_id UUID NOT NULL REFERENCES professionals(id) ON DELETE CASCADE,
+    day DATE NOT NULL,
+    occupied_minutes INT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT NOW(),
+    PRIMARY KEY (professional_id, day)
+);
+
+-- O relatório agrega por (profissional, período): a PK já atende (professional_id, day)
@@ -0,0 +1,12 @@
+-- Rollup diário do fluxo de caixa por estabelecimento (dashboard financeiro).
+-- Receita = agendamentos COMPLETED (pelo dia do atendimento); despesas = pelo dia de competência.
+-- Mantido na mesma transação das escritas (checkout/finalização e despesas) e reconstruível
+-- pelo CashflowRollupJob.
+CREATE TABLE provider_daily_cashflow (
+    service_provider_id UUID NOT NULL REFERENCES service_providers(id) ON DELETE CASCADE,
+    day DATE NOT NULL,
+    revenue DECIMAL(19, 2) NOT NULL DEFAULT 0,
+    expenses DECIMAL(19, 2) NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT NOW(),
+    PRIMARY KEY (service_provider_id, day)
+);
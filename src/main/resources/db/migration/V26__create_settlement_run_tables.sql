@@ -0,0 +1,33 @@
+-- Fechamento mensal de comissões da plataforma (MonthEndSettlementJob).
+-- Um run por competência; os estabelecimentos são particionados em lotes por faixa de ID
+-- e cada lote é o checkpoint: após uma queda, o job retoma apenas os lotes não concluídos.
+CREATE TABLE settlement_runs (
+    id UUID PRIMARY KEY,
+    period VARCHAR(7) NOT NULL UNIQUE, -- competência (yyyy-MM)
+    status VARCHAR(20) NOT NULL,
+    total_chunks INT NOT NULL,
+    started_at TIMESTAMP NOT NULL DEFAULT NOW(),
+    finished_at TIMESTAMP
+);
+
+-- Faixa do lote: [from_provider_id, to_provider_id) na ordem de UUID do banco (NULL = aberto).
+-- Faixas contíguas: estabelecimentos criados depois do planejamento também caem em algum lote.
+CREATE TABLE settlement_run_chunks (
+    run_id UUID NOT NULL REFERENCES settlement_runs(id) ON DELETE CASCADE,
+    chunk_index INT NOT NULL,
+    from_provider_id UUID,
+    to_provider_id UUID,
+    provider_count INT NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    attempts INT NOT NULL DEFAULT 0,
+    providers_processed INT NOT NULL DEFAULT 0,
+    splits_processed INT NOT NULL DEFAULT 0,
+    payouts_created INT NOT NULL DEFAULT 0,
+    failed_providers INT NOT NULL DEFAULT 0,
+    duration_ms BIGINT NOT NULL DEFAULT 0,
+    last_error TEXT,
+    updated_at TIMESTAMP NOT NULL DEFAULT NOW(),
+    PRIMARY KEY (run_id, chunk_index)
+);
+
+CREATE INDEX idx_settlement_runs_status ON settlement_runs (status);
@@ -0,0 +1,21 @@
+-- Read model dos indicadores vitalícios do cliente (histórico do cliente).
+-- Mantido na mesma transação da finalização do atendimento; populado no primeiro
+-- deploy pelo ClientStatsJob a partir dos agendamentos COMPLETED.
+CREATE TABLE client_stats (
+    client_id UUID PRIMARY KEY,
+    total_spent DECIMAL(19, 2) NOT NULL DEFAULT 0,
+    visit_count INT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT NOW()
+);
+
+-- Contadores por serviço e por profissional (kind = SERVICE | PROFESSIONAL)
+CREATE TABLE client_stat_counters (
+    client_id UUID NOT NULL REFERENCES client_stats(client_id) ON DELETE CASCADE,
+    kind VARCHAR(20) NOT NULL,
+    name VARCHAR(255) NOT NULL,
+    visit_count INT NOT NULL DEFAULT 0,
+    PRIMARY KEY (client_id, kind, name)
+);
+
+-- Top N por tipo direto do índice
+CREATE INDEX idx_client_stat_counters_rank ON client_stat_counters (client_id, kind, visit_count DESC);
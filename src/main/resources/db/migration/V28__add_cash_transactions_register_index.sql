@@ -0,0 +1,3 @@
+-- Caixa append-only: as transações são lidas só no fechamento e nos relatórios,
+-- sempre por caixa e em ordem cronológica.
+CREATE INDEX IF NOT EXISTS idx_cash_transactions_register_time ON cash_transactions (cash_register_id, "timestamp");
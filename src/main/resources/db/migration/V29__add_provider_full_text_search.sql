@@ -0,0 +1,24 @@
+-- Índices de busca de estabelecimentos (substitui o LIKE '%termo%' + JOIN em services).
+-- O vetor ponderado (nome peso A + serviços peso B) fica no provider_search_doc (V31),
+-- mantido pela aplicação. Aqui só os índices por expressão usados pela busca direto nas
+-- tabelas de origem enquanto o backfill do documento não termina: um por tabela, para
+-- a consulta combinar os ramos com UNION.
+CREATE EXTENSION IF NOT EXISTS unaccent;
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- unaccent() é STABLE; o wrapper IMMUTABLE (dicionário fixo) permite usá-lo em índices
+CREATE OR REPLACE FUNCTION immutable_unaccent(text) RETURNS text AS $$
+    SELECT public.unaccent('public.unaccent'::regdictionary, $1)
+$$ LANGUAGE sql IMMUTABLE PARALLEL SAFE STRICT;
+
+-- Busca textual (português, sem acentos): a consulta repete exatamente estas expressões
+CREATE INDEX idx_service_providers_name_fts
+    ON service_providers USING GIN (to_tsvector('portuguese', immutable_unaccent(COALESCE(business_name, ''))));
+CREATE INDEX idx_services_name_fts
+    ON services USING GIN (to_tsvector('portuguese', immutable_unaccent(name)));
+
+-- Tolerância a erros de digitação (word_similarity, operador <%)
+CREATE INDEX idx_service_providers_name_trgm
+    ON service_providers USING GIN (immutable_unaccent(lower(business_name)) gin_trgm_ops);
+CREATE INDEX idx_services_name_trgm
+    ON services USING GIN (immutable_unaccent(lower(name)) gin_trgm_ops);
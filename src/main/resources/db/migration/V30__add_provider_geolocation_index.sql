@@ -0,0 +1,4 @@
+-- Busca "perto de mim": pré-filtro pela caixa lat/lng antes da distância exata (haversine)
+CREATE INDEX idx_service_providers_lat_lng
+    ON service_providers (address_lat, address_lng)
+    WHERE address_lat IS NOT NULL;
@@ -0,0 +1,49 @@
+-- Read model da busca pública: uma linha estreita por estabelecimento, sem JOIN com
+-- services na consulta. Mantido pelos casos de uso de serviços, avaliações e perfil;
+-- populado no primeiro deploy pelo ProviderSearchDocJob.
+CREATE TABLE provider_search_doc (
+    provider_id UUID PRIMARY KEY REFERENCES service_providers(id) ON DELETE CASCADE,
+    business_name VARCHAR(150) NOT NULL,
+    is_active BOOLEAN NOT NULL,
+    is_public BOOLEAN NOT NULL,
+    city VARCHAR(100), -- minúsculo
+    lat DOUBLE PRECISION,
+    lng DOUBLE PRECISION,
+    average_rating DOUBLE PRECISION NOT NULL DEFAULT 0,
+    total_reviews INT NOT NULL DEFAULT 0,
+    min_price DECIMAL(19, 2), -- faixa de preço dos serviços ativos (nula sem serviços)
+    max_price DECIMAL(19, 2),
+    service_names TEXT NOT NULL DEFAULT '',
+    search_vector tsvector NOT NULL,
+    updated_at TIMESTAMP NOT NULL DEFAULT NOW()
+);
+
+-- Todos os índices cobrem só o que aparece na busca (ativos e públicos)
+CREATE INDEX idx_provider_search_doc_vector
+    ON provider_search_doc USING GIN (search_vector)
+    WHERE is_active AND is_public;
+
+CREATE INDEX idx_provider_search_doc_name_trgm
+    ON provider_search_doc USING GIN (immutable_unaccent(lower(business_name)) gin_trgm_ops)
+    WHERE is_active AND is_public;
+
+CREATE INDEX idx_provider_search_doc_services_trgm
+    ON provider_search_doc USING GIN (immutable_unaccent(lower(service_names)) gin_trgm_ops)
+    WHERE is_active AND is_public;
+
+-- Filtro por cidade e listagem por nota: index-only com a faixa de preço no INCLUDE
+CREATE INDEX idx_provider_search_doc_city_rating
+    ON provider_search_doc (city, average_rating DESC, provider_id)
+    INCLUDE (min_price, max_price)
+    WHERE is_active AND is_public;
+
+CREATE INDEX idx_provider_search_doc_rating
+    ON provider_search_doc (average_rating DESC, provider_id)
+    INCLUDE (min_price, max_price)
+    WHERE is_active AND is_public;
+
+-- Caixa lat/lng do "perto de mim"
+CREATE INDEX idx_provider_search_doc_lat_lng
+    ON provider_search_doc (lat, lng)
+    INCLUDE (average_rating, min_price, max_price)
+    WHERE lat IS NOT NULL AND is_active AND is_public;
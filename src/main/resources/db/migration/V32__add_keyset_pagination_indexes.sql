@@ -0,0 +1,9 @@
+-- Paginação por cursor (keyset): a ordem de cada listagem servida direto pelo índice.
+-- Tabelas criadas pelo Hibernate (reviews, expenses, colunas de stock_movements) têm os
+-- índices declarados nas próprias entidades.
+
+-- Histórico do cliente (mais recentes primeiro)
+CREATE INDEX idx_appointments_client_start ON appointments (client_id, start_time DESC, id DESC);
+
+-- Clientes do estabelecimento em ordem alfabética
+CREATE INDEX idx_clients_name_id ON clients (name, id);
@@ -0,0 +1,7 @@
+-- Marca de conclusão dos backfills de read models. "Tabela vazia" não serve como
+-- critério: a primeira escrita incremental já a preenche e um backfill interrompido
+-- nunca seria retomado.
+CREATE TABLE backfill_markers (
+    name VARCHAR(100) PRIMARY KEY,
+    completed_at TIMESTAMP NOT NULL DEFAULT NOW()
+);
@@ -0,0 +1,6 @@
+-- Referência da transferência do repasse (manual: "MANUAL-SETTLEMENT-...").
+-- O fechamento em lote (settleCommissions) grava a coluna em SQL nativo, então ela
+-- não pode depender do ddl-auto. A tabela payouts ainda é criada pelo Hibernate:
+-- num banco novo ela não existe quando o Flyway roda e o ddl-auto a cria já com a coluna.
+ALTER TABLE IF EXISTS payouts
+    ADD COLUMN IF NOT EXISTS external_transfer_id VARCHAR(255);
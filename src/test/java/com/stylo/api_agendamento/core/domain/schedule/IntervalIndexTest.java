@@ -0,0 +1,163 @@
+package com.stylo.api_agendamento.core.domain.schedule;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Limites do índice de ocupações: intervalos [início, fim) encostados, contidos, vazios
+ * e o resultado das buscas binárias conferido contra uma varredura linear.
+ */
+class IntervalIndexTest {
+
+	private static final UUID PROFESSIONAL_ID = UUID.randomUUID();
+	private static final LocalDateTime DAY = LocalDateTime.of(2026, 3, 10, 0, 0);
+
+	@Test
+	void emptyIndexHasNoConflictsNorCoverage() {
+		IntervalIndex index = IntervalIndex.ofIntervals(List.of());
+
+		assertThat(index.isEmpty()).isTrue();
+		assertThat(index.size()).isZero();
+		assertThat(index.overlaps(at(9, 0), at(18, 0))).isFalse();
+		assertThat(index.coveredMinutes(at(9, 0), at(18, 0))).isZero();
+		assertThat(IntervalIndex.empty().overlaps(at(9, 0), at(18, 0))).isFalse();
+	}
+
+	@Test
+	void emptyOrInvertedQueryNeverOverlaps() {
+		IntervalIndex index = index(interval(9, 0, 10, 0));
+
+		assertThat(index.overlaps(at(9, 30), at(9, 30))).isFalse();
+		assertThat(index.overlaps(at(9, 45), at(9, 15))).isFalse();
+		assertThat(index.coveredMinutes(at(9, 45), at(9, 15))).isZero();
+	}
+
+	@Test
+	void zeroLengthAndIncompleteIntervalsAreIgnored() {
+		IntervalIndex index = IntervalIndex.ofIntervals(List.of(
+				interval(9, 0, 9, 0),
+				interval(11, 0, 10, 0),
+				new OccupiedInterval(PROFESSIONAL_ID, null, at(12, 0)),
+				new OccupiedInterval(PROFESSIONAL_ID, at(12, 0), null)));
+
+		assertThat(index.isEmpty()).isTrue();
+	}
+
+	@Test
+	void touchingQueryDoesNotConflict() {
+		IntervalIndex index = index(interval(10, 0, 11, 0));
+
+		// Fim exclusivo: terminar às 10:00 ou começar às 11:00 não conflita
+		assertThat(index.overlaps(at(9, 0), at(10, 0))).isFalse();
+		assertThat(index.overlaps(at(11, 0), at(12, 0))).isFalse();
+		assertThat(index.overlaps(at(9, 59), at(10, 1))).isTrue();
+		assertThat(index.overlaps(at(10, 59), at(11, 1))).isTrue();
+	}
+
+	@Test
+	void touchingIntervalsMergeIntoOneRange() {
+		IntervalIndex index = index(interval(10, 0, 11, 0), interval(11, 0, 12, 0));
+
+		assertThat(index.size()).isEqualTo(1);
+		assertThat(index.coveredMinutes(at(9, 0), at(13, 0))).isEqualTo(120);
+		assertThat(index.overlaps(at(10, 30), at(11, 30))).isTrue();
+	}
+
+	@Test
+	void containedIntervalsAreNotCountedTwice() {
+		IntervalIndex index = index(interval(9, 0, 12, 0), interval(10, 0, 11, 0), interval(9, 30, 9, 45));
+
+		assertThat(index.size()).isEqualTo(1);
+		assertThat(index.coveredMinutes(at(8, 0), at(13, 0))).isEqualTo(180);
+		// Consulta contida na faixa e faixa contida na consulta
+		assertThat(index.overlaps(at(10, 15), at(10, 30))).isTrue();
+		assertThat(index.coveredMinutes(at(10, 15), at(10, 30))).isEqualTo(15);
+		assertThat(index.overlaps(at(8, 0), at(13, 0))).isTrue();
+	}
+
+	@Test
+	void gapBetweenRangesIsFree() {
+		IntervalIndex index = index(interval(14, 0, 15, 0), interval(9, 0, 10, 0));
+
+		assertThat(index.size()).isEqualTo(2);
+		assertThat(index.overlaps(at(10, 0), at(14, 0))).isFalse();
+		assertThat(index.overlaps(at(13, 30), at(14, 30))).isTrue();
+		assertThat(index.coveredMinutes(at(9, 30), at(14, 30))).isEqualTo(60);
+	}
+
+	@Test
+	void partialMinutesRoundOutwards() {
+		IntervalIndex index = index(new OccupiedInterval(PROFESSIONAL_ID, at(10, 0).plusSeconds(30), at(10, 9).plusSeconds(1)));
+
+		// Ocupação arredondada para [10:00, 10:10)
+		assertThat(index.coveredMinutes(at(9, 0), at(11, 0))).isEqualTo(10);
+		assertThat(index.overlaps(at(10, 9), at(10, 10))).isTrue();
+		assertThat(index.overlaps(at(10, 10), at(10, 20))).isFalse();
+	}
+
+	@Test
+	void matchesLinearScanOnRandomAgendas() {
+		Random random = new Random(42);
+
+		for (int round = 0; round < 200; round++) {
+			List<OccupiedInterval> intervals = new ArrayList<>();
+			int count = random.nextInt(30);
+			for (int i = 0; i < count; i++) {
+				int start = random.nextInt(24 * 60);
+				intervals.add(new OccupiedInterval(PROFESSIONAL_ID,
+						DAY.plusMinutes(start), DAY.plusMinutes(start + 5 + random.nextInt(120))));
+			}
+			IntervalIndex index = IntervalIndex.ofIntervals(intervals);
+
+			for (int q = 0; q < 50; q++) {
+				int from = random.nextInt(26 * 60) - 60;
+				int to = from + random.nextInt(240);
+				LocalDateTime start = DAY.plusMinutes(from);
+				LocalDateTime end = DAY.plusMinutes(to);
+
+				assertThat(index.overlaps(start, end)).isEqualTo(scanOverlaps(intervals, from, to));
+				assertThat(index.coveredMinutes(start, end)).isEqualTo(scanCovered(intervals, from, to));
+			}
+		}
+	}
+
+	private static boolean scanOverlaps(List<OccupiedInterval> intervals, int from, int to) {
+		return from < to && intervals.stream()
+				.anyMatch(i -> minuteOf(i.startTime()) < to && from < minuteOf(i.endTime()));
+	}
+
+	private static long scanCovered(List<OccupiedInterval> intervals, int from, int to) {
+		long covered = 0;
+		for (int minute = from; minute < to; minute++) {
+			int m = minute;
+			if (intervals.stream().anyMatch(i -> minuteOf(i.startTime()) <= m && m < minuteOf(i.endTime()))) {
+				covered++;
+			}
+		}
+		return covered;
+	}
+
+	private static long minuteOf(LocalDateTime time) {
+		return Duration.between(DAY, time).toMinutes();
+	}
+
+	private static IntervalIndex index(OccupiedInterval... intervals) {
+		return IntervalIndex.ofIntervals(List.of(intervals));
+	}
+
+	private static OccupiedInterval interval(int startHour, int startMinute, int endHour, int endMinute) {
+		return new OccupiedInterval(PROFESSIONAL_ID, at(startHour, startMinute), at(endHour, endMinute));
+	}
+
+	private static LocalDateTime at(int hour, int minute) {
+		return DAY.withHour(hour).withMinute(minute);
+	}
+}
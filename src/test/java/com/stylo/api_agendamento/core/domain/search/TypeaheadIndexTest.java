@@ -0,0 +1,115 @@
+package com.stylo.api_agendamento.core.domain.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TypeaheadIndexTest {
+
+	private static final UUID PROVIDER_A = UUID.randomUUID();
+	private static final UUID PROVIDER_B = UUID.randomUUID();
+	private static final UUID PROVIDER_C = UUID.randomUUID();
+
+	@Test
+	void normalizeRemovesAccentsCaseAndPunctuation() {
+		assertThat(TypeaheadIndex.normalize("Barbearia D'Ávila")).isEqualTo("barbearia d avila");
+		assertThat(TypeaheadIndex.normalize("  Corte   &  Barba!! ")).isEqualTo("corte barba");
+		assertThat(TypeaheadIndex.normalize(null)).isEmpty();
+	}
+
+	@Test
+	void completeMatchesPrefixOfAnyWord() {
+		TypeaheadIndex index = new TypeaheadIndex.Builder()
+				.add("Barbearia do Zé", PROVIDER_A, 10)
+				.add("Studio Bella", PROVIDER_B, 5)
+				.build();
+
+		assertThat(labels(index.complete("ze", 10))).containsExactly("Barbearia do Zé");
+		assertThat(labels(index.complete("bel", 10))).containsExactly("Studio Bella");
+		assertThat(index.complete("arbe", 10)).isEmpty();
+	}
+
+	@Test
+	void completeIgnoresAccentsAndCaseInPrefix() {
+		TypeaheadIndex index = new TypeaheadIndex.Builder()
+				.add("Espaço Ávila", PROVIDER_A, 1)
+				.build();
+
+		assertThat(labels(index.complete("ÁVI", 10))).containsExactly("Espaço Ávila");
+		assertThat(labels(index.complete("espac", 10))).containsExactly("Espaço Ávila");
+	}
+
+	@Test
+	void completeRanksByWeightThenShorterLabel() {
+		TypeaheadIndex index = new TypeaheadIndex.Builder()
+				.add("Corte Masculino Premium", PROVIDER_A, 3)
+				.add("Corte Feminino", PROVIDER_B, 3)
+				.add("Corte Popular", PROVIDER_C, 8)
+				.build();
+
+		assertThat(labels(index.complete("corte", 10)))
+				.containsExactly("Corte Popular", "Corte Feminino", "Corte Masculino Premium");
+	}
+
+	@Test
+	void completeReturnsEachEntryOnceWhenSeveralWordsMatch() {
+		TypeaheadIndex index = new TypeaheadIndex.Builder()
+				.add("Barba Barbearia Barbudo", PROVIDER_A, 5)
+				.add("Barbeiro", PROVIDER_B, 1)
+				.build();
+
+		List<TypeaheadSuggestion> suggestions = index.complete("barb", 10);
+
+		assertThat(labels(suggestions)).containsExactly("Barba Barbearia Barbudo", "Barbeiro");
+	}
+
+	@Test
+	void completeRespectsLimit() {
+		TypeaheadIndex.Builder builder = new TypeaheadIndex.Builder();
+		for (int i = 0; i < 100; i++) {
+			builder.add("Salão " + i, UUID.randomUUID(), i);
+		}
+		TypeaheadIndex index = builder.build();
+
+		List<TypeaheadSuggestion> suggestions = index.complete("sal", 5);
+
+		assertThat(labels(suggestions)).containsExactly("Salão 99", "Salão 98", "Salão 97", "Salão 96", "Salão 95");
+		assertThat(index.size()).isEqualTo(100);
+	}
+
+	@Test
+	void completeDistinguishesProvidersFromServiceTerms() {
+		TypeaheadIndex index = new TypeaheadIndex.Builder()
+				.add("Manicure", null, 4)
+				.add("Mania de Beleza", PROVIDER_A, 2)
+				.build();
+
+		assertThat(index.complete("mani", 10)).containsExactly(
+				TypeaheadSuggestion.of("Manicure", null),
+				TypeaheadSuggestion.of("Mania de Beleza", PROVIDER_A));
+		assertThat(index.complete("manicure", 1).get(0).kind()).isEqualTo(TypeaheadSuggestion.Kind.SERVICE);
+	}
+
+	@Test
+	void completeReturnsNothingForBlankPrefixOrEmptyIndex() {
+		TypeaheadIndex index = new TypeaheadIndex.Builder()
+				.add("Barbearia", PROVIDER_A, 1)
+				.add("   ", PROVIDER_B, 1)
+				.build();
+
+		assertThat(index.size()).isEqualTo(1);
+		assertThat(index.complete("", 10)).isEmpty();
+		assertThat(index.complete("  '! ", 10)).isEmpty();
+		assertThat(index.complete(null, 10)).isEmpty();
+		assertThat(index.complete("barb", 0)).isEmpty();
+		assertThat(TypeaheadIndex.EMPTY.size()).isZero();
+		assertThat(TypeaheadIndex.EMPTY.complete("barb", 10)).isEmpty();
+	}
+
+	private static List<String> labels(List<TypeaheadSuggestion> suggestions) {
+		return suggestions.stream().map(TypeaheadSuggestion::label).toList();
+	}
+}
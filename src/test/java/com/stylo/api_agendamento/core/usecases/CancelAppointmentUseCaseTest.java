@@ -0,0 +1,151 @@
+package com.stylo.api_agendamento.core.usecases;
+
+import com.stylo.api_agendamento.core.domain.Appointment;
+import com.stylo.api_agendamento.core.domain.AppointmentStatus;
+import com.stylo.api_agendamento.core.domain.ServiceProvider;
+import com.stylo.api_agendamento.core.ports.IAppointmentRepository;
+import com.stylo.api_agendamento.core.ports.ICalendarProvider;
+import com.stylo.api_agendamento.core.ports.IEventPublisher;
+import com.stylo.api_agendamento.core.ports.INotificationProvider;
+import com.stylo.api_agendamento.core.ports.IPaymentProvider;
+import com.stylo.api_agendamento.core.ports.IProductRepository;
+import com.stylo.api_agendamento.core.ports.IServiceProviderRepository;
+import com.stylo.api_agendamento.core.ports.IStockMovementRepository;
+import com.stylo.api_agendamento.core.ports.IUserRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Estorno no gateway ao cancelar um agendamento pago (external_payment_id mapeado).
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class CancelAppointmentUseCaseTest {
+
+	private static final UUID PROVIDER_ID = UUID.randomUUID();
+	private static final UUID CLIENT_ID = UUID.randomUUID();
+	private static final UUID PROVIDER_USER_ID = UUID.randomUUID();
+	private static final String PAYMENT_ID = "pi_123";
+
+	@Mock
+	private IAppointmentRepository appointmentRepository;
+	@Mock
+	private IServiceProviderRepository providerRepository;
+	@Mock
+	private IUserRepository userRepository;
+	@Mock
+	private IProductRepository productRepository;
+	@Mock
+	private IStockMovementRepository stockMovementRepository;
+	@Mock
+	private INotificationProvider notificationProvider;
+	@Mock
+	private IPaymentProvider paymentProvider;
+	@Mock
+	private ICalendarProvider calendarProvider;
+	@Mock
+	private IEventPublisher eventPublisher;
+
+	@InjectMocks
+	private CancelAppointmentUseCase useCase;
+
+	@Test
+	void providerCancellingPaidAppointmentRefundsFinalPrice() {
+		Appointment appointment = appointment(PAYMENT_ID, false, LocalDateTime.now().plusHours(1));
+		givenStored(appointment);
+
+		useCase.execute(new CancelAppointmentUseCase.Input(appointment.getId(), PROVIDER_USER_ID, "Imprevisto", false));
+
+		verify(paymentProvider).refundPayment(PAYMENT_ID, new BigDecimal("80.00"));
+		assertThat(savedStatus()).isEqualTo(AppointmentStatus.CANCELLED);
+	}
+
+	@Test
+	void clientCancellingWithinPolicyRefunds() {
+		Appointment appointment = appointment(PAYMENT_ID, true, LocalDateTime.now().plusDays(2));
+		givenStored(appointment);
+
+		useCase.execute(new CancelAppointmentUseCase.Input(appointment.getId(), CLIENT_ID, "Viagem", true));
+
+		verify(paymentProvider).refundPayment(PAYMENT_ID, new BigDecimal("80.00"));
+	}
+
+	@Test
+	void clientCancellingAfterDeadlineDoesNotRefund() {
+		Appointment appointment = appointment(PAYMENT_ID, true, LocalDateTime.now().plusHours(1));
+		givenStored(appointment);
+
+		useCase.execute(new CancelAppointmentUseCase.Input(appointment.getId(), CLIENT_ID, "Atraso", true));
+
+		verify(paymentProvider, never()).refundPayment(any(), any());
+	}
+
+	@Test
+	void unpaidAppointmentDoesNotCallGateway() {
+		Appointment appointment = appointment(null, false, LocalDateTime.now().plusDays(2));
+		givenStored(appointment);
+
+		useCase.execute(new CancelAppointmentUseCase.Input(appointment.getId(), PROVIDER_USER_ID, "Imprevisto", false));
+
+		verify(paymentProvider, never()).refundPayment(any(), any());
+		assertThat(savedStatus()).isEqualTo(AppointmentStatus.CANCELLED);
+	}
+
+	@Test
+	void refundFailureDoesNotBlockCancellation() {
+		Appointment appointment = appointment(PAYMENT_ID, false, LocalDateTime.now().plusDays(2));
+		givenStored(appointment);
+		doThrow(new IllegalStateException("gateway indisponível"))
+				.when(paymentProvider).refundPayment(any(), any());
+
+		useCase.execute(new CancelAppointmentUseCase.Input(appointment.getId(), PROVIDER_USER_ID, "Imprevisto", false));
+
+		assertThat(savedStatus()).isEqualTo(AppointmentStatus.CANCELLED);
+	}
+
+	private static Appointment appointment(String externalPaymentId, boolean paid, LocalDateTime start) {
+		return Appointment.builder()
+				.id(UUID.randomUUID())
+				.clientId(CLIENT_ID)
+				.clientName("Cliente")
+				.serviceProviderId(PROVIDER_ID)
+				.professionalId(UUID.randomUUID())
+				.startTime(start)
+				.endTime(start.plusMinutes(45))
+				.finalPrice(new BigDecimal("80.00"))
+				.status(AppointmentStatus.CONFIRMED)
+				.externalPaymentId(externalPaymentId)
+				.paid(paid)
+				.build();
+	}
+
+	private void givenStored(Appointment appointment) {
+		when(appointmentRepository.findById(appointment.getId())).thenReturn(Optional.of(appointment));
+		when(providerRepository.findById(PROVIDER_ID)).thenReturn(Optional.of(
+				ServiceProvider.builder().id(PROVIDER_ID).cancellationMinHours(24).build()));
+	}
+
+	private AppointmentStatus savedStatus() {
+		ArgumentCaptor<Appointment> saved = ArgumentCaptor.forClass(Appointment.class);
+		verify(appointmentRepository).save(saved.capture());
+		return saved.getValue().getStatus();
+	}
+}
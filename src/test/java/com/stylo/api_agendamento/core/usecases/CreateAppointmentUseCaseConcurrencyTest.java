@@ -0,0 +1,228 @@
+package com.stylo.api_agendamento.core.usecases;
+
+import com.stylo.api_agendamento.core.domain.Appointment;
+import com.stylo.api_agendamento.core.domain.Professional;
+import com.stylo.api_agendamento.core.domain.Service;
+import com.stylo.api_agendamento.core.domain.ServiceProvider;
+import com.stylo.api_agendamento.core.domain.User;
+import com.stylo.api_agendamento.core.domain.schedule.BookingAdmission;
+import com.stylo.api_agendamento.core.domain.schedule.BookingMode;
+import com.stylo.api_agendamento.core.exceptions.ScheduleConflictException;
+import com.stylo.api_agendamento.core.ports.IAppointmentRepository;
+import com.stylo.api_agendamento.core.ports.IBookingAdmission;
+import com.stylo.api_agendamento.core.ports.IBookingSequencer;
+import com.stylo.api_agendamento.core.ports.ICouponRepository;
+import com.stylo.api_agendamento.core.ports.IEventPublisher;
+import com.stylo.api_agendamento.core.ports.IProfessionalRepository;
+import com.stylo.api_agendamento.core.ports.IServiceProviderRepository;
+import com.stylo.api_agendamento.core.ports.IServiceRepository;
+import com.stylo.api_agendamento.core.ports.ISlotHoldRepository;
+import com.stylo.api_agendamento.core.ports.IUserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Vários clientes disputando o mesmo horário ao mesmo tempo, nos modos LOCK e OPTIMISTIC.
+ * A agenda em memória faz o papel da constraint de exclusão (V23): o INSERT sobreposto
+ * falha com ScheduleConflictException, como o adapter traduz o SQLSTATE 23P01.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class CreateAppointmentUseCaseConcurrencyTest {
+
+	private static final int CLIENTS = 8;
+	private static final UUID PROVIDER_ID = UUID.randomUUID();
+	private static final UUID PROFESSIONAL_ID = UUID.randomUUID();
+	private static final UUID SERVICE_ID = UUID.randomUUID();
+	private static final LocalDateTime SLOT = LocalDateTime.now().plusDays(1).withHour(10).withMinute(0).withSecond(0).withNano(0);
+
+	@Mock
+	private IAppointmentRepository appointmentRepository;
+	@Mock
+	private IProfessionalRepository professionalRepository;
+	@Mock
+	private IServiceRepository serviceRepository;
+	@Mock
+	private IUserRepository userRepository;
+	@Mock
+	private IServiceProviderRepository serviceProviderRepository;
+	@Mock
+	private ICouponRepository couponRepository;
+	@Mock
+	private IEventPublisher eventPublisher;
+	@Mock
+	private ISlotHoldRepository slotHoldRepository;
+	@Mock
+	private IBookingSequencer bookingSequencer;
+	@Mock
+	private IBookingAdmission bookingAdmission;
+	@Mock
+	private RedissonClient redissonClient;
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	private final List<Appointment> agenda = new ArrayList<>();
+	private final AtomicInteger inserts = new AtomicInteger();
+
+	@BeforeEach
+	void setUp() throws Exception {
+		when(bookingAdmission.tryAdmit(any(), any())).thenAnswer(inv -> BookingAdmission.admitted(UUID.randomUUID()));
+		when(transactionManager.getTransaction(any())).thenAnswer(inv -> new SimpleTransactionStatus());
+
+		// Lock distribuído do Redisson simulado com um lock local (mesma semântica de tryLock/unlock)
+		ReentrantLock guard = new ReentrantLock();
+		RLock lock = mock(RLock.class);
+		when(lock.tryLock(anyLong(), anyLong(), any(TimeUnit.class)))
+				.thenAnswer(inv -> guard.tryLock(inv.getArgument(0, Long.class), inv.getArgument(2, TimeUnit.class)));
+		when(lock.isHeldByCurrentThread()).thenAnswer(inv -> guard.isHeldByCurrentThread());
+		doAnswer(inv -> {
+			guard.unlock();
+			return null;
+		}).when(lock).unlock();
+		when(redissonClient.getLock(anyString())).thenReturn(lock);
+
+		Professional professional = mock(Professional.class);
+		when(professional.getId()).thenReturn(PROFESSIONAL_ID);
+		when(professional.getName()).thenReturn("Ana");
+		when(professional.getServiceProviderId()).thenReturn(PROVIDER_ID);
+		when(professional.isAvailable(any(), anyInt())).thenReturn(true);
+		when(professionalRepository.findById(PROFESSIONAL_ID)).thenReturn(Optional.of(professional));
+		when(professionalRepository.findByIdWithLock(PROFESSIONAL_ID)).thenReturn(Optional.of(professional));
+
+		ServiceProvider provider = mock(ServiceProvider.class);
+		when(provider.getId()).thenReturn(PROVIDER_ID);
+		when(provider.getBusinessName()).thenReturn("Barbearia");
+		when(provider.getTimeZone()).thenReturn("America/Sao_Paulo");
+		when(provider.isSubscriptionActive()).thenReturn(true);
+		when(serviceProviderRepository.findById(PROVIDER_ID)).thenReturn(Optional.of(provider));
+
+		Service haircut = Service.builder()
+				.id(SERVICE_ID)
+				.serviceProviderId(PROVIDER_ID)
+				.name("Corte")
+				.duration(30)
+				.price(new BigDecimal("50.00"))
+				.isActive(true)
+				.build();
+		when(serviceRepository.findAllByIds(List.of(SERVICE_ID))).thenReturn(List.of(haircut));
+
+		when(userRepository.findById(any())).thenAnswer(inv -> Optional.of(User.builder()
+				.id(inv.getArgument(0))
+				.clientId(UUID.randomUUID())
+				.name("Cliente")
+				.email("cliente@stylo.com")
+				.phoneNumber("11999998888")
+				.build()));
+
+		when(appointmentRepository.hasConflictingAppointment(any(), any(), any()))
+				.thenAnswer(inv -> overlapsAgenda(inv.getArgument(1), inv.getArgument(2)));
+		when(appointmentRepository.saveBooking(any())).thenAnswer(inv -> insert(inv.getArgument(0)));
+	}
+
+	@Test
+	void lockModeBooksTheSlotOnceAndStopsTheOthersBeforeTheInsert() throws Exception {
+		List<Throwable> failures = raceForSameSlot(BookingMode.LOCK);
+
+		assertThat(agenda).hasSize(1);
+		assertThat(failures).hasSize(CLIENTS - 1).allMatch(ScheduleConflictException.class::isInstance);
+		// Sob o lock a pré-checagem barra os perdedores: só o vencedor chega ao INSERT
+		assertThat(inserts).hasValue(1);
+	}
+
+	@Test
+	void optimisticModeLetsTheConstraintPickTheWinner() throws Exception {
+		List<Throwable> failures = raceForSameSlot(BookingMode.OPTIMISTIC);
+
+		assertThat(agenda).hasSize(1);
+		assertThat(failures).hasSize(CLIENTS - 1).allMatch(ScheduleConflictException.class::isInstance);
+		// Sem lock nem pré-checagem: todos tentam o INSERT e a constraint rejeita os sobrepostos
+		assertThat(inserts).hasValue(CLIENTS);
+		verify(redissonClient, never()).getLock(anyString());
+		verify(appointmentRepository, never()).hasConflictingAppointment(any(), any(), any());
+	}
+
+	private List<Throwable> raceForSameSlot(BookingMode mode) throws Exception {
+		CreateAppointmentUseCase useCase = new CreateAppointmentUseCase(appointmentRepository, professionalRepository,
+				serviceRepository, userRepository, serviceProviderRepository, couponRepository, eventPublisher,
+				slotHoldRepository, bookingSequencer, bookingAdmission, redissonClient, transactionManager, mode);
+
+		ExecutorService executor = Executors.newFixedThreadPool(CLIENTS);
+		CountDownLatch start = new CountDownLatch(1);
+		try {
+			List<Future<Appointment>> attempts = new ArrayList<>();
+			for (int i = 0; i < CLIENTS; i++) {
+				attempts.add(executor.submit(() -> {
+					start.await();
+					return useCase.execute(new CreateAppointmentUseCase.Input(
+							UUID.randomUUID(), PROFESSIONAL_ID, List.of(SERVICE_ID), SLOT, null, null, null));
+				}));
+			}
+			start.countDown();
+
+			List<Throwable> failures = new ArrayList<>();
+			for (Future<Appointment> attempt : attempts) {
+				try {
+					attempt.get(10, TimeUnit.SECONDS);
+				} catch (ExecutionException e) {
+					failures.add(e.getCause());
+				}
+			}
+			return failures;
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private boolean overlapsAgenda(LocalDateTime start, LocalDateTime end) {
+		synchronized (agenda) {
+			return agenda.stream().anyMatch(a -> a.getStartTime().isBefore(end) && start.isBefore(a.getEndTime()));
+		}
+	}
+
+	// Mesma regra da constraint de exclusão: [start, end) sobreposto ao de outro agendamento ativo
+	private Appointment insert(Appointment appointment) {
+		inserts.incrementAndGet();
+		synchronized (agenda) {
+			if (overlapsAgenda(appointment.getStartTime(), appointment.getEndTime())) {
+				throw new ScheduleConflictException("Este horário acabou de ser ocupado. Escolha outro horário.");
+			}
+			agenda.add(appointment);
+			return appointment;
+		}
+	}
+}
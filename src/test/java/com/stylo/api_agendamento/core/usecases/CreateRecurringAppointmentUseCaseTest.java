@@ -0,0 +1,122 @@
+package com.stylo.api_agendamento.core.usecases;
+
+import com.stylo.api_agendamento.core.domain.Appointment;
+import com.stylo.api_agendamento.core.domain.Professional;
+import com.stylo.api_agendamento.core.domain.User;
+import com.stylo.api_agendamento.core.domain.schedule.OccupiedInterval;
+import com.stylo.api_agendamento.core.domain.vo.RecurrenceType;
+import com.stylo.api_agendamento.core.exceptions.ScheduleConflictException;
+import com.stylo.api_agendamento.core.ports.IAppointmentRepository;
+import com.stylo.api_agendamento.core.ports.IEventPublisher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Série recorrente cujo INSERT em lote esbarra na constraint de exclusão (escrita concorrente
+ * entre a leitura da agenda e o INSERT, como no modo OPTIMISTIC).
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class CreateRecurringAppointmentUseCaseTest {
+
+	private static final UUID PROFESSIONAL_ID = UUID.randomUUID();
+	private static final LocalDateTime FIRST = LocalDateTime.now().plusDays(7).withHour(10).withMinute(0).withSecond(0).withNano(0);
+
+	@Mock
+	private CreateAppointmentUseCase createAppointmentUseCase;
+	@Mock
+	private IAppointmentRepository appointmentRepository;
+	@Mock
+	private IEventPublisher eventPublisher;
+
+	@InjectMocks
+	private CreateRecurringAppointmentUseCase useCase;
+
+	@BeforeEach
+	void setUp() {
+		when(createAppointmentUseCase.runGuarded(any(), any()))
+				.thenAnswer(inv -> ((Supplier<?>) inv.getArgument(1)).get());
+
+		Professional professional = mock(Professional.class);
+		when(professional.getId()).thenReturn(PROFESSIONAL_ID);
+		when(professional.isAvailable(any(), anyInt())).thenReturn(true);
+		User client = User.builder().id(UUID.randomUUID()).name("Cliente").build();
+		when(createAppointmentUseCase.loadContext(any(), eq(PROFESSIONAL_ID), anyList()))
+				.thenReturn(new CreateAppointmentUseCase.BookingContext(
+						professional, client, null, List.of(), 30, new BigDecimal("50.00")));
+
+		when(createAppointmentUseCase.newAppointment(any(), any(), any()))
+				.thenAnswer(inv -> {
+					LocalDateTime start = inv.getArgument(1);
+					return Appointment.builder()
+							.id(UUID.randomUUID())
+							.professionalId(PROFESSIONAL_ID)
+							.startTime(start)
+							.endTime(start.plusMinutes(30))
+							.build();
+				});
+	}
+
+	@Test
+	void conflictOnBatchInsertRereadsAgendaAndReportsTheTakenDate() {
+		LocalDateTime taken = FIRST.plusWeeks(1);
+		when(appointmentRepository.findOccupiedIntervals(eq(PROFESSIONAL_ID), any(), any()))
+				.thenReturn(List.of())
+				.thenReturn(List.of(new OccupiedInterval(PROFESSIONAL_ID, taken, taken.plusMinutes(30))));
+		when(appointmentRepository.insertAll(anyList()))
+				.thenThrow(new ScheduleConflictException("Desculpe, este horário acabou de ser ocupado por outro cliente."))
+				.thenAnswer(inv -> inv.getArgument(0));
+
+		CreateRecurringAppointmentUseCase.Response response = useCase.execute(input());
+
+		assertThat(response.createdAppointments())
+				.extracting(Appointment::getStartTime)
+				.containsExactly(FIRST, FIRST.plusWeeks(2));
+		assertThat(response.failedOccurrences())
+				.extracting(CreateRecurringAppointmentUseCase.FailedOccurrence::date)
+				.containsExactly(taken);
+	}
+
+	@Test
+	void repeatedConflictRejectsTheSeriesExplicitly() {
+		when(appointmentRepository.findOccupiedIntervals(eq(PROFESSIONAL_ID), any(), any())).thenReturn(List.of());
+		when(appointmentRepository.insertAll(anyList()))
+				.thenThrow(new ScheduleConflictException("Desculpe, este horário acabou de ser ocupado por outro cliente."));
+
+		assertThatThrownBy(() -> useCase.execute(input()))
+				.isInstanceOf(ScheduleConflictException.class)
+				.hasMessageContaining("nenhuma ocorrência foi criada");
+	}
+
+	private static CreateRecurringAppointmentUseCase.Input input() {
+		return CreateRecurringAppointmentUseCase.Input.builder()
+				.clientId(UUID.randomUUID())
+				.professionalId(PROFESSIONAL_ID)
+				.serviceIds(List.of(UUID.randomUUID()))
+				.firstStartTime(FIRST)
+				.recurrenceType(RecurrenceType.WEEKLY)
+				.occurrences(3)
+				.build();
+	}
+}